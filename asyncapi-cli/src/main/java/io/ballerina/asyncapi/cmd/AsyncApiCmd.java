@@ -25,6 +25,9 @@ import io.ballerina.asyncapi.cmd.websockets.CmdUtils;
 import io.ballerina.asyncapi.codegenerator.application.Application;
 import io.ballerina.asyncapi.codegenerator.application.CodeGenerator;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodeGeneratorConfig;
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
+import io.ballerina.asyncapi.codegenerator.configuration.PayloadBinding;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
@@ -48,26 +51,54 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.ASYNC_DISPATCH_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.AUTO_RECONNECT_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.BATCH_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CONCURRENCY_LIMITS_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CONNECTION_POOL_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.DISPATCH_TABLE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.EXPERIMENTAL_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.INCREMENTAL_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.INPUT_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.INPUT_FLAG_ALT;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.JSON_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.LICENSE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.LINE_SEPARATOR;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.NATIVE_PIPES_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.OUTPUT_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.OUTPUT_FLAG_ALT;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PACKAGE_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PAYLOAD_BINDING_CLONE;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PAYLOAD_BINDING_EVENT_TYPE;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PAYLOAD_BINDING_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PAYLOAD_BINDING_STREAMING;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PROTOCOL_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.SERVICE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.TEST_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.TIMING_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.VALID_HTTP_NAMES;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.VALID_WS_NAMES;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.WRITE_BATCHING_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.CLIENT_GENERATION_FAILED;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_OPTION_ERROR_HTTP;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_ASYNC_DISPATCH_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_AUTO_RECONNECT_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_BATCH_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_CONCURRENCY_LIMITS_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_CONNECTION_POOL_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_DISPATCH_TABLE_FLAG_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_JSON_FLAG_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_LICENSE_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_NATIVE_PIPES_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_PACKAGE_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_PAYLOAD_BINDING_FLAG_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_SERVICE_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_SERVICE_FLAG_WITH_PACKAGE_FLAG_ERROR;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_TIMING_FLAG_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_TEST_FLAG_WARNING;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.INVALID_USE_OF_WRITE_BATCHING_FLAG_WARNING;
 import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_INVALID_LICENSE_STREAM;
+import static io.ballerina.asyncapi.cmd.AsyncApiMessages.MESSAGE_INVALID_PAYLOAD_BINDING;
 
 /**
  * Main class to implement "asyncapi" command for ballerina. Commands for Listener generation from AsyncApi spec
@@ -125,6 +156,56 @@ public class AsyncApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {JSON_FLAG}, description = "Generate json file")
     private boolean generatedFileType;
 
+    @CommandLine.Option(names = {DISPATCH_TABLE_FLAG}, description = "Dispatch events in the generated listener " +
+            "through a precomputed lookup table instead of a match statement")
+    private boolean dispatchTable;
+
+    @CommandLine.Option(names = {PAYLOAD_BINDING_FLAG}, description = "How the generated listener binds the " +
+            "request payload to the event data type, `clone`, `streaming` or `event-type`")
+    private String payloadBinding;
+
+    @CommandLine.Option(names = {ASYNC_DISPATCH_FLAG}, description = "Acknowledge the events in the generated " +
+            "listener immediately and dispatch them through a bounded queue")
+    private boolean asyncDispatch;
+
+    @CommandLine.Option(names = {CONCURRENCY_LIMITS_FLAG}, description = "Take the concurrency limits of the native " +
+            "handler in the init function of the generated listener, which requires native handler 0.6.0 or later")
+    private boolean concurrencyLimits;
+
+    @CommandLine.Option(names = {BATCH_FLAG}, description = "Accept a JSON array of events in a single request " +
+            "to the generated listener, which routes the events through the dispatch table as `--dispatch-table` does")
+    private boolean batch;
+
+    @CommandLine.Option(names = {TIMING_FLAG}, description = "Print the duration of each code generation phase")
+    private boolean timing;
+
+    @CommandLine.Option(names = {WRITE_BATCHING_FLAG}, description = "Write the messages queued in the generated " +
+            "WebSocket client together instead of one at a time")
+    private boolean writeBatching;
+
+    @CommandLine.Option(names = {NATIVE_PIPES_FLAG}, description = "Keep the pipes of the generated WebSocket " +
+            "client in the concurrent registry of the native handler instead of a lock-guarded map, which requires " +
+            "native handler 0.6.0 or later")
+    private boolean nativePipes;
+
+    @CommandLine.Option(names = {AUTO_RECONNECT_FLAG}, description = "Reconnect the generated WebSocket client " +
+            "to the server when the connection is lost, and subscribe to its streams again. The client takes its " +
+            "connection configurations as read-only, to keep them for reconnecting")
+    private boolean autoReconnect;
+
+    @CommandLine.Option(names = {CONNECTION_POOL_FLAG}, description = "Generate a pool class along with the " +
+            "WebSocket client, which spreads the requests across several connections to the server")
+    private boolean connectionPool;
+
+    @CommandLine.Option(names = {PACKAGE_FLAG}, description = "Generate the AsyncAPI contracts of the services in " +
+            "every module of the package, which the given Ballerina file belongs to")
+    private boolean wholePackage;
+
+    @CommandLine.Option(names = {INCREMENTAL_FLAG}, description = "Skip the services, which did not change since " +
+            "their AsyncAPI contracts were generated last with this option, or regenerate only the changed source " +
+            "files of a client or a listener")
+    private boolean incremental;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -181,7 +262,14 @@ public class AsyncApiCmd implements BLauncherCmd {
 
             if (VALID_HTTP_NAMES.contains(protocol.toLowerCase())) {
                 verifyValidInputsForHttp();
-                Application codeGenerator = new CodeGenerator();
+                PayloadBinding binding = getPayloadBinding();
+                if (binding == null) {
+                    outStream.println(String.format(MESSAGE_INVALID_PAYLOAD_BINDING, payloadBinding));
+                    outStream.flush();
+                    exit(EXIT_CODE_1);
+                    return;
+                }
+                Application codeGenerator = new CodeGenerator(getCodeGeneratorConfig(binding));
                 try {
                     codeGenerator.generate(fileName, (outputPath == null) ?
                             String.valueOf(executionPath) : outputPath);
@@ -206,6 +294,12 @@ public class AsyncApiCmd implements BLauncherCmd {
                     }
                     // when -i has bal extension
                 } else if (fileName.endsWith(CmdConstants.BAL_EXTENSION)) {
+                    if (wholePackage && service != null) {
+                        outStream.println(INVALID_USE_OF_SERVICE_FLAG_WITH_PACKAGE_FLAG_ERROR);
+                        outStream.flush();
+                        exit(EXIT_CODE_1);
+                        return;
+                    }
                     giveWarningsForInvalidSpecGenOptions();
                     try {
                         ballerinaToAsyncApiWs(fileName);
@@ -246,6 +340,18 @@ public class AsyncApiCmd implements BLauncherCmd {
         if (includeTestFiles) {
             outStream.println(INVALID_USE_OF_TEST_FLAG_WARNING);
         }
+        if (writeBatching) {
+            outStream.println(INVALID_USE_OF_WRITE_BATCHING_FLAG_WARNING);
+        }
+        if (nativePipes) {
+            outStream.println(INVALID_USE_OF_NATIVE_PIPES_FLAG_WARNING);
+        }
+        if (autoReconnect) {
+            outStream.println(INVALID_USE_OF_AUTO_RECONNECT_FLAG_WARNING);
+        }
+        if (connectionPool) {
+            outStream.println(INVALID_USE_OF_CONNECTION_POOL_FLAG_WARNING);
+        }
     }
 
     private void giveWarningsForInvalidClientGenOptions() {
@@ -255,6 +361,50 @@ public class AsyncApiCmd implements BLauncherCmd {
         if (service != null) {
             outStream.println(INVALID_USE_OF_SERVICE_FLAG_WARNING);
         }
+        if (dispatchTable) {
+            outStream.println(INVALID_USE_OF_DISPATCH_TABLE_FLAG_WARNING);
+        }
+        if (payloadBinding != null) {
+            outStream.println(INVALID_USE_OF_PAYLOAD_BINDING_FLAG_WARNING);
+        }
+        if (asyncDispatch) {
+            outStream.println(INVALID_USE_OF_ASYNC_DISPATCH_FLAG_WARNING);
+        }
+        if (concurrencyLimits) {
+            outStream.println(INVALID_USE_OF_CONCURRENCY_LIMITS_FLAG_WARNING);
+        }
+        if (batch) {
+            outStream.println(INVALID_USE_OF_BATCH_FLAG_WARNING);
+        }
+        if (timing) {
+            outStream.println(INVALID_USE_OF_TIMING_FLAG_WARNING);
+        }
+        if (wholePackage) {
+            outStream.println(INVALID_USE_OF_PACKAGE_FLAG_WARNING);
+        }
+    }
+
+    private PayloadBinding getPayloadBinding() {
+        if (payloadBinding == null || payloadBinding.equalsIgnoreCase(PAYLOAD_BINDING_CLONE)) {
+            return PayloadBinding.CLONE_WITH_TYPE;
+        } else if (payloadBinding.equalsIgnoreCase(PAYLOAD_BINDING_STREAMING)) {
+            return PayloadBinding.STREAMING;
+        } else if (payloadBinding.equalsIgnoreCase(PAYLOAD_BINDING_EVENT_TYPE)) {
+            return PayloadBinding.EVENT_TYPE;
+        }
+        return null;
+    }
+
+    private CodeGeneratorConfig getCodeGeneratorConfig(PayloadBinding binding) {
+        return new CodeGeneratorConfig.Builder()
+                .withDispatchMode(dispatchTable ? DispatchMode.TABLE : DispatchMode.MATCH)
+                .withPayloadBinding(binding)
+                .withAsyncDispatch(asyncDispatch)
+                .withConcurrencyLimits(concurrencyLimits)
+                .withBatchIngestion(batch)
+                .withTimingReport(timing)
+                .withIncremental(incremental)
+                .build();
     }
 
     private void verifyValidInputsForHttp() {
@@ -274,6 +424,26 @@ public class AsyncApiCmd implements BLauncherCmd {
             outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, JSON_FLAG));
             exit(EXIT_CODE_1);
         }
+        if (writeBatching) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, WRITE_BATCHING_FLAG));
+            exit(EXIT_CODE_1);
+        }
+        if (nativePipes) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, NATIVE_PIPES_FLAG));
+            exit(EXIT_CODE_1);
+        }
+        if (autoReconnect) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, AUTO_RECONNECT_FLAG));
+            exit(EXIT_CODE_1);
+        }
+        if (connectionPool) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, CONNECTION_POOL_FLAG));
+            exit(EXIT_CODE_1);
+        }
+        if (wholePackage) {
+            outStream.println(String.format(INVALID_OPTION_ERROR_HTTP, PACKAGE_FLAG));
+            exit(EXIT_CODE_1);
+        }
     }
 
     private void ballerinaToAsyncApiWs(String fileName) {
@@ -282,10 +452,15 @@ public class AsyncApiCmd implements BLauncherCmd {
         try {
             Path balFilePath = Paths.get(balFile.getCanonicalPath());
             setOutputPathWs();
-            // Check service name it is mandatory
-            List<AsyncApiConverterDiagnostic> generationErrors = BallerinaToAsyncApiGenerator
-                    .generateAsyncAPIDefinitionsAllService(balFilePath, targetOutputPath, service, generatedFileType,
-                            outStream);
+            List<AsyncApiConverterDiagnostic> generationErrors;
+            if (wholePackage) {
+                generationErrors = BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsForPackage(balFilePath,
+                        targetOutputPath, generatedFileType, incremental, outStream);
+            } else {
+                // Check service name it is mandatory
+                generationErrors = BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllService(balFilePath,
+                        targetOutputPath, service, generatedFileType, incremental, outStream);
+            }
             errors.addAll(generationErrors);
         } catch (IOException e) {
             DiagnosticMessages message = DiagnosticMessages.AAS_CONVERTOR_102;
@@ -314,7 +489,8 @@ public class AsyncApiCmd implements BLauncherCmd {
 
     private void asyncApiToBallerinaWs(String fileName) throws IOException {
         AsyncApiToBallerinaGenerator generator = new AsyncApiToBallerinaGenerator(this.extractLicenseHeaderWs(),
-                this.includeTestFiles);
+                this.includeTestFiles, this.writeBatching, this.nativePipes, this.autoReconnect,
+                this.connectionPool, this.incremental);
         final File asyncApiFile = new File(fileName);
         setOutputPathWs();
         Path resourcePath = Paths.get(asyncApiFile.getCanonicalPath());
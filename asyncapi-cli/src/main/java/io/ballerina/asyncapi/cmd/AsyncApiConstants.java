@@ -33,6 +33,21 @@ public class AsyncApiConstants {
     public static final String SERVICE_FLAG = "--service";
     public static final String TEST_FLAG = "--with-tests";
     public static final String JSON_FLAG = "--json";
+    public static final String DISPATCH_TABLE_FLAG = "--dispatch-table";
+    public static final String ASYNC_DISPATCH_FLAG = "--async-dispatch";
+    public static final String CONCURRENCY_LIMITS_FLAG = "--concurrency-limits";
+    public static final String BATCH_FLAG = "--batch";
+    public static final String TIMING_FLAG = "--timing";
+    public static final String WRITE_BATCHING_FLAG = "--write-batching";
+    public static final String NATIVE_PIPES_FLAG = "--native-pipes";
+    public static final String AUTO_RECONNECT_FLAG = "--auto-reconnect";
+    public static final String CONNECTION_POOL_FLAG = "--connection-pool";
+    public static final String PACKAGE_FLAG = "--package";
+    public static final String INCREMENTAL_FLAG = "--incremental";
+    public static final String PAYLOAD_BINDING_FLAG = "--payload-binding";
+    public static final String PAYLOAD_BINDING_CLONE = "clone";
+    public static final String PAYLOAD_BINDING_STREAMING = "streaming";
+    public static final String PAYLOAD_BINDING_EVENT_TYPE = "event-type";
     public static final String INPUT_FLAG = "--input";
     public static final String OUTPUT_FLAG = "--output";
     public static final String INPUT_FLAG_ALT = "-i";
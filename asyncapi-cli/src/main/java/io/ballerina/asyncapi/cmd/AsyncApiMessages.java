@@ -17,12 +17,23 @@
  */
 package io.ballerina.asyncapi.cmd;
 
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.ASYNC_DISPATCH_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.AUTO_RECONNECT_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.BATCH_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CLIENT;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CONCURRENCY_LIMITS_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.CONNECTION_POOL_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.DISPATCH_TABLE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.JSON_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.LICENSE_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.NATIVE_PIPES_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PACKAGE_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.PAYLOAD_BINDING_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.SERVICE_FLAG;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.SPEC;
 import static io.ballerina.asyncapi.cmd.AsyncApiConstants.TEST_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.TIMING_FLAG;
+import static io.ballerina.asyncapi.cmd.AsyncApiConstants.WRITE_BATCHING_FLAG;
 
 /**
  * This class contains the messages constants required for AsyncApi tool.
@@ -46,5 +57,31 @@ public class AsyncApiMessages {
             CLIENT);
     public static final String INVALID_USE_OF_SERVICE_FLAG_WARNING = String.format(INVALID_OPTION_WARNING, SERVICE_FLAG,
             CLIENT);
+    public static final String INVALID_USE_OF_DISPATCH_TABLE_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            DISPATCH_TABLE_FLAG, CLIENT);
+    public static final String INVALID_USE_OF_ASYNC_DISPATCH_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            ASYNC_DISPATCH_FLAG, CLIENT);
+    public static final String INVALID_USE_OF_CONCURRENCY_LIMITS_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            CONCURRENCY_LIMITS_FLAG, CLIENT);
+    public static final String INVALID_USE_OF_BATCH_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            BATCH_FLAG, CLIENT);
+    public static final String INVALID_USE_OF_TIMING_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            TIMING_FLAG, CLIENT);
+    public static final String INVALID_USE_OF_WRITE_BATCHING_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            WRITE_BATCHING_FLAG, SPEC);
+    public static final String INVALID_USE_OF_NATIVE_PIPES_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            NATIVE_PIPES_FLAG, SPEC);
+    public static final String INVALID_USE_OF_AUTO_RECONNECT_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            AUTO_RECONNECT_FLAG, SPEC);
+    public static final String INVALID_USE_OF_CONNECTION_POOL_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            CONNECTION_POOL_FLAG, SPEC);
+    public static final String INVALID_USE_OF_PACKAGE_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            PACKAGE_FLAG, CLIENT);
+    public static final String INVALID_USE_OF_SERVICE_FLAG_WITH_PACKAGE_FLAG_ERROR = "ERROR the `" + SERVICE_FLAG +
+            "` option can not be used along with the `" + PACKAGE_FLAG + "` option.";
+    public static final String INVALID_USE_OF_PAYLOAD_BINDING_FLAG_WARNING = String.format(INVALID_OPTION_WARNING,
+            PAYLOAD_BINDING_FLAG, CLIENT);
+    public static final String MESSAGE_INVALID_PAYLOAD_BINDING = "ERROR invalid payload binding: %s. Supported " +
+            "payload bindings are `clone`, `streaming` and `event-type`.";
     public static final String MESSAGE_INVALID_LICENSE_STREAM = "Invalid license file path : %s. %s.";
 }
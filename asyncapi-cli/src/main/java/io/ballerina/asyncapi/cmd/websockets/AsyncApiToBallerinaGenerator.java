@@ -35,6 +35,7 @@ import org.ballerinalang.formatter.core.FormatterException;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -44,6 +45,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 
 import static io.ballerina.asyncapi.cmd.websockets.CmdConstants.CLIENT_FILE_NAME;
 import static io.ballerina.asyncapi.cmd.websockets.CmdConstants.CONFIG_FILE_NAME;
@@ -61,12 +63,34 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.UTIL_FILE_
  */
 public class AsyncApiToBallerinaGenerator {
     private static final PrintStream outStream = System.err;
+    private static final String CLIENT_DIGEST_FILE_NAME = ".asyncapi-client-digest";
     private final String licenseHeader;
     private final boolean includeTestFiles;
+    private final boolean writeBatching;
+    private final boolean nativePipes;
+    private final boolean autoReconnect;
+    private final boolean connectionPool;
+    private final boolean incremental;
 
     public AsyncApiToBallerinaGenerator(String licenseHeader, boolean includeTestFiles) {
+        this(licenseHeader, includeTestFiles, false, false, false, false);
+    }
+
+    public AsyncApiToBallerinaGenerator(String licenseHeader, boolean includeTestFiles, boolean writeBatching,
+                                        boolean nativePipes, boolean autoReconnect, boolean connectionPool) {
+        this(licenseHeader, includeTestFiles, writeBatching, nativePipes, autoReconnect, connectionPool, false);
+    }
+
+    public AsyncApiToBallerinaGenerator(String licenseHeader, boolean includeTestFiles, boolean writeBatching,
+                                        boolean nativePipes, boolean autoReconnect, boolean connectionPool,
+                                        boolean incremental) {
         this.licenseHeader = licenseHeader;
         this.includeTestFiles = includeTestFiles;
+        this.writeBatching = writeBatching;
+        this.nativePipes = nativePipes;
+        this.autoReconnect = autoReconnect;
+        this.connectionPool = connectionPool;
+        this.incremental = incremental;
     }
 
     /**
@@ -82,7 +106,113 @@ public class AsyncApiToBallerinaGenerator {
      */
     public void generateClient(Path definitionPath, Path outPath) throws IOException, BallerinaAsyncApiExceptionWs,
             FormatterException {
-        writeGeneratedSources(generateClientFiles(definitionPath), outPath, GEN_CLIENT);
+        if (!incremental) {
+            writeGeneratedSources(generateClientFiles(definitionPath), outPath, GEN_CLIENT);
+            return;
+        }
+        Optional<String> specDigest = getSpecDigest(definitionPath);
+        Path digestPath = outPath.resolve(CLIENT_DIGEST_FILE_NAME);
+        if (specDigest.isPresent() && isClientUpToDate(digestPath, specDigest.get(), outPath)) {
+            outStream.println("Client is up to date, since the AsyncAPI definition did not change.");
+            return;
+        }
+        List<Path> generatedFiles = writeGeneratedSourcesIfChanged(generateClientFiles(definitionPath), outPath);
+        if (specDigest.isEmpty()) {
+            return;
+        }
+        StringBuilder digestContent = new StringBuilder(specDigest.get()).append(System.lineSeparator());
+        for (Path generatedFile : generatedFiles) {
+            digestContent.append(outPath.relativize(generatedFile)).append(System.lineSeparator());
+        }
+        CodegenUtils.writeFileIfChanged(digestPath, digestContent.toString());
+    }
+
+    /**
+     * The digest covers the definition along with the version and the options of the generator, since all of them
+     * decide the content of the generated files. The digest is empty if the version of the tool is not known, in
+     * which case the client is always generated again.
+     */
+    private Optional<String> getSpecDigest(Path definitionPath) throws IOException {
+        Optional<String> generatorVersion = CodegenUtils.getGeneratorVersion();
+        if (generatorVersion.isEmpty()) {
+            return Optional.empty();
+        }
+        String options = String.join(",", generatorVersion.get(), licenseHeader,
+                String.valueOf(includeTestFiles), String.valueOf(writeBatching), String.valueOf(nativePipes),
+                String.valueOf(autoReconnect), String.valueOf(connectionPool));
+        String definitionDigest = CodegenUtils.getDigest(Files.readAllBytes(definitionPath));
+        return Optional.of(CodegenUtils.getDigest((options + definitionDigest).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static boolean isClientUpToDate(Path digestPath, String specDigest, Path outPath) throws IOException {
+        if (!Files.isRegularFile(digestPath)) {
+            return false;
+        }
+        List<String> lines = Files.readAllLines(digestPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(specDigest)) {
+            return false;
+        }
+        // Generation is skipped only when none of the generated files were removed afterwards
+        for (String generatedFile : lines.subList(1, lines.size())) {
+            if (!generatedFile.isBlank() && Files.notExists(outPath.resolve(generatedFile))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the generated sources, which differ from the files in the output path. Since the files are regenerated
+     * from the same definition, the existing files are overwritten without asking.
+     *
+     * @param sources Generated all sources as a list
+     * @param srcPath Output path provided
+     * @return paths of all the generated files
+     * @throws IOException when a file operation fails
+     */
+    private List<Path> writeGeneratedSourcesIfChanged(List<GenSrcFile> sources, Path srcPath) throws IOException {
+        Files.createDirectories(srcPath);
+        List<Path> generatedFiles = new ArrayList<>();
+        List<String> writtenFiles = new ArrayList<>();
+        List<String> unchangedFiles = new ArrayList<>();
+        List<String> skippedFiles = new ArrayList<>();
+        for (GenSrcFile file : sources) {
+            Path filePath;
+            if (file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME)) {
+                Files.createDirectories(srcPath.resolve(TEST_DIR));
+                filePath = srcPath.resolve(TEST_DIR).resolve(file.getFileName());
+            } else {
+                filePath = srcPath.resolve(file.getFileName());
+            }
+            generatedFiles.add(filePath);
+            if (!file.getType().isOverwritable() && Files.exists(filePath)) {
+                skippedFiles.add(file.getFileName());
+                continue;
+            }
+            String fileContent = file.getFileName().endsWith(".bal") ?
+                    (licenseHeader + file.getContent()) : file.getContent();
+            if (CodegenUtils.writeFileIfChanged(filePath, fileContent)) {
+                writtenFiles.add(file.getFileName());
+            } else {
+                unchangedFiles.add(file.getFileName());
+            }
+        }
+
+        outStream.println("Client generated successfully.");
+        printFileNames("Following files were created.", writtenFiles);
+        printFileNames("Following files did not change.", unchangedFiles);
+        printFileNames("Following files already exist, so they were skipped.", skippedFiles);
+        return generatedFiles;
+    }
+
+    private static void printFileNames(String title, List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+        outStream.println(title);
+        for (String fileName : fileNames) {
+            outStream.println("-- " + fileName);
+        }
     }
 
     /**
@@ -179,7 +309,8 @@ public class AsyncApiToBallerinaGenerator {
         // Generate ballerina client.
         AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
         AasClientConfig asyncApiClientConfig = clientMetaDataBuilder.withAsyncApi(asyncApiDef)
-                .withLicense(licenseHeader).build();
+                .withLicense(licenseHeader).withWriteBatching(writeBatching).withNativePipes(nativePipes)
+                .withAutoReconnect(autoReconnect).withConnectionPool(connectionPool).build();
         //Generate client intermediate code
         IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(asyncApiClientConfig);
         String mainContent = Formatter.format(intermediateClientGenerator.generateSyntaxTree()).toString();
@@ -196,8 +327,8 @@ public class AsyncApiToBallerinaGenerator {
         preGeneratedTypeDefNodes.addAll(intermediateClientGenerator.getTypeDefinitionNodeList());
 
         //Generate ballerina records to represent schemas in client intermediate code
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(asyncApiDef,
-                preGeneratedTypeDefNodes);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
+                intermediateClientGenerator.getGeneratorMetaData(), preGeneratedTypeDefNodes);
         // Generate schema generator syntax tree
         SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
         String schemaContent = Formatter.format(schemaSyntaxTree).toString();
@@ -39,12 +39,23 @@ import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.CodegenUtils.resolveContractFileName;
 
@@ -53,12 +64,36 @@ import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.Co
  *
  */
 public class BallerinaToAsyncApiGenerator {
+    // Digests of the services the definitions in the output directory were generated from, by the file names
+    private static final String SPEC_DIGESTS_FILE_NAME = ".asyncapi-digests";
+    private static final String SPEC_DIGEST_SEPARATOR = "=";
 
     public static List<AsyncApiConverterDiagnostic> generateAsyncAPIDefinitionsAllService(Path servicePath,
                                                                                           Path outPath,
                                                                                           String serviceName,
                                                                                           Boolean needJson,
                                                                                           PrintStream outStream) {
+        return generateAsyncAPIDefinitionsAllService(servicePath, outPath, serviceName, needJson, false, outStream);
+    }
+
+    /**
+     * Generates the AsyncAPI definitions of the WebSocket services in the given file.
+     *
+     * @param servicePath - Path of the Ballerina file
+     * @param outPath     - Directory to write the AsyncAPI definitions to
+     * @param serviceName - Service name that need to generate the asyncAPI specification
+     * @param needJson    - Flag for enabling the generated file format with json or YAML
+     * @param incremental - Flag for skipping the services, which did not change since their definitions were
+     *                    generated last in the incremental mode
+     * @param outStream   - Stream to print the progress to
+     * @return - Diagnostics reported during the generation
+     */
+    public static List<AsyncApiConverterDiagnostic> generateAsyncAPIDefinitionsAllService(Path servicePath,
+                                                                                          Path outPath,
+                                                                                          String serviceName,
+                                                                                          Boolean needJson,
+                                                                                          boolean incremental,
+                                                                                          PrintStream outStream) {
         SyntaxTree syntaxTree;
         SemanticModel semanticModel;
         Project project;
@@ -84,6 +119,132 @@ public class BallerinaToAsyncApiGenerator {
         Path inputPath = path.orElse(null);
         syntaxTree = doc.syntaxTree();
         PackageCompilation compilation = project.currentPackage().getCompilation();
+        if (!hasCompilationErrors(compilation, outStream)) {
+            semanticModel = compilation.getSemanticModel(docId.moduleId());
+            Map<String, String> digests = incremental ? readSpecDigests(outPath) : null;
+            Map<String, String> serviceDigests = null;
+            if (digests != null) {
+                // Look up the digest of a service under the name its contract is written to
+                serviceDigests = new HashMap<>();
+                for (Map.Entry<String, String> service : ServiceToAsyncApiConverterUtils.getAsyncApiFileNames(
+                        syntaxTree, semanticModel, needJson).entrySet()) {
+                    if (digests.containsKey(service.getValue())) {
+                        serviceDigests.put(service.getKey(), digests.get(service.getValue()));
+                    }
+                }
+            }
+            List<AsyncApiResult> asyncAPIDefinitions = ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(
+                    syntaxTree, semanticModel, serviceName, needJson, inputPath, serviceDigests);
+            writeAsyncApiDefinitions(asyncAPIDefinitions, outPath, needJson, digests, outStream, errors);
+        }
+        return errors;
+    }
+
+    /**
+     * Generates the AsyncAPI definitions of the WebSocket services in every document of every module of the package
+     * which the given file belongs to. The package is compiled only once and the modules are converted in parallel.
+     *
+     * @param servicePath - Path of a Ballerina file of the package
+     * @param outPath     - Directory to write the AsyncAPI definitions to
+     * @param needJson    - Flag for enabling the generated file format with json or YAML
+     * @param outStream   - Stream to print the progress to
+     * @return - Diagnostics reported during the generation
+     */
+    public static List<AsyncApiConverterDiagnostic> generateAsyncAPIDefinitionsForPackage(Path servicePath,
+                                                                                          Path outPath,
+                                                                                          Boolean needJson,
+                                                                                          PrintStream outStream) {
+        return generateAsyncAPIDefinitionsForPackage(servicePath, outPath, needJson, false, outStream);
+    }
+
+    /**
+     * Generates the AsyncAPI definitions of the WebSocket services in every document of every module of the package
+     * which the given file belongs to. The package is compiled only once and the modules are converted in parallel.
+     *
+     * @param servicePath - Path of a Ballerina file of the package
+     * @param outPath     - Directory to write the AsyncAPI definitions to
+     * @param needJson    - Flag for enabling the generated file format with json or YAML
+     * @param incremental - Flag for skipping the services, which did not change since their definitions were
+     *                    generated last in the incremental mode
+     * @param outStream   - Stream to print the progress to
+     * @return - Diagnostics reported during the generation
+     */
+    public static List<AsyncApiConverterDiagnostic> generateAsyncAPIDefinitionsForPackage(Path servicePath,
+                                                                                          Path outPath,
+                                                                                          Boolean needJson,
+                                                                                          boolean incremental,
+                                                                                          PrintStream outStream) {
+        final List<AsyncApiConverterDiagnostic> errors = new ArrayList<>();
+        Project project = ProjectLoader.loadProject(servicePath);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        if (hasCompilationErrors(compilation, outStream)) {
+            return errors;
+        }
+        Map<String, String> digests = incremental ? readSpecDigests(outPath) : null;
+        // The semantic model is not shared between the tasks, since it is not meant to be queried concurrently
+        List<Callable<List<AsyncApiResult>>> conversions = new ArrayList<>();
+        List<Map<String, String>> contractNames = new ArrayList<>();
+        Set<String> serviceNames = new HashSet<>();
+        for (Module module : project.currentPackage().modules()) {
+            SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
+            String modulePrefix = module.moduleName().toString().replace(".", "_");
+            // Services in different modules may resolve to the same contract name. The names are resolved before the
+            // conversions, so that the digest of a service is looked up under the name its contract is written to.
+            Map<String, String> moduleContractNames = new HashMap<>();
+            Map<String, String> moduleDigests = digests == null ? null : new HashMap<>();
+            for (DocumentId docId : module.documentIds()) {
+                for (Map.Entry<String, String> service : ServiceToAsyncApiConverterUtils.getAsyncApiFileNames(
+                        module.document(docId).syntaxTree(), semanticModel, needJson).entrySet()) {
+                    String serviceName = service.getValue();
+                    String contractName = serviceNames.add(serviceName) ? serviceName :
+                            modulePrefix + "_" + serviceName;
+                    serviceNames.add(contractName);
+                    moduleContractNames.put(service.getKey(), contractName);
+                    if (moduleDigests != null && digests.containsKey(contractName)) {
+                        moduleDigests.put(service.getKey(), digests.get(contractName));
+                    }
+                }
+            }
+            contractNames.add(moduleContractNames);
+            conversions.add(() -> {
+                List<AsyncApiResult> definitions = new ArrayList<>();
+                for (DocumentId docId : module.documentIds()) {
+                    Path inputPath = project.documentPath(docId).orElse(null);
+                    definitions.addAll(ServiceToAsyncApiConverterUtils.generateAsyncAPISpecDefinition(
+                            module.document(docId).syntaxTree(), semanticModel, null, needJson, inputPath,
+                            moduleDigests));
+                }
+                return definitions;
+            });
+        }
+
+        List<AsyncApiResult> asyncAPIDefinitions = new ArrayList<>();
+        try (ExecutorService executor = Executors.newWorkStealingPool()) {
+            List<Future<List<AsyncApiResult>>> results = executor.invokeAll(conversions);
+            for (int i = 0; i < results.size(); i++) {
+                Map<String, String> moduleContractNames = contractNames.get(i);
+                for (AsyncApiResult definition : results.get(i).get()) {
+                    // Write the definition under the contract name resolved for its service
+                    definition.getServiceNode()
+                            .map(serviceNode -> moduleContractNames.get(
+                                    ServiceToAsyncApiConverterUtils.getServiceId(serviceNode)))
+                            .ifPresent(definition::setServiceName);
+                    asyncAPIDefinitions.add(definition);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.add(getGenerationError(e));
+            return errors;
+        } catch (ExecutionException e) {
+            errors.add(getGenerationError(e.getCause()));
+            return errors;
+        }
+        writeAsyncApiDefinitions(asyncAPIDefinitions, outPath, needJson, digests, outStream, errors);
+        return errors;
+    }
+
+    private static boolean hasCompilationErrors(PackageCompilation compilation, PrintStream outStream) {
         boolean hasErrors = compilation.diagnosticResult().diagnostics().stream()
                 .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
 
@@ -95,50 +256,111 @@ public class BallerinaToAsyncApiGenerator {
                     outStream.println(e.message());
                 }
             }
-        } else {
-            semanticModel = compilation.getSemanticModel(docId.moduleId());
-            List<AsyncApiResult> asyncAPIDefinitions = ServiceToAsyncApiConverterUtils.
-                    generateAsyncAPISpecDefinition(syntaxTree, semanticModel, serviceName, needJson, inputPath);
-
-            if (!asyncAPIDefinitions.isEmpty()) {
-                List<String> fileNames = new ArrayList<>();
-                for (AsyncApiResult definition : asyncAPIDefinitions) {
-                    if (Files.notExists(outPath)) {
-                        try {
-                            Files.createDirectories(outPath);
-                        } catch (IOException e) {
-                            DiagnosticMessages message = DiagnosticMessages.AAS_CONVERTOR_102;
-                            ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
-                                    message.getDescription() + e.getLocalizedMessage(), null);
-                            errors.add(error);
-                        }
-                    }
+        }
+        return hasErrors;
+    }
+
+    private static void writeAsyncApiDefinitions(List<AsyncApiResult> asyncAPIDefinitions, Path outPath,
+                                                 Boolean needJson, Map<String, String> digests,
+                                                 PrintStream outStream, List<AsyncApiConverterDiagnostic> errors) {
+        if (!asyncAPIDefinitions.isEmpty()) {
+            List<String> fileNames = new ArrayList<>();
+            List<String> skippedFileNames = new ArrayList<>();
+            for (AsyncApiResult definition : asyncAPIDefinitions) {
+                if (definition.isUpToDate()) {
+                    skippedFileNames.add(definition.getServiceName());
+                    continue;
+                }
+                if (Files.notExists(outPath)) {
                     try {
-                        errors.addAll(definition.getDiagnostics());
-                        if (definition.getAsyncAPI().isPresent()) {
-                            Optional<String> content;
-                            if (needJson) {
-                                content = definition.getJson();
-                            } else {
-                                content = definition.getYaml();
-                            }
-                            String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
-                            CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
-                            fileNames.add(fileName);
-                        }
+                        Files.createDirectories(outPath);
                     } catch (IOException e) {
-                        DiagnosticMessages message = DiagnosticMessages.AAS_CONVERTOR_102;
-                        ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
-                                message.getDescription() + e.getLocalizedMessage(), null);
-                        errors.add(error);
+                        errors.add(getGenerationError(e));
                     }
                 }
+                try {
+                    errors.addAll(definition.getDiagnostics());
+                    if (definition.getAsyncAPI().isPresent()) {
+                        Optional<String> content;
+                        if (needJson) {
+                            content = definition.getJson();
+                        } else {
+                            content = definition.getYaml();
+                        }
+                        String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
+                        CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
+                        fileNames.add(fileName);
+                        if (digests != null) {
+                            // A definition without a digest is generated again in the next run
+                            digests.remove(fileName);
+                            definition.getDigest().ifPresent(digest -> digests.put(fileName, digest));
+                        }
+                    }
+                } catch (IOException e) {
+                    errors.add(getGenerationError(e));
+                }
+            }
+            if (!fileNames.isEmpty() || skippedFileNames.isEmpty()) {
                 outStream.println("AsyncAPI definition(s) generated successfully and copied to :");
                 for (String fileName : fileNames) {
                     outStream.println("-- " + fileName);
                 }
             }
+            if (!skippedFileNames.isEmpty()) {
+                outStream.println("AsyncAPI definition(s) skipped, since their services did not change :");
+                for (String fileName : skippedFileNames) {
+                    outStream.println("-- " + fileName);
+                }
+            }
         }
-        return errors;
+        if (digests != null && Files.exists(outPath)) {
+            try {
+                writeSpecDigests(outPath, digests);
+            } catch (IOException e) {
+                errors.add(getGenerationError(e));
+            }
+        }
+    }
+
+    /**
+     * Reads the digests of the services the definitions in the given directory were generated from. The digests of
+     * the definitions which no longer exist are left out, so that they are generated again.
+     */
+    private static Map<String, String> readSpecDigests(Path outPath) {
+        Map<String, String> digests = new TreeMap<>();
+        Path digestsPath = outPath.resolve(SPEC_DIGESTS_FILE_NAME);
+        if (Files.notExists(digestsPath)) {
+            return digests;
+        }
+        try {
+            for (String line : Files.readAllLines(digestsPath, StandardCharsets.UTF_8)) {
+                int separatorIndex = line.lastIndexOf(SPEC_DIGEST_SEPARATOR);
+                if (separatorIndex > 0) {
+                    String fileName = line.substring(0, separatorIndex);
+                    if (Files.exists(outPath.resolve(fileName))) {
+                        digests.put(fileName, line.substring(separatorIndex + 1));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Generate all the definitions again, if the digests can not be read
+            digests.clear();
+        }
+        return digests;
+    }
+
+    private static void writeSpecDigests(Path outPath, Map<String, String> digests) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<String, String> digest : digests.entrySet()) {
+            content.append(digest.getKey()).append(SPEC_DIGEST_SEPARATOR).append(digest.getValue())
+                    .append(System.lineSeparator());
+        }
+        // The digests are replaced at once, so that an interrupted run never leaves them half written
+        CodegenUtils.writeFileIfChanged(outPath.resolve(SPEC_DIGESTS_FILE_NAME), content.toString());
+    }
+
+    private static ExceptionDiagnostic getGenerationError(Throwable e) {
+        DiagnosticMessages message = DiagnosticMessages.AAS_CONVERTOR_102;
+        return new ExceptionDiagnostic(message.getCode(), message.getDescription() + e.getLocalizedMessage(), null);
     }
 }
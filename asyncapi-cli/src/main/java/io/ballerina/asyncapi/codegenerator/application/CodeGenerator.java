@@ -18,8 +18,10 @@
 
 package io.ballerina.asyncapi.codegenerator.application;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiSchema;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodeGeneratorConfig;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.controller.AsyncApiSpecController;
 import io.ballerina.asyncapi.codegenerator.controller.BalController;
@@ -31,10 +33,26 @@ import io.ballerina.asyncapi.codegenerator.controller.SpecController;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.CodegenUtils;
 
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  *  This class controls the flow of code generation.
@@ -44,62 +62,231 @@ import java.util.Map;
  */
 public class CodeGenerator implements Application {
     private final FileRepository fileRepository;
+    private final CodeGeneratorConfig config;
     private static final PrintStream outStream = System.err;
+    private static final String SPEC_PHASE = "spec parsing";
+    private static final String WRITE_PHASE = "writing files";
+    private static final String LISTENER_DIGEST_FILE_NAME = ".asyncapi-listener-digest";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final List<String> TEMPLATE_FILE_NAMES = List.of(Constants.DATA_TYPES_BAL_FILE_NAME,
+            Constants.LISTENER_BAL_FILE_NAME, Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY,
+            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER,
+            Constants.DISPATCH_QUEUE_BAL_FILE_NAME, Constants.DISPATCH_QUEUE_SERVICE_BAL_FILE_NAME);
+    private static final List<String> GENERATED_FILE_NAMES = List.of(Constants.DATA_TYPES_BAL_FILE_NAME,
+            Constants.SERVICE_TYPES_BAL_FILE_NAME, Constants.LISTENER_BAL_FILE_NAME,
+            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
 
     public CodeGenerator() {
-        this.fileRepository = new FileRepositoryImpl();
+        this(new FileRepositoryImpl());
+    }
+
+    public CodeGenerator(CodeGeneratorConfig config) {
+        this(new FileRepositoryImpl(), config);
     }
 
     public CodeGenerator(FileRepository fileRepository) {
+        this(fileRepository, new CodeGeneratorConfig.Builder().build());
+    }
+
+    public CodeGenerator(FileRepository fileRepository, CodeGeneratorConfig config) {
         this.fileRepository = fileRepository;
+        this.config = config;
     }
 
     @Override
     public void generate(String specPath, String outputPath) throws BallerinaAsyncApiException {
-        String asyncApiSpecJson = getFileContent(fileRepository, specPath);
+        Map<String, Long> phaseDurations = new ConcurrentHashMap<>();
+        long specStartTime = System.nanoTime();
+        String asyncApiSpec = fileRepository.getFileContent(specPath);
+        String outputDirectory = getOutputDirectory(outputPath);
+        String specDigest = null;
+        if (config.isIncremental()) {
+            // The digest is computed from the raw definition, so an unchanged definition is never parsed
+            specDigest = getSpecDigest(asyncApiSpec);
+            if (specDigest != null && isListenerUpToDate(outputDirectory, specDigest)) {
+                outStream.println("Listener is up to date, since the AsyncAPI definition did not change.");
+                return;
+            }
+        }
 
+        ObjectNode asyncApiSpecJson = getSpecTree(fileRepository, specPath, asyncApiSpec);
         SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
         Map<String, AsyncApiSchema> schemas = specController.getSchemas();
         List<ServiceType> serviceTypes = specController.getServiceTypes();
         String eventIdentifierType = specController.getEventIdentifierType();
         String eventIdentifierPath = specController.getEventIdentifierPath();
+        phaseDurations.put(SPEC_PHASE, System.nanoTime() - specStartTime);
 
-        String dataTypesTemplate = fileRepository.getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
-        BalController schemaController = new SchemaController(schemas);
-        String dataTypesBalContent = schemaController.generateBalCode(dataTypesTemplate);
+        // The generators only share the entities extracted from the spec, so the files are generated concurrently
+        Map<String, String> balContents = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Map<String, Future<String>> generations = new LinkedHashMap<>();
+            generations.put(Constants.DATA_TYPES_BAL_FILE_NAME, executor.submit(timed(phaseDurations,
+                    Constants.DATA_TYPES_BAL_FILE_NAME, () -> {
+                String dataTypesTemplate =
+                        fileRepository.getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+                BalController schemaController = new SchemaController(schemas);
+                return schemaController.generateBalCode(dataTypesTemplate);
+            })));
+            generations.put(Constants.SERVICE_TYPES_BAL_FILE_NAME, executor.submit(timed(phaseDurations,
+                    Constants.SERVICE_TYPES_BAL_FILE_NAME, () -> {
+                BalController serviceTypesController = new ServiceTypesController(serviceTypes);
+                return serviceTypesController.generateBalCode(Constants.EMPTY_BALLERINA_FILE_CONTENT);
+            })));
+            generations.put(Constants.LISTENER_BAL_FILE_NAME, executor.submit(timed(phaseDurations,
+                    Constants.LISTENER_BAL_FILE_NAME, () -> {
+                String listenerTemplate = fileRepository.getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
+                String dispatchQueueTemplate = null;
+                if (config.isAsyncDispatch()) {
+                    dispatchQueueTemplate =
+                            fileRepository.getFileContentFromResources(Constants.DISPATCH_QUEUE_BAL_FILE_NAME);
+                }
+                BalController listenerController = new ListenerController(serviceTypes, dispatchQueueTemplate,
+                        config.isConcurrencyLimits());
+                return listenerController.generateBalCode(listenerTemplate);
+            })));
+            generations.put(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME, executor.submit(timed(phaseDurations,
+                    Constants.DISPATCHER_SERVICE_BAL_FILE_NAME, () -> {
+                String dispatchQueueServiceTemplate = null;
+                if (config.isAsyncDispatch()) {
+                    dispatchQueueServiceTemplate =
+                            fileRepository.getFileContentFromResources(Constants.DISPATCH_QUEUE_SERVICE_BAL_FILE_NAME);
+                }
+                BalController dispatcherController = new DispatcherController(serviceTypes, eventIdentifierType,
+                        eventIdentifierPath, config, dispatchQueueServiceTemplate);
+                String dispatcherTemplate;
+                if (eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)) {
+                    dispatcherTemplate = fileRepository.getFileContentFromResources(
+                            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY);
+                } else {
+                    dispatcherTemplate = fileRepository.getFileContentFromResources(
+                            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
+                }
+                return dispatcherController.generateBalCode(dispatcherTemplate);
+            })));
+            for (Map.Entry<String, Future<String>> generation : generations.entrySet()) {
+                balContents.put(generation.getKey(), getGeneratedContent(generation.getValue()));
+            }
+        }
 
-        BalController serviceTypesController = new ServiceTypesController(serviceTypes);
-        String serviceTypesBalContent = serviceTypesController.generateBalCode(Constants.EMPTY_BALLERINA_FILE_CONTENT);
+        long writeStartTime = System.nanoTime();
+        List<String> writtenFiles = new ArrayList<>();
+        List<String> unchangedFiles = new ArrayList<>();
+        for (Map.Entry<String, String> balContent : balContents.entrySet()) {
+            String filePath = outputDirectory.concat(balContent.getKey());
+            if (!config.isIncremental()) {
+                fileRepository.writeToFile(filePath, balContent.getValue());
+                writtenFiles.add(balContent.getKey());
+            } else if (fileRepository.writeToFileIfChanged(filePath, balContent.getValue())) {
+                writtenFiles.add(balContent.getKey());
+            } else {
+                unchangedFiles.add(balContent.getKey());
+            }
+        }
+        if (specDigest != null) {
+            fileRepository.writeToFileIfChanged(outputDirectory.concat(LISTENER_DIGEST_FILE_NAME), specDigest);
+        }
+        phaseDurations.put(WRITE_PHASE, System.nanoTime() - writeStartTime);
 
-        String listenerTemplate = fileRepository.getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
-        BalController listenerController = new ListenerController(serviceTypes);
-        String listenerBalContent = listenerController.generateBalCode(listenerTemplate);
+        if (!writtenFiles.isEmpty()) {
+            printFileNames("Following files were generated successfully:", writtenFiles);
+        }
+        if (!unchangedFiles.isEmpty()) {
+            printFileNames("Following files did not change:", unchangedFiles);
+        }
+        if (config.isTimingReport()) {
+            printTimingReport(phaseDurations, balContents.keySet());
+        }
+    }
 
-        BalController dispatcherController = new DispatcherController(serviceTypes, eventIdentifierType,
-                eventIdentifierPath);
-        String dispatcherContent;
-        if (eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)) {
-            String dispatcherTemplateForEventIdentifierInBody = fileRepository
-                    .getFileContentFromResources(
-                            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY);
-            dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplateForEventIdentifierInBody);
-        } else {
-            String dispatcherTemplateForEventIdentifierInHeader = fileRepository
-                    .getFileContentFromResources(
-                            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
-            dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplateForEventIdentifierInHeader);
+    private static void printFileNames(String title, List<String> fileNames) {
+        StringBuilder message = new StringBuilder(title);
+        for (String fileName : fileNames) {
+            message.append("\n--").append(fileName);
         }
+        outStream.println(message);
+    }
 
-        String outputDirectory = getOutputDirectory(outputPath);
-        fileRepository.writeToFile(outputDirectory.concat(Constants.DATA_TYPES_BAL_FILE_NAME), dataTypesBalContent);
-        fileRepository
-                .writeToFile(outputDirectory.concat(Constants.SERVICE_TYPES_BAL_FILE_NAME), serviceTypesBalContent);
-        fileRepository.writeToFile(outputDirectory.concat(Constants.LISTENER_BAL_FILE_NAME), listenerBalContent);
-        fileRepository
-                .writeToFile(outputDirectory.concat(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME), dispatcherContent);
-
-        outStream.println("Following files were generated successfully:" +
-                "\n--data_types.bal\n--service_types.bal\n--listener.bal\n--dispatcher_service.bal");
+    /**
+     * The digest covers the definition along with the version and the options of the generator and the templates
+     * bundled with it, since all of them decide the content of the generated files. The templates are covered as
+     * well, since they may change between the builds of a snapshot version. The digest is null if the version of
+     * the tool is not known, in which case the listener is always generated again.
+     */
+    private String getSpecDigest(String asyncApiSpec) throws BallerinaAsyncApiException {
+        Optional<String> generatorVersion = CodegenUtils.getGeneratorVersion();
+        if (generatorVersion.isEmpty()) {
+            return null;
+        }
+        String options = String.join(",", generatorVersion.get(), config.getDispatchMode().name(),
+                config.getPayloadBinding().name(), String.valueOf(config.isAsyncDispatch()),
+                String.valueOf(config.isConcurrencyLimits()), String.valueOf(config.isBatchIngestion()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            digest.update(options.getBytes(StandardCharsets.UTF_8));
+            for (String templateFileName : TEMPLATE_FILE_NAMES) {
+                digest.update(CodegenUtils.getDigest(fileRepository.getFileContentFromResources(templateFileName)
+                        .getBytes(StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(asyncApiSpec.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new BallerinaAsyncApiException("Could not compute the digest of the AsyncAPI definition", e);
+        }
+    }
+
+    private boolean isListenerUpToDate(String outputDirectory, String specDigest)
+            throws BallerinaAsyncApiException {
+        String digestFilePath = outputDirectory.concat(LISTENER_DIGEST_FILE_NAME);
+        if (!fileRepository.isFileExists(digestFilePath) ||
+                !fileRepository.getFileContent(digestFilePath).trim().equals(specDigest)) {
+            return false;
+        }
+        // Generation is skipped only when none of the generated files were removed afterwards
+        for (String fileName : GENERATED_FILE_NAMES) {
+            if (!fileRepository.isFileExists(outputDirectory.concat(fileName))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Callable<String> timed(Map<String, Long> phaseDurations, String phase,
+                                          Callable<String> generation) {
+        return () -> {
+            long startTime = System.nanoTime();
+            try {
+                return generation.call();
+            } finally {
+                phaseDurations.put(phase, System.nanoTime() - startTime);
+            }
+        };
+    }
+
+    private static String getGeneratedContent(Future<String> generation) throws BallerinaAsyncApiException {
+        try {
+            return generation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaAsyncApiException("Code generation was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BallerinaAsyncApiException cause) {
+                throw cause;
+            }
+            throw new BallerinaAsyncApiException("Code generation failed, " + e.getCause().getMessage(), e);
+        }
+    }
+
+    private void printTimingReport(Map<String, Long> phaseDurations, Collection<String> fileNames) {
+        StringBuilder report = new StringBuilder("Code generation phase durations:");
+        List<String> phases = new ArrayList<>();
+        phases.add(SPEC_PHASE);
+        phases.addAll(fileNames);
+        phases.add(WRITE_PHASE);
+        for (String phase : phases) {
+            report.append("\n--").append(phase).append(": ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(phaseDurations.getOrDefault(phase, 0L))).append(" ms");
+        }
+        outStream.println(report);
     }
 
     private String getOutputDirectory(String outputPath) {
@@ -109,13 +296,15 @@ public class CodeGenerator implements Application {
         return outputPath.concat("/");
     }
 
-    private String getFileContent(FileRepository fileRepository, String specPath) throws BallerinaAsyncApiException {
-        String asyncApiSpecYaml = fileRepository.getFileContent(specPath);
+    /**
+     * Parses the specification into a json tree in a single pass, which the specification is read from.
+     */
+    private ObjectNode getSpecTree(FileRepository fileRepository, String specPath, String asyncApiSpec)
+            throws BallerinaAsyncApiException {
         if (specPath.endsWith(".json")) {
-            fileRepository.validateJson(asyncApiSpecYaml);
-            return asyncApiSpecYaml;
+            return fileRepository.readJsonTree(asyncApiSpec);
         } else if (specPath.endsWith("yaml") || specPath.endsWith("yml")) {
-            return fileRepository.convertYamlToJson(asyncApiSpecYaml);
+            return fileRepository.readYamlTree(asyncApiSpec);
         } else {
             throw new BallerinaAsyncApiException("Unknown file type: ".concat(specPath));
         }
@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.configuration;
+
+/**
+ * This class stores the options which control the code generation of the listener.
+ */
+public class CodeGeneratorConfig {
+    private final DispatchMode dispatchMode;
+    private final PayloadBinding payloadBinding;
+    private final boolean asyncDispatch;
+    private final boolean concurrencyLimits;
+    private final boolean batchIngestion;
+    private final boolean timingReport;
+    private final boolean incremental;
+
+    private CodeGeneratorConfig(Builder builder) {
+        this.dispatchMode = builder.dispatchMode;
+        this.payloadBinding = builder.payloadBinding;
+        this.asyncDispatch = builder.asyncDispatch;
+        this.concurrencyLimits = builder.concurrencyLimits;
+        this.batchIngestion = builder.batchIngestion;
+        this.timingReport = builder.timingReport;
+        this.incremental = builder.incremental;
+    }
+
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    public PayloadBinding getPayloadBinding() {
+        return payloadBinding;
+    }
+
+    public boolean isAsyncDispatch() {
+        return asyncDispatch;
+    }
+
+    public boolean isConcurrencyLimits() {
+        return concurrencyLimits;
+    }
+
+    public boolean isBatchIngestion() {
+        return batchIngestion;
+    }
+
+    public boolean isTimingReport() {
+        return timingReport;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Listener code generator config builder class.
+     */
+    public static class Builder {
+        private DispatchMode dispatchMode = DispatchMode.MATCH;
+        private PayloadBinding payloadBinding = PayloadBinding.CLONE_WITH_TYPE;
+        private boolean asyncDispatch = false;
+        private boolean concurrencyLimits = false;
+        private boolean batchIngestion = false;
+        private boolean timingReport = false;
+        private boolean incremental = false;
+
+        public Builder withDispatchMode(DispatchMode dispatchMode) {
+            this.dispatchMode = dispatchMode;
+            return this;
+        }
+
+        public Builder withPayloadBinding(PayloadBinding payloadBinding) {
+            this.payloadBinding = payloadBinding;
+            return this;
+        }
+
+        public Builder withAsyncDispatch(boolean asyncDispatch) {
+            this.asyncDispatch = asyncDispatch;
+            return this;
+        }
+
+        public Builder withConcurrencyLimits(boolean concurrencyLimits) {
+            this.concurrencyLimits = concurrencyLimits;
+            return this;
+        }
+
+        public Builder withBatchIngestion(boolean batchIngestion) {
+            this.batchIngestion = batchIngestion;
+            return this;
+        }
+
+        public Builder withTimingReport(boolean timingReport) {
+            this.timingReport = timingReport;
+            return this;
+        }
+
+        public Builder withIncremental(boolean incremental) {
+            this.incremental = incremental;
+            return this;
+        }
+
+        public CodeGeneratorConfig build() {
+            return new CodeGeneratorConfig(this);
+        }
+    }
+}
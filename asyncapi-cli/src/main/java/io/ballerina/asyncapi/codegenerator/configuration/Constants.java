@@ -33,6 +33,8 @@ public final class Constants {
             "dispatcher_service.bal";
     public static final String DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER =
             "dispatcher_service_for_event_identifier_in_header.bal";
+    public static final String DISPATCH_QUEUE_BAL_FILE_NAME = "dispatch_queue.bal";
+    public static final String DISPATCH_QUEUE_SERVICE_BAL_FILE_NAME = "dispatch_queue_service.bal";
     public static final List<String> BAL_KEYWORDS;
     public static final List<String> BAL_TYPES;
     public static final String ESCAPE_PATTERN = "([\\[\\]\\\\?!<>@#&~`*\\-=^+();:\\/\\_{}\\s|.$])";
@@ -77,10 +79,28 @@ public final class Constants {
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER_PATH = "path";
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER_NAME = "name";
     public static final String CLONE_WITH_TYPE_VAR_NAME = "genericDataType";
+    public static final String PAYLOAD_VAR_NAME = "payload";
+    public static final String EVENT_DATA_VAR_NAME = "event";
+    public static final String EVENT_IDENTIFIER_VAR_NAME = "eventIdentifier";
+    public static final String JSON_DATA_IMPORT = "import ballerina/data.jsondata;";
+    public static final String NATIVE_HANDLER_IMPORT = "import ballerinax/asyncapi.native.handler;";
     public static final String INTEROP_INVOKE_FUNCTION_NAME = "executeRemoteFunc";
+    public static final String DISPATCH_TABLE_VAR_NAME = "dispatchTable";
+    public static final String DISPATCH_CONFIG_VAR_NAME = "dispatchConfig";
+    public static final String CONCURRENCY_CONFIG_VAR_NAME = "concurrencyConfig";
+    public static final String DISPATCH_CONFIG_TYPE = "DispatchConfiguration";
+    public static final String CONCURRENCY_CONFIG_TYPE = "handler:ConcurrencyConfig";
+    public static final String NATIVE_HANDLER_VAR_NAME = "nativeHandler";
+    public static final String DISPATCH_QUEUE_VAR_NAME = "dispatchQueue";
+    public static final String DISPATCH_METRICS_FUNCTION_NAME = "getDispatchMetrics";
+    public static final String DISPATCH_QUEUED_EVENTS_FUNCTION_NAME = "dispatchQueuedEvents";
+    public static final String REMOTE_FUNCTION_CALL_TYPE = "handler:RemoteFunctionCall";
+    public static final String REMOTE_FUNCTION_CALLS_VAR_NAME = "calls";
+    public static final String LISTENER_INIT_FUNCTION_NAME = "init";
     public static final String LISTENER_SERVICE_TYPE_FILTER_FUNCTION_NAME = "getServiceTypeStr";
     public static final String DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME = "matchRemoteFunc";
     public static final String DISPATCHER_SERVICE_POST_FUNCTION_NAME = "post";
+    public static final String DISPATCHER_SERVICE_INIT_FUNCTION_NAME = "init";
     public static final String REMOTE_FUNCTION_NAME_PREFIX = "on";
     public static final String SERVICE_TYPE_NAME_SUFFIX = "Service";
 
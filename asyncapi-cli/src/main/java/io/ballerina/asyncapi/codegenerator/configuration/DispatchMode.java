@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.configuration;
+
+/**
+ * The ways in which the generated dispatcher_service.bal can route an event to its remote function.
+ */
+public enum DispatchMode {
+    /**
+     * A {@code match} statement with one clause per event type.
+     */
+    MATCH,
+    /**
+     * A module level {@code map} from the event type to the service type and the remote function name,
+     * which is initialised once and looked up for every event.
+     */
+    TABLE
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.configuration;
+
+/**
+ * The ways in which the generated dispatcher_service.bal can bind the request payload to the event data type.
+ */
+public enum PayloadBinding {
+    /**
+     * Read the payload as {@code json} and then deep copy it into the event data type with {@code cloneWithType}.
+     */
+    CLONE_WITH_TYPE,
+    /**
+     * Parse the payload byte stream directly into the event data type in a single pass with
+     * {@code ballerina/data.jsondata}, without building an intermediate {@code json} value.
+     */
+    STREAMING,
+    /**
+     * Read the payload as {@code json}, route on the event identifier and then convert the payload only to the
+     * data type of the matched event, instead of to the union of all the event data types.
+     */
+    EVENT_TYPE
+}
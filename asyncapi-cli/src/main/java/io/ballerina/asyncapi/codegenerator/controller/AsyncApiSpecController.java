@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.deref.Dereferencer;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiDocument;
@@ -44,12 +45,17 @@ public class AsyncApiSpecController implements SpecController {
     private String eventIdentifierType;
     private String eventIdentifierPath;
 
-    public AsyncApiSpecController(String asyncApiSpecJson) throws BallerinaAsyncApiException {
-        readSpec(asyncApiSpecJson);
+    /**
+     * Reads the specification from the json tree, which the yaml or the json specification is parsed into.
+     *
+     * @param asyncApiSpecJson parsed AsyncAPI specification
+     * @throws BallerinaAsyncApiException when the data extraction fails
+     */
+    public AsyncApiSpecController(ObjectNode asyncApiSpecJson) throws BallerinaAsyncApiException {
+        readSpec((AsyncApiDocument) Library.readDocument(asyncApiSpecJson));
     }
 
-    private void readSpec(String asyncApiSpecJson) throws BallerinaAsyncApiException {
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+    private void readSpec(AsyncApiDocument asyncApiSpec) throws BallerinaAsyncApiException {
         Dereferencer dereferencer = new Dereferencer(ReferenceResolverChain.getInstance(), false);
         asyncApiSpec = (AsyncApiDocument) dereferencer.dereference(asyncApiSpec);
 
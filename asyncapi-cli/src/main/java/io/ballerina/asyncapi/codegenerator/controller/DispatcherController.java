@@ -19,28 +19,45 @@
 package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodeGeneratorConfig;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
+import io.ballerina.asyncapi.codegenerator.configuration.PayloadBinding;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateDispatchTableNode;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateMatchStatementNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.compiler.syntax.tree.BindingPatternNode;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.CallStatementNode;
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MatchStatementNode;
 import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.MinutiaeList;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeCastExpressionNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.tools.text.TextDocument;
@@ -48,10 +65,18 @@ import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createWhitespaceMinutiae;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
@@ -64,8 +89,11 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPa
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createVariableDeclarationNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CHECK_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOT_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.JSON_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
@@ -77,12 +105,37 @@ public class DispatcherController implements BalController {
     private final List<ServiceType> serviceTypes;
     private final String eventIdentifierType;
     private final String eventIdentifierPath;
+    private final CodeGeneratorConfig config;
+    private final String dispatchQueueServiceTemplate;
 
     public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
                                 String eventIdentifierPath) {
+        this(serviceTypes, eventIdentifierType, eventIdentifierPath, new CodeGeneratorConfig.Builder().build());
+    }
+
+    public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
+                                String eventIdentifierPath, CodeGeneratorConfig config) {
+        this(serviceTypes, eventIdentifierType, eventIdentifierPath, config, null);
+    }
+
+    /**
+     * Creates a controller which generates the dispatcher service according to the given configuration.
+     *
+     * @param serviceTypes                 service types of the listener
+     * @param eventIdentifierType          whether the event identifier is in the body or in a header
+     * @param eventIdentifierPath          path of the event identifier
+     * @param config                       configuration of the generator
+     * @param dispatchQueueServiceTemplate content of the dispatch_queue_service.bal template, which holds the members
+     *                                     of the dispatcher service with the asynchronous dispatch
+     */
+    public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
+                                String eventIdentifierPath, CodeGeneratorConfig config,
+                                String dispatchQueueServiceTemplate) {
         this.serviceTypes = serviceTypes;
         this.eventIdentifierType = eventIdentifierType;
         this.eventIdentifierPath = eventIdentifierPath;
+        this.config = config;
+        this.dispatchQueueServiceTemplate = dispatchQueueServiceTemplate;
     }
 
     @Override
@@ -91,9 +144,22 @@ public class DispatcherController implements BalController {
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
         ModulePartNode oldRoot = syntaxTree.rootNode();
 
+        boolean batchIngestion = config.isBatchIngestion();
+        if (batchIngestion && (config.getPayloadBinding() != PayloadBinding.CLONE_WITH_TYPE
+                || config.isAsyncDispatch())) {
+            throw new BallerinaAsyncApiException("Batch ingestion is supported only with the `clone` payload " +
+                    "binding and the synchronous dispatch");
+        }
+        // A batch is routed through the dispatch table, which resolves the remote function without invoking it
+        boolean useDispatchTable = config.getDispatchMode() == DispatchMode.TABLE || batchIngestion;
+        boolean bindEventDataType = config.getPayloadBinding() == PayloadBinding.EVENT_TYPE;
         String eventIdentifierPath = Constants.CLONE_WITH_TYPE_VAR_NAME.concat(".").concat(this.eventIdentifierPath);
+        if (bindEventDataType) {
+            // Only the identifier is read from the json payload before routing
+            eventIdentifierPath = "check " + Constants.PAYLOAD_VAR_NAME + "." + this.eventIdentifierPath;
+        }
         if (this.eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER)) {
-            eventIdentifierPath = "eventIdentifier";
+            eventIdentifierPath = Constants.EVENT_IDENTIFIER_VAR_NAME;
 
             FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(oldRoot);
             if (postFunctionDefinitionNode == null) {
@@ -114,6 +180,14 @@ public class DispatcherController implements BalController {
             oldRoot = syntaxTree.rootNode();
         }
 
+        if (config.getPayloadBinding() == PayloadBinding.STREAMING) {
+            syntaxTree = syntaxTree.replaceNode(oldRoot, bindPayloadByStreaming(oldRoot));
+            oldRoot = syntaxTree.rootNode();
+        } else if (bindEventDataType) {
+            syntaxTree = syntaxTree.replaceNode(oldRoot, bindPayloadPerEventType(oldRoot));
+            oldRoot = syntaxTree.rootNode();
+        }
+
         FunctionDefinitionNode functionDefinitionNode = getResourceFuncNode(oldRoot);
         if (functionDefinitionNode == null) {
             throw new BallerinaAsyncApiException("Resource function '"
@@ -121,16 +195,37 @@ public class DispatcherController implements BalController {
                     + "', is not found in the dispatcher_service.bal");
         }
 
-        Generator generateMatchStatement = new GenerateMatchStatementNode(serviceTypes, eventIdentifierPath);
-        MatchStatementNode matchStatementNode = generateMatchStatement.generate();
+        List<StatementNode> dispatchStatementNodes;
+        if (useDispatchTable) {
+            dispatchStatementNodes = getDispatchTableLookupNodes(eventIdentifierPath, bindEventDataType,
+                    batchIngestion);
+        } else {
+            Generator generateMatchStatement = new GenerateMatchStatementNode(serviceTypes, eventIdentifierPath,
+                    bindEventDataType);
+            MatchStatementNode matchStatementNode = generateMatchStatement.generate();
+            dispatchStatementNodes = List.of(matchStatementNode);
+        }
 
         FunctionBodyBlockNode functionBodyBlockNode = (FunctionBodyBlockNode) functionDefinitionNode.functionBody();
         NodeList<StatementNode> oldStatements = functionBodyBlockNode.statements();
         NodeList<StatementNode> newStatements =
-                oldStatements.add(matchStatementNode);
+                oldStatements.addAll(dispatchStatementNodes);
         FunctionBodyBlockNode functionBodyBlockNodeNew =
                 functionBodyBlockNode.modify().withStatements(newStatements).apply();
         ModulePartNode newRoot = oldRoot.replace(functionBodyBlockNode, functionBodyBlockNodeNew);
+        if (useDispatchTable) {
+            Generator generateDispatchTable = new GenerateDispatchTableNode(serviceTypes, bindEventDataType);
+            ModuleMemberDeclarationNode dispatchTableNode = generateDispatchTable.generate();
+            newRoot = newRoot.modify().withMembers(newRoot.members().add(dispatchTableNode)).apply();
+        }
+        if (config.isAsyncDispatch()) {
+            newRoot = dispatchThroughQueue(newRoot);
+        } else if (batchIngestion) {
+            newRoot = bindBatchPayload(newRoot);
+        }
+        if (config.isConcurrencyLimits()) {
+            newRoot = createHandlerWithConcurrencyLimits(newRoot);
+        }
         SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
 
         try {
@@ -171,12 +266,560 @@ public class DispatcherController implements BalController {
         return null;
     }
 
+    /**
+     * Replaces the {@code json} payload read and the {@code cloneWithType} conversion in the post resource function
+     * with a single pass parse of the request byte stream into the generic data type.
+     */
+    private ModulePartNode bindPayloadByStreaming(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(oldRoot);
+        if (postFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource function '"
+                    + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+
+        FunctionBodyBlockNode postFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
+        List<StatementNode> statements = new ArrayList<>();
+        for (StatementNode statement : postFunctionBodyBlockNode.statements()) {
+            String variableName = getDeclaredVariableName(statement);
+            if (Constants.PAYLOAD_VAR_NAME.equals(variableName)) {
+                continue;
+            }
+            if (Constants.CLONE_WITH_TYPE_VAR_NAME.equals(variableName)) {
+                // {@code GenericDataType genericDataType = check jsondata:parseStream(check request.getByteStream());}
+                statements.add(NodeParser.parseStatement(Constants.GENERIC_DATA_TYPE + " "
+                        + Constants.CLONE_WITH_TYPE_VAR_NAME
+                        + " = check jsondata:parseStream(check request.getByteStream());"));
+            } else {
+                statements.add(statement);
+            }
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNodeNew =
+                postFunctionBodyBlockNode.modify().withStatements(createNodeList(statements)).apply();
+        ModulePartNode newRoot = oldRoot.replace(postFunctionBodyBlockNode, postFunctionBodyBlockNodeNew);
+
+        ImportDeclarationNode jsonDataImport = NodeParser.parseImportDeclaration(Constants.JSON_DATA_IMPORT + "\n");
+        return newRoot.modify().withImports(newRoot.imports().add(0, jsonDataImport)).apply();
+    }
+
+    /**
+     * Keeps the request payload as {@code json} in the post resource function and hands it to the match function
+     * as it is, so that it is converted only to the data type of the matched event.
+     */
+    private ModulePartNode bindPayloadPerEventType(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(oldRoot);
+        if (postFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource function '"
+                    + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+
+        String matchArguments = Constants.PAYLOAD_VAR_NAME;
+        if (this.eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER)) {
+            matchArguments = matchArguments + ", " + Constants.EVENT_IDENTIFIER_VAR_NAME;
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
+        List<StatementNode> statements = new ArrayList<>();
+        for (StatementNode statement : postFunctionBodyBlockNode.statements()) {
+            if (Constants.CLONE_WITH_TYPE_VAR_NAME.equals(getDeclaredVariableName(statement))) {
+                continue;
+            }
+            if (statement.kind() == SyntaxKind.CALL_STATEMENT && statement.toSourceCode()
+                    .contains(Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME)) {
+                // {@code check self.matchRemoteFunc(payload);}
+                statements.add(NodeParser.parseStatement("check " + Constants.SELF_KEYWORD + "."
+                        + Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME + "(" + matchArguments + ");"));
+            } else {
+                statements.add(statement);
+            }
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNodeNew =
+                postFunctionBodyBlockNode.modify().withStatements(createNodeList(statements)).apply();
+        ModulePartNode newRoot = oldRoot.replace(postFunctionBodyBlockNode, postFunctionBodyBlockNodeNew);
+
+        // {@code private function matchRemoteFunc(json payload) returns error?}
+        FunctionDefinitionNode matchFunctionDefinitionNode = getResourceFuncNode(newRoot);
+        if (matchFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource function '"
+                    + Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+        ParameterNode dataParameter = matchFunctionDefinitionNode.functionSignature().parameters().get(0);
+        RequiredParameterNode payloadParameter = ((RequiredParameterNode) dataParameter).modify()
+                .withTypeName(createBuiltinSimpleNameReferenceNode(null, createToken(JSON_KEYWORD)))
+                .withParamName(createIdentifierToken(Constants.PAYLOAD_VAR_NAME))
+                .apply();
+        return newRoot.replace(dataParameter, payloadParameter);
+    }
+
+    /**
+     * Hands the event over to the dispatch queue in the post resource function, so that the request is acknowledged
+     * without waiting for the services, and adds the worker function which drains the queue. The dispatcher service
+     * is made isolated, so that the workers dispatch the events in parallel.
+     */
+    private ModulePartNode dispatchThroughQueue(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(oldRoot);
+        FunctionDefinitionNode matchFunctionDefinitionNode = getResourceFuncNode(oldRoot);
+        if (postFunctionDefinitionNode == null || matchFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource functions '"
+                    + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME + "' and '"
+                    + Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME
+                    + "', are not found in the dispatcher_service.bal");
+        }
+        if (dispatchQueueServiceTemplate == null) {
+            throw new BallerinaAsyncApiException("The " + Constants.DISPATCH_QUEUE_SERVICE_BAL_FILE_NAME
+                    + " template is required for the asynchronous dispatch");
+        }
+        // The queued event is the tuple of the arguments of the match function, e.g. {@code [GenericDataType]}
+        String eventTupleType = matchFunctionDefinitionNode.functionSignature().parameters().stream()
+                .map(parameter -> ((RequiredParameterNode) parameter).typeName().toSourceCode().trim())
+                .collect(Collectors.joining(", ", "[", "]"));
+
+        FunctionBodyBlockNode postFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
+        List<String> eventArguments = new ArrayList<>();
+        for (StatementNode statement : postFunctionBodyBlockNode.statements()) {
+            if (isMatchCallStatement(statement)) {
+                CheckExpressionNode matchCall = (CheckExpressionNode) ((CallStatementNode) statement).expression();
+                ((MethodCallExpressionNode) matchCall.expression()).arguments()
+                        .forEach(argument -> eventArguments.add(argument.toSourceCode().trim()));
+            }
+        }
+        List<StatementNode> statements = new ArrayList<>();
+        for (StatementNode statement : postFunctionBodyBlockNode.statements()) {
+            if (eventArguments.contains(getDeclaredVariableName(statement))) {
+                statements.add(getReadOnlyEventDeclaration((VariableDeclarationNode) statement));
+                continue;
+            }
+            if (!isMatchCallStatement(statement)) {
+                statements.add(statement);
+                continue;
+            }
+            // The event is immutable already, so the list constructor creates the queued tuple without a copy
+            // {@code boolean|error startWorker = self.dispatchQueue.offer([genericDataType]);}
+            statements.add(NodeParser.parseStatement("boolean|error startWorker = self."
+                    + Constants.DISPATCH_QUEUE_VAR_NAME + ".offer("
+                    + eventArguments.stream().collect(Collectors.joining(", ", "[", "]")) + ");"));
+            statements.add(NodeParser.parseStatement(
+                    "if startWorker is error {\n" +
+                    "    check caller->respond(http:TOO_MANY_REQUESTS);\n" +
+                    "    return;\n" +
+                    "}"));
+            statements.add(NodeParser.parseStatement(
+                    "if startWorker {\n" +
+                    "    _ = start self." + Constants.DISPATCH_QUEUED_EVENTS_FUNCTION_NAME + "();\n" +
+                    "}"));
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNodeNew =
+                postFunctionBodyBlockNode.modify().withStatements(createNodeList(statements)).apply();
+
+        // The services are kept as isolated objects, so that they can be read under a lock and invoked outside it
+        ClassDefinitionNode dispatcherClass = (ClassDefinitionNode) postFunctionDefinitionNode.parent();
+        ModulePartNode queueServiceRoot =
+                SyntaxTree.from(TextDocuments.from(dispatchQueueServiceTemplate)).rootNode();
+        ClassDefinitionNode queueMembersHolder = getClassDefinition(queueServiceRoot);
+        if (queueMembersHolder == null) {
+            throw new BallerinaAsyncApiException("Class 'DispatcherService', is not found in the "
+                    + Constants.DISPATCH_QUEUE_SERVICE_BAL_FILE_NAME);
+        }
+        Map<String, Node> isolatedMembers = new HashMap<>();
+        Node queueField = null;
+        Node initFunction = null;
+        List<Node> addedFunctions = new ArrayList<>();
+        for (Node member : queueMembersHolder.members()) {
+            String memberName = getMemberName(member);
+            if (Constants.DISPATCH_QUEUE_VAR_NAME.equals(memberName)) {
+                queueField = member;
+            } else if (Constants.DISPATCHER_SERVICE_INIT_FUNCTION_NAME.equals(memberName)
+                    && !isMemberOf(dispatcherClass, memberName)) {
+                initFunction = member;
+            } else if (Constants.DISPATCH_QUEUED_EVENTS_FUNCTION_NAME.equals(memberName)) {
+                addedFunctions.add(withEventTupleType(member, eventTupleType));
+            } else if (isMemberOf(dispatcherClass, memberName)) {
+                isolatedMembers.put(memberName, member);
+            } else {
+                addedFunctions.add(member);
+            }
+        }
+        if (queueField == null) {
+            throw new BallerinaAsyncApiException("Field '" + Constants.DISPATCH_QUEUE_VAR_NAME
+                    + "', is not found in the " + Constants.DISPATCH_QUEUE_SERVICE_BAL_FILE_NAME);
+        }
+
+        // The queue field and the init function go after the existing fields, the other functions go after the
+        // existing functions
+        List<Node> dispatcherMembers = new ArrayList<>();
+        boolean isQueueFieldAdded = false;
+        for (Node member : dispatcherClass.members()) {
+            if (!isQueueFieldAdded && member.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION) {
+                dispatcherMembers.add(queueField);
+                if (initFunction != null) {
+                    dispatcherMembers.add(initFunction);
+                }
+                isQueueFieldAdded = true;
+            }
+            String memberName = getMemberName(member);
+            if (isolatedMembers.containsKey(memberName)) {
+                dispatcherMembers.add(isolatedMembers.get(memberName));
+            } else if (Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME.equals(memberName)) {
+                dispatcherMembers.add(postFunctionDefinitionNode.modify()
+                        .withFunctionBody(postFunctionBodyBlockNodeNew).apply());
+            } else if (Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME.equals(memberName)) {
+                // {@code private isolated function matchRemoteFunc(GenericDataType genericDataType) returns error?}
+                FunctionDefinitionNode matchFunction = (FunctionDefinitionNode) member;
+                NodeList<Token> qualifiers =
+                        matchFunction.qualifierList().add(createIsolatedKeyword(createEmptyMinutiaeList()));
+                dispatcherMembers.add(matchFunction.modify().withQualifierList(qualifiers).apply());
+            } else {
+                dispatcherMembers.add(member);
+            }
+        }
+        dispatcherMembers.addAll(addedFunctions);
+        // {@code isolated service class DispatcherService}, the leading minutiae move to the new first qualifier
+        Token firstQualifier = dispatcherClass.classTypeQualifiers().get(0);
+        List<Token> classQualifiers = new ArrayList<>();
+        classQualifiers.add(createIsolatedKeyword(firstQualifier.leadingMinutiae()));
+        classQualifiers.add(firstQualifier.modify(createEmptyMinutiaeList(), firstQualifier.trailingMinutiae()));
+        dispatcherClass.classTypeQualifiers().stream().skip(1).forEach(classQualifiers::add);
+        ModulePartNode newRoot = oldRoot.replace(dispatcherClass, dispatcherClass.modify()
+                .withClassTypeQualifiers(createNodeList(classQualifiers))
+                .withMembers(createNodeList(dispatcherMembers))
+                .apply());
+
+        NodeList<ImportDeclarationNode> imports = newRoot.imports();
+        if (statements.stream().anyMatch(statement -> statement.toSourceCode().contains("jsondata:"))) {
+            imports = addImport(imports, NodeParser.parseImportDeclaration(Constants.JSON_DATA_IMPORT + "\n"));
+        }
+        for (ImportDeclarationNode importNode : queueServiceRoot.imports()) {
+            imports = addImport(imports, importNode);
+        }
+        return newRoot.modify().withImports(imports).apply();
+    }
+
+    /**
+     * Creates the native handler with the concurrency limits given to the init function of the dispatcher service,
+     * which takes the {@code handler:ConcurrencyConfig} after its other parameters. The limits are supported by the
+     * native handler 0.6.0 or later.
+     */
+    private ModulePartNode createHandlerWithConcurrencyLimits(ModulePartNode oldRoot)
+            throws BallerinaAsyncApiException {
+        ClassDefinitionNode dispatcherClass = getClassDefinition(oldRoot);
+        if (dispatcherClass == null || !isMemberOf(dispatcherClass, Constants.NATIVE_HANDLER_VAR_NAME)) {
+            throw new BallerinaAsyncApiException("Field '" + Constants.NATIVE_HANDLER_VAR_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+        // {@code private final handler:NativeHandler nativeHandler;}
+        ClassDefinitionNode membersHolder = (ClassDefinitionNode) NodeParser.parseModuleMemberDeclaration(
+                "class DispatcherService {\n" +
+                "    private final handler:NativeHandler " + Constants.NATIVE_HANDLER_VAR_NAME + ";\n" +
+                "\n" +
+                "    isolated function init(" + Constants.CONCURRENCY_CONFIG_TYPE + " "
+                + Constants.CONCURRENCY_CONFIG_VAR_NAME + ") {\n" +
+                "        self." + Constants.NATIVE_HANDLER_VAR_NAME + " = new ("
+                + Constants.CONCURRENCY_CONFIG_VAR_NAME + ");\n" +
+                "    }\n" +
+                "}");
+        Node handlerField = membersHolder.members().get(0);
+        FunctionDefinitionNode handlerInit = (FunctionDefinitionNode) membersHolder.members().get(1);
+
+        List<Node> dispatcherMembers = new ArrayList<>();
+        boolean isInitAdded = isMemberOf(dispatcherClass, Constants.DISPATCHER_SERVICE_INIT_FUNCTION_NAME);
+        for (Node member : dispatcherClass.members()) {
+            String memberName = getMemberName(member);
+            if (!isInitAdded && member.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION) {
+                dispatcherMembers.add(handlerInit);
+                isInitAdded = true;
+            }
+            if (Constants.NATIVE_HANDLER_VAR_NAME.equals(memberName)) {
+                dispatcherMembers.add(handlerField);
+            } else if (Constants.DISPATCHER_SERVICE_INIT_FUNCTION_NAME.equals(memberName)) {
+                dispatcherMembers.add(withConcurrencyConfig((FunctionDefinitionNode) member, handlerInit));
+            } else {
+                dispatcherMembers.add(member);
+            }
+        }
+        return oldRoot.replace(dispatcherClass,
+                dispatcherClass.modify().withMembers(createNodeList(dispatcherMembers)).apply());
+    }
+
+    /**
+     * Appends the concurrency configuration to the parameters of an existing init function, and creates the native
+     * handler with it before the other statements of the function.
+     */
+    private FunctionDefinitionNode withConcurrencyConfig(FunctionDefinitionNode initFunction,
+                                                         FunctionDefinitionNode handlerInit) {
+        FunctionSignatureNode signature = initFunction.functionSignature();
+        List<Node> parameters = new ArrayList<>();
+        for (int i = 0; i < signature.parameters().size(); i++) {
+            parameters.add(signature.parameters().get(i));
+            parameters.add(createToken(COMMA_TOKEN));
+        }
+        parameters.add(handlerInit.functionSignature().parameters().get(0));
+        FunctionBodyBlockNode body = (FunctionBodyBlockNode) initFunction.functionBody();
+        StatementNode createHandler = ((FunctionBodyBlockNode) handlerInit.functionBody()).statements().get(0);
+        return initFunction.modify()
+                .withFunctionSignature(signature.modify().withParameters(createSeparatedNodeList(parameters)).apply())
+                .withFunctionBody(body.modify().withStatements(body.statements().add(0, createHandler)).apply())
+                .apply();
+    }
+
+    /**
+     * Adds the import in the sorted position of the imports, unless the module is imported already.
+     */
+    private NodeList<ImportDeclarationNode> addImport(NodeList<ImportDeclarationNode> imports,
+                                                      ImportDeclarationNode importNode) {
+        String importStatement = importNode.toSourceCode().trim();
+        for (int i = 0; i < imports.size(); i++) {
+            int order = imports.get(i).toSourceCode().trim().compareTo(importStatement);
+            if (order == 0) {
+                return imports;
+            }
+            if (order > 0) {
+                return imports.add(i, importNode);
+            }
+        }
+        return imports.add(importNode);
+    }
+
+    /**
+     * Sets the tuple of the arguments of the match function as the type of the queued event, which the template of
+     * the worker function casts the event to, e.g. {@code self.matchRemoteFunc(...<[GenericDataType]>event)}.
+     */
+    private Node withEventTupleType(Node workerFunction, String eventTupleType) throws BallerinaAsyncApiException {
+        TypeCastExpressionNode eventCast = findTypeCast(workerFunction);
+        if (eventCast == null || eventCast.typeCastParam().type().isEmpty()) {
+            throw new BallerinaAsyncApiException("The cast of the queued event, is not found in the function '"
+                    + Constants.DISPATCH_QUEUED_EVENTS_FUNCTION_NAME + "' of the "
+                    + Constants.DISPATCH_QUEUE_SERVICE_BAL_FILE_NAME);
+        }
+        return ((NonTerminalNode) workerFunction).replace(eventCast.typeCastParam().type().get(),
+                NodeParser.parseTypeDescriptor(eventTupleType));
+    }
+
+    private TypeCastExpressionNode findTypeCast(Node node) {
+        if (node.kind() == SyntaxKind.TYPE_CAST_EXPRESSION) {
+            return (TypeCastExpressionNode) node;
+        }
+        if (node instanceof NonTerminalNode nonTerminalNode) {
+            for (Node child : nonTerminalNode.children()) {
+                TypeCastExpressionNode typeCast = findTypeCast(child);
+                if (typeCast != null) {
+                    return typeCast;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Declares an event of the post resource function as {@code readonly}, so that the event is created immutable
+     * and is queued without being copied.
+     */
+    private StatementNode getReadOnlyEventDeclaration(VariableDeclarationNode declaration) {
+        String typeName = declaration.typedBindingPattern().typeDescriptor().toSourceCode().trim();
+        if (declaration.initializer().isEmpty() || STRING_KEYWORD.stringValue().equals(typeName)) {
+            return declaration;
+        }
+        String variableName = ((CaptureBindingPatternNode) declaration.typedBindingPattern().bindingPattern())
+                .variableName().text();
+        String initializer = declaration.initializer().get().toSourceCode().trim();
+        if (initializer.contains("getJsonPayload")) {
+            // {@code readonly & json payload = check jsondata:parseStream(check request.getByteStream());}
+            initializer = "check jsondata:parseStream(check request.getByteStream())";
+        } else {
+            // {@code readonly & GenericDataType genericDataType = check payload.cloneWithType();}
+            initializer = initializer.replace(".cloneWithType(" + typeName + ")", ".cloneWithType()");
+        }
+        return NodeParser.parseStatement("readonly & " + typeName + " " + variableName + " = " + initializer + ";");
+    }
+
+    private ClassDefinitionNode getClassDefinition(ModulePartNode root) {
+        for (ModuleMemberDeclarationNode node : root.members()) {
+            if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
+                return (ClassDefinitionNode) node;
+            }
+        }
+        return null;
+    }
+
+    private boolean isMatchCallStatement(StatementNode statement) {
+        return statement.kind() == SyntaxKind.CALL_STATEMENT
+                && statement.toSourceCode().contains(Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME);
+    }
+
+    private boolean isMemberOf(ClassDefinitionNode classDefinitionNode, String memberName) {
+        return classDefinitionNode.members().stream().anyMatch(member -> memberName.equals(getMemberName(member)));
+    }
+
+    private String getMemberName(Node member) {
+        if (member.kind() == SyntaxKind.OBJECT_FIELD) {
+            return ((ObjectFieldNode) member).fieldName().text();
+        }
+        if (member.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION
+                || member.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+            return ((FunctionDefinitionNode) member).functionName().text();
+        }
+        return null;
+    }
+
+    private Token createIsolatedKeyword(MinutiaeList leadingMinutiae) {
+        return createToken(ISOLATED_KEYWORD, leadingMinutiae, createMinutiaeList(createWhitespaceMinutiae(" ")));
+    }
+
+    /**
+     * Accepts a JSON array of events, or a single event, in the post resource function. The remote function of each
+     * event is resolved through the match function, and the batch is invoked with a single native call.
+     */
+    private ModulePartNode bindBatchPayload(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(oldRoot);
+        FunctionDefinitionNode matchFunctionDefinitionNode = getResourceFuncNode(oldRoot);
+        if (postFunctionDefinitionNode == null || matchFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource functions '"
+                    + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME + "' and '"
+                    + Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME
+                    + "', are not found in the dispatcher_service.bal");
+        }
+        if (dispatchQueueServiceTemplate == null) {
+            throw new BallerinaAsyncApiException("The " + Constants.DISPATCH_QUEUE_SERVICE_BAL_FILE_NAME
+                    + " template is required for the asynchronous dispatch");
+        }
+
+        FunctionBodyBlockNode postFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
+        List<StatementNode> statements = new ArrayList<>();
+        for (StatementNode statement : postFunctionBodyBlockNode.statements()) {
+            if (Constants.CLONE_WITH_TYPE_VAR_NAME.equals(getDeclaredVariableName(statement))) {
+                continue;
+            }
+            if (statement.kind() != SyntaxKind.CALL_STATEMENT || !statement.toSourceCode()
+                    .contains(Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME)) {
+                statements.add(statement);
+                continue;
+            }
+            CheckExpressionNode matchCall = (CheckExpressionNode) ((CallStatementNode) statement).expression();
+            String matchArguments = ((MethodCallExpressionNode) matchCall.expression()).arguments().stream()
+                    .map(argument -> argument.toSourceCode().trim())
+                    .collect(Collectors.joining(", "));
+            // {@code json[] events = payload is json[] ? payload : [payload];}
+            statements.add(NodeParser.parseStatement("json[] events = " + Constants.PAYLOAD_VAR_NAME +
+                    " is json[] ? " + Constants.PAYLOAD_VAR_NAME + " : [" + Constants.PAYLOAD_VAR_NAME + "];"));
+            statements.add(NodeParser.parseStatement(Constants.REMOTE_FUNCTION_CALL_TYPE + "[] " +
+                    Constants.REMOTE_FUNCTION_CALLS_VAR_NAME + " = [];"));
+            statements.add(NodeParser.parseStatement(
+                    "foreach json " + Constants.EVENT_DATA_VAR_NAME + " in events {\n" +
+                    "    " + Constants.GENERIC_DATA_TYPE + " " + Constants.CLONE_WITH_TYPE_VAR_NAME + " = check " +
+                    Constants.EVENT_DATA_VAR_NAME + ".cloneWithType(" + Constants.GENERIC_DATA_TYPE + ");\n" +
+                    "    " + Constants.REMOTE_FUNCTION_CALL_TYPE + "? call = self." +
+                    Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME + "(" + matchArguments + ");\n" +
+                    "    if call is " + Constants.REMOTE_FUNCTION_CALL_TYPE + " {\n" +
+                    "        " + Constants.REMOTE_FUNCTION_CALLS_VAR_NAME + ".push(call);\n" +
+                    "    }\n" +
+                    "}"));
+            // {@code check self.nativeHandler.invokeRemoteFunctions(calls);}
+            statements.add(NodeParser.parseStatement("check self.nativeHandler.invokeRemoteFunctions(" +
+                    Constants.REMOTE_FUNCTION_CALLS_VAR_NAME + ");"));
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNodeNew =
+                postFunctionBodyBlockNode.modify().withStatements(createNodeList(statements)).apply();
+
+        // {@code private function matchRemoteFunc(GenericDataType genericDataType) returns handler:RemoteFunctionCall?}
+        FunctionSignatureNode matchSignature = matchFunctionDefinitionNode.functionSignature();
+        ReturnTypeDescriptorNode matchReturnType = matchSignature.returnTypeDesc().orElseThrow(() ->
+                new BallerinaAsyncApiException("Return type of the function '"
+                        + Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME
+                        + "', is not found in the dispatcher_service.bal"));
+        FunctionSignatureNode matchSignatureNew = matchSignature.modify()
+                .withReturnTypeDesc(matchReturnType.modify()
+                        .withType(NodeParser.parseTypeDescriptor(Constants.REMOTE_FUNCTION_CALL_TYPE + "?"))
+                        .apply())
+                .apply();
+
+        // The remote functions are invoked by the batch, so the single event invocation is dropped
+        ClassDefinitionNode dispatcherClass = (ClassDefinitionNode) postFunctionDefinitionNode.parent();
+        List<Node> dispatcherMembers = new ArrayList<>();
+        for (Node member : dispatcherClass.members()) {
+            String memberName = member.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION
+                    || member.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION
+                    ? ((FunctionDefinitionNode) member).functionName().text() : null;
+            if (Constants.INTEROP_INVOKE_FUNCTION_NAME.equals(memberName)) {
+                continue;
+            }
+            if (Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME.equals(memberName)) {
+                dispatcherMembers.add(((FunctionDefinitionNode) member).modify()
+                        .withFunctionBody(postFunctionBodyBlockNodeNew).apply());
+            } else if (Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME.equals(memberName)) {
+                dispatcherMembers.add(((FunctionDefinitionNode) member).modify()
+                        .withFunctionSignature(matchSignatureNew).apply());
+            } else {
+                dispatcherMembers.add(member);
+            }
+        }
+        return oldRoot.replace(dispatcherClass,
+                dispatcherClass.modify().withMembers(createNodeList(dispatcherMembers)).apply());
+    }
+
+    private String getDeclaredVariableName(StatementNode statement) {
+        if (statement.kind() != SyntaxKind.LOCAL_VAR_DECL) {
+            return null;
+        }
+        BindingPatternNode bindingPattern = ((VariableDeclarationNode) statement).typedBindingPattern()
+                .bindingPattern();
+        if (bindingPattern.kind() != SyntaxKind.CAPTURE_BINDING_PATTERN) {
+            return null;
+        }
+        return ((CaptureBindingPatternNode) bindingPattern).variableName().text();
+    }
+
+    /**
+     * Generates the statements which route the event through the module level dispatch table, with a single map
+     * lookup instead of evaluating a match clause per event type. When the call is collected, the resolved remote
+     * function is returned to be invoked with the rest of the batch.
+     */
+    private List<StatementNode> getDispatchTableLookupNodes(String eventIdentifierPath, boolean bindEventDataType,
+                                                            boolean collectCall) {
+        String dispatchTargetType = GenerateDispatchTableNode.getDispatchTargetType(bindEventDataType);
+        String eventVarName = Constants.CLONE_WITH_TYPE_VAR_NAME;
+        String eventBinding = "";
+        if (bindEventDataType) {
+            // {@code GenericDataType event = check payload.cloneWithType(dispatchTarget[2]);}
+            eventVarName = Constants.EVENT_DATA_VAR_NAME;
+            eventBinding = "        " + Constants.GENERIC_DATA_TYPE + " " + Constants.EVENT_DATA_VAR_NAME +
+                    " = check " + Constants.PAYLOAD_VAR_NAME + ".cloneWithType(dispatchTarget[2]);\n";
+        }
+        String dispatchStatement = "        check self." + Constants.INTEROP_INVOKE_FUNCTION_NAME + "(" +
+                eventVarName + ", eventName, dispatchTarget[0], dispatchTarget[1]);\n";
+        if (collectCall) {
+            dispatchStatement =
+                    "        " + Constants.GENERIC_SERVICE_TYPE +
+                    "? genericService = self.services[dispatchTarget[0]];\n" +
+                    "        if genericService is " + Constants.GENERIC_SERVICE_TYPE + " {\n" +
+                    "            return {event: " + eventVarName + ", eventName, eventFunction: dispatchTarget[1], " +
+                    "serviceObj: genericService};\n" +
+                    "        }\n";
+        }
+        // The event identifier field is not always typed as a string in the generated data types
+        StatementNode eventNameNode = NodeParser.parseStatement(
+                "anydata eventName = " + eventIdentifierPath + ";");
+        StatementNode lookupNode = NodeParser.parseStatement(
+                "if eventName is string {\n" +
+                "    " + dispatchTargetType + "? dispatchTarget = " + Constants.DISPATCH_TABLE_VAR_NAME +
+                "[eventName];\n" +
+                "    if dispatchTarget is " + dispatchTargetType + " {\n" +
+                eventBinding +
+                dispatchStatement +
+                "    }\n" +
+                "}");
+        return List.of(eventNameNode, lookupNode);
+    }
+
     private VariableDeclarationNode getEventIdentifierNode() {
         // {@code string eventIdentifier}
         BuiltinSimpleNameReferenceNode typeBindingPattern = createBuiltinSimpleNameReferenceNode(null,
                 createToken(STRING_KEYWORD));
         CaptureBindingPatternNode bindingPattern = createCaptureBindingPatternNode(
-                createIdentifierToken("eventIdentifier"));
+                createIdentifierToken(Constants.EVENT_IDENTIFIER_VAR_NAME));
         TypedBindingPatternNode typedBindingPatternNode = createTypedBindingPatternNode(typeBindingPattern,
                 bindingPattern);
 
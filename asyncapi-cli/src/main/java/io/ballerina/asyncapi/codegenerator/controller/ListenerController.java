@@ -24,12 +24,18 @@ import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateListenerStatementNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
@@ -38,19 +44,51 @@ import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 
 /**
  * This file contains the logics and functions related to code generation of the listener.bal.
  */
 public class ListenerController implements BalController {
     private final List<ServiceType> serviceTypes;
+    private final String dispatchQueueTemplate;
+    private final boolean concurrencyLimits;
 
     public ListenerController(List<ServiceType> serviceTypes) {
+        this(serviceTypes, null);
+    }
+
+    public ListenerController(List<ServiceType> serviceTypes, String dispatchQueueTemplate) {
+        this(serviceTypes, dispatchQueueTemplate, false);
+    }
+
+    /**
+     * Creates a controller which generates a listener that acknowledges the events immediately and dispatches them
+     * through a bounded queue, and which takes the concurrency limits of the native handler.
+     *
+     * @param serviceTypes          service types of the listener
+     * @param dispatchQueueTemplate content of the dispatch_queue.bal template, which is merged into the listener.bal,
+     *                              or null to dispatch the events before acknowledging them
+     * @param concurrencyLimits     whether the listener init function takes the {@code handler:ConcurrencyConfig},
+     *                              which requires the native handler 0.6.0 or later
+     */
+    public ListenerController(List<ServiceType> serviceTypes, String dispatchQueueTemplate,
+                              boolean concurrencyLimits) {
         this.serviceTypes = serviceTypes;
+        this.dispatchQueueTemplate = dispatchQueueTemplate;
+        this.concurrencyLimits = concurrencyLimits;
     }
 
     @Override
@@ -74,6 +112,14 @@ public class ListenerController implements BalController {
         FunctionBodyBlockNode functionBodyBlockNodeNew = functionBodyBlockNode
                 .modify().withStatements(statements).apply();
         SyntaxTree modifiedTree = syntaxTree.replaceNode(functionBodyBlockNode, functionBodyBlockNodeNew);
+        if (dispatchQueueTemplate != null || concurrencyLimits) {
+            ModulePartNode root = modifiedTree.rootNode();
+            modifiedTree = modifiedTree.replaceNode(root, passDispatcherConfigs(root));
+        }
+        if (dispatchQueueTemplate != null) {
+            ModulePartNode root = modifiedTree.rootNode();
+            modifiedTree = modifiedTree.replaceNode(root, addDispatchQueue(root));
+        }
 
         try {
             return Formatter.format(modifiedTree).toSourceCode();
@@ -83,6 +129,149 @@ public class ListenerController implements BalController {
         }
     }
 
+    /**
+     * Takes the configurations of the dispatcher service in the listener init function, after the port, and passes
+     * them to the dispatcher service init function in the same order.
+     */
+    private ModulePartNode passDispatcherConfigs(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode initFunctionDefinitionNode =
+                getListenerFuncNode(oldRoot, Constants.LISTENER_INIT_FUNCTION_NAME);
+        if (initFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Function '" + Constants.LISTENER_INIT_FUNCTION_NAME
+                    + "', is not found in the listener.bal");
+        }
+        List<DefaultableParameterNode> configParameters = new ArrayList<>();
+        if (dispatchQueueTemplate != null) {
+            configParameters.add(getConfigParameter(Constants.DISPATCH_CONFIG_TYPE,
+                    Constants.DISPATCH_CONFIG_VAR_NAME));
+        }
+        if (concurrencyLimits) {
+            configParameters.add(getConfigParameter(Constants.CONCURRENCY_CONFIG_TYPE,
+                    Constants.CONCURRENCY_CONFIG_VAR_NAME));
+        }
+
+        // {@code self.dispatcherService = new DispatcherService(dispatchConfig, concurrencyConfig);}
+        FunctionBodyBlockNode initFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) initFunctionDefinitionNode.functionBody();
+        String dispatcherArguments = configParameters.stream()
+                .map(parameter -> parameter.paramName().get().text())
+                .collect(Collectors.joining(", "));
+        List<StatementNode> statements = new ArrayList<>();
+        for (StatementNode statement : initFunctionBodyBlockNode.statements()) {
+            if (statement.toSourceCode().contains("new DispatcherService(")) {
+                statements.add(NodeParser.parseStatement("self.dispatcherService = new DispatcherService("
+                        + dispatcherArguments + ");"));
+            } else {
+                statements.add(statement);
+            }
+        }
+        FunctionBodyBlockNode initFunctionBodyBlockNodeNew =
+                initFunctionBodyBlockNode.modify().withStatements(createNodeList(statements)).apply();
+
+        // {@code int|http:Listener listenTo = 8090, DispatchConfiguration dispatchConfig = {}, ...}
+        FunctionSignatureNode initSignature = initFunctionDefinitionNode.functionSignature();
+        SeparatedNodeList<ParameterNode> oldParameters = initSignature.parameters();
+        List<Node> parameters = new ArrayList<>();
+        for (int i = 0; i < oldParameters.size(); i++) {
+            if (i > 0) {
+                parameters.add(createToken(COMMA_TOKEN));
+            }
+            parameters.add(oldParameters.get(i));
+            if (i == 0) {
+                for (DefaultableParameterNode configParameter : configParameters) {
+                    parameters.add(createToken(COMMA_TOKEN));
+                    parameters.add(configParameter);
+                }
+            }
+        }
+        FunctionSignatureNode initSignatureNew =
+                initSignature.modify().withParameters(createSeparatedNodeList(parameters)).apply();
+        FunctionDefinitionNode initFunctionDefinitionNodeNew = initFunctionDefinitionNode.modify()
+                .withFunctionSignature(initSignatureNew)
+                .withFunctionBody(initFunctionBodyBlockNodeNew)
+                .apply();
+        ModulePartNode newRoot = oldRoot.replace(initFunctionDefinitionNode, initFunctionDefinitionNodeNew);
+        if (concurrencyLimits) {
+            newRoot = newRoot.modify().withImports(addImport(newRoot.imports(),
+                    NodeParser.parseImportDeclaration(Constants.NATIVE_HANDLER_IMPORT + "\n"))).apply();
+        }
+        return newRoot;
+    }
+
+    private DefaultableParameterNode getConfigParameter(String typeName, String variableName) {
+        return createDefaultableParameterNode(createEmptyNodeList(),
+                createSimpleNameReferenceNode(createIdentifierToken(typeName)),
+                createIdentifierToken(variableName), createToken(EQUAL_TOKEN),
+                NodeParser.parseExpression("{}"));
+    }
+
+    /**
+     * Merges the dispatch queue template into the listener and exposes the metrics of the queue through the
+     * listener.
+     */
+    private ModulePartNode addDispatchQueue(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode initFunctionDefinitionNode =
+                getListenerFuncNode(oldRoot, Constants.LISTENER_INIT_FUNCTION_NAME);
+        if (initFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Function '" + Constants.LISTENER_INIT_FUNCTION_NAME
+                    + "', is not found in the listener.bal");
+        }
+
+        // {@code public isolated function getDispatchMetrics() returns DispatchMetrics}
+        ClassDefinitionNode listenerClass = (ClassDefinitionNode) initFunctionDefinitionNode.parent();
+        ClassDefinitionNode metricsHolder = (ClassDefinitionNode) NodeParser.parseModuleMemberDeclaration(
+                "class MetricsHolder {\n" +
+                "    public isolated function " + Constants.DISPATCH_METRICS_FUNCTION_NAME +
+                "() returns DispatchMetrics {\n" +
+                "        return self.dispatcherService." + Constants.DISPATCH_METRICS_FUNCTION_NAME + "();\n" +
+                "    }\n" +
+                "}");
+        ModulePartNode newRoot = oldRoot.replace(listenerClass, listenerClass.modify()
+                .withMembers(listenerClass.members().add(metricsHolder.members().get(0))).apply());
+
+        ModulePartNode dispatchQueueRoot = SyntaxTree.from(TextDocuments.from(dispatchQueueTemplate)).rootNode();
+        NodeList<ImportDeclarationNode> imports = newRoot.imports();
+        for (ImportDeclarationNode importNode : dispatchQueueRoot.imports()) {
+            imports = addImport(imports, importNode);
+        }
+        return newRoot.modify()
+                .withImports(imports)
+                .withMembers(newRoot.members().addAll(dispatchQueueRoot.members()))
+                .apply();
+    }
+
+    /**
+     * Adds the import in the sorted position of the imports, unless the module is imported already.
+     */
+    private NodeList<ImportDeclarationNode> addImport(NodeList<ImportDeclarationNode> imports,
+                                                      ImportDeclarationNode importNode) {
+        String importStatement = importNode.toSourceCode().trim();
+        for (int i = 0; i < imports.size(); i++) {
+            int order = imports.get(i).toSourceCode().trim().compareTo(importStatement);
+            if (order == 0) {
+                return imports;
+            }
+            if (order > 0) {
+                return imports.add(i, importNode);
+            }
+        }
+        return imports.add(importNode);
+    }
+
+    private FunctionDefinitionNode getListenerFuncNode(ModulePartNode oldRoot, String functionName) {
+        for (ModuleMemberDeclarationNode node: oldRoot.members()) {
+            if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
+                for (Node funcNode: ((ClassDefinitionNode) node).members()) {
+                    if ((funcNode.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION)
+                            && ((FunctionDefinitionNode) funcNode).functionName().text().equals(functionName)) {
+                        return (FunctionDefinitionNode) funcNode;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     private FunctionDefinitionNode getServiceTypeStrFuncNode(ModulePartNode oldRoot) {
         for (ModuleMemberDeclarationNode node: oldRoot.members()) {
             if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
@@ -37,6 +37,11 @@ import org.ballerinalang.formatter.core.FormatterException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
@@ -55,9 +60,7 @@ public class SchemaController implements BalController {
     public String generateBalCode(String balTemplate) throws BallerinaAsyncApiException {
         List<ModuleMemberDeclarationNode> recordNodes = new ArrayList<>();
         List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
-        for (Map.Entry<String, AsyncApiSchema> fields : schemas.entrySet()) {
-            Generator generateRecordNode = new GenerateModuleMemberDeclarationNode(fields);
-            ModuleMemberDeclarationNode typeDefinitionNode = generateRecordNode.generate();
+        for (ModuleMemberDeclarationNode typeDefinitionNode : generateRecordNodes()) {
             if (typeDefinitionNode instanceof TypeDefinitionNode) {
                 typeDescriptorNodes.add(
                         createSimpleNameReferenceNode(
@@ -82,4 +85,34 @@ public class SchemaController implements BalController {
                     "may be a syntax issue in the generated code", e);
         }
     }
+
+    /**
+     * Generates the module members of the schemas in parallel. The schemas are independent of each other, so the
+     * members are generated concurrently and collected in the order of the schemas in the AsyncAPI spec.
+     *
+     * @return the module members in the order of the schemas
+     * @throws BallerinaAsyncApiException when the generation of a schema fails
+     */
+    private List<ModuleMemberDeclarationNode> generateRecordNodes() throws BallerinaAsyncApiException {
+        List<Callable<ModuleMemberDeclarationNode>> generations = new ArrayList<>();
+        for (Map.Entry<String, AsyncApiSchema> fields : schemas.entrySet()) {
+            Generator generateRecordNode = new GenerateModuleMemberDeclarationNode(fields);
+            generations.add(generateRecordNode::generate);
+        }
+        List<ModuleMemberDeclarationNode> recordNodes = new ArrayList<>();
+        try (ExecutorService executor = Executors.newWorkStealingPool()) {
+            for (Future<ModuleMemberDeclarationNode> generation : executor.invokeAll(generations)) {
+                recordNodes.add(generation.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaAsyncApiException("Generation of the schemas was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BallerinaAsyncApiException cause) {
+                throw cause;
+            }
+            throw new BallerinaAsyncApiException("Generation of the schemas failed, " + e.getCause().getMessage(), e);
+        }
+        return recordNodes;
+    }
 }
@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.repository;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 
 /**
@@ -27,6 +28,8 @@ public interface FileRepository {
     String getFileContent(String filePath) throws BallerinaAsyncApiException;
     String getFileContentFromResources(String fileName) throws BallerinaAsyncApiException;
     void writeToFile(String filePath, String content) throws BallerinaAsyncApiException;
-    String convertYamlToJson(String yaml) throws BallerinaAsyncApiException;
-    boolean validateJson(String jsonString) throws BallerinaAsyncApiException;
+    boolean writeToFileIfChanged(String filePath, String content) throws BallerinaAsyncApiException;
+    boolean isFileExists(String filePath);
+    ObjectNode readYamlTree(String yaml) throws BallerinaAsyncApiException;
+    ObjectNode readJsonTree(String jsonString) throws BallerinaAsyncApiException;
 }
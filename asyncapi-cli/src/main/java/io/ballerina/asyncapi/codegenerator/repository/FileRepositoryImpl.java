@@ -20,9 +20,12 @@ package io.ballerina.asyncapi.codegenerator.repository;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.CodegenUtils;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 
@@ -31,11 +34,21 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Implementation of the FileRepository which includes the file reading and converting related tasks.
  */
 public class FileRepositoryImpl implements FileRepository {
+    private static final String YAML_ERROR = "Error when converting the given yaml file to json, " +
+            "Please validate the yaml file";
+    private static final String JSON_ERROR = "Error parsing the json, please validate the json file";
+    // Object mappers are thread safe once configured, so the same instances are used for every file
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
 
     @Override
     public String getFileContent(String filePath) throws BallerinaAsyncApiException {
@@ -68,28 +81,46 @@ public class FileRepositoryImpl implements FileRepository {
     }
 
     @Override
-    public String convertYamlToJson(String yaml) throws BallerinaAsyncApiException {
-        ObjectMapper yamlReader = new ObjectMapper(new YAMLFactory());
+    public boolean writeToFileIfChanged(String filePath, String content) throws BallerinaAsyncApiException {
+        Path path = Paths.get(filePath);
         try {
-            Object obj = yamlReader.readValue(yaml, Object.class);
-            ObjectMapper jsonWriter = new ObjectMapper();
-            return jsonWriter.writeValueAsString(obj);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            return CodegenUtils.writeFileIfChanged(path, content);
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException(
+                    "Could not write the contents to the relevant path: ".concat(filePath), e);
+        }
+    }
+
+    @Override
+    public boolean isFileExists(String filePath) {
+        return new File(filePath).isFile();
+    }
+
+    @Override
+    public ObjectNode readYamlTree(String yaml) throws BallerinaAsyncApiException {
+        try {
+            return getObjectNode(YAML_MAPPER.readTree(yaml));
         } catch (JsonProcessingException e) {
-            throw new BallerinaAsyncApiException("Error when converting the given yaml file to json, " +
-                    "Please validate the yaml file", e);
+            throw new BallerinaAsyncApiException(YAML_ERROR, e);
         }
     }
 
     @Override
-    public boolean validateJson(String jsonString) throws BallerinaAsyncApiException {
+    public ObjectNode readJsonTree(String jsonString) throws BallerinaAsyncApiException {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.enable(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
-            objectMapper.readTree(jsonString);
-            return true;
+            // Duplicate keys are rejected while parsing, so the json does not have to be validated separately
+            return getObjectNode(JSON_MAPPER.readTree(jsonString));
         } catch (JsonProcessingException e) {
-            throw new BallerinaAsyncApiException("Error parsing the json, please validate the json file", e);
+            throw new BallerinaAsyncApiException(JSON_ERROR, e);
+        }
+    }
+
+    private static ObjectNode getObjectNode(JsonNode jsonNode) throws BallerinaAsyncApiException {
+        if (jsonNode instanceof ObjectNode objectNode) {
+            return objectNode;
         }
+        throw new BallerinaAsyncApiException("The AsyncAPI specification should be an object");
     }
 
     private InputStream getFileFromResourceAsStream(String fileName) {
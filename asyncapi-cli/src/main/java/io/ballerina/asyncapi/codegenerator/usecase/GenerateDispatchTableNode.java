@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Generate the module level dispatch table, which maps each event type to its service type and remote function,
+ * for the dispatcher_service.bal.
+ */
+public class GenerateDispatchTableNode implements Generator {
+    private final CodegenUtils codegenUtils = new CodegenUtils();
+    private final List<ServiceType> serviceTypes;
+    private final boolean bindEventDataType;
+
+    public GenerateDispatchTableNode(List<ServiceType> serviceTypes) {
+        this(serviceTypes, false);
+    }
+
+    /**
+     * @param bindEventDataType whether each entry also carries the typedesc of the event data type, so that the
+     *                          payload can be converted to that type alone
+     */
+    public GenerateDispatchTableNode(List<ServiceType> serviceTypes, boolean bindEventDataType) {
+        this.serviceTypes = serviceTypes;
+        this.bindEventDataType = bindEventDataType;
+    }
+
+    @Override
+    public ModuleMemberDeclarationNode generate() throws BallerinaAsyncApiException {
+        if (serviceTypes.isEmpty()) {
+            throw new BallerinaAsyncApiException("No service types found, " +
+                    "probably there are no channels defined in the async api spec");
+        }
+        // The first service type which declares an event wins, same as the first matching clause of a match statement
+        Map<String, String> dispatchTargets = new LinkedHashMap<>();
+        for (ServiceType service : serviceTypes) {
+            String serviceTypeName = codegenUtils.getServiceTypeNameByServiceName(service.getServiceTypeName());
+            for (RemoteFunction remoteFunction : service.getRemoteFunctions()) {
+                String eventName = remoteFunction.getEventName();
+                String functionName = codegenUtils.getFunctionNameByEventName(eventName);
+                String dispatchTarget = "\"" + serviceTypeName + "\", \"" + functionName + "\"";
+                if (bindEventDataType) {
+                    dispatchTarget += ", " + codegenUtils.getEventDataTypeName(remoteFunction.getEventType());
+                }
+                dispatchTargets.putIfAbsent(eventName, "[" + dispatchTarget + "]");
+            }
+        }
+
+        String dispatchTableFields = dispatchTargets.entrySet().stream()
+                .map(entry -> "\"" + entry.getKey() + "\": " + entry.getValue())
+                .collect(Collectors.joining(",\n"));
+        String dispatchTargetType = getDispatchTargetType(bindEventDataType);
+        return NodeParser.parseModuleMemberDeclaration("\nfinal readonly & map<" + dispatchTargetType + "> "
+                + Constants.DISPATCH_TABLE_VAR_NAME + " = {\n" + dispatchTableFields + "\n};\n");
+    }
+
+    /**
+     * Get the tuple type of a dispatch table entry.
+     * @param bindEventDataType whether the entry carries the typedesc of the event data type
+     * @return the Ballerina tuple type of a dispatch table entry
+     */
+    public static String getDispatchTargetType(boolean bindEventDataType) {
+        if (bindEventDataType) {
+            return "[string, string, typedesc<" + Constants.GENERIC_DATA_TYPE + ">]";
+        }
+        return "[string, string]";
+    }
+}
@@ -29,7 +29,9 @@ import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
 import io.ballerina.compiler.syntax.tree.MatchClauseNode;
 import io.ballerina.compiler.syntax.tree.MatchStatementNode;
 import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 
 import java.util.ArrayList;
@@ -58,10 +60,21 @@ public class GenerateMatchStatementNode implements Generator {
     private final CodegenUtils codegenUtils = new CodegenUtils();
     private final List<ServiceType> serviceTypes;
     private final String eventIdentifierPath;
+    private final boolean bindEventDataType;
 
     public GenerateMatchStatementNode(List<ServiceType> serviceTypes, String eventIdentifierPath) {
+        this(serviceTypes, eventIdentifierPath, false);
+    }
+
+    /**
+     * @param bindEventDataType whether each match clause converts the {@code json} payload to the data type of its
+     *                          own event, instead of passing on the already converted generic data type
+     */
+    public GenerateMatchStatementNode(List<ServiceType> serviceTypes, String eventIdentifierPath,
+                                      boolean bindEventDataType) {
         this.serviceTypes = serviceTypes;
         this.eventIdentifierPath = eventIdentifierPath;
+        this.bindEventDataType = bindEventDataType;
     }
 
     @Override
@@ -79,7 +92,9 @@ public class GenerateMatchStatementNode implements Generator {
             for (RemoteFunction remoteFunction : service.getRemoteFunctions()) {
                 String eventName = remoteFunction.getEventName();
                 String formattedEventName = codegenUtils.getFunctionNameByEventName(eventName);
-                MatchClauseNode matchClause = generateMatchClause(serviceName, eventName, formattedEventName);
+                String eventDataType = codegenUtils.getEventDataTypeName(remoteFunction.getEventType());
+                MatchClauseNode matchClause = generateMatchClause(serviceName, eventName, formattedEventName,
+                        eventDataType);
                 matchClauseNodes.add(matchClause);
             }
         }
@@ -95,10 +110,12 @@ public class GenerateMatchStatementNode implements Generator {
     /**
      * Generates each match clause which filters event types in dispatcher_service.bal.
      */
-    private MatchClauseNode generateMatchClause(String serviceTypeName, String eventName, String formattedEventName) {
+    private MatchClauseNode generateMatchClause(String serviceTypeName, String eventName, String formattedEventName,
+                                                String eventDataType) {
+        String eventVarName = bindEventDataType ? Constants.EVENT_DATA_VAR_NAME : Constants.CLONE_WITH_TYPE_VAR_NAME;
         SeparatedNodeList<FunctionArgumentNode> argumentsList = createSeparatedNodeList(
                 createPositionalArgumentNode(createSimpleNameReferenceNode(
-                        createIdentifierToken(Constants.CLONE_WITH_TYPE_VAR_NAME))),
+                        createIdentifierToken(eventVarName))),
                 createToken(SyntaxKind.COMMA_TOKEN),
                 createPositionalArgumentNode(createSimpleNameReferenceNode(
                         createIdentifierToken("\"" + eventName + "\""))),
@@ -121,11 +138,18 @@ public class GenerateMatchStatementNode implements Generator {
 
         CheckExpressionNode lineNode = createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION,
                 createToken(SyntaxKind.CHECK_KEYWORD), methodCallExpressionNode);
+        List<StatementNode> statements = new ArrayList<>();
+        if (bindEventDataType) {
+            // {@code EventDataType event = check payload.cloneWithType();}
+            statements.add(NodeParser.parseStatement(eventDataType + " " + Constants.EVENT_DATA_VAR_NAME
+                    + " = check " + Constants.PAYLOAD_VAR_NAME + ".cloneWithType();"));
+        }
+        statements.add(createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
+                lineNode,
+                createToken(SyntaxKind.SEMICOLON_TOKEN)));
         BlockStatementNode blockStatement = createBlockStatementNode(
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN),
-                createNodeList(createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
-                        lineNode,
-                        createToken(SyntaxKind.SEMICOLON_TOKEN))),
+                createNodeList(statements),
                 createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
 
         return createMatchClauseNode(createSeparatedNodeList(
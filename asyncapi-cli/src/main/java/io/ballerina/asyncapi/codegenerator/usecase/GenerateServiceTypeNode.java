@@ -88,8 +88,7 @@ public class GenerateServiceTypeNode implements Generator {
                 createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
         remoteFunctionNames.forEach(remoteFunction -> {
             List<Node> parameterList = new ArrayList<>();
-            String eventType = codegenUtils.getValidName(
-                    codegenUtils.escapeIdentifier(remoteFunction.getEventType().trim()), true);
+            String eventType = codegenUtils.getEventDataTypeName(remoteFunction.getEventType());
             BuiltinSimpleNameReferenceNode typeNode = createBuiltinSimpleNameReferenceNode(
                     null, createIdentifierToken(eventType));
             parameterList.add(createRequiredParameterNode(createEmptyNodeList(),
@@ -127,4 +127,13 @@ public class CodegenUtils {
         }
         return getValidName(serviceName.trim(), true) + Constants.SERVICE_TYPE_NAME_SUFFIX;
     }
+
+    /**
+     * Get the Ballerina type name of the data type of an event.
+     * @param eventType event data type as referred in async api doc
+     * @return Ballerina type name of the event data type
+     */
+    public String getEventDataTypeName(String eventType) {
+        return getValidName(escapeIdentifier(eventType.trim()), true);
+    }
 }
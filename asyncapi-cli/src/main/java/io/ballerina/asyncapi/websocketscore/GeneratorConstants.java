@@ -70,10 +70,20 @@ public class GeneratorConstants {
     //Honour goes to Nuvindu
     public static final String XLIBB = "xlibb";
     public static final String XLIBB_PIPE = "pipe";
+    public static final String BALLERINAX = "ballerinax";
+    public static final String NATIVE_HANDLER = "asyncapi.native.handler";
+    public static final String UTILS_TEMPLATE = "templates/utils_asyncapi.bal";
+    public static final String NATIVE_UTILS_TEMPLATE = "templates/utils_asyncapi_native.bal";
     public static final String LOG = "log";
     public static final String LANG_REGEXP = "lang.regexp";
+    public static final String LANG_RUNTIME = "lang.runtime";
+    public static final String RANDOM = "random";
     public static final String X_DISPATCHER_KEY = "x-dispatcherKey";
     public static final String X_DISPATCHER_STREAM_ID = "x-dispatcherStreamId";
+    public static final String X_BALLERINA_PIPE_CAPACITY = "x-ballerina-pipe-capacity";
+    public static final String X_BALLERINA_BATCH_FRAMES = "x-ballerina-batch-frames";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+    public static final String JSON_CONTENT_TYPE_SUFFIX = "+json";
     public static final String CLIENT_CLASS_NAME = "Client";
     public static final String CLIENT_EP = "clientEp";
     public static final String WEBSOCKET_EP = "websocketEp";
@@ -95,6 +105,7 @@ public class GeneratorConstants {
     public static final String CONSUME = "consume";
     public static final String PRODUCE = "produce";
     public static final String DEFAULT_PIPE_TIME_OUT = "5";
+    public static final String IDLE_PIPE_TIME_OUT = "3600";
     public static final String WRITE_MESSAGE = "writeMessage";
     public static final String READ_MESSAGE = "readMessage";
     public static final String MESSAGE = "Message";
@@ -105,11 +116,11 @@ public class GeneratorConstants {
     public static final String MESSAGE_VAR_NAME = "message";
     public static final String CONNECTION_ERR = "\"ConnectionError\", connectionClose";
     public static final String ATTEMPT_TO_CLOSE_CONNECTION = "attemptToCloseConnection";
-    public static final String MESSAGE_WITH_ID_VAR_NAME = "messageWithId";
     public static final String TYPE_INCLUSION_GENERATOR = "Generator";
     public static final String WORKER_SLEEP_TIME_OUT = "0.01";
     public static final String STREAM_GENERATORS_MAP = "StreamGeneratorsMap";
     public static final String PIPES_MAP = "PipesMap";
+    public static final String PIPE_STORE = "PipeStore";
     public static final String SLEEP = "sleep";
     public static final String RUNTIME = "runtime";
     public static final String PIPES = "pipes";
@@ -155,6 +166,7 @@ public class GeneratorConstants {
     public static final String PASSWORD = "password";
     public static final String REMOTE_METHOD_NAME_PREFIX = "do";
     public static final String CONNECTION_CONFIG = "websocket:ClientConfiguration";
+    public static final String READONLY_CONNECTION_CONFIG = "readonly & websocket:ClientConfiguration";
     public static final String OAUTH2 = "oauth2";
     public static final String CONFIG = "config";
     public static final String CONFIG_DESCRIPTION = "The configurations to be used when initializing the `connector`";
@@ -251,6 +263,14 @@ public class GeneratorConstants {
     public static final String WSS = "wss";
     public static final String DEFAULT_URL = "ws://localhost:9090/v1";
     public static final String SERVICE_URL_DESCRIPTION = "URL of the target service";
+    public static final String PIPE_CONFIG_DESCRIPTION = "Capacities of the queues which buffer the messages of the " +
+            "client";
+    public static final String WRITE_BATCH_CONFIG_DESCRIPTION = "Batching of the messages written to the server";
+    public static final String RECONNECT_CONFIG_DESCRIPTION = "Reconnection of the client once the connection to " +
+            "the server is lost";
+    public static final String READONLY_CONFIG_DESCRIPTION = "The configurations to be used when initializing the " +
+            "`connector`, which the client keeps to reconnect. They are taken as read-only, as the ping pong handler " +
+            "and the cookies of the configurations can not be copied with `cloneReadOnly()`";
     public static final String DOUBLE_QUOTE = "\"";
     public static final String COMMA = ",";
     public static final String MAX_LENGTH = "maxLength";
@@ -264,35 +284,350 @@ public class GeneratorConstants {
     public static final String READ_ONLY = "readOnly";
     public static final String PIPE_ID = "pipeId";
     public static final String CLONE_WITH_TYPE = "cloneWithType";
+    public static final String CLONE_READ_ONLY = "cloneReadOnly";
+    public static final String RESPONSE_MESSAGE_NARROWING = """
+            if responseMessage is %s {
+                return responseMessage;
+            }""";
     public static final String PIPE_CLOSE_STATEMENT = "error? %s = self.pipes.removePipe(%s);";
+    public static final String RESPONSE_SLOTS = "ResponseSlots";
+    public static final String RESPONSE_SLOTS_VAR = "responseSlots";
+    public static final String REMOVE_SLOTS = "removeSlots";
+    public static final String RESPONSE_SLOTS_ASSIGNMENT = "self.responseSlots = new ();";
+    public static final String RESPONSE_SLOT = "responseSlot";
+    public static final String RESPONSE_SLOT_RESERVE_STATEMENT = "pipe:Pipe responseSlot = " +
+            "self.responseSlots.reserve(%s);";
+    public static final String RESPONSE_SLOT_RELEASE_STATEMENT = "self.responseSlots.release(%s, responseSlot, " +
+            "responseMessage is Message);";
+    public static final String RESPONSE_SLOT_DISCARD_STATEMENT = "self.responseSlots.release(%s, responseSlot, true);";
+    public static final String RESPONSE_SLOT_TAKE_STATEMENT = "pipe:Pipe? responseSlot = " +
+            "self.responseSlots.take(pipeName);";
+    public static final String PIPE_ERR_DECLARATION = "pipe:Error? pipeErr;";
+    public static final String RESPONSE_SLOT_PRODUCE_STATEMENT = """
+            if responseSlot is pipe:Pipe {
+                pipeErr = responseSlot.produce(message, 0);
+            } else {
+                pipeErr = self.pipes.produce(pipeName, message, 5);
+            }""";
     public static final String INIT = "init";
     public static final String NEXT = "next";
-    public static final String QUEUE_DEFAULT_SIZE = "1000";
+    public static final String PIPE_CONFIG = "PipeConfig";
+    public static final String PIPE_METRICS = "PipeMetrics";
+    public static final String OVERFLOW_POLICY = "OverflowPolicy";
+    public static final String PIPE_CONFIG_VAR = "pipeConfig";
+    public static final String WRITE_QUEUE_CAPACITY = "writeQueueCapacity";
+    public static final String WRITE_BATCH_CONFIG = "WriteBatchConfig";
+    public static final String WRITE_BATCH_CONFIG_VAR = "writeBatchConfig";
+    public static final String READONLY_WRITE_BATCH_CONFIG = "readonly & WriteBatchConfig";
+    public static final String WRITE_BATCH_CONFIG_ASSIGNMENT = "self.writeBatchConfig = writeBatchConfig" +
+            ".cloneReadOnly();";
+    public static final String WRITE_BATCH_MESSAGES = "Message[] messages = [message];";
+    public static final String WRITE_BATCH_COLLECT_MESSAGES = """
+            while messages.length() < self.writeBatchConfig.maxBatchSize {
+                Message|pipe:Error nextMessage = self.writeMessageQueue.consume(self.writeBatchConfig.lingerTime);
+                if nextMessage is pipe:Error {
+                    break;
+                }
+                messages.push(nextMessage);
+            }""";
+    public static final String WRITE_BATCH_WRITE_MESSAGES = "websocket:Error? wsErr = self.writeMessages(messages);";
+    public static final String WRITE_MESSAGES_FUNCTION_TEMPLATE = """
+            private isolated function writeMessages(Message[] messages) returns websocket:Error? {
+                foreach Message message in messages {
+                    check self.clientEp->writeMessage(message);
+                }
+            }""";
+    public static final String WRITE_MESSAGES_AS_ARRAY_FUNCTION_TEMPLATE = """
+            private isolated function writeMessages(Message[] messages) returns websocket:Error? {
+                if messages.length() == 1 {
+                    return self.clientEp->writeMessage(messages[0]);
+                }
+                return self.clientEp->writeMessage(messages);
+            }""";
+    public static final String RECONNECT_CONFIG = "ReconnectConfig";
+    public static final String RECONNECT_CONFIG_VAR = "reconnectConfig";
+    public static final String READONLY_RECONNECT_CONFIG = "readonly & ReconnectConfig";
+    public static final String RECONNECT_CONFIG_ASSIGNMENT = "self.reconnectConfig = reconnectConfig" +
+            ".cloneReadOnly();";
+    public static final String RECONNECT_SIGNAL = "reconnectSignal";
+    public static final String RECONNECT_SIGNAL_FIELD = "private final pipe:Pipe reconnectSignal = new (1);";
+    public static final String SERVICE_URL_ASSIGNMENT = "self.serviceUrl = %s;";
+    public static final String CLIENT_CONFIG_ASSIGNMENT = "self.clientConfig = clientConfig;";
+    public static final String CLIENT_CONFIG_WITHOUT_CUSTOM_HEADERS = "var {customHeaders: _, ...connectionConfig} " +
+            "= clientConfig;";
+    public static final String CLIENT_CONFIG_WITH_CUSTOM_HEADERS_ASSIGNMENT = "self.clientConfig = " +
+            "{...connectionConfig, customHeaders: customHeaders.cloneReadOnly()};";
+    public static final String SELF_CLIENT_CONFIG = "self.clientConfig";
+    public static final String SUBSCRIPTIONS = "Subscriptions";
+    public static final String SUBSCRIPTIONS_VAR = "subscriptions";
+    public static final String SUBSCRIPTIONS_ASSIGNMENT = "self.subscriptions = new ();";
+    public static final String SUBSCRIPTIONS_ADD_STATEMENT = "self.subscriptions.add(%s, message);";
+    public static final String SUBSCRIPTIONS_REMOVE_STATEMENT = "self.subscriptions.remove(%s);";
+    public static final String READ_MESSAGE_FROM_CLIENT_STATEMENT = "Message|websocket:Error message = " +
+            "clientEp->readMessage(Message);";
+    public static final String GET_CLIENT_EP_STATEMENT = "websocket:Client clientEp = self.getClientEp();";
+    public static final String RECONNECT_STATEMENT = """
+            if self.reconnect(clientEp) {
+                continue;
+            }""";
+    public static final String WRITE_TO_SERVER_STATEMENT = "websocket:Error? wsErr = self.writeToServer(message);";
+    public static final String WRITE_TO_SERVER = "self.writeToServer(";
+    public static final String CLIENT_EP_WRITE_MESSAGE = "self.clientEp->writeMessage(";
+    public static final String GET_CLIENT_EP_FUNCTION_TEMPLATE = """
+            private isolated function getClientEp() returns websocket:Client {
+                lock {
+                    return self.clientEp;
+                }
+            }""";
+    public static final String CLOSE_CLIENT_FUNCTION_TEMPLATE = """
+            private isolated function closeClient(websocket:Client clientEp) {
+                websocket:Error? closeErr = clientEp->close(timeout = 0);
+                if closeErr is websocket:Error {
+                    log:printDebug("WsError: Failed to close the connection", closeErr);
+                }
+            }""";
+    public static final String WRITE_TO_SERVER_FUNCTION_TEMPLATE = """
+            # Writes a message to the server. A message which could not be written because the connection was lost
+            # is written again once the client has reconnected.
+            #
+            # + message - Message, or batch of messages, to be written
+            # + return - A `websocket:Error` if the message could not be written and the client did not reconnect
+            private isolated function writeToServer(anydata message) returns websocket:Error? {
+                while true {
+                    websocket:Client clientEp = self.getClientEp();
+                    websocket:Error? wsErr = clientEp->writeMessage(message);
+                    if wsErr is () || !self.awaitReconnection(clientEp) {
+                        return wsErr;
+                    }%s
+                }
+            }""";
+    public static final String SKIP_RESUBSCRIBED_MESSAGE = """
+
+                    if message is Message && self.subscriptions.hasMessage(message) {
+                        return;
+                    }""";
+    public static final String AWAIT_RECONNECTION_FUNCTION_TEMPLATE = """
+            # Waits until the reading worker has replaced the client endpoint whose connection is lost.
+            #
+            # + failedClient - Client endpoint whose connection is lost
+            # + return - `true` if the client reconnected, `false` if the client was closed
+            private isolated function awaitReconnection(websocket:Client failedClient) returns boolean {
+                // Closing the lost connection fails the pending read, so that the reading worker reconnects
+                self.closeClient(failedClient);
+                while true {
+                    lock {
+                        if !self.isActive {
+                            return false;
+                        }
+                        if self.clientEp !== failedClient {
+                            return true;
+                        }
+                    }
+                    // The reading worker signals each replaced client endpoint, and the signal pipe is closed along
+                    // with the client. A signal which is left from an earlier reconnection is checked and skipped.
+                    boolean|pipe:Error signal = self.reconnectSignal.consume(3600);
+                    if signal is pipe:Error {
+                        log:printDebug("PipeError: Stopped waiting for the reconnection signal", signal);
+                    }
+                }
+            }""";
+    public static final String RECONNECT_FUNCTION_TEMPLATE = """
+            # Replaces the client endpoint whose connection is lost by a new connection to the server. The attempts
+            # back off exponentially with a random jitter.
+            #
+            # + failedClient - Client endpoint whose connection is lost
+            # + return - `true` if the client reconnected, `false` if the attempts ran out or the client was closed
+            private isolated function reconnect(websocket:Client failedClient) returns boolean {
+                self.closeClient(failedClient);
+                decimal interval = self.reconnectConfig.initialInterval;
+                decimal jitter = self.reconnectConfig.jitter;
+                int attempt = 0;
+                while self.reconnectConfig.maxAttempts < 0 || attempt < self.reconnectConfig.maxAttempts {
+                    attempt += 1;
+                    runtime:sleep(interval * (1 - jitter + 2 * jitter * <decimal>random:createDecimal()));
+                    interval = decimal:min(interval * self.reconnectConfig.backOffFactor,
+                            self.reconnectConfig.maxInterval);
+                    lock {
+                        if !self.isActive {
+                            return false;
+                        }
+                    }
+                    websocket:Client|websocket:Error newClient = new (self.serviceUrl, self.clientConfig);
+                    if newClient is websocket:Error {
+                        log:printDebug("WsError: Failed to reconnect to the server", newClient, attempt = attempt);
+                        continue;
+                    }%s
+                    lock {
+                        if self.isActive {
+                            self.clientEp = newClient;
+                            // Wakes up the writing worker, if it waits for the reconnection
+                            pipe:Error? signalErr = self.reconnectSignal.produce(true, 0);
+                            if signalErr is pipe:Error {
+                                log:printDebug("PipeError: A reconnection signal is pending already", signalErr);
+                            }
+                            return true;
+                        }
+                    }
+                    self.closeClient(newClient);
+                    return false;
+                }
+                return false;
+            }""";
+    public static final String RESUBSCRIBE_ON_RECONNECT = """
+
+                    websocket:Error? resubscribeErr = self.resubscribe(newClient);
+                    if resubscribeErr is websocket:Error {
+                        log:printDebug("WsError: Failed to subscribe again to the streams", resubscribeErr);
+                        self.closeClient(newClient);
+                        continue;
+                    }""";
+    public static final String RESUBSCRIBE_FUNCTION_TEMPLATE = """
+            # Writes the messages which started the open streams of the client to a new connection, so that the
+            # server resumes the streams.
+            #
+            # + clientEp - Client endpoint of the new connection
+            # + return - A `websocket:Error` if a message could not be written
+            private isolated function resubscribe(websocket:Client clientEp) returns websocket:Error? {
+                foreach Message message in self.subscriptions.getMessages() {
+                    check clientEp->writeMessage(message);
+                }
+            }""";
+    public static final String CONNECTION_POOL_CLASS_SUFFIX = "Pool";
+    public static final String CONNECTION_POOL_DESCRIPTION = """
+            Pool of `%s` connections, which spreads the requests of the client across several connections to
+            the server. A request with a stream ID is written through the connection of its stream ID, and any other
+            request through the next open connection in turn. The responses of a request are read from the
+            connection which wrote it.""";
+    public static final String POOL_SIZE = "poolSize";
+    public static final String DEFAULT_POOL_SIZE = "4";
+    public static final String POOL_SIZE_DESCRIPTION = "Number of connections opened to the server";
+    public static final String POOLED_CLIENTS_FIELD = "private final %s[] clients = [];";
+    public static final String NEXT_CLIENT_FIELD = "private int nextClient = 0;";
+    public static final String POOL_SIZE_CHECK_STATEMENT = """
+            if poolSize < 1 {
+                return error("The pool size must be at least 1");
+            }""";
+    public static final String OPEN_POOLED_CLIENTS_STATEMENT = """
+            foreach int _ in 0 ..< poolSize {
+                %s|error pooledClient = new (%s);
+                if pooledClient is error {
+                    // The connections which were already opened are closed, as the pool is not created
+                    error? closeErr = self.closeClients();
+                    return closeErr is error ? error(pooledClient.message(), pooledClient, closeError = closeErr) :
+                        pooledClient;
+                }
+                lock {
+                    self.clients.push(pooledClient);
+                }
+            }""";
+    public static final String POOLED_REMOTE_FUNCTION_CALL = "return self.getClient()->%s(%s);";
+    public static final String POOLED_STREAM_REMOTE_FUNCTION_CALL = "return self.getStreamClient(%s)->%s(%s);";
+    public static final String GET_POOLED_CLIENT_FUNCTION_TEMPLATE = """
+            private isolated function getClient() returns %1$s {
+                lock {
+                    int poolSize = self.clients.length();
+                    foreach int _ in 0 ..< poolSize {
+                        %1$s pooledClient = self.clients[self.nextClient];
+                        self.nextClient = (self.nextClient + 1) %% poolSize;
+                        if pooledClient.isConnectionActive() {
+                            return pooledClient;
+                        }
+                    }
+                    // Every connection is closed, so the client gives the connection error
+                    return self.clients[self.nextClient];
+                }
+            }""";
+    public static final String GET_POOLED_STREAM_CLIENT_FUNCTION_TEMPLATE = """
+            # Gets the client of a stream ID, so that the requests of a stream, e.g. a subscription and its
+            # cancellation, are written through the same connection.
+            #
+            # + streamId - Stream ID of the request
+            # + return - The client which writes the request
+            private isolated function getStreamClient(string streamId) returns %1$s {
+                int hash = 0;
+                foreach int codePoint in streamId.toCodePointInts() {
+                    hash = (hash * 31 + codePoint) %% 2147483647;
+                }
+                lock {
+                    int poolSize = self.clients.length();
+                    // A closed connection is skipped in the same order for every request of the stream
+                    foreach int i in 0 ..< poolSize {
+                        %1$s pooledClient = self.clients[(hash + i) %% poolSize];
+                        if pooledClient.isConnectionActive() {
+                            return pooledClient;
+                        }
+                    }
+                    return self.clients[hash %% poolSize];
+                }
+            }""";
+    public static final String CLOSE_POOLED_CLIENTS_FUNCTION_TEMPLATE = """
+            # Closes the connections of the pool.
+            #
+            # + return - The last error which occurred while closing the connections
+            remote isolated function connectionClose() returns error? {
+                return self.closeClients();
+            }""";
+    public static final String CLOSE_CLIENTS_FUNCTION_TEMPLATE = """
+            private isolated function closeClients() returns error? {
+                lock {
+                    error? closeErr = ();
+                    foreach %s pooledClient in self.clients {
+                        error? clientCloseErr = pooledClient->connectionClose();
+                        if clientCloseErr is error {
+                            closeErr = clientCloseErr;
+                        }
+                    }
+                    return closeErr;
+                }
+            }""";
+    public static final String IS_CONNECTION_ACTIVE_FUNCTION_TEMPLATE = """
+            # Checks whether the connection of the client is open.
+            #
+            # + return - `true` if the connection is open
+            public isolated function isConnectionActive() returns boolean {
+                lock {
+                    return self.isActive;
+                }
+            }""";
     public static final String BALLERINA_WEBSOCKET_DOESNT_SUPPORT_FOR_MULTIPLE_CHANNELS =
             "Ballerina websocket doesn't support for multiple channels";
     public static final String X_DISPATCHER_KEY_MUST_INCLUDE_IN_THE_SPECIFICATION = "x-dispatcherKey must include" +
             " in the specification";
     public static final String X_DISPATCHER_KEY_CANNOT_BE_EMPTY = "x-dispatcherKey cannot be empty";
     public static final String X_DISPATCHER_STREAM_ID_CANNOT_BE_EMPTY = "x-dispatcherStreamId cannot be empty";
+    public static final String X_BALLERINA_PIPE_CAPACITY_MUST_BE_POSITIVE = "x-ballerina-pipe-capacity of the " +
+            "message '%s' must be a positive integer";
+    public static final String UNSUPPORTED_CONTENT_TYPE_WARNING = "WARNING: the content type '%s' of %s is not " +
+            "supported, the messages will be written and read as JSON text frames.%n";
     public static final String BALLERINA_CLIENT_CANNOT_BE_GENERATED = "Ballerina client cannot be " +
             "generated enter correct specification and adhere to tool's rules";
     public static final String START_MESSAGE_READING_DESCRIPTION = "Used to read messages from the websocket.";
     public static final String START_MESSAGE_WRITING_DESCRIPTION = "Used to write messages to the websocket.";
     public static final String DEFAULT_RETURN = "null";
-    public static final String STREAM_NEXT_CONSUME_MESSAGE = "anydata|error? message = self.pipes.getPipe" +
-            "(self.pipeId).consume(self.timeout);";
+    public static final String STREAM_NEXT_CONSUME_MESSAGE = "anydata|pipe:Error message = self.pipes.consume" +
+            "(self.pipeId, " + IDLE_PIPE_TIME_OUT + ");";
+    public static final String STREAM_NEXT_PIPE_ERROR_CHECK = """
+            if message is pipe:Error {
+                if message.message() == "Operation has timed out" {
+                    continue;
+                }
+                return message;
+            }""";
+    public static final String STREAM_NEXT_RESPONSE_NARROWING = """
+            if message is %s {
+                return {value: message};
+            }""";
     public static final String STREAM_NEXT_RESPONSE_CLONE = "%s response = check message.cloneWithType();";
     public static final String CLOSE_STREAM_STATEMENT = "check self.pipes.removePipe(self.pipeId);";
-    public static final String SELF_PIPES_GET_PIPE = "self.pipes.getPipe(%s)";
-    public static final String PIPE_COLON_PIPE = "pipe:Pipe";
-    public static final String MESSAGE_WITH_ID_VAR_CLONE = "MessageWithId|error messageWithId = " +
-            "message.cloneWithType(MessageWithId);";
-    public static final String PIPE_VAR = PIPE_COLON_PIPE + SPACE + SIMPLE_PIPE;
+    public static final String CLOSE_STREAM_SUBSCRIPTION_STATEMENT = "self.subscriptions.remove(self.pipeId);";
+    public static final String SELF_PIPES_CONSUME = "self.pipes.consume(%s, %s)";
     public static final String CONNECTION_CLOSE_STATEMENT = "error? connectionClose = self->connectionClose();";
     public static final String CREATE_UUID_STATEMENT = "%s.%s = uuid:createType1AsString();";
     public static final String RESPONSE_MAP = "responseMap";
     public static final String PIPE_NAME = "pipeName";
+    public static final String PIPE_NAME_VAR = "string pipeName";
     public static final String GET_PIPE_NAME_STATEMENT = "string pipeName = self.getPipeName(message.%s);";
+    public static final String ASSIGN_PIPE_NAME_STATEMENT = "pipeName = self.getPipeName(message.%s);";
     public static final String GET_PIPE_NAME_FUNCTION_TEMPLATE = """
             private isolated function getPipeName(string responseType) returns string {
                 string responseRecordType = self.getRecordName(responseType);
@@ -301,6 +636,13 @@ public class GeneratorConstants {
                 }
                 return responseType;
             }""";
+    public static final String GET_PIPE_METRICS_FUNCTION_TEMPLATE = """
+            # Returns the capacity and the load counters of the pipes of the client.
+            #
+            # + return - Metrics of the pipes keyed by the pipe name
+            public isolated function getPipeMetrics() returns map<PipeMetrics> {
+                return self.pipes.getMetrics();
+            }""";
     public static final String GET_RECORD_NAME_FUNCTION_TEMPLATE = """
             private isolated function getRecordName(string dispatchingValue) returns string {
                  string[] words = regexp:split(re `[\\W_]+`, dispatchingValue);
@@ -17,7 +17,9 @@
  */
 package io.ballerina.asyncapi.websocketscore;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.Schema;
@@ -59,6 +61,7 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.BALLERINA;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLOSE_BRACE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.LINE_SEPARATOR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OPEN_BRACE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READONLY;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SLASH;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SPECIAL_CHARACTERS_REGEX;
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.JSON_EXTENSION;
@@ -79,6 +82,9 @@ public class GeneratorUtils {
     public static final MinutiaeList SINGLE_WS_MINUTIAE = getSingleWSMinutiae();
     public static final List<String> BAL_KEYWORDS = SyntaxInfo.keywords();
     public static final MinutiaeList SINGLE_END_OF_LINE_MINUTIAE = getEndOfLineMinutiae();
+    // Object mappers are thread safe once configured, so the definitions are read with shared instances
+    private static final ObjectMapper YAML_READER = new ObjectMapper(new YAMLFactory());
+    private static final ObjectMapper JSON_READER = new ObjectMapper();
 
     //Create imports;
     public static ImportDeclarationNode getImportDeclarationNode(String orgName, String moduleName) {
@@ -220,16 +226,16 @@ public class GeneratorUtils {
                 definitionPath.toString().endsWith(YML_EXTENSION))) {
             throw new BallerinaAsyncApiExceptionWs(ErrorMessages.invalidFileType());
         }
-        //    add a parser
-        String asyncAPIFileContent = Files.readString(definitionPath);
-        ObjectMapper yamlReader = new ObjectMapper(new YAMLFactory());
-        Object obj = yamlReader.readValue(asyncAPIFileContent, Object.class);
-
-        ObjectMapper jsonWriter = new ObjectMapper();
+        // The definition is parsed once from the file into the tree, which the data model is read from
+        ObjectMapper reader = definitionPath.toString().endsWith(JSON_EXTENSION) ? JSON_READER : YAML_READER;
+        JsonNode definitionNode = reader.readTree(definitionPath.toFile());
+        if (!(definitionNode instanceof ObjectNode definitionObject)) {
+            throw new BallerinaAsyncApiExceptionWs("AsyncAPI definition has errors. " +
+                    "The definition should be an object");
+        }
         AsyncApi25DocumentImpl document;
         try {
-            document = (AsyncApi25DocumentImpl) Library.readDocumentFromJSONString
-                    (jsonWriter.writeValueAsString(obj));
+            document = (AsyncApi25DocumentImpl) Library.readDocument(definitionObject);
         } catch (ClassCastException e) {
             throw new BallerinaAsyncApiExceptionWs("AsyncAPI definition has errors. " +
                     "Ballerina client code can only be generate for 2.5.0 version");
@@ -246,6 +252,16 @@ public class GeneratorUtils {
         return document;
     }
 
+    /**
+     * Gives the read-only type of a response, which may be a union of response types.
+     *
+     * @param responseType response type
+     * @return read-only response type
+     */
+    public static String getReadOnlyResponseType(String responseType) {
+        return READONLY + " & " + (responseType.contains("|") ? "(" + responseType + ")" : responseType);
+    }
+
     public static String getStreamGeneratorName(String returnType) {
         if (returnType.contains("|")) {
             returnType = returnType.replaceAll("\\|", "");
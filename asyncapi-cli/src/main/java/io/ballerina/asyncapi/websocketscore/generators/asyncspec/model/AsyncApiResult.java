@@ -27,6 +27,7 @@ import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25Document;
 import io.apicurio.datamodels.models.util.JsonUtil;
 import io.ballerina.asyncapi.websocketscore.generators.asyncspec.diagnostic.AsyncApiConverterDiagnostic;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -42,6 +43,9 @@ public class AsyncApiResult {
     private final List<AsyncApiConverterDiagnostic> diagnostics;
     private AsyncApi25Document asyncAPI;
     private String serviceName; // added base path for key to definition
+    private ServiceDeclarationNode serviceNode; // service the definition is generated from
+    private String digest; // digest of the sources the definition is generated from
+    private boolean upToDate;
 
     /**
      * This constructor is used to store the details that Map of {@code AsyncAPI} objects and diagnostic list.
@@ -68,6 +72,33 @@ public class AsyncApiResult {
         this.serviceName = serviceName;
     }
 
+    public Optional<ServiceDeclarationNode> getServiceNode() {
+        return Optional.ofNullable(serviceNode);
+    }
+
+    public void setServiceNode(ServiceDeclarationNode serviceNode) {
+        this.serviceNode = serviceNode;
+    }
+
+    public Optional<String> getDigest() {
+        return Optional.ofNullable(digest);
+    }
+
+    public void setDigest(String digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * Whether the definition was skipped, since its sources did not change since it was generated last.
+     */
+    public boolean isUpToDate() {
+        return upToDate;
+    }
+
+    public void setUpToDate(boolean upToDate) {
+        this.upToDate = upToDate;
+    }
+
     // Take yaml file
     public Optional<String> getYaml() {
         ObjectNode json = Library.writeDocument(this.asyncAPI);
@@ -63,6 +63,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.AsyncAPIType;
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.CLOSE_FRAME_DESCRIPTION;
@@ -98,6 +99,10 @@ import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils.Co
 public class AsyncApiComponentMapper {
     private final AsyncApi25ComponentsImpl components;
     private final List<AsyncApiConverterDiagnostic> diagnostics;
+    // Dispatcher key each schema was last generated with by this mapper
+    private final Map<String, String> schemaDispatcherValues = new HashMap<>();
+    private final Set<String> schemasInProgress = new HashSet<>();
+    private final Map<Symbol, RecordApiDocs> apiDocsCache = new HashMap<>();
 
     public AsyncApiComponentMapper(AsyncApi25ComponentsImpl components) {
         this.components = components;
@@ -115,6 +120,10 @@ public class AsyncApiComponentMapper {
      */
     public void createComponentSchema(TypeSymbol typeSymbol, String dispatcherValue) {
         String componentName = ConverterCommonUtils.unescapeIdentifier(typeSymbol.getName().orElseThrow().trim());
+        // A schema which is being generated is only referred, this also ends the walk of cyclic records
+        if (schemasInProgress.contains(componentName)) {
+            return;
+        }
         //Check schema has created before, then skip recreating it
         boolean isComponentContains = false;
 
@@ -124,105 +133,118 @@ public class AsyncApiComponentMapper {
             isComponentContains = allSchemas.containsKey(componentName);
         }
 
-        if (allSchemas == null || !isComponentContains || dispatcherValue != null) {
-            Map<String, String> apiDocs = getRecordFieldsAPIDocsMap((TypeReferenceTypeSymbol) typeSymbol,
-                    componentName);
-            String typeDoc = null;
-            if (!apiDocs.isEmpty()) {
-                typeDoc = apiDocs.get(typeSymbol.getName().get());
-            }
-            TypeReferenceTypeSymbol typeRef = (TypeReferenceTypeSymbol) typeSymbol;
-            TypeSymbol type = typeRef.typeDescriptor();
-            // Handle record type request body
-            if (type.typeKind() == TypeDescKind.INTERSECTION) {
-                // Check if Read only present and then avoid it
-                type = excludeReadonlyIfPresent(type);
-            }
-            BalAsyncApi25SchemaImpl schema = new BalAsyncApi25SchemaImpl();
-            if (isCloseFrameRecordType(typeSymbol)) {
-                this.components.addSchema(componentName, getCloseFrameSchema(type));
-                return;
-            }
-            switch (type.typeKind()) {
-                case RECORD:
-                    // Handle typeInclusions with allOf type binding
-                    handleRecordTypeSymbol((RecordTypeSymbol) type, componentName, apiDocs, dispatcherValue);
-                    break;
-                case TYPE_REFERENCE:
-                    schema.setType(OBJECT);
-                    schema.set$ref(ConverterCommonUtils.unescapeIdentifier(
-                            type.getName().orElseThrow().trim()));
-                    components.addSchema(componentName, schema);
-                    TypeReferenceTypeSymbol referredType = (TypeReferenceTypeSymbol) type;
-                    createComponentSchema(referredType, dispatcherValue);
-                    break;
-                case STRING:
-                    schema.setType(STRING);
-                    schema.setDescription(typeDoc);
-                    components.addSchema(componentName, schema);
-                    break;
-                case INT:
-                    schema.setType(INTEGER);
-                    schema.setDescription(typeDoc);
-                    components.addSchema(componentName, schema);
-                    break;
-                case DECIMAL:
-                    schema.setType(NUMBER);
-                    schema.setFormat(DOUBLE);
-                    schema.setDescription(typeDoc);
-                    components.addSchema(componentName, schema);
-                    break;
-                case FLOAT:
-                    schema.setType(NUMBER);
-                    schema.setFormat(FLOAT);
-                    schema.setDescription(typeDoc);
-                    components.addSchema(componentName, schema);
-                    break;
-                case ARRAY:
-                case TUPLE:
-                    BalAsyncApi25SchemaImpl arraySchema = mapArrayToArraySchema(type, componentName);
-                    arraySchema.setDescription(typeDoc);
-                    components.addSchema(componentName, arraySchema);
-                    break;
-                case UNION:
-                    BalAsyncApi25SchemaImpl unionSchema = handleUnionType((UnionTypeSymbol) type,
-                            new BalAsyncApi25SchemaImpl(), componentName, null, null);
-                    unionSchema.setDescription(typeDoc);
-                    components.addSchema(componentName, unionSchema);
-                    break;
-                case MAP:
-                    MapTypeSymbol mapTypeSymbol = (MapTypeSymbol) type;
-                    TypeSymbol typeParam = mapTypeSymbol.typeParam();
-                    if (typeParam.typeKind() == TypeDescKind.TYPE_REFERENCE) {
-                        TypeReferenceTypeSymbol typeReferenceTypeSymbol = (TypeReferenceTypeSymbol) typeParam;
-                        BalAsyncApi25SchemaImpl objectSchema = new BalAsyncApi25SchemaImpl();
-                        objectSchema.setType(AsyncAPIType.OBJECT.toString());
-                        BalAsyncApi25SchemaImpl objectSchema2 = new BalAsyncApi25SchemaImpl();
-                        objectSchema2.setType(AsyncAPIType.OBJECT.toString());
-                        objectSchema2.set$ref(ConverterCommonUtils.unescapeIdentifier(
-                                typeReferenceTypeSymbol.getName().orElseThrow().trim()));
-                        objectSchema.setAdditionalProperties(objectSchema2);
-                        components.addSchema(componentName, objectSchema);
-                        createComponentSchema(typeReferenceTypeSymbol, dispatcherValue);
-                    } else {
-                        TypeDescKind typeDescKind = mapTypeSymbol.typeParam().typeKind();
-                        BalAsyncApi25SchemaImpl asyncApiSchema = getAsyncApiSchema(typeDescKind.getName());
-                        //TODO : have to check here asyncApiSchema.getType() == null ? true : asyncApiSchema
-                        BalAsyncApi25SchemaImpl objectSchema = new BalAsyncApi25SchemaImpl();
-                        objectSchema.setType(AsyncAPIType.OBJECT.toString());
-                        objectSchema.setAdditionalProperties(asyncApiSchema.getType() == null ?
-                                new BalBooleanSchema(true) : asyncApiSchema);
-                        components.addSchema(componentName, objectSchema);
-                    }
-                    break;
-                default:
-                    // Diagnostic for currently unsupported data types.
-                    DiagnosticMessages errorMessage = DiagnosticMessages.AAS_CONVERTOR_106;
-                    IncompatibleRemoteDiagnostic error = new IncompatibleRemoteDiagnostic(errorMessage,
-                            typeRef.getLocation().get(), type.typeKind().getName());
-                    diagnostics.add(error);
-                    break;
-            }
+        // The schema of a message type is recreated only if it has to hold a different dispatcher key value
+        if (isComponentContains && (dispatcherValue == null ||
+                dispatcherValue.equals(schemaDispatcherValues.get(componentName)))) {
+            return;
+        }
+        schemasInProgress.add(componentName);
+        try {
+            generateComponentSchema(typeSymbol, componentName, dispatcherValue);
+            schemaDispatcherValues.put(componentName, dispatcherValue);
+        } finally {
+            schemasInProgress.remove(componentName);
+        }
+    }
+
+    private void generateComponentSchema(TypeSymbol typeSymbol, String componentName, String dispatcherValue) {
+        Map<String, String> apiDocs = getRecordFieldsAPIDocsMap((TypeReferenceTypeSymbol) typeSymbol,
+                componentName);
+        String typeDoc = null;
+        if (!apiDocs.isEmpty()) {
+            typeDoc = apiDocs.get(typeSymbol.getName().get());
+        }
+        TypeReferenceTypeSymbol typeRef = (TypeReferenceTypeSymbol) typeSymbol;
+        TypeSymbol type = typeRef.typeDescriptor();
+        // Handle record type request body
+        if (type.typeKind() == TypeDescKind.INTERSECTION) {
+            // Check if Read only present and then avoid it
+            type = excludeReadonlyIfPresent(type);
+        }
+        BalAsyncApi25SchemaImpl schema = new BalAsyncApi25SchemaImpl();
+        if (isCloseFrameRecordType(typeSymbol)) {
+            this.components.addSchema(componentName, getCloseFrameSchema(type));
+            return;
+        }
+        switch (type.typeKind()) {
+            case RECORD:
+                // Handle typeInclusions with allOf type binding
+                handleRecordTypeSymbol((RecordTypeSymbol) type, componentName, apiDocs, dispatcherValue);
+                break;
+            case TYPE_REFERENCE:
+                schema.setType(OBJECT);
+                schema.set$ref(ConverterCommonUtils.unescapeIdentifier(
+                        type.getName().orElseThrow().trim()));
+                components.addSchema(componentName, schema);
+                TypeReferenceTypeSymbol referredType = (TypeReferenceTypeSymbol) type;
+                createComponentSchema(referredType, dispatcherValue);
+                break;
+            case STRING:
+                schema.setType(STRING);
+                schema.setDescription(typeDoc);
+                components.addSchema(componentName, schema);
+                break;
+            case INT:
+                schema.setType(INTEGER);
+                schema.setDescription(typeDoc);
+                components.addSchema(componentName, schema);
+                break;
+            case DECIMAL:
+                schema.setType(NUMBER);
+                schema.setFormat(DOUBLE);
+                schema.setDescription(typeDoc);
+                components.addSchema(componentName, schema);
+                break;
+            case FLOAT:
+                schema.setType(NUMBER);
+                schema.setFormat(FLOAT);
+                schema.setDescription(typeDoc);
+                components.addSchema(componentName, schema);
+                break;
+            case ARRAY:
+            case TUPLE:
+                BalAsyncApi25SchemaImpl arraySchema = mapArrayToArraySchema(type, componentName);
+                arraySchema.setDescription(typeDoc);
+                components.addSchema(componentName, arraySchema);
+                break;
+            case UNION:
+                BalAsyncApi25SchemaImpl unionSchema = handleUnionType((UnionTypeSymbol) type,
+                        new BalAsyncApi25SchemaImpl(), componentName, null, null);
+                unionSchema.setDescription(typeDoc);
+                components.addSchema(componentName, unionSchema);
+                break;
+            case MAP:
+                MapTypeSymbol mapTypeSymbol = (MapTypeSymbol) type;
+                TypeSymbol typeParam = mapTypeSymbol.typeParam();
+                if (typeParam.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+                    TypeReferenceTypeSymbol typeReferenceTypeSymbol = (TypeReferenceTypeSymbol) typeParam;
+                    BalAsyncApi25SchemaImpl objectSchema = new BalAsyncApi25SchemaImpl();
+                    objectSchema.setType(AsyncAPIType.OBJECT.toString());
+                    BalAsyncApi25SchemaImpl objectSchema2 = new BalAsyncApi25SchemaImpl();
+                    objectSchema2.setType(AsyncAPIType.OBJECT.toString());
+                    objectSchema2.set$ref(ConverterCommonUtils.unescapeIdentifier(
+                            typeReferenceTypeSymbol.getName().orElseThrow().trim()));
+                    objectSchema.setAdditionalProperties(objectSchema2);
+                    components.addSchema(componentName, objectSchema);
+                    createComponentSchema(typeReferenceTypeSymbol, dispatcherValue);
+                } else {
+                    TypeDescKind typeDescKind = mapTypeSymbol.typeParam().typeKind();
+                    BalAsyncApi25SchemaImpl asyncApiSchema = getAsyncApiSchema(typeDescKind.getName());
+                    //TODO : have to check here asyncApiSchema.getType() == null ? true : asyncApiSchema
+                    BalAsyncApi25SchemaImpl objectSchema = new BalAsyncApi25SchemaImpl();
+                    objectSchema.setType(AsyncAPIType.OBJECT.toString());
+                    objectSchema.setAdditionalProperties(asyncApiSchema.getType() == null ?
+                            new BalBooleanSchema(true) : asyncApiSchema);
+                    components.addSchema(componentName, objectSchema);
+                }
+                break;
+            default:
+                // Diagnostic for currently unsupported data types.
+                DiagnosticMessages errorMessage = DiagnosticMessages.AAS_CONVERTOR_106;
+                IncompatibleRemoteDiagnostic error = new IncompatibleRemoteDiagnostic(errorMessage,
+                        typeRef.getLocation().get(), type.typeKind().getName());
+                diagnostics.add(error);
+                break;
         }
     }
 
@@ -246,6 +268,17 @@ public class AsyncApiComponentMapper {
      * Creating API docs related to given record fields.
      */
     private Map<String, String> getRecordFieldsAPIDocsMap(TypeReferenceTypeSymbol typeSymbol, String componentName) {
+        // The documentation of a type is read once, since the callers add to the returned map
+        RecordApiDocs recordApiDocs = apiDocsCache.computeIfAbsent(typeSymbol.definition(),
+                definition -> readRecordApiDocs(typeSymbol));
+        Map<String, String> apiDocs = new LinkedHashMap<>(recordApiDocs.fieldDocs());
+        if (recordApiDocs.description() != null) {
+            apiDocs.put(componentName, recordApiDocs.description());
+        }
+        return apiDocs;
+    }
+
+    private RecordApiDocs readRecordApiDocs(TypeReferenceTypeSymbol typeSymbol) {
         Map<String, String> apiDocs = new LinkedHashMap<>();
 
         // Record field apidoc mapping
@@ -275,11 +308,11 @@ public class AsyncApiComponentMapper {
         // Take Record description
         Symbol recordSymbol = typeSymbol.definition();
         Optional<Documentation> documentation = ((Documentable) recordSymbol).documentation();
+        String description = null;
         if (documentation.isPresent() && documentation.get().description().isPresent()) {
-            Optional<String> description = (documentation.get().description());
-            apiDocs.put(componentName, description.get().trim());
+            description = documentation.get().description().get().trim();
         }
-        return apiDocs;
+        return new RecordApiDocs(apiDocs, description);
     }
 
     /**
@@ -731,4 +764,7 @@ public class AsyncApiComponentMapper {
         }
         return typeSymbol;
     }
+
+    private record RecordApiDocs(Map<String, String> fieldDocs, String description) {
+    }
 }
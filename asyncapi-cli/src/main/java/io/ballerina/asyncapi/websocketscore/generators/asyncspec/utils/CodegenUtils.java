@@ -20,11 +20,20 @@ package io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
 
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.JSON_EXTENSION;
 import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.YAML_EXTENSION;
@@ -34,6 +43,10 @@ import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constant
  *
  */
 public final class CodegenUtils {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String TOOL_PROPERTIES_FILE_NAME = "asyncapi-tool.properties";
+    private static final String VERSION_PROPERTY = "version";
+    private static final String GENERATOR_VERSION = readGeneratorVersion();
 
     /**
      * Writes a file with content to specified {@code filePath}.
@@ -48,6 +61,81 @@ public final class CodegenUtils {
         }
     }
 
+    /**
+     * Writes a file with content to specified {@code filePath}, unless the file already has the same content.
+     * The content is written to a temporary file next to the target and moved over it, so that the file never
+     * holds partially written content.
+     *
+     * @param filePath valid file path to write the content
+     * @param content  content of the file
+     * @return true if the file was written, false if it already had the content
+     * @throws IOException when a file operation fails
+     */
+    public static boolean writeFileIfChanged(Path filePath, String content) throws IOException {
+        byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+        if (Files.isRegularFile(filePath) && Arrays.equals(Files.readAllBytes(filePath), contentBytes)) {
+            return false;
+        }
+        Path tempFilePath = filePath.resolveSibling("." + filePath.getFileName() + ".tmp");
+        try {
+            Files.write(tempFilePath, contentBytes);
+            try {
+                Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+        return true;
+    }
+
+    /**
+     * Computes the SHA-256 digest of the given content.
+     *
+     * @param content content to compute the digest of
+     * @return digest of the content as a hex string
+     */
+    public static String getDigest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Provides the version of the tool, which the build writes to the {@code asyncapi-tool.properties} resource.
+     * The version is missing when the resource was not processed by the build, in which case the generated sources
+     * can not be told apart from the ones of another version, and must be generated again.
+     *
+     * @return version of the tool, or empty if it is not known
+     */
+    public static Optional<String> getGeneratorVersion() {
+        return Optional.ofNullable(GENERATOR_VERSION);
+    }
+
+    private static String readGeneratorVersion() {
+        try (InputStream inputStream = CodegenUtils.class.getClassLoader()
+                .getResourceAsStream(TOOL_PROPERTIES_FILE_NAME)) {
+            if (inputStream == null) {
+                return null;
+            }
+            Properties properties = new Properties();
+            properties.load(inputStream);
+            String version = properties.getProperty(VERSION_PROPERTY);
+            // The placeholder of the version is left as it is, if the resource was not processed by the build
+            if (version == null || version.isBlank() || version.contains("$")) {
+                return null;
+            }
+            return version;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     /**
      * This method use for checking the duplicate files.
      *
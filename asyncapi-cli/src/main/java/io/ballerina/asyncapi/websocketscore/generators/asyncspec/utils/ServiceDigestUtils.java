@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.websocketscore.generators.asyncspec.utils;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.ClassSymbol;
+import io.ballerina.compiler.api.symbols.Documentable;
+import io.ballerina.compiler.api.symbols.Documentation;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
+import io.ballerina.compiler.api.symbols.MapTypeSymbol;
+import io.ballerina.compiler.api.symbols.MethodSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.api.symbols.StreamTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TableTypeSymbol;
+import io.ballerina.compiler.api.symbols.TupleTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.ballerina.asyncapi.websocketscore.generators.asyncspec.Constants.ASYNCAPI_ANNOTATION;
+
+/**
+ * Utilities to compute a digest of everything an AsyncAPI contract of a service is generated from.
+ *
+ */
+public final class ServiceDigestUtils {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private ServiceDigestUtils() {
+    }
+
+    /**
+     * Computes the digest of the given service, which covers the version of the tool, the sources of the service, the
+     * listeners and the service classes along with all the types the service and the service classes refer to
+     * transitively.
+     *
+     * @param serviceNode          service node to compute the digest of
+     * @param endpoints            listeners the contract takes the servers from
+     * @param classDefinitionNodes service classes the contract takes the messages from
+     * @param semanticModel        semantic model of the module of the service
+     * @param version              version of the contract
+     * @return digest of the service, or empty if the contract does not depend on the sources alone, or the version
+     * of the tool is not known
+     */
+    public static Optional<String> getServiceDigest(ServiceDeclarationNode serviceNode,
+                                                    List<ListenerDeclarationNode> endpoints,
+                                                    List<ClassDefinitionNode> classDefinitionNodes,
+                                                    SemanticModel semanticModel, String version) {
+        // The contract of a service with the service info annotation may be read from another file, and a contract
+        // generated by a tool of an unknown version can not be told apart from the ones of other versions
+        Optional<String> generatorVersion = CodegenUtils.getGeneratorVersion();
+        if (hasServiceInfoAnnotation(serviceNode) || generatorVersion.isEmpty()) {
+            return Optional.empty();
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return Optional.empty();
+        }
+        update(digest, generatorVersion.get());
+        update(digest, version);
+        update(digest, serviceNode.toSourceCode());
+        for (ListenerDeclarationNode endpoint : endpoints) {
+            update(digest, endpoint.toSourceCode());
+        }
+        Set<Symbol> visitedTypes = new HashSet<>();
+        Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
+        if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol service) {
+            for (MethodSymbol method : service.methods().values()) {
+                updateWithMethod(digest, method, visitedTypes);
+            }
+        }
+        for (ClassDefinitionNode classDefinitionNode : classDefinitionNodes) {
+            update(digest, classDefinitionNode.toSourceCode());
+            Optional<Symbol> classSymbol = semanticModel.symbol(classDefinitionNode);
+            if (classSymbol.isPresent() && classSymbol.get() instanceof ClassSymbol serviceClass) {
+                for (MethodSymbol method : serviceClass.methods().values()) {
+                    updateWithMethod(digest, method, visitedTypes);
+                }
+            }
+        }
+        return Optional.of(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static boolean hasServiceInfoAnnotation(ServiceDeclarationNode serviceNode) {
+        Optional<MetadataNode> metadata = serviceNode.metadata();
+        if (metadata.isEmpty()) {
+            return false;
+        }
+        for (AnnotationNode annotation : metadata.get().annotations()) {
+            if (annotation.annotReference() instanceof QualifiedNameReferenceNode ref &&
+                    (ref.modulePrefix().text() + ":" + ref.identifier().text()).equals(ASYNCAPI_ANNOTATION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void updateWithMethod(MessageDigest digest, MethodSymbol method, Set<Symbol> visitedTypes) {
+        FunctionTypeSymbol functionType = method.typeDescriptor();
+        if (functionType.params().isPresent()) {
+            for (ParameterSymbol param : functionType.params().get()) {
+                updateWithType(digest, param.typeDescriptor(), visitedTypes);
+            }
+        }
+        if (functionType.restParam().isPresent()) {
+            updateWithType(digest, functionType.restParam().get().typeDescriptor(), visitedTypes);
+        }
+        if (functionType.returnTypeDescriptor().isPresent()) {
+            updateWithType(digest, functionType.returnTypeDescriptor().get(), visitedTypes);
+        }
+    }
+
+    private static void updateWithType(MessageDigest digest, TypeSymbol type, Set<Symbol> visitedTypes) {
+        update(digest, type.signature());
+        switch (type.typeKind()) {
+            case TYPE_REFERENCE:
+                TypeReferenceTypeSymbol typeReference = (TypeReferenceTypeSymbol) type;
+                Symbol definition = typeReference.definition();
+                // Each type is walked once, which also ends the walk of cyclic types
+                if (visitedTypes.add(definition)) {
+                    if (definition instanceof Documentable documentable) {
+                        updateWithDocumentation(digest, documentable.documentation());
+                    }
+                    updateWithType(digest, typeReference.typeDescriptor(), visitedTypes);
+                }
+                break;
+            case RECORD:
+                RecordTypeSymbol recordType = (RecordTypeSymbol) type;
+                for (TypeSymbol typeInclusion : recordType.typeInclusions()) {
+                    updateWithType(digest, typeInclusion, visitedTypes);
+                }
+                for (Map.Entry<String, RecordFieldSymbol> field : recordType.fieldDescriptors().entrySet()) {
+                    update(digest, field.getKey());
+                    update(digest, String.valueOf(field.getValue().isOptional()));
+                    updateWithDocumentation(digest, field.getValue().documentation());
+                    updateWithType(digest, field.getValue().typeDescriptor(), visitedTypes);
+                }
+                if (recordType.restTypeDescriptor().isPresent()) {
+                    updateWithType(digest, recordType.restTypeDescriptor().get(), visitedTypes);
+                }
+                break;
+            case ARRAY:
+                updateWithType(digest, ((ArrayTypeSymbol) type).memberTypeDescriptor(), visitedTypes);
+                break;
+            case UNION:
+                for (TypeSymbol member : ((UnionTypeSymbol) type).memberTypeDescriptors()) {
+                    updateWithType(digest, member, visitedTypes);
+                }
+                break;
+            case INTERSECTION:
+                for (TypeSymbol member : ((IntersectionTypeSymbol) type).memberTypeDescriptors()) {
+                    updateWithType(digest, member, visitedTypes);
+                }
+                break;
+            case TUPLE:
+                TupleTypeSymbol tupleType = (TupleTypeSymbol) type;
+                for (TypeSymbol member : tupleType.memberTypeDescriptors()) {
+                    updateWithType(digest, member, visitedTypes);
+                }
+                if (tupleType.restTypeDescriptor().isPresent()) {
+                    updateWithType(digest, tupleType.restTypeDescriptor().get(), visitedTypes);
+                }
+                break;
+            case MAP:
+                updateWithType(digest, ((MapTypeSymbol) type).typeParam(), visitedTypes);
+                break;
+            case TABLE:
+                updateWithType(digest, ((TableTypeSymbol) type).rowTypeParameter(), visitedTypes);
+                break;
+            case STREAM:
+                updateWithType(digest, ((StreamTypeSymbol) type).typeParameter(), visitedTypes);
+                break;
+            default:
+                // The signature covers the other types
+                break;
+        }
+    }
+
+    private static void updateWithDocumentation(MessageDigest digest, Optional<Documentation> documentation) {
+        if (documentation.isPresent()) {
+            update(digest, documentation.get().description().orElse(""));
+            update(digest, documentation.get().parameterMap().toString());
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // Separates the values, so that moving a character from one value to the next changes the digest
+        digest.update((byte) 0);
+    }
+}
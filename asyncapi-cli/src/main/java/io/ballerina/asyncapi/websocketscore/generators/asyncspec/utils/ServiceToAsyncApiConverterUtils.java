@@ -95,6 +95,26 @@ public class ServiceToAsyncApiConverterUtils {
     public static List<AsyncApiResult> generateAsyncAPISpecDefinition(SyntaxTree syntaxTree,
                                                                       SemanticModel semanticModel, String serviceName,
                                                                       Boolean needJson, Path inputPath) {
+        return generateAsyncAPISpecDefinition(syntaxTree, semanticModel, serviceName, needJson, inputPath, null);
+    }
+
+    /**
+     * This method will generate asyncapi definition Map lists with ballerina code, skipping the services which did
+     * not change since their definitions were generated last.
+     *
+     * @param syntaxTree      - Syntax tree the related to ballerina service
+     * @param semanticModel   - Semantic model related to ballerina module
+     * @param serviceName     - Service name that need to generate the asyncAPI specification
+     * @param needJson        - Flag for enabling the generated file format with json or YAML
+     * @param inputPath       - Input file path for resolve the annotation details
+     * @param previousDigests - Digests of the services by their IDs, see {@link #getServiceId}, or null to generate
+     *                        all the definitions
+     * @return - {@link Map} with asyncAPI definitions for service nodes
+     */
+    public static List<AsyncApiResult> generateAsyncAPISpecDefinition(SyntaxTree syntaxTree,
+                                                                      SemanticModel semanticModel, String serviceName,
+                                                                      Boolean needJson, Path inputPath,
+                                                                      Map<String, String> previousDigests) {
         List<ListenerDeclarationNode> endpoints = new ArrayList<>();
         Map<String, ServiceDeclarationNode> servicesToGenerate = new LinkedHashMap<>();
         List<String> availableService = new ArrayList<>();
@@ -119,9 +139,23 @@ public class ServiceToAsyncApiConverterUtils {
             // Generating asyncapi specification for selected META-INF.services
             for (Map.Entry<String, ServiceDeclarationNode> serviceNode : servicesToGenerate.entrySet()) {
                 String asyncApiName = getAsyncApiFileName(syntaxTree.filePath(), serviceNode.getKey(), needJson);
-                AsyncApiResult asyncAPIDefinition = generateAsyncApiSpec(serviceNode.getValue(),
-                        endpoints, classDefinitionNodes, semanticModel, asyncApiName, inputPath);
+                String digest = null;
+                if (previousDigests != null) {
+                    digest = ServiceDigestUtils.getServiceDigest(serviceNode.getValue(), endpoints,
+                            classDefinitionNodes, semanticModel,
+                            getContractVersion(serviceNode.getValue(), semanticModel)).orElse(null);
+                }
+                AsyncApiResult asyncAPIDefinition;
+                if (digest != null && digest.equals(previousDigests.get(getServiceId(serviceNode.getValue())))) {
+                    asyncAPIDefinition = new AsyncApiResult(null, null);
+                    asyncAPIDefinition.setUpToDate(true);
+                } else {
+                    asyncAPIDefinition = generateAsyncApiSpec(serviceNode.getValue(),
+                            endpoints, classDefinitionNodes, semanticModel, asyncApiName, inputPath);
+                }
+                asyncAPIDefinition.setDigest(digest);
                 asyncAPIDefinition.setServiceName(asyncApiName);
+                asyncAPIDefinition.setServiceNode(serviceNode.getValue());
                 outputs.add(asyncAPIDefinition);
             }
         }
@@ -132,6 +166,43 @@ public class ServiceToAsyncApiConverterUtils {
         return outputs;
     }
 
+    /**
+     * Provides the file names of the AsyncAPI definitions of the WebSocket services in the given syntax tree, by the
+     * IDs of the services, see {@link #getServiceId}.
+     *
+     * @param syntaxTree    - Syntax tree the related to ballerina service
+     * @param semanticModel - Semantic model related to ballerina module
+     * @param needJson      - Flag for enabling the generated file format with json or YAML
+     * @return - File names of the asyncAPI definitions by the IDs of their services
+     */
+    public static Map<String, String> getAsyncApiFileNames(SyntaxTree syntaxTree, SemanticModel semanticModel,
+                                                           Boolean needJson) {
+        Map<String, String> fileNames = new LinkedHashMap<>();
+        if (containErrors(semanticModel.diagnostics())) {
+            return fileNames;
+        }
+        Map<String, ServiceDeclarationNode> services = new LinkedHashMap<>();
+        extractListenersAndServiceNodes(null, new ArrayList<>(), services, new ArrayList<>(), syntaxTree.rootNode(),
+                new ArrayList<>(), semanticModel);
+        for (Map.Entry<String, ServiceDeclarationNode> service : services.entrySet()) {
+            fileNames.put(getServiceId(service.getValue()),
+                    getAsyncApiFileName(syntaxTree.filePath(), service.getKey(), needJson));
+        }
+        return fileNames;
+    }
+
+    /**
+     * Provides the ID of the given service, which is unique within its module. The ID is made of the name of the
+     * document and the position of the service in it, so that the same service gets the same ID from every syntax
+     * tree of the document.
+     *
+     * @param serviceNode - Service node related to ballerina service
+     * @return - ID of the service
+     */
+    public static String getServiceId(ServiceDeclarationNode serviceNode) {
+        return serviceNode.syntaxTree().filePath() + ":" + serviceNode.textRange().startOffset();
+    }
+
     /**
      * Filter all the end points and service nodes.
      */
@@ -113,6 +113,7 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OAUTH2;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PASSWORD;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PING_PONG_SERVICE_FIELD;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUERY_PARAMS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READONLY_CONNECTION_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REFRESH_TOKEN;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SECURE_SOCKET_FIELD;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF;
@@ -212,6 +213,7 @@ public class BallerinaAuthConfigGenerator {
     private boolean isQueryParam = false;
     private boolean isHeaderParam = false;
     private boolean httpOROAuth;
+    private boolean readOnlyConnectionConfig = false;
     private String clientCredGrantTokenUrl;
     private String passwordGrantTokenUrl;
     private String refreshTokenUrl;
@@ -224,6 +226,16 @@ public class BallerinaAuthConfigGenerator {
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
     }
 
+    /**
+     * Set `readOnlyConnectionConfig` flag to `true` when the client keeps its connection configurations, which are
+     * then taken as read-only.
+     *
+     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
+     */
+    public void setReadOnlyConnectionConfig(boolean flag) {
+        this.readOnlyConnectionConfig = flag;
+    }
+
     public boolean isPathParam() {
         return isPathParam;
     }
@@ -659,7 +671,7 @@ public class BallerinaAuthConfigGenerator {
         IdentifierToken equalToken = createIdentifierToken(GeneratorConstants.EQUAL);
         if (httpOROAuth) {
             BuiltinSimpleNameReferenceNode typeName = createBuiltinSimpleNameReferenceNode(null,
-                    createIdentifierToken(CONNECTION_CONFIG));
+                    createIdentifierToken(getConnectionConfigType()));
             IdentifierToken paramName = createIdentifierToken(CLIENT_CONFIG);
             RequiredParameterNode authConfig = createRequiredParameterNode(annotationNodes, typeName, paramName);
             parameters.add(authConfig);
@@ -677,7 +689,7 @@ public class BallerinaAuthConfigGenerator {
             }
 
             BuiltinSimpleNameReferenceNode websocketClientConfigTypeName = createBuiltinSimpleNameReferenceNode(
-                    null, createIdentifierToken(CONNECTION_CONFIG));
+                    null, createIdentifierToken(getConnectionConfigType()));
             IdentifierToken httpClientConfig = createIdentifierToken(CLIENT_CONFIG);
             BasicLiteralNode emptyExpression = createBasicLiteralNode(null, createIdentifierToken(" {}"));
             DefaultableParameterNode defaultConnectionConfig = createDefaultableParameterNode(annotationNodes,
@@ -1035,6 +1047,10 @@ public class BallerinaAuthConfigGenerator {
                 createToken(EQUAL_TOKEN), mappingConstructorExpressionNode, createToken(SEMICOLON_TOKEN));
     }
 
+    private String getConnectionConfigType() {
+        return readOnlyConnectionConfig ? READONLY_CONNECTION_CONFIG : CONNECTION_CONFIG;
+    }
+
     /**
      * Generate http:client initialization node.
      * <pre>
@@ -1044,6 +1060,18 @@ public class BallerinaAuthConfigGenerator {
      * @return {@link VariableDeclarationNode}   Syntax tree node of client initialization
      */
     public VariableDeclarationNode getClientInitializationNode(String url) {
+        return getClientInitializationNode(url, CLIENT_CONFIG);
+    }
+
+    /**
+     * Generate http:client initialization node with the given connection configurations.
+     * <pre>
+     *     websocket:Client websocketEp = check new (serviceUrl, self.clientConfig);
+     * </pre>
+     *
+     * @return {@link VariableDeclarationNode}   Syntax tree node of client initialization
+     */
+    public VariableDeclarationNode getClientInitializationNode(String url, String clientConfig) {
 
         NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         // http:Client variable declaration
@@ -1062,7 +1090,7 @@ public class BallerinaAuthConfigGenerator {
         Token comma1 = createIdentifierToken(",");
 
         PositionalArgumentNode positionalArgumentNode02 = createPositionalArgumentNode(createSimpleNameReferenceNode(
-                createIdentifierToken(CLIENT_CONFIG)));
+                createIdentifierToken(clientConfig)));
         argumentsList.add(comma1);
         argumentsList.add(positionalArgumentNode02);
 
@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.websocketscore.generators.client;
+
+import io.ballerina.asyncapi.websocketscore.generators.document.DocCommentsGenerator;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
+import io.ballerina.compiler.syntax.tree.MarkdownParameterDocumentationLineNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLOSE_CLIENTS_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLOSE_POOLED_CLIENTS_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_CLOSE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_POOL_CLASS_SUFFIX;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_POOL_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DEFAULT_POOL_SIZE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_POOLED_CLIENT_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_POOLED_STREAM_CLIENT_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.INIT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.NEXT_CLIENT_FIELD;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OPEN_POOLED_CLIENTS_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOLED_CLIENTS_FIELD;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOLED_REMOTE_FUNCTION_CALL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOLED_STREAM_REMOTE_FUNCTION_CALL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_SIZE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_SIZE_CHECK_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.POOL_SIZE_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RETURN;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createClassDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLASS_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.INT_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.REMOTE_KEYWORD;
+
+/**
+ * This class generates the pool class of a generated client. The pool opens several instances of the client, each
+ * with a connection of its own. A remote function whose request has a stream ID calls the instance picked by the hash
+ * of the stream ID, which the caller sets in the request, so that the requests of a stream are written through one
+ * connection. Any other remote function calls the next open instance in turn. As each instance reads the responses of
+ * the requests it wrote, the responses of a request and its stream stay on one connection.
+ *
+ */
+public class ConnectionPoolGenerator {
+
+    private final ClassDefinitionNode clientClass;
+    private final Map<String, String> streamIdExpressions;
+
+    /**
+     * Creates the generator of the pool class of a client.
+     *
+     * @param clientClass         generated client class
+     * @param streamIdExpressions stream ID expressions of the remote functions whose requests have a stream ID,
+     *                            e.g. `subscribe.id`, keyed by the function name
+     */
+    public ConnectionPoolGenerator(ClassDefinitionNode clientClass, Map<String, String> streamIdExpressions) {
+        this.clientClass = clientClass;
+        this.streamIdExpressions = streamIdExpressions;
+    }
+
+    /**
+     * Generate the pool class, which has the init function and the remote functions of the client.
+     */
+    public ClassDefinitionNode generateConnectionPoolClass() {
+        String clientName = clientClass.className().text();
+        List<Node> memberNodeList = new ArrayList<>();
+        // private final ChatClient[] clients = [];
+        memberNodeList.add(NodeParser.parseObjectMember(String.format(POOLED_CLIENTS_FIELD, clientName)));
+        // private int nextClient = 0;
+        memberNodeList.add(NodeParser.parseObjectMember(NEXT_CLIENT_FIELD));
+        List<Node> remoteFunctionNodes = new ArrayList<>();
+        for (Node member : clientClass.members()) {
+            if (member.kind() != SyntaxKind.OBJECT_METHOD_DEFINITION) {
+                continue;
+            }
+            FunctionDefinitionNode functionNode = (FunctionDefinitionNode) member;
+            String functionName = functionNode.functionName().text();
+            if (functionName.equals(INIT)) {
+                memberNodeList.add(createInitFunction(functionNode, clientName));
+            } else if (isRemoteFunction(functionNode) && !functionName.equals(CONNECTION_CLOSE)) {
+                remoteFunctionNodes.add(createRemoteFunction(functionNode,
+                        streamIdExpressions.get(functionName)));
+            }
+        }
+        memberNodeList.add(NodeParser.parseObjectMember(String.format(GET_POOLED_CLIENT_FUNCTION_TEMPLATE,
+                clientName)));
+        if (!streamIdExpressions.isEmpty()) {
+            memberNodeList.add(NodeParser.parseObjectMember(String.format(GET_POOLED_STREAM_CLIENT_FUNCTION_TEMPLATE,
+                    clientName)));
+        }
+        memberNodeList.addAll(remoteFunctionNodes);
+        memberNodeList.add(NodeParser.parseObjectMember(CLOSE_POOLED_CLIENTS_FUNCTION_TEMPLATE));
+        memberNodeList.add(NodeParser.parseObjectMember(String.format(CLOSE_CLIENTS_FUNCTION_TEMPLATE,
+                clientName)));
+
+        MarkdownDocumentationNode classDoc = createMarkdownDocumentationNode(createNodeList(
+                DocCommentsGenerator.createAPIDescriptionDoc(String.format(CONNECTION_POOL_DESCRIPTION, clientName),
+                        false)));
+        NodeList<Token> classTypeQualifiers = createNodeList(createToken(CLIENT_KEYWORD),
+                createToken(ISOLATED_KEYWORD));
+        return createClassDefinitionNode(createMetadataNode(classDoc, createEmptyNodeList()),
+                createToken(PUBLIC_KEYWORD), classTypeQualifiers, createToken(CLASS_KEYWORD),
+                createIdentifierToken(clientName + CONNECTION_POOL_CLASS_SUFFIX), createToken(OPEN_BRACE_TOKEN),
+                createNodeList(memberNodeList), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    /**
+     * Generate the init function of the pool, which takes the parameters of the client init function along with the
+     * size of the pool, and opens an instance of the client for each connection of the pool.
+     */
+    private FunctionDefinitionNode createInitFunction(FunctionDefinitionNode clientInit, String clientName) {
+        FunctionSignatureNode clientSignature = clientInit.functionSignature();
+        List<Node> parameters = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+        for (ParameterNode parameter : clientSignature.parameters()) {
+            if (!parameters.isEmpty()) {
+                parameters.add(createToken(COMMA_TOKEN));
+            }
+            parameters.add(parameter);
+            arguments.add(getParameterName(parameter));
+        }
+        // int poolSize = 4
+        DefaultableParameterNode poolSize = createDefaultableParameterNode(createEmptyNodeList(),
+                createBuiltinSimpleNameReferenceNode(null, createToken(INT_KEYWORD)),
+                createIdentifierToken(POOL_SIZE), createToken(EQUAL_TOKEN),
+                createBasicLiteralNode(null, createIdentifierToken(DEFAULT_POOL_SIZE)));
+        parameters.add(createToken(COMMA_TOKEN));
+        parameters.add(poolSize);
+        FunctionSignatureNode signatureNode = createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(parameters), createToken(CLOSE_PAREN_TOKEN),
+                clientSignature.returnTypeDesc().orElse(null));
+
+        List<StatementNode> statements = new ArrayList<>();
+        statements.add(NodeParser.parseStatement(POOL_SIZE_CHECK_STATEMENT));
+        statements.add(NodeParser.parseStatement(String.format(OPEN_POOLED_CLIENTS_STATEMENT, clientName,
+                String.join(", ", arguments))));
+        FunctionBodyNode bodyNode = createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null,
+                createNodeList(statements), createToken(CLOSE_BRACE_TOKEN), null);
+
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, getInitDocComment(clientInit),
+                clientInit.qualifierList(), createToken(FUNCTION_KEYWORD), clientInit.functionName(),
+                createEmptyNodeList(), signatureNode, bodyNode);
+    }
+
+    /**
+     * Provide the documentation of the pool init function, which adds the pool size to the parameters documented
+     * for the client init function.
+     */
+    private static MetadataNode getInitDocComment(FunctionDefinitionNode clientInit) {
+        List<Node> docs = new ArrayList<>();
+        clientInit.metadata().flatMap(MetadataNode::documentationString).ifPresent(documentation -> {
+            for (Node docLine : ((MarkdownDocumentationNode) documentation).documentationLines()) {
+                if (docLine instanceof MarkdownParameterDocumentationLineNode paramDoc &&
+                        paramDoc.parameterName().text().equals(RETURN)) {
+                    docs.add(DocCommentsGenerator.createAPIParamDoc(POOL_SIZE, POOL_SIZE_DESCRIPTION));
+                }
+                docs.add(docLine);
+            }
+        });
+        return createMetadataNode(createMarkdownDocumentationNode(createNodeList(docs)), createEmptyNodeList());
+    }
+
+    /**
+     * Generate a remote function of the pool, which calls the remote function of the client of the stream ID of the
+     * request, or of the next client if the request has no stream ID.
+     */
+    private static FunctionDefinitionNode createRemoteFunction(FunctionDefinitionNode clientFunction,
+                                                               String streamIdExpression) {
+        String functionName = clientFunction.functionName().text();
+        List<String> arguments = new ArrayList<>();
+        SeparatedNodeList<ParameterNode> parameters = clientFunction.functionSignature().parameters();
+        for (ParameterNode parameter : parameters) {
+            arguments.add(getParameterName(parameter));
+        }
+        // return self.getStreamClient(subscribe.id)->doSubscribe(subscribe, timeout);
+        // return self.getClient()->doPing(ping, timeout);
+        StatementNode callStatement = NodeParser.parseStatement(streamIdExpression == null ?
+                String.format(POOLED_REMOTE_FUNCTION_CALL, functionName, String.join(", ", arguments)) :
+                String.format(POOLED_STREAM_REMOTE_FUNCTION_CALL, streamIdExpression, functionName,
+                        String.join(", ", arguments)));
+        FunctionBodyNode bodyNode = createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null,
+                createNodeList(callStatement), createToken(CLOSE_BRACE_TOKEN), null);
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION,
+                clientFunction.metadata().orElse(null), clientFunction.qualifierList(), createToken(FUNCTION_KEYWORD),
+                clientFunction.functionName(), createEmptyNodeList(), clientFunction.functionSignature(), bodyNode);
+    }
+
+    private static boolean isRemoteFunction(FunctionDefinitionNode functionNode) {
+        for (Token qualifier : functionNode.qualifierList()) {
+            if (qualifier.kind() == REMOTE_KEYWORD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getParameterName(ParameterNode parameter) {
+        if (parameter instanceof DefaultableParameterNode defaultableParameter) {
+            return defaultableParameter.paramName().map(Token::text).orElse("");
+        }
+        return ((RequiredParameterNode) parameter).paramName().map(Token::text).orElse("");
+    }
+}
@@ -43,6 +43,7 @@ import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiException
 import io.ballerina.asyncapi.websocketscore.generators.client.model.AasClientConfig;
 import io.ballerina.asyncapi.websocketscore.generators.document.DocCommentsGenerator;
 import io.ballerina.asyncapi.websocketscore.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
 import io.ballerina.compiler.syntax.tree.BinaryExpressionNode;
@@ -51,6 +52,7 @@ import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.ExpressionStatementNode;
 import io.ballerina.compiler.syntax.tree.FieldAccessExpressionNode;
@@ -95,6 +97,7 @@ import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 
+import java.io.PrintStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
@@ -113,15 +116,23 @@ import java.util.stream.Collectors;
 
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.AND_SPACE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.API_KEY_CONFIG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ASSIGN_PIPE_NAME_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ATTEMPT_CON_CLOSE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ATTEMPT_TO_CLOSE_CONNECTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.AWAIT_RECONNECTION_FUNCTION_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.BALLERINA_WEBSOCKET_DOESNT_SUPPORT_FOR_MULTIPLE_CHANNELS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CAPITAL_PIPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CHECK_PATH_FOR_QUERY_PARAM;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_CLASS_NAME;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_CONFIG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_CONFIG_ASSIGNMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_CONFIG_CUSTOM_HEADERS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_CONFIG_WITHOUT_CUSTOM_HEADERS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_CONFIG_WITH_CUSTOM_HEADERS_ASSIGNMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_EP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLIENT_EP_WRITE_MESSAGE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLOSE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLOSE_CLIENT_FUNCTION_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.COLON;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONFIG_DESCRIPTION;
@@ -139,18 +150,26 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DOUBLE_QUO
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.EQUAL_SPACE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ERROR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.FAIL_TO_READ_ENDPOINT_DETAILS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_CLIENT_EP_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_CLIENT_EP_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_COMBINE_HEADERS;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_NAME_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_METRICS_FUNCTION_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_NAME_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_PIPE_NAME_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.GET_RECORD_NAME_FUNCTION_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.HEADER_PARAM;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.HEADER_PARAMETERS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.HEADER_PARAMS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IDLE_PIPE_TIME_OUT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IMMEDIATE_CLOSE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.INIT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IS_ACTIVE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IS_CONNECTION_ACTIVE_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.JSON_CONTENT_TYPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.JSON_CONTENT_TYPE_SUFFIX;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.LANG_REGEXP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.LANG_RUNTIME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.LOG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.LOG_PRINT_ERR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MAP_ANY_DATA;
@@ -158,8 +177,6 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MAP_STRING
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_VAR_NAME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_WITH_ID;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_WITH_ID_VAR_CLONE;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_WITH_ID_VAR_NAME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MODIFIED_URL;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.NOT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OBJECT;
@@ -168,36 +185,62 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OP_TIMEOUT
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PATH_PARAMETERS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PATH_PARAMS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPES;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_COLON_PIPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_CONFIG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_CONFIG_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_CONFIG_VAR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ERR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ERROR_NODE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ERR_DECLARATION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_NAME;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_VAR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_NAME_VAR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PLUS_SPACE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PRODUCE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUERY_PARAM;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUERY_PARAMETERS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUERY_PARAMS;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.QUEUE_DEFAULT_SIZE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RANDOM;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READONLY;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READONLY_CONFIG_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READONLY_CONNECTION_CONFIG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READONLY_RECONNECT_CONFIG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READONLY_WRITE_BATCH_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_CLIENT_READ_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_FROM_CLIENT_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_MESSAGE_PIPE_PRODUCE_ERROR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.READ_ONLY;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG_ASSIGNMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG_VAR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_SIGNAL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_SIGNAL_FIELD;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REF;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REMOTE_METHOD_NAME_PREFIX;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REMOVE_PIPES;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REMOVE_SLOTS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.REMOVE_STREAM_GENERATORS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_MAP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOTS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOTS_ASSIGNMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOTS_VAR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOT_PRODUCE_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOT_TAKE_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESUBSCRIBE_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESUBSCRIBE_ON_RECONNECT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RETURN;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RETURN_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF_PIPES_GET_PIPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF_CLIENT_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SEMICOLON;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SERVICE_URL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SERVICE_URL_ASSIGNMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SERVICE_URL_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SIMPLE_PIPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SIMPLE_RPC;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SKIP_RESUBSCRIBED_MESSAGE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SPACE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.START_MESSAGE_READING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.START_MESSAGE_READING_DESCRIPTION;
@@ -205,22 +248,42 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.START_MESS
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.START_MESSAGE_WRITING_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATORS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STRING;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SUBSCRIPTIONS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SUBSCRIPTIONS_ASSIGNMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SUBSCRIPTIONS_VAR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.S_DOT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.UNSUPPORTED_CONTENT_TYPE_WARNING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.UUID;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WEBSOCKET;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WEBSOCKET_EP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_COLLECT_MESSAGES;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_CONFIG;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_CONFIG_ASSIGNMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_CONFIG_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_CONFIG_VAR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_MESSAGES;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_WRITE_MESSAGES;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGES_AS_ARRAY_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGES_FUNCTION_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE_CLIENT_WRITE_ERROR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE_PIPE_CONSUME_ERROR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE_QUEUE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_QUEUE_CAPACITY;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_TO_SERVER;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_TO_SERVER_FUNCTION_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_TO_SERVER_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WSS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WS_ERR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WS_ERROR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WS_ERROR_OPTIONAL;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.XLIBB_PIPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_BALLERINA_BATCH_FRAMES;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_BALLERINA_INIT_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_BALLERINA_MESSAGE_READ_DESCRIPTION;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_BALLERINA_MESSAGE_WRITE_DESCRIPTION;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_BALLERINA_PIPE_CAPACITY;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_BALLERINA_PIPE_CAPACITY_MUST_BE_POSITIVE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_DISPATCHER_KEY;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_DISPATCHER_KEY_CANNOT_BE_EMPTY;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.X_DISPATCHER_KEY_MUST_INCLUDE_IN_THE_SPECIFICATION;
@@ -244,12 +307,12 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createAssignmentStat
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBinaryExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createBreakStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createClassDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createContinueStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createElseBlockNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFieldAccessExpressionNode;
@@ -284,7 +347,6 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createVariableDeclar
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createWhileStatementNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.BACKTICK_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.BINARY_EXPRESSION;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.BREAK_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CHECK_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLASS_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
@@ -322,7 +384,6 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.RIGHT_ARROW_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TRUE_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.VAR_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.WHILE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.WORKER_KEYWORD;
 
@@ -332,12 +393,20 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.WORKER_KEYWORD;
 public class IntermediateClientGenerator {
 
     private final AsyncApi25DocumentImpl asyncApi;
+    private final GeneratorMetaData generatorMetaData;
+    private final boolean writeBatching;
+    private final boolean nativePipes;
+    private final boolean autoReconnect;
+    private final boolean connectionPool;
     private final List<String> remoteFunctionNameList;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final List<ImportDeclarationNode> imports;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final RemoteFunctionReturnTypeGenerator functionReturnType;
     private final Map<String, String> responseMap = new HashMap<>();
+    private final Map<String, Integer> pipeCapacities = new LinkedHashMap<>();
+    // Stream ID expressions of the remote functions whose requests have a stream ID, keyed by the function name
+    private final Map<String, String> streamIdExpressions = new LinkedHashMap<>();
     private UtilGenerator utilGenerator;
     private List<TypeDefinitionNode> typeDefinitionNodeList;
     private List<String> apiKeyNameList = new ArrayList<>();
@@ -345,7 +414,10 @@ public class IntermediateClientGenerator {
     private String clientName = null;
     private String dispatcherKey;
     private String dispatcherStreamId;
+    private boolean batchFrames;
+    private boolean responseSlotsPresent;
 
+    private static final PrintStream OUT_STREAM = System.err;
     private static final Token openParenToken = createToken(OPEN_PAREN_TOKEN);
     private static final Token closeParenToken = createToken(CLOSE_PAREN_TOKEN);
     private static final Token openBraceToken = createToken(OPEN_BRACE_TOKEN);
@@ -362,11 +434,20 @@ public class IntermediateClientGenerator {
         this.imports = new ArrayList<>();
         this.typeDefinitionNodeList = new ArrayList<>();
         this.asyncApi = asyncAPIClientConfig.getAsyncAPI();
+        this.writeBatching = asyncAPIClientConfig.isWriteBatching();
+        this.nativePipes = asyncAPIClientConfig.isNativePipes();
+        this.autoReconnect = asyncAPIClientConfig.isAutoReconnect();
+        this.connectionPool = asyncAPIClientConfig.isConnectionPool();
         this.utilGenerator = null;
         this.remoteFunctionNameList = new ArrayList<>();
-        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(asyncApi, new LinkedList<>());
+        this.generatorMetaData = new GeneratorMetaData(asyncApi);
+        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(generatorMetaData, new LinkedList<>());
         this.serverURL = "/";
         this.ballerinaAuthConfigGenerator = new BallerinaAuthConfigGenerator(false, false, ballerinaSchemaGenerator);
+        if (autoReconnect) {
+            // A reconnecting client keeps the connection configurations to open the new connections
+            this.ballerinaAuthConfigGenerator.setReadOnlyConnectionConfig(true);
+        }
         this.functionReturnType = new RemoteFunctionReturnTypeGenerator(this.asyncApi);
     }
 
@@ -377,6 +458,13 @@ public class IntermediateClientGenerator {
         return createObjectFieldNode(metadataNode, null, qualifiers, typeNode, fieldName, null, null, semicolonToken);
     }
 
+    /**
+     * Returns the metadata of this generation run, to be shared with the other generators of the run.
+     */
+    public GeneratorMetaData getGeneratorMetaData() {
+        return generatorMetaData;
+    }
+
     public void setUtilGenerator(UtilGenerator utilGenerator) {
         this.utilGenerator = utilGenerator;
     }
@@ -437,8 +525,14 @@ public class IntermediateClientGenerator {
                 , LANG_REGEXP);
 
         imports.add(importForRegex);
+        if (autoReconnect) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, LANG_RUNTIME));
+        }
 
         imports.add(importForLog);
+        if (autoReconnect) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, RANDOM));
+        }
         imports.add(importForWebsocket);
         imports.add(importForXlibbPipe);
 
@@ -448,7 +542,13 @@ public class IntermediateClientGenerator {
 
         List<ModuleMemberDeclarationNode> nodes = new ArrayList<>();
         // Add class definition node to module member nodes
-        nodes.add(getClassDefinitionNode());
+        ClassDefinitionNode clientClassNode = getClassDefinitionNode();
+        nodes.add(clientClassNode);
+        if (connectionPool) {
+            // Add the pool class, which spreads the requests across several instances of the client
+            nodes.add(new ConnectionPoolGenerator(clientClassNode, streamIdExpressions)
+                    .generateConnectionPoolClass());
+        }
 
         NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
 
@@ -463,6 +563,38 @@ public class IntermediateClientGenerator {
         return utilGenerator;
     }
 
+    /**
+     * Warns about the content types of the contract which are not JSON. The generated client binds every message
+     * to the JSON `Message` type, and dispatches the responses by their `x-dispatcherKey` field, so binary
+     * payloads such as `application/octet-stream`, `application/cbor` or `application/x-msgpack` are not
+     * supported, and the messages of such a contract are still written and read as JSON text frames.
+     */
+    private void warnUnsupportedContentTypes() {
+        String defaultContentType = asyncApi.getDefaultContentType();
+        if (!isJsonContentType(defaultContentType)) {
+            OUT_STREAM.printf(UNSUPPORTED_CONTENT_TYPE_WARNING, defaultContentType, "the AsyncAPI contract");
+        }
+        if (asyncApi.getComponents() == null || asyncApi.getComponents().getMessages() == null) {
+            return;
+        }
+        for (Map.Entry<String, AsyncApiMessage> message : asyncApi.getComponents().getMessages().entrySet()) {
+            String contentType = message.getValue().getContentType();
+            if (!isJsonContentType(contentType)) {
+                OUT_STREAM.printf(UNSUPPORTED_CONTENT_TYPE_WARNING, contentType,
+                        "the message '" + message.getKey() + "'");
+            }
+        }
+    }
+
+    private static boolean isJsonContentType(String contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        // Ignore the parameters of the media type, e.g. `application/json; charset=utf-8`
+        String mediaType = contentType.split(";")[0].trim();
+        return mediaType.equals(JSON_CONTENT_TYPE) || mediaType.endsWith(JSON_CONTENT_TYPE_SUFFIX);
+    }
+
     /**
      * Generate Class definition Nodes.
      */
@@ -492,6 +624,12 @@ public class IntermediateClientGenerator {
             }
         }
 
+        // Write the batches of messages as JSON array frames if the server accepts them
+        this.batchFrames = extensions.get(X_BALLERINA_BATCH_FRAMES) != null &&
+                extensions.get(X_BALLERINA_BATCH_FRAMES).asBoolean();
+
+        warnUnsupportedContentTypes();
+
         // Add Message and MessageWithId types to typeDefinitionNodeList
         AsyncApi25SchemaImpl responseMessageSchema = createResponseMessage(this.dispatcherKey);
         TypeDefinitionNode responseMessageTypeDefinitionNode = ballerinaSchemaGenerator.getTypeDefinitionNode
@@ -518,8 +656,19 @@ public class IntermediateClientGenerator {
         memberNodeList.add(createGetRecordNameFunction());
         memberNodeList.add(createGetPipeNameFunction());
         memberNodeList.add(createStartMessageWriting());
+        if (writeBatching) {
+            memberNodeList.add(createWriteMessagesFunction());
+        }
         memberNodeList.add(createStartMessageReading());
+        if (autoReconnect) {
+            memberNodeList.addAll(createReconnectFunctions(isStreamPresent));
+        }
         memberNodeList.addAll(remoteFunctionNodes);
+        memberNodeList.add(createGetPipeMetricsFunction());
+        if (connectionPool) {
+            // The pool skips a client whose connection is closed
+            memberNodeList.add(NodeParser.parseObjectMember(IS_CONNECTION_ACTIVE_FUNCTION_TEMPLATE));
+        }
         MetadataNode metadataNode = getClassMetadataNode();
         String titleName = asyncApi.getInfo().getTitle().trim().replaceAll("\\s", "");
         String channelName = GeneratorUtils.removeNonAlphanumeric(asyncApi.getChannels().getItemNames().get(0).trim());
@@ -557,7 +706,16 @@ public class IntermediateClientGenerator {
     private FunctionBodyNode getStartMessageReadingFunctionBodyNode() {
 
         List<StatementNode> whileStatements = new ArrayList<>();
-        whileStatements.add(getIsActiveCheck());
+
+        if (autoReconnect) {
+            // The client endpoint is replaced when the client reconnects, so the endpoint which is read from is kept
+            // websocket:Client clientEp = self.getClientEp();
+            // Message|websocket:Error message = clientEp->readMessage(Message);
+            whileStatements.add(NodeParser.parseStatement(GET_CLIENT_EP_STATEMENT));
+            whileStatements.add(NodeParser.parseStatement(READ_MESSAGE_FROM_CLIENT_STATEMENT));
+            whileStatements.add(getIsWsError(READ_MESSAGE_CLIENT_READ_ERROR, MESSAGE_VAR_NAME,
+                    NodeParser.parseStatement(RECONNECT_STATEMENT)));
+        }
 
         // Expected ballerina statement:
         // Message|websocket:Error message = self.clientEp->readMessage();
@@ -574,56 +732,58 @@ public class IntermediateClientGenerator {
                         createFieldBindingPatternVarnameNode(createSimpleNameReferenceNode(createIdentifierToken(
                                 MESSAGE_VAR_NAME)))), equalToken, responseMessageExpressionNode, semicolonToken);
 
-        whileStatements.add(responseMessage);
-        whileStatements.add(getIsWsError(READ_MESSAGE_CLIENT_READ_ERROR, MESSAGE_VAR_NAME));
+        if (!autoReconnect) {
+            whileStatements.add(responseMessage);
+            whileStatements.add(getIsWsError(READ_MESSAGE_CLIENT_READ_ERROR, MESSAGE_VAR_NAME));
+        }
 
         // Expected ballerina statement:
         // string pipeName = self.getPipeName(message.event);
-        StatementNode getPipeNameStatement = NodeParser.parseStatement(String.format(GET_PIPE_NAME_STATEMENT,
-                escapeIdentifier(dispatcherKey)));
-
-        // Expected ballerina statement:
-        // pipe:Pipe pipe = self.pipes.getPipe(pipeName);
-        String messageEventAccessor = String.format(SELF_PIPES_GET_PIPE, PIPE_NAME);
         if (Objects.isNull(this.dispatcherStreamId)) {
-            VariableDeclarationNode pipesVar = createVariableDeclarationNode(createEmptyNodeList(), null,
-                    createTypedBindingPatternNode(NodeParser.parseTypeDescriptor(PIPE_COLON_PIPE),
-                            createFieldBindingPatternVarnameNode(createSimpleNameReferenceNode(
-                                    createIdentifierToken(SIMPLE_PIPE)))), equalToken,
-                    NodeParser.parseExpression(messageEventAccessor), semicolonToken);
-            whileStatements.add(getPipeNameStatement);
-            whileStatements.add(pipesVar);
+            whileStatements.add(NodeParser.parseStatement(String.format(GET_PIPE_NAME_STATEMENT,
+                    escapeIdentifier(dispatcherKey))));
         } else {
-            whileStatements.add(NodeParser.parseStatement(PIPE_VAR + SEMICOLON));
-            whileStatements.add(NodeParser.parseStatement(MESSAGE_WITH_ID_VAR_CLONE));
+            whileStatements.add(NodeParser.parseStatement(PIPE_NAME_VAR + SEMICOLON));
+            // The read message is immutable, so it is narrowed to `MessageWithId` by its shape without a copy
             IfElseStatementNode pipeConditional = createIfElseStatementNode(createToken(IF_KEYWORD),
-                    NodeParser.parseExpression(MESSAGE_WITH_ID_VAR_NAME + IS + MESSAGE_WITH_ID),
+                    NodeParser.parseExpression(MESSAGE_VAR_NAME + IS + MESSAGE_WITH_ID),
                     createBlockStatementNode(openBraceToken, createNodeList(NodeParser.parseStatement(
-                            SIMPLE_PIPE + EQUAL_SPACE + String.format(SELF_PIPES_GET_PIPE,
-                                    MESSAGE_WITH_ID_VAR_NAME + DOT + escapeIdentifier(this.dispatcherStreamId)) +
-                                    SEMICOLON)), closeBraceToken),
+                            PIPE_NAME + EQUAL_SPACE + MESSAGE_VAR_NAME + DOT +
+                                    escapeIdentifier(this.dispatcherStreamId) + SEMICOLON)), closeBraceToken),
                     createElseBlockNode(createToken(ELSE_KEYWORD), createBlockStatementNode(openBraceToken,
-                            createNodeList(getPipeNameStatement, NodeParser.parseStatement(SIMPLE_PIPE + EQUAL_SPACE +
-                                    messageEventAccessor + SEMICOLON)), closeBraceToken)));
+                            createNodeList(NodeParser.parseStatement(String.format(ASSIGN_PIPE_NAME_STATEMENT,
+                                    escapeIdentifier(dispatcherKey)))), closeBraceToken)));
             whileStatements.add(pipeConditional);
         }
 
         // Expected ballerina statement:
-        // pipe:Error? pipeErr = pipe.produce(message, 5);
-        MethodCallExpressionNode produceExpression = createMethodCallExpressionNode(createBasicLiteralNode(VAR_KEYWORD,
-                        createIdentifierToken(SIMPLE_PIPE)), dotToken, createSimpleNameReferenceNode(
-                                createIdentifierToken(PRODUCE)), openParenToken, createSeparatedNodeList(
-                                createPositionalArgumentNode(createRequiredExpressionNode(createIdentifierToken(
-                                        MESSAGE_VAR_NAME))), createToken(COMMA_TOKEN),
-                                        createPositionalArgumentNode(createRequiredExpressionNode(createIdentifierToken(
-                                                DEFAULT_PIPE_TIME_OUT)))), closeParenToken);
+        // pipe:Error? pipeErr = self.pipes.produce(pipeName, message, 5);
+        FieldAccessExpressionNode selfPipes = createFieldAccessExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(SELF)), dotToken,
+                createSimpleNameReferenceNode(createIdentifierToken(PIPES)));
+        MethodCallExpressionNode produceExpression = createMethodCallExpressionNode(selfPipes, dotToken,
+                createSimpleNameReferenceNode(createIdentifierToken(PRODUCE)), openParenToken,
+                createSeparatedNodeList(
+                        createPositionalArgumentNode(createRequiredExpressionNode(createIdentifierToken(PIPE_NAME))),
+                        createToken(COMMA_TOKEN),
+                        createPositionalArgumentNode(createRequiredExpressionNode(createIdentifierToken(
+                                MESSAGE_VAR_NAME))), createToken(COMMA_TOKEN),
+                        createPositionalArgumentNode(createRequiredExpressionNode(createIdentifierToken(
+                                DEFAULT_PIPE_TIME_OUT)))), closeParenToken);
         VariableDeclarationNode pipeErrVar = createVariableDeclarationNode(createEmptyNodeList(), null,
                 createTypedBindingPatternNode(createOptionalTypeDescriptorNode(PIPE_ERROR_NODE,
                                 createToken(QUESTION_MARK_TOKEN)), createFieldBindingPatternVarnameNode(
                                         createSimpleNameReferenceNode(createIdentifierToken(PIPE_ERR)))),
                 equalToken, produceExpression, semicolonToken);
 
-        whileStatements.add(pipeErrVar);
+        if (responseSlotsPresent) {
+            // A response to a request which waits on a slot is delivered to the slot instead of a pipe
+            whileStatements.add(NodeParser.parseStatement(PIPE_ERR_DECLARATION));
+            whileStatements.add(NodeParser.parseStatement(RESPONSE_SLOT_TAKE_STATEMENT));
+            whileStatements.add(NodeParser.parseStatement(RESPONSE_SLOT_PRODUCE_STATEMENT));
+        } else {
+            whileStatements.add(pipeErrVar);
+        }
         whileStatements.add(getIsPipeError(PIPE_ERR, READ_MESSAGE_PIPE_PRODUCE_ERROR, false));
 
         BlockStatementNode whileBody = createBlockStatementNode(openBraceToken, createNodeList(whileStatements),
@@ -683,6 +843,39 @@ public class IntermediateClientGenerator {
         return NodeParser.parseObjectMember(GET_PIPE_NAME_FUNCTION_TEMPLATE);
     }
 
+    private Node createGetPipeMetricsFunction() {
+        return NodeParser.parseObjectMember(GET_PIPE_METRICS_FUNCTION_TEMPLATE);
+    }
+
+    private Node createWriteMessagesFunction() {
+        String writeMessagesFunction = batchFrames ? WRITE_MESSAGES_AS_ARRAY_FUNCTION_TEMPLATE :
+                WRITE_MESSAGES_FUNCTION_TEMPLATE;
+        if (autoReconnect) {
+            writeMessagesFunction = writeMessagesFunction.replace(CLIENT_EP_WRITE_MESSAGE, WRITE_TO_SERVER);
+        }
+        return NodeParser.parseObjectMember(writeMessagesFunction);
+    }
+
+    /**
+     * Generate the functions which replace the connection of the client once it is lost. Only the reading worker
+     * reconnects, while the writing worker waits for the new connection and writes the lost message again.
+     */
+    private List<Node> createReconnectFunctions(boolean isStreamPresent) {
+        List<Node> functions = new ArrayList<>();
+        functions.add(NodeParser.parseObjectMember(GET_CLIENT_EP_FUNCTION_TEMPLATE));
+        // A lost subscription message is not written again, as it is written by the resubscription
+        functions.add(NodeParser.parseObjectMember(String.format(WRITE_TO_SERVER_FUNCTION_TEMPLATE,
+                isStreamPresent ? SKIP_RESUBSCRIBED_MESSAGE : "")));
+        functions.add(NodeParser.parseObjectMember(AWAIT_RECONNECTION_FUNCTION_TEMPLATE));
+        functions.add(NodeParser.parseObjectMember(String.format(RECONNECT_FUNCTION_TEMPLATE,
+                isStreamPresent ? RESUBSCRIBE_ON_RECONNECT : "")));
+        if (isStreamPresent) {
+            functions.add(NodeParser.parseObjectMember(RESUBSCRIBE_FUNCTION_TEMPLATE));
+        }
+        functions.add(NodeParser.parseObjectMember(CLOSE_CLIENT_FUNCTION_TEMPLATE));
+        return functions;
+    }
+
     private Node createGetRecordNameFunction() {
         return NodeParser.parseObjectMember(GET_RECORD_NAME_FUNCTION_TEMPLATE);
     }
@@ -701,14 +894,14 @@ public class IntermediateClientGenerator {
     private FunctionBodyNode getStartMessageWritingFunctionBodyNode() {
         NodeList<AnnotationNode> annotations = createEmptyNodeList();
 
-        // anydata|pipe:Error requestMessage = self.writeMessageQueue.consume(5);
+        // Message|pipe:Error message = self.writeMessageQueue.consume(3600);
         FieldAccessExpressionNode globalQueue = createFieldAccessExpressionNode(
                 createSimpleNameReferenceNode(createIdentifierToken(SELF)), dotToken,
                 createSimpleNameReferenceNode(createIdentifierToken(WRITE_MESSAGE_QUEUE)));
         MethodCallExpressionNode consumeExpression = createMethodCallExpressionNode(globalQueue, dotToken,
                         createSimpleNameReferenceNode(createIdentifierToken(CONSUME)), openParenToken,
                         createSeparatedNodeList(createPositionalArgumentNode(createRequiredExpressionNode(
-                                        createIdentifierToken(DEFAULT_PIPE_TIME_OUT)))), closeParenToken);
+                                        createIdentifierToken(IDLE_PIPE_TIME_OUT)))), closeParenToken);
         VariableDeclarationNode queueData = createVariableDeclarationNode(createEmptyNodeList(), null,
                 createTypedBindingPatternNode(createUnionTypeDescriptorNode(createSimpleNameReferenceNode(
                         createIdentifierToken(MESSAGE)), createToken(PIPE_TOKEN), PIPE_ERROR_NODE),
@@ -730,10 +923,21 @@ public class IntermediateClientGenerator {
                                 createIdentifierToken(WS_ERR)))), equalToken, writeMessageExpression, semicolonToken);
 
         List<StatementNode> whileStatements = new ArrayList<>();
-        whileStatements.add(getIsActiveCheck());
         whileStatements.add(queueData);
         whileStatements.add(getIsPipeError(MESSAGE_VAR_NAME, WRITE_MESSAGE_PIPE_CONSUME_ERROR, true));
-        whileStatements.add(writeMessage);
+        if (writeBatching) {
+            // Message[] messages = [message];
+            // while messages.length() < self.writeBatchConfig.maxBatchSize { ... }
+            // websocket:Error? wsErr = self.writeMessages(messages);
+            whileStatements.add(NodeParser.parseStatement(WRITE_BATCH_MESSAGES));
+            whileStatements.add(NodeParser.parseStatement(WRITE_BATCH_COLLECT_MESSAGES));
+            whileStatements.add(NodeParser.parseStatement(WRITE_BATCH_WRITE_MESSAGES));
+        } else if (autoReconnect) {
+            // websocket:Error? wsErr = self.writeToServer(message);
+            whileStatements.add(NodeParser.parseStatement(WRITE_TO_SERVER_STATEMENT));
+        } else {
+            whileStatements.add(writeMessage);
+        }
         whileStatements.add(getIsWsError(WRITE_MESSAGE_CLIENT_WRITE_ERROR, WS_ERR));
 
         BlockStatementNode whileBody = createBlockStatementNode(openBraceToken, createNodeList(whileStatements),
@@ -753,13 +957,13 @@ public class IntermediateClientGenerator {
     private static StatementNode getIsActiveCheck() {
         //        lock {
         //            if !self.isActive {
-        //                break;
+        //                return;
         //            }
         //        }
         NodeList<StatementNode> ifIsActiveNode = createNodeList(createIfElseStatementNode(createToken(IF_KEYWORD),
                 createSimpleNameReferenceNode(createIdentifierToken(NOT + SELF + DOT + IS_ACTIVE)),
-                createBlockStatementNode(openBraceToken, createNodeList(createBreakStatementNode(
-                        createToken(BREAK_KEYWORD), semicolonToken)), closeBraceToken), null));
+                createBlockStatementNode(openBraceToken, createNodeList(createReturnStatementNode(
+                        createToken(RETURN_KEYWORD), null, semicolonToken)), closeBraceToken), null));
         return createLockStatementNode(createToken(LOCK_KEYWORD),
                 createBlockStatementNode(openBraceToken, ifIsActiveNode, closeBraceToken), null);
     }
@@ -770,6 +974,11 @@ public class IntermediateClientGenerator {
         //            if (requestMessage.message() == "Operation has timed out") {
         //                continue;
         //            }
+        //            lock {
+        //                if !self.isActive {
+        //                    return;
+        //                }
+        //            }
         //            log:printError("[writeMessage]PipeError: " + requestMessage.message());
         //            self.attemptToCloseConnection();
         //            return;
@@ -788,6 +997,8 @@ public class IntermediateClientGenerator {
                     null);
             ifStatements.add(ifTimeOutErrorNode);
         }
+        // The pipes are closed when the connection is closed, which is not an error
+        ifStatements.add(getIsActiveCheck());
 
         StatementNode logPrintError = NodeParser.parseStatement(String.format(LOG_PRINT_ERR,
                 String.format(errorMessageTemplate, errVar)));
@@ -805,12 +1016,27 @@ public class IntermediateClientGenerator {
     }
 
     private static IfElseStatementNode getIsWsError(String errMessageTemplate, String errVar) {
+        return getIsWsError(errMessageTemplate, errVar, null);
+    }
+
+    private static IfElseStatementNode getIsWsError(String errMessageTemplate, String errVar,
+                                                    StatementNode recoveryStatement) {
         //        if err is websocket:Error {
+        //            lock {
+        //                if !self.isActive {
+        //                    return;
+        //                }
+        //            }
         //            log:printError("[writeMessage]WsError: " + err.message());
         //            self.attemptToCloseConnection();
         //            return;
         //        }
         ArrayList<StatementNode> ifStatements = new ArrayList<>();
+        // The client endpoint is closed when the connection is closed, which is not an error
+        ifStatements.add(getIsActiveCheck());
+        if (recoveryStatement != null) {
+            ifStatements.add(recoveryStatement);
+        }
 
         StatementNode logPrintError = NodeParser.parseStatement(String.format(LOG_PRINT_ERR,
                 String.format(errMessageTemplate, errVar)));
@@ -886,8 +1112,17 @@ public class IntermediateClientGenerator {
             assignmentNodes.add(ballerinaAuthConfigGenerator.handleInitForMixOfApiKeyAndHTTPOrOAuth());
         }
 
-        // self.pipes =new ();
+        // self.pipes = new (pipeConfig, {"subscribe": 5000});
         List<Node> pipesArgumentsList = new ArrayList<>();
+        pipesArgumentsList.add(createPositionalArgumentNode(createSimpleNameReferenceNode(
+                createIdentifierToken(PIPE_CONFIG_VAR))));
+        if (!pipeCapacities.isEmpty()) {
+            String defaultCapacities = pipeCapacities.entrySet().stream()
+                    .map(capacity -> "\"" + capacity.getKey() + "\": " + capacity.getValue())
+                    .collect(Collectors.joining(", ", "{", "}"));
+            pipesArgumentsList.add(createToken(COMMA_TOKEN));
+            pipesArgumentsList.add(createPositionalArgumentNode(NodeParser.parseExpression(defaultCapacities)));
+        }
         SeparatedNodeList<FunctionArgumentNode> pipesArguments = createSeparatedNodeList(pipesArgumentsList);
         ParenthesizedArgList pipesParenthesizedArgList = createParenthesizedArgList(openParenToken, pipesArguments,
                 closeParenToken);
@@ -900,6 +1135,10 @@ public class IntermediateClientGenerator {
         AssignmentStatementNode selfPipesAssignmentStatementNode = createAssignmentStatementNode(selfPipes, equalToken,
                 pipesExpressionNode, semicolonToken);
         assignmentNodes.add(selfPipesAssignmentStatementNode);
+        if (responseSlotsPresent) {
+            // self.responseSlots = new ();
+            assignmentNodes.add(NodeParser.parseStatement(RESPONSE_SLOTS_ASSIGNMENT));
+        }
 
         //TODO: use this as conditionally checking
         // create {@code self.streamGenerators =new ();} assignment node
@@ -920,12 +1159,14 @@ public class IntermediateClientGenerator {
             assignmentNodes.add(selfStreamGeneratorsAssignmentStatementNode);
         }
 
-        // self.writeMessageQueue = new (1000);
+        // self.writeMessageQueue = new (pipeConfig.writeQueueCapacity);
         List<Node> argumentsList = new ArrayList<>();
         FieldAccessExpressionNode selfWriteMessageQueues = createFieldAccessExpressionNode(
                 createSimpleNameReferenceNode(createIdentifierToken(SELF)), dotToken,
                 createSimpleNameReferenceNode(createIdentifierToken(WRITE_MESSAGE_QUEUE)));
-        argumentsList.add(createIdentifierToken(QUEUE_DEFAULT_SIZE));
+        argumentsList.add(createPositionalArgumentNode(createFieldAccessExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(PIPE_CONFIG_VAR)), dotToken,
+                createSimpleNameReferenceNode(createIdentifierToken(WRITE_QUEUE_CAPACITY)))));
         SeparatedNodeList<FunctionArgumentNode> arguments = createSeparatedNodeList(argumentsList);
         ParenthesizedArgList parenthesizedArgList = createParenthesizedArgList(openParenToken, arguments,
                 closeParenToken);
@@ -935,6 +1176,18 @@ public class IntermediateClientGenerator {
         AssignmentStatementNode selfWriteQueueAssignmentStatementNode = createAssignmentStatementNode(
                 selfWriteMessageQueues, equalToken, expressionNode, semicolonToken);
         assignmentNodes.add(selfWriteQueueAssignmentStatementNode);
+        if (writeBatching) {
+            // self.writeBatchConfig = writeBatchConfig.cloneReadOnly();
+            assignmentNodes.add(NodeParser.parseStatement(WRITE_BATCH_CONFIG_ASSIGNMENT));
+        }
+        if (autoReconnect) {
+            // self.reconnectConfig = reconnectConfig.cloneReadOnly();
+            assignmentNodes.add(NodeParser.parseStatement(RECONNECT_CONFIG_ASSIGNMENT));
+            if (isStreamPresent) {
+                // self.subscriptions = new ();
+                assignmentNodes.add(NodeParser.parseStatement(SUBSCRIPTIONS_ASSIGNMENT));
+            }
+        }
 
         List<String> channelList = asyncApi.getChannels().getItemNames();
         if (channelList.size() != 1) {
@@ -950,9 +1203,9 @@ public class IntermediateClientGenerator {
             } else {
                 handleParameterSchemaInOperation(querySchema, headerSchema, assignmentNodes, true);
             }
-            assignmentNodes.add(ballerinaAuthConfigGenerator.getClientInitializationNode(MODIFIED_URL));
+            addClientInitializationNodes(MODIFIED_URL, headerSchema, assignmentNodes);
         } else {
-            assignmentNodes.add(ballerinaAuthConfigGenerator.getClientInitializationNode(SERVICE_URL));
+            addClientInitializationNodes(SERVICE_URL, headerSchema, assignmentNodes);
         }
 
         // self.clientEp = websocketEp
@@ -1004,6 +1257,23 @@ public class IntermediateClientGenerator {
         return createFunctionBodyBlockNode(openBraceToken, null, statementList, closeBraceToken, null);
     }
 
+    private void addClientInitializationNodes(String url, AsyncApi25SchemaImpl headerSchema,
+                                              List<StatementNode> assignmentNodes) {
+        if (!autoReconnect) {
+            assignmentNodes.add(ballerinaAuthConfigGenerator.getClientInitializationNode(url));
+            return;
+        }
+        // The URL and the connection configurations are kept to open a new connection when the client reconnects
+        // self.serviceUrl = modifiedUrl;
+        // self.clientConfig = clientConfig;
+        // websocket:Client websocketEp = check new (modifiedUrl, self.clientConfig);
+        assignmentNodes.add(NodeParser.parseStatement(String.format(SERVICE_URL_ASSIGNMENT, url)));
+        if (headerSchema.getProperties() == null) {
+            assignmentNodes.add(NodeParser.parseStatement(CLIENT_CONFIG_ASSIGNMENT));
+        }
+        assignmentNodes.add(ballerinaAuthConfigGenerator.getClientInitializationNode(url, SELF_CLIENT_CONFIG));
+    }
+
     private void addInitsOfWhileLoopBreaksNodes(String initName, List<StatementNode> assignmentNodes,
                                                 String booleanValue) {
         SimpleNameReferenceNode selfIsMessageWritingValue = createSimpleNameReferenceNode(createIdentifierToken(
@@ -1047,8 +1317,16 @@ public class IntermediateClientGenerator {
             statementsList.add(getMapForParameters(headerSchema, MAP_STRING, HEADER_PARAM));
             statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(
                     MAP_STRING + SPACE + CUSTOM_HEADERS + EQUAL_SPACE + GET_COMBINE_HEADERS));
-            statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(CLIENT_CONFIG_CUSTOM_HEADERS +
-                    EQUAL_SPACE + CUSTOM_HEADERS));
+            if (autoReconnect) {
+                // The connection configurations are read-only, so the headers are set on a copy of them
+                // var {customHeaders: _, ...connectionConfig} = clientConfig;
+                // self.clientConfig = {...connectionConfig, customHeaders: customHeaders.cloneReadOnly()};
+                statementsList.add(NodeParser.parseStatement(CLIENT_CONFIG_WITHOUT_CUSTOM_HEADERS));
+                statementsList.add(NodeParser.parseStatement(CLIENT_CONFIG_WITH_CUSTOM_HEADERS_ASSIGNMENT));
+            } else {
+                statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(CLIENT_CONFIG_CUSTOM_HEADERS +
+                        EQUAL_SPACE + CUSTOM_HEADERS));
+            }
             utilGenerator.setHeadersFound(true);
         }
     }
@@ -1162,6 +1440,31 @@ public class IntermediateClientGenerator {
         ballerinaAuthConfigGenerator.setFunctionParameters(channelItem, parameters, createToken(COMMA_TOKEN),
                 querySchema, headerSchema);
         ballerinaAuthConfigGenerator.getConfigParamForClassInit(serverURL, parameters);
+        // PipeConfig pipeConfig = {}
+        DefaultableParameterNode pipeConfig = createDefaultableParameterNode(createEmptyNodeList(),
+                createBuiltinSimpleNameReferenceNode(null, createIdentifierToken(PIPE_CONFIG)),
+                createIdentifierToken(PIPE_CONFIG_VAR), equalToken,
+                createBasicLiteralNode(null, createIdentifierToken(" {}")));
+        parameters.add(createToken(COMMA_TOKEN));
+        parameters.add(pipeConfig);
+        if (writeBatching) {
+            // WriteBatchConfig writeBatchConfig = {}
+            DefaultableParameterNode writeBatchConfig = createDefaultableParameterNode(createEmptyNodeList(),
+                    createBuiltinSimpleNameReferenceNode(null, createIdentifierToken(WRITE_BATCH_CONFIG)),
+                    createIdentifierToken(WRITE_BATCH_CONFIG_VAR), equalToken,
+                    createBasicLiteralNode(null, createIdentifierToken(" {}")));
+            parameters.add(createToken(COMMA_TOKEN));
+            parameters.add(writeBatchConfig);
+        }
+        if (autoReconnect) {
+            // ReconnectConfig reconnectConfig = {}
+            DefaultableParameterNode reconnectConfig = createDefaultableParameterNode(createEmptyNodeList(),
+                    createBuiltinSimpleNameReferenceNode(null, createIdentifierToken(RECONNECT_CONFIG)),
+                    createIdentifierToken(RECONNECT_CONFIG_VAR), equalToken,
+                    createBasicLiteralNode(null, createIdentifierToken(" {}")));
+            parameters.add(createToken(COMMA_TOKEN));
+            parameters.add(reconnectConfig);
+        }
         SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(parameters);
         //error?
         OptionalTypeDescriptorNode returnType = createOptionalTypeDescriptorNode(createToken(ERROR_KEYWORD),
@@ -1200,11 +1503,24 @@ public class IntermediateClientGenerator {
         }
         // Create method description
         MarkdownParameterDocumentationLineNode clientConfig = DocCommentsGenerator.createAPIParamDoc(CONFIG,
-                CONFIG_DESCRIPTION);
+                autoReconnect ? READONLY_CONFIG_DESCRIPTION : CONFIG_DESCRIPTION);
         docs.add(clientConfig);
         MarkdownParameterDocumentationLineNode serviceUrlAPI = DocCommentsGenerator.createAPIParamDoc(SERVICE_URL,
                 SERVICE_URL_DESCRIPTION);
         docs.add(serviceUrlAPI);
+        MarkdownParameterDocumentationLineNode pipeConfigAPI = DocCommentsGenerator.createAPIParamDoc(
+                PIPE_CONFIG_VAR, PIPE_CONFIG_DESCRIPTION);
+        docs.add(pipeConfigAPI);
+        if (writeBatching) {
+            MarkdownParameterDocumentationLineNode writeBatchConfigAPI = DocCommentsGenerator.createAPIParamDoc(
+                    WRITE_BATCH_CONFIG_VAR, WRITE_BATCH_CONFIG_DESCRIPTION);
+            docs.add(writeBatchConfigAPI);
+        }
+        if (autoReconnect) {
+            MarkdownParameterDocumentationLineNode reconnectConfigAPI = DocCommentsGenerator.createAPIParamDoc(
+                    RECONNECT_CONFIG_VAR, RECONNECT_CONFIG_DESCRIPTION);
+            docs.add(reconnectConfigAPI);
+        }
         MarkdownParameterDocumentationLineNode returnDoc = DocCommentsGenerator.createAPIParamDoc(RETURN,
                 RETURN_DESCRIPTION);
         docs.add(returnDoc);
@@ -1273,8 +1589,9 @@ public class IntermediateClientGenerator {
         QualifiedNameReferenceNode websocketType = createQualifiedNameReferenceNode(createIdentifierToken(WEBSOCKET),
                 colonToken, createIdentifierToken(CLIENT_CLASS_NAME));
 
-        ObjectFieldNode websocketClientField = getObjectFieldNode(qualifiersWithPrivateAndFinal, websocketType,
-                CLIENT_EP);
+        // The client endpoint of a reconnecting client is replaced by the endpoint of the new connection
+        ObjectFieldNode websocketClientField = getObjectFieldNode(autoReconnect ? qualifiersWithOnlyPrivate :
+                qualifiersWithPrivateAndFinal, websocketType, CLIENT_EP);
 
         fieldNodeList.add(websocketClientField);
 
@@ -1292,6 +1609,39 @@ public class IntermediateClientGenerator {
         ObjectFieldNode pipesField = getObjectFieldNode(qualifiersWithPrivateAndFinal, pipesType, PIPES);
         fieldNodeList.add(pipesField);
 
+        if (responseSlotsPresent) {
+            //private final ResponseSlots responseSlots;
+            ObjectFieldNode responseSlotsField = getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                    createSimpleNameReferenceNode(createIdentifierToken(RESPONSE_SLOTS)), RESPONSE_SLOTS_VAR);
+            fieldNodeList.add(responseSlotsField);
+        }
+
+        if (writeBatching) {
+            //private final readonly & WriteBatchConfig writeBatchConfig;
+            ObjectFieldNode writeBatchConfigField = getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                    NodeParser.parseTypeDescriptor(READONLY_WRITE_BATCH_CONFIG), WRITE_BATCH_CONFIG_VAR);
+            fieldNodeList.add(writeBatchConfigField);
+        }
+
+        if (autoReconnect) {
+            //private final string serviceUrl;
+            fieldNodeList.add(getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                    createSimpleNameReferenceNode(createIdentifierToken(STRING)), SERVICE_URL));
+            //private final readonly & websocket:ClientConfiguration clientConfig;
+            fieldNodeList.add(getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                    NodeParser.parseTypeDescriptor(READONLY_CONNECTION_CONFIG), CLIENT_CONFIG));
+            //private final readonly & ReconnectConfig reconnectConfig;
+            fieldNodeList.add(getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                    NodeParser.parseTypeDescriptor(READONLY_RECONNECT_CONFIG), RECONNECT_CONFIG_VAR));
+            //private final pipe:Pipe reconnectSignal = new (1);
+            fieldNodeList.add((ObjectFieldNode) NodeParser.parseObjectMember(RECONNECT_SIGNAL_FIELD));
+            if (isStreamPresent) {
+                //private final Subscriptions subscriptions;
+                fieldNodeList.add(getObjectFieldNode(qualifiersWithPrivateAndFinal,
+                        createSimpleNameReferenceNode(createIdentifierToken(SUBSCRIPTIONS)), SUBSCRIPTIONS_VAR));
+            }
+        }
+
         if (isStreamPresent) {
             //private final StreamGeneratorsMap streamGenerators;
             SimpleNameReferenceNode streamGeneratorsType =
@@ -1371,6 +1721,18 @@ public class IntermediateClientGenerator {
         }
         //Set util generator with stream return classes
         setUtilGenerator(new UtilGenerator(streamReturns));
+        if (writeBatching) {
+            utilGenerator.setWriteBatchingEnabled(true);
+        }
+        if (nativePipes) {
+            utilGenerator.setNativePipesEnabled(true);
+        }
+        if (responseSlotsPresent) {
+            utilGenerator.setResponseSlotsEnabled(true);
+        }
+        if (autoReconnect) {
+            utilGenerator.setAutoReconnectEnabled(true);
+        }
         if (asyncApi.getChannels().getItems().get(0).getSubscribe() != null) {
             List<AsyncApiMessage> subscribeMessages = null;
             if (asyncApi.getChannels().getItems().get(0).getSubscribe().getMessage().getOneOf() != null) {
@@ -1458,6 +1820,24 @@ public class IntermediateClientGenerator {
         return isCloseFrameSchema(refSchema);
     }
 
+    /**
+     * Records the pipe capacity given to a message with the {@code x-ballerina-pipe-capacity} extension, so that
+     * the pipe of the message is created with it unless the client user overrides it.
+     */
+    private void setPipeCapacity(String messageName, String pipeName, AsyncApi25MessageImpl message)
+            throws BallerinaAsyncApiExceptionWs {
+        Map<String, JsonNode> extensions = message.getExtensions();
+        if (extensions == null || extensions.get(X_BALLERINA_PIPE_CAPACITY) == null) {
+            return;
+        }
+        JsonNode capacity = extensions.get(X_BALLERINA_PIPE_CAPACITY);
+        if (!capacity.isInt() || capacity.asInt() < 1) {
+            throw new BallerinaAsyncApiExceptionWs(String.format(X_BALLERINA_PIPE_CAPACITY_MUST_BE_POSITIVE,
+                    messageName));
+        }
+        pipeCapacities.put(pipeName, capacity.asInt());
+    }
+
     private List<AsyncApiMessage> getAsyncApiMessages() {
         List<AsyncApiMessage> publishMessages = new ArrayList<>();
         if (asyncApi.getChannels().getItems().get(0).getPublish().getMessage().getOneOf() != null) {
@@ -1501,6 +1881,11 @@ public class IntermediateClientGenerator {
         ExpressionStatementNode removePipesNode = getCloseLockStatementNode(PIPES, REMOVE_PIPES, dotToken);
         lockStatements.add(removePipesNode);
 
+        if (responseSlotsPresent) {
+            //check self.responseSlots.removeSlots();
+            lockStatements.add(getCloseLockStatementNode(RESPONSE_SLOTS_VAR, REMOVE_SLOTS, dotToken));
+        }
+
         //TODO: conditionally check this one
         if (streamsPresent) {
             ExpressionStatementNode removeStreamGeneratorsNode = getCloseLockStatementNode(STREAM_GENERATORS,
@@ -1508,6 +1893,11 @@ public class IntermediateClientGenerator {
             lockStatements.add(removeStreamGeneratorsNode);
         }
 
+        if (autoReconnect) {
+            //check self.reconnectSignal.immediateClose();
+            lockStatements.add(getCloseLockStatementNode(RECONNECT_SIGNAL, IMMEDIATE_CLOSE, dotToken));
+        }
+
         ExpressionStatementNode clientCloseNode = getCloseLockStatementNode(CLIENT_EP, CLOSE, rightArrowToken);
         lockStatements.add(clientCloseNode);
 
@@ -1610,6 +2000,9 @@ public class IntermediateClientGenerator {
         String functionNameString = REMOTE_METHOD_NAME_PREFIX + getValidName(messageName, true);
         RemoteFunctionBodyGenerator remoteFunctionBodyGenerator = new RemoteFunctionBodyGenerator(imports,
                 functionNameString);
+        if (autoReconnect) {
+            remoteFunctionBodyGenerator.setAutoReconnectEnabled(true);
+        }
         boolean schemaDispatcherStreamIdContains = false;
         if (messageValue.getPayload() != null) {
             JsonNode jsonNode = messageValue.getPayload();
@@ -1638,8 +2031,16 @@ public class IntermediateClientGenerator {
         }
 
         String requestTypeCamelCaseName = Character.toLowerCase(messageName.charAt(0)) + messageName.substring(1);
+        if (!Objects.isNull(specDispatcherStreamId)) {
+            streamIdExpressions.put(functionNameString,
+                    requestTypeCamelCaseName + "." + escapeIdentifier(specDispatcherStreamId));
+        }
+        setPipeCapacity(messageName, requestTypeCamelCaseName, messageValue);
         FunctionBodyNode functionBodyNode = remoteFunctionBodyGenerator.getFunctionBodyNode(extensions,
                 requestTypeCamelCaseName, specDispatcherStreamId, isSubscribe, responseType);
+        if (remoteFunctionBodyGenerator.isResponseSlotReserved()) {
+            this.responseSlotsPresent = true;
+        }
 
         // Add types to response map
         if (Objects.nonNull(responseType)) {
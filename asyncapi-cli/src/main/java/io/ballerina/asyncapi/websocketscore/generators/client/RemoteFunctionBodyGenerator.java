@@ -45,7 +45,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ANY_DATA;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.ATTEMPT_CON_CLOSE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLONE_READ_ONLY;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLONE_WITH_TYPE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_CLOSED_MESSAGE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONSUME;
@@ -71,11 +73,19 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ERR_T
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PRODUCE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PRODUCING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_MESSAGE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_MESSAGE_NARROWING;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOT_DISCARD_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOT_RELEASE_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOT_RESERVE_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RETURN;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF_PIPES_GET_PIPE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF_PIPES_CONSUME;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATOR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATOR_CAPITAL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SUBSCRIPTIONS_ADD_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SUBSCRIPTIONS_REMOVE_STATEMENT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SUBSCRIPTIONS_VAR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TIMEOUT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WITHIN_PAREN_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_MESSAGE_QUEUE;
@@ -135,6 +145,8 @@ public class RemoteFunctionBodyGenerator {
 
     private final List<ImportDeclarationNode> imports;
     private final String functionName;
+    private boolean responseSlotReserved = false;
+    private boolean autoReconnectEnabled = false;
     private static final Token openParenToken = createToken(OPEN_PAREN_TOKEN);
     private static final Token closeParenToken = createToken(CLOSE_PAREN_TOKEN);
     private static final Token openBraceToken = createToken(OPEN_BRACE_TOKEN);
@@ -148,26 +160,46 @@ public class RemoteFunctionBodyGenerator {
         this.functionName = functionName;
     }
 
+    /**
+     * Checks whether the generated function body waits for its response on a slot of the `ResponseSlots`.
+     *
+     * @return - `true` if a response slot is reserved by the function body
+     */
+    public boolean isResponseSlotReserved() {
+        return responseSlotReserved;
+    }
+
+    /**
+     * Set `autoReconnectEnabled` flag to `true` when the client reconnects once its connection is lost.
+     *
+     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
+     */
+    public void setAutoReconnectEnabled(boolean flag) {
+        this.autoReconnectEnabled = flag;
+    }
+
     private void addProduceStatementForWriteMessageQueue(List<StatementNode> statementsList, String requestType,
-                                                         boolean isSubscribe) {
+                                                         boolean isSubscribe, List<StatementNode> errorStatements) {
         if (!isSubscribe) {
-            SimpleNameReferenceNode requestTypeNameNode =
-                    createSimpleNameReferenceNode(createIdentifierToken(requestType));
-            VariableDeclarationNode messageVariableDeclarationNode =
-                    createVariableDeclarationNode(createEmptyNodeList(), null,
-                            createTypedBindingPatternNode(NodeParser.parseTypeDescriptor(MESSAGE + PIPE + ERROR),
-                                    createCaptureBindingPatternNode(createIdentifierToken(MESSAGE_VAR_NAME))),
-                            equalToken, createMethodCallExpressionNode(requestTypeNameNode, dotToken,
-                                    createSimpleNameReferenceNode(createIdentifierToken(CLONE_WITH_TYPE)),
-                                    openParenToken, createSeparatedNodeList(), closeParenToken), semicolonToken);
-            // Message|error message = subscribe.cloneWithType();
-            statementsList.add(messageVariableDeclarationNode);
-            statementsList.add(getCloningMessageError(MESSAGE_VAR_NAME));
-            statementsList.addAll(getProduceToWriteMessageQueueVar());
+            statementsList.add(getReadOnlyMessageDeclaration(requestType));
+            statementsList.addAll(getProduceToWriteMessageQueueVar(errorStatements));
         }
     }
 
-    private List<StatementNode> getProduceToWriteMessageQueueVar() {
+    private VariableDeclarationNode getReadOnlyMessageDeclaration(String requestType) {
+        // Message message = subscribe.cloneReadOnly();
+        // A request type always has the dispatcher key as a required string field, so its read-only clone is a
+        // `Message`. Unlike `cloneWithType`, this cannot fail and does not copy a request which is already immutable.
+        SimpleNameReferenceNode requestTypeNameNode = createSimpleNameReferenceNode(createIdentifierToken(requestType));
+        return createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(createSimpleNameReferenceNode(createIdentifierToken(MESSAGE)),
+                        createCaptureBindingPatternNode(createIdentifierToken(MESSAGE_VAR_NAME))),
+                equalToken, createMethodCallExpressionNode(requestTypeNameNode, dotToken,
+                        createSimpleNameReferenceNode(createIdentifierToken(CLONE_READ_ONLY)),
+                        openParenToken, createSeparatedNodeList(), closeParenToken), semicolonToken);
+    }
+
+    private List<StatementNode> getProduceToWriteMessageQueueVar(List<StatementNode> errorStatements) {
         // pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         List<StatementNode> statements = new ArrayList<>();
         List<Node> arguments = new ArrayList<>();
@@ -186,7 +218,14 @@ public class RemoteFunctionBodyGenerator {
                         createToken(QUESTION_MARK_TOKEN)), createFieldBindingPatternVarnameNode(
                                 createSimpleNameReferenceNode(createIdentifierToken(PIPE_ERR)))), equalToken,
                 callGlobalQueueProduce, semicolonToken));
-        statements.add(getPipeError(PIPE_ERR, PRODUCING));
+        if (autoReconnectEnabled) {
+            // The write queue fills up while the client reconnects, which does not close the connection
+            statements.add(getPipeError(PIPE_ERR, PRODUCING, errorStatements));
+        } else {
+            List<StatementNode> closingStatements = new ArrayList<>(errorStatements);
+            closingStatements.add(ATTEMPT_CON_CLOSE);
+            statements.add(getPipeError(PIPE_ERR, PRODUCING, closingStatements));
+        }
         return statements;
     }
 
@@ -204,15 +243,20 @@ public class RemoteFunctionBodyGenerator {
     }
 
     private StatementNode getPipeError(String errVar, String activity) {
+        return getPipeError(errVar, activity, List.of(ATTEMPT_CON_CLOSE));
+    }
+
+    private StatementNode getPipeError(String errVar, String activity, List<StatementNode> errorStatements) {
+        List<StatementNode> statements = new ArrayList<>(errorStatements);
+        statements.add(createReturnStatementNode(createToken(RETURN_KEYWORD),
+                createErrorConstructorExpressionNode(createToken(ERROR_KEYWORD), null,
+                        openParenToken, createSeparatedNodeList(createIdentifierToken(String.format(
+                                PIPE_ERR_TEMPLATE, activity)), createToken(COMMA_TOKEN),
+                                createIdentifierToken(errVar)),
+                        closeParenToken), semicolonToken));
         return createIfElseStatementNode(createToken(IF_KEYWORD),
                 NodeParser.parseExpression(errVar + IS + PIPE_ERROR_NODE),
-                createBlockStatementNode(openBraceToken,
-                        createNodeList(ATTEMPT_CON_CLOSE, createReturnStatementNode(createToken(RETURN_KEYWORD),
-                                createErrorConstructorExpressionNode(createToken(ERROR_KEYWORD), null,
-                                        openParenToken, createSeparatedNodeList(createIdentifierToken(String.format(
-                                                PIPE_ERR_TEMPLATE, activity)), createToken(COMMA_TOKEN),
-                                                createIdentifierToken(errVar)),
-                                        closeParenToken), semicolonToken)), closeBraceToken), null);
+                createBlockStatementNode(openBraceToken, createNodeList(statements), closeBraceToken), null);
     }
 
     public List<ImportDeclarationNode> getImports() {
@@ -269,7 +313,18 @@ public class RemoteFunctionBodyGenerator {
         //        self.pipes.addPipe(id, subscribeMessagePipe);
         //        Message message = check subscribeMessage.cloneWithType();
         //        check self.writeMessageQueue.produce(message, timeout);
-        addProduceStatementForWriteMessageQueue(statementsList, requestType, isSubscribe);
+        if (autoReconnectEnabled && !isSubscribe) {
+            // The stream is subscribed before its message is queued, so that a reconnection which happens before
+            // the message is written also subscribes the stream again
+            // self.subscriptions.add(subscribe.id, message);
+            String removeSubscription = String.format(SUBSCRIPTIONS_REMOVE_STATEMENT, pipeId);
+            statementsList.add(getReadOnlyMessageDeclaration(requestType));
+            statementsList.add(NodeParser.parseStatement(String.format(SUBSCRIPTIONS_ADD_STATEMENT, pipeId)));
+            statementsList.addAll(getProduceToWriteMessageQueueVar(List.of(
+                    NodeParser.parseStatement(removeSubscription))));
+        } else {
+            addProduceStatementForWriteMessageQueue(statementsList, requestType, isSubscribe, List.of());
+        }
 
         SimpleNameReferenceNode responseNameNode = createSimpleNameReferenceNode(createIdentifierToken(
                 responseType + ",error?"));
@@ -290,7 +345,7 @@ public class RemoteFunctionBodyGenerator {
         statementsList.add(streamMessages);
 
         //  lock {
-        //     StreamGenerator streamGenerator = check new (subscribeMessagePipe, timeout);
+        //     StreamGenerator streamGenerator = new (self.pipes, subscribeMessage.id);
         //     self.streamGenerators.addStreamGenerator(streamGenerator);
         //     streamMessages = new (streamGenerator);
         //  }
@@ -301,9 +356,12 @@ public class RemoteFunctionBodyGenerator {
         streamGeneratorArguments.add(createPositionalArgumentNode(NodeParser.parseExpression(SELF + DOT + PIPES)));
         streamGeneratorArguments.add(createToken(COMMA_TOKEN));
         streamGeneratorArguments.add(createPositionalArgumentNode(NodeParser.parseExpression(pipeId)));
-        streamGeneratorArguments.add(createToken(COMMA_TOKEN));
-        streamGeneratorArguments.add(createPositionalArgumentNode(createSimpleNameReferenceNode(createIdentifierToken(
-                TIMEOUT))));
+        if (autoReconnectEnabled) {
+            // The stream generator removes the subscription of the stream once the stream is closed
+            streamGeneratorArguments.add(createToken(COMMA_TOKEN));
+            streamGeneratorArguments.add(createPositionalArgumentNode(NodeParser.parseExpression(
+                    SELF + DOT + SUBSCRIPTIONS_VAR)));
+        }
         ImplicitNewExpressionNode newExpressionNode = createImplicitNewExpressionNode(createToken(NEW_KEYWORD),
                         createParenthesizedArgList(openParenToken, createSeparatedNodeList(streamGeneratorArguments),
                                 closeParenToken));
@@ -362,24 +420,9 @@ public class RemoteFunctionBodyGenerator {
 
     private void createNoResponseFunctionBodyStatement(List<StatementNode> statementsList, String requestType) {
         // check self.writeMessageQueue.produce(tuple, timeout);
-
-        TypeDescriptorNode messageTypeNode = NodeParser.parseTypeDescriptor(MESSAGE + PIPE + ERROR);
-        SimpleNameReferenceNode messageVarNode = createSimpleNameReferenceNode(createIdentifierToken(MESSAGE_VAR_NAME));
-        SimpleNameReferenceNode requestTypePipeNode = createSimpleNameReferenceNode(createIdentifierToken(requestType));
-
         statementsList.add(getConnectionActiveCheck());
-
-        MethodCallExpressionNode cloneWithTypeNode = createMethodCallExpressionNode(
-                requestTypePipeNode, dotToken, createSimpleNameReferenceNode(createIdentifierToken(CLONE_WITH_TYPE)),
-                openParenToken, createSeparatedNodeList(), closeParenToken);
-
-        VariableDeclarationNode responseTypeCloneStatement = createVariableDeclarationNode(createEmptyNodeList(),
-                null, createTypedBindingPatternNode(messageTypeNode, createFieldBindingPatternVarnameNode(
-                        messageVarNode)), equalToken, cloneWithTypeNode, semicolonToken);
-
-        statementsList.add(responseTypeCloneStatement);
-        statementsList.add(getCloningMessageError(MESSAGE_VAR_NAME));
-        statementsList.addAll(getProduceToWriteMessageQueueVar());
+        statementsList.add(getReadOnlyMessageDeclaration(requestType));
+        statementsList.addAll(getProduceToWriteMessageQueueVar(List.of()));
     }
 
     /**
@@ -405,12 +448,28 @@ public class RemoteFunctionBodyGenerator {
             // TODO: Add this after generated-stream-id flag implementation
 //            statementsList.add(getStatementToGenerateUuid(requestType, dispatcherStreamId));
             pipeId = requestType + DOT + escapeIdentifier(dispatcherStreamId);
+            // A request which has a stream ID waits for its single response on a one-message slot, which is
+            // reserved before the request is written so that the response cannot arrive ahead of it
+            responseSlotReserved = !isSubscribe;
         }
 
-        addProduceStatementForWriteMessageQueue(statementsList, requestType, isSubscribe);
-
-        TypeDescriptorNode responseTypeName = NodeParser.parseTypeDescriptor(responseType + PIPE + ERROR);
-        TypeDescriptorNode consumeResponseType = NodeParser.parseTypeDescriptor(MESSAGE + PIPE + PIPE_ERROR_NODE);
+        List<StatementNode> produceErrorStatements = new ArrayList<>();
+        if (responseSlotReserved) {
+            // pipe:Pipe responseSlot = self.responseSlots.reserve(subscribe.id);
+            statementsList.add(NodeParser.parseStatement(String.format(RESPONSE_SLOT_RESERVE_STATEMENT, pipeId)));
+            // A request which was not queued gets no response, so its empty slot returns to the pool
+            // self.responseSlots.release(subscribe.id, responseSlot, true);
+            produceErrorStatements.add(NodeParser.parseStatement(String.format(RESPONSE_SLOT_DISCARD_STATEMENT,
+                    pipeId)));
+        }
+        addProduceStatementForWriteMessageQueue(statementsList, requestType, isSubscribe, produceErrorStatements);
+
+        String readOnlyResponseType = GeneratorUtils.getReadOnlyResponseType(responseType);
+        TypeDescriptorNode responseTypeName = NodeParser.parseTypeDescriptor(readOnlyResponseType + PIPE + ERROR);
+        // A response slot holds a `Message`, while a pipe of the pipes map may be replaced by a grown pipe, so its
+        // message is consumed through the pipes map
+        TypeDescriptorNode consumeResponseType = NodeParser.parseTypeDescriptor(
+                (responseSlotReserved ? MESSAGE : ANY_DATA) + PIPE + PIPE_ERROR_NODE);
         SimpleNameReferenceNode responseMessageVarNode = createSimpleNameReferenceNode(createIdentifierToken(
                 RESPONSE_MESSAGE));
         SimpleNameReferenceNode responseNameNode;
@@ -421,16 +480,22 @@ public class RemoteFunctionBodyGenerator {
                     responseTypeCamelCaseName + MESSAGE));
         }
 
+        String consumeExpression = responseSlotReserved ?
+                RESPONSE_SLOT + DOT + CONSUME + String.format(WITHIN_PAREN_TEMPLATE, TIMEOUT) :
+                String.format(SELF_PIPES_CONSUME, pipeId, TIMEOUT);
         VariableDeclarationNode callRelevantPipeConsumeVar = createVariableDeclarationNode(createEmptyNodeList(),
                 null, createTypedBindingPatternNode(consumeResponseType,
                         createFieldBindingPatternVarnameNode(responseMessageVarNode)), equalToken,
-                NodeParser.parseExpression(String.format(SELF_PIPES_GET_PIPE, pipeId) +
-                        DOT + CONSUME + String.format(WITHIN_PAREN_TEMPLATE, TIMEOUT)), semicolonToken);
-        // Message|pipe:Error responseMessage = tuplePipe.consume(timeout);
+                NodeParser.parseExpression(consumeExpression), semicolonToken);
+        // anydata|pipe:Error responseMessage = self.pipes.consume("tuple", timeout);
         statementsList.add(callRelevantPipeConsumeVar);
+        if (responseSlotReserved) {
+            // self.responseSlots.release(subscribe.id, responseSlot, responseMessage is Message);
+            statementsList.add(NodeParser.parseStatement(String.format(RESPONSE_SLOT_RELEASE_STATEMENT, pipeId)));
+        }
         statementsList.add(getPipeError(RESPONSE_MESSAGE, CONSUMING));
 
-        if (!Objects.isNull(dispatcherStreamId)) {
+        if (!Objects.isNull(dispatcherStreamId) && !responseSlotReserved) {
 //            error? pipeCloseErr = self.pipes.removePipe(chat.id);
 //            if pipeCloseErr is error {
 //                log:printDebug("[doChat]PipeError: Error in closing pipe");
@@ -443,7 +508,16 @@ public class RemoteFunctionBodyGenerator {
                             ERROR_PIPE_CLOSE, pipeCloseErr))), closeBraceToken), null));
         }
 
-        //PongMessage pongMessage = responseMessage.cloneWithType();
+        // The response message is immutable, so it is returned without a copy when its shape already belongs to
+        // the response type. Otherwise, it is converted to a read-only value of the response type, so that the
+        // remote function returns a read-only response either way.
+        // if responseMessage is readonly & PongMessage {
+        //     return responseMessage;
+        // }
+        statementsList.add(NodeParser.parseStatement(String.format(RESPONSE_MESSAGE_NARROWING,
+                readOnlyResponseType)));
+
+        //readonly & PongMessage|error pongMessage = responseMessage.cloneWithType();
         MethodCallExpressionNode cloneWithTypeMethodCallExpressionNode = createMethodCallExpressionNode(
                 responseMessageVarNode, dotToken, createSimpleNameReferenceNode(createIdentifierToken(CLONE_WITH_TYPE)),
                 openParenToken, createSeparatedNodeList(), closeParenToken);
@@ -133,6 +133,9 @@ public class RemoteFunctionSignatureGenerator {
                     streamReturns.add(returnType);
                 }
                 returnType = "stream<" + returnType + ",error?>";
+            } else {
+                // A response is returned without a copy when it already has the response type, so it is read-only
+                returnType = GeneratorUtils.getReadOnlyResponseType(returnType);
             }
             String finalReturnType = returnType + PIPE_TOKEN.stringValue() + ERROR;
             TextNode responseDescription = (TextNode) xResponse.get(DESCRIPTION);
@@ -69,23 +69,32 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.BALLERINA;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.BALLERINAX;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLOSE_STREAM_STATEMENT;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DECIMAL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CLOSE_STREAM_SUBSCRIPTION_STATEMENT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.DOT;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.INIT;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.IS;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.MESSAGE_VAR_NAME;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.NATIVE_HANDLER;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.NATIVE_UTILS_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.NEXT;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OPTIONAL_ERROR;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.OVERFLOW_POLICY;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPES;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPES_MAP;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_ID;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_METRICS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.PIPE_STORE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RECONNECT_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.RESPONSE_SLOTS;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SELF;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SEMICOLON;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SIMPLE_PIPE;
@@ -93,13 +102,18 @@ import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SPACE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATORS_MAP;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_GENERATOR_CAPITAL;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_NEXT_CONSUME_MESSAGE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_NEXT_PIPE_ERROR_CHECK;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_NEXT_RESPONSE_CLONE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STREAM_NEXT_RESPONSE_NARROWING;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.STRING;
-import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TIMEOUT;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SUBSCRIPTIONS;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.SUBSCRIPTIONS_VAR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TRUE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.TYPE_INCLUSION_GENERATOR;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.URL;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.UTILS_TEMPLATE;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WITHIN_BRACE_TEMPLATE;
+import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.WRITE_BATCH_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.XLIBB;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.XLIBB_PIPE;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -113,7 +127,6 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createClassDefinitio
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
@@ -131,12 +144,10 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.CONTINUE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FINAL_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.IF_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
@@ -166,6 +177,10 @@ public class UtilGenerator {
     private boolean headersFound = false;
     private boolean queryParamsFound = false;
     private boolean pathParametersFound = false;
+    private boolean writeBatchingEnabled = false;
+    private boolean nativePipesEnabled = false;
+    private boolean responseSlotsEnabled = false;
+    private boolean autoReconnectEnabled = false;
 
     public UtilGenerator(ArrayList<String> streamReturns) {
         this.streamReturns = streamReturns;
@@ -190,6 +205,42 @@ public class UtilGenerator {
         this.headersFound = flag;
     }
 
+    /**
+     * Set `writeBatchingEnabled` flag to `true` when the client writes the queued messages in batches.
+     *
+     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
+     */
+    public void setWriteBatchingEnabled(boolean flag) {
+        this.writeBatchingEnabled = flag;
+    }
+
+    /**
+     * Set `nativePipesEnabled` flag to `true` when the pipes are kept in the concurrent registry of the native handler.
+     *
+     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
+     */
+    public void setNativePipesEnabled(boolean flag) {
+        this.nativePipesEnabled = flag;
+    }
+
+    /**
+     * Set `responseSlotsEnabled` flag to `true` when a request waits for its single response on a response slot.
+     *
+     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
+     */
+    public void setResponseSlotsEnabled(boolean flag) {
+        this.responseSlotsEnabled = flag;
+    }
+
+    /**
+     * Set `autoReconnectEnabled` flag to `true` when the client reconnects once its connection is lost.
+     *
+     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
+     */
+    public void setAutoReconnectEnabled(boolean flag) {
+        this.autoReconnectEnabled = flag;
+    }
+
     /**
      * Set `pathParametersFound` flag to `true` when at least one path parameter found.
      *
@@ -208,9 +259,12 @@ public class UtilGenerator {
     public SyntaxTree generateUtilSyntaxTree() throws IOException {
         Set<String> functionNameList = new LinkedHashSet<>();
         List<ImportDeclarationNode> imports = new ArrayList<>();
-        functionNameList.add(PIPES_MAP);
+        functionNameList.addAll(Arrays.asList(OVERFLOW_POLICY, PIPE_CONFIG, PIPE_METRICS, PIPE_STORE, PIPES_MAP));
         ImportDeclarationNode importForXLibbPipe = GeneratorUtils.getImportDeclarationNode(XLIBB, XLIBB_PIPE);
         imports.add(importForXLibbPipe);
+        if (nativePipesEnabled) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(BALLERINAX, NATIVE_HANDLER));
+        }
         if (queryParamsFound) {
             functionNameList.addAll(Arrays.asList(GET_ENCODED_URI, GET_PATH_FOR_QUERY_PARAM));
         }
@@ -220,6 +274,15 @@ public class UtilGenerator {
         if (pathParametersFound) {
             functionNameList.add(GET_ENCODED_URI);
         }
+        if (writeBatchingEnabled) {
+            functionNameList.add(WRITE_BATCH_CONFIG);
+        }
+        if (responseSlotsEnabled) {
+            functionNameList.add(RESPONSE_SLOTS);
+        }
+        if (autoReconnectEnabled) {
+            functionNameList.add(RECONNECT_CONFIG);
+        }
 
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         getUtilTypeDeclarationNodes(memberDeclarationNodes);
@@ -230,29 +293,17 @@ public class UtilGenerator {
             }
             functionNameList.add(TYPE_INCLUSION_GENERATOR);
             functionNameList.add(STREAM_GENERATORS_MAP);
+            if (autoReconnectEnabled) {
+                functionNameList.add(SUBSCRIPTIONS);
+            }
         }
 
-        Path path = getResourceFilePath();
-
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = syntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        for (ModuleMemberDeclarationNode node : members) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION) || node.kind().equals(SyntaxKind.CLASS_DEFINITION)
-                    || node.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName") || childNodeEntry.name().equals
-                            ("className") || childNodeEntry.name().equals("typeName")) {
-                        if (functionNameList.contains(childNodeEntry.node().get().toString().trim())) {
-                            memberDeclarationNodes.add(node);
-                        }
-                        break;
-                    }
-                }
+        // The native template only overrides the pipe store and the stream generator map, in the main template order
+        Map<String, ModuleMemberDeclarationNode> nativeMembers = nativePipesEnabled ?
+                getTemplateMembers(NATIVE_UTILS_TEMPLATE) : Collections.emptyMap();
+        for (Map.Entry<String, ModuleMemberDeclarationNode> member : getTemplateMembers(UTILS_TEMPLATE).entrySet()) {
+            if (functionNameList.contains(member.getKey())) {
+                memberDeclarationNodes.add(nativeMembers.getOrDefault(member.getKey(), member.getValue()));
             }
         }
 
@@ -312,17 +363,15 @@ public class UtilGenerator {
         ObjectFieldNode pipeIdField = createObjectFieldNode(null, null, qualifierList,
                 stringType, pipeId, null, null, semicolonToken);
 
-        //private final decimal timeout;
-        SimpleNameReferenceNode decimalType = createSimpleNameReferenceNode(createIdentifierToken(DECIMAL));
-        IdentifierToken timeout = createIdentifierToken(TIMEOUT);
-
-        ObjectFieldNode timeoutField = createObjectFieldNode(null, null, qualifierList,
-                decimalType, timeout, null, null, semicolonToken);
-
         fieldNodeList.add(typeReferenceNode);
         fieldNodeList.add(pipesField);
         fieldNodeList.add(pipeIdField);
-        fieldNodeList.add(timeoutField);
+        if (autoReconnectEnabled) {
+            //private final Subscriptions subscriptions;
+            fieldNodeList.add(createObjectFieldNode(null, null, qualifierList,
+                    NodeParser.parseTypeDescriptor(SUBSCRIPTIONS), createIdentifierToken(SUBSCRIPTIONS_VAR), null,
+                    null, semicolonToken));
+        }
         return fieldNodeList;
     }
 
@@ -380,6 +429,10 @@ public class UtilGenerator {
 
     private FunctionBodyNode getCloseFunctionBodyNode() {
         List<StatementNode> assignmentNodes = new ArrayList<>();
+        if (autoReconnectEnabled) {
+            // A closed stream is not subscribed again when the client reconnects
+            assignmentNodes.add(NodeParser.parseStatement(CLOSE_STREAM_SUBSCRIPTION_STATEMENT));
+        }
         assignmentNodes.add(NodeParser.parseStatement(CLOSE_STREAM_STATEMENT));
         NodeList<StatementNode> statementList = createNodeList(assignmentNodes);
         return createFunctionBodyBlockNode(openBraceToken, null, statementList, closeBraceToken, null);
@@ -389,11 +442,12 @@ public class UtilGenerator {
 
         List<StatementNode> statements = new ArrayList<>();
         statements.add(NodeParser.parseStatement(STREAM_NEXT_CONSUME_MESSAGE));
-        statements.add(createIfElseStatementNode(createToken(IF_KEYWORD), NodeParser.parseExpression(
-                MESSAGE_VAR_NAME + IS + OPTIONAL_ERROR), createBlockStatementNode(openBraceToken,
-                createNodeList(NodeParser.parseStatement(CONTINUE_KEYWORD.stringValue() + SEMICOLON)),
-                closeBraceToken), null));
-        statements.add(NodeParser.parseStatement(String.format(STREAM_NEXT_RESPONSE_CLONE, returnType)));
+        statements.add(NodeParser.parseStatement(STREAM_NEXT_PIPE_ERROR_CHECK));
+        // The message is immutable, so it is returned without a copy when its shape belongs to the return type.
+        // Otherwise, it is converted to a read-only value, so that the stream gives read-only values either way.
+        statements.add(NodeParser.parseStatement(String.format(STREAM_NEXT_RESPONSE_NARROWING, returnType)));
+        statements.add(NodeParser.parseStatement(String.format(STREAM_NEXT_RESPONSE_CLONE,
+                GeneratorUtils.getReadOnlyResponseType(returnType))));
         statements.add(NodeParser.parseStatement(RETURN_KEYWORD.stringValue() + SPACE +
                 String.format(WITHIN_BRACE_TEMPLATE, "value: " + RESPONSE) + SEMICOLON));
         WhileStatementNode whileStatementNode = createWhileStatementNode(createToken(WHILE_KEYWORD),
@@ -421,9 +475,10 @@ public class UtilGenerator {
         MarkdownParameterDocumentationLineNode pipeNodeDocs = DocCommentsGenerator.createAPIParamDoc(
                 SIMPLE_PIPE, "Pipe to hold stream messages");
         docs.add(pipeNodeDocs);
-        MarkdownParameterDocumentationLineNode timeoutNodeDocs = DocCommentsGenerator.createAPIParamDoc(
-                TIMEOUT, "Waiting time");
-        docs.add(timeoutNodeDocs);
+        if (autoReconnectEnabled) {
+            docs.add(DocCommentsGenerator.createAPIParamDoc(SUBSCRIPTIONS_VAR,
+                    "Subscriptions of the client, from which the stream is removed once it is closed"));
+        }
         MarkdownDocumentationNode clientInitDoc = createMarkdownDocumentationNode(createNodeList(docs));
         return createMetadataNode(clientInitDoc, createEmptyNodeList());
     }
@@ -434,14 +489,16 @@ public class UtilGenerator {
                 createSimpleNameReferenceNode(createIdentifierToken(PIPES_MAP)), createIdentifierToken(PIPES));
         RequiredParameterNode pipeIdNode = createRequiredParameterNode(createNodeList(),
                 createSimpleNameReferenceNode(createIdentifierToken(STRING)), createIdentifierToken(PIPE_ID));
-        RequiredParameterNode decimalNode = createRequiredParameterNode(createNodeList(), createSimpleNameReferenceNode(
-                        createIdentifierToken(DECIMAL)), createIdentifierToken(TIMEOUT));
         List<Node> parameterList = new ArrayList<>();
         parameterList.add(pipeNode);
         parameterList.add(createToken(COMMA_TOKEN));
         parameterList.add(pipeIdNode);
-        parameterList.add(createToken(COMMA_TOKEN));
-        parameterList.add(decimalNode);
+        if (autoReconnectEnabled) {
+            parameterList.add(createToken(COMMA_TOKEN));
+            parameterList.add(createRequiredParameterNode(createNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(SUBSCRIPTIONS)),
+                    createIdentifierToken(SUBSCRIPTIONS_VAR)));
+        }
         SeparatedNodeList<ParameterNode> parameters = createSeparatedNodeList(parameterList);
         return createFunctionSignatureNode(openParenToken, parameters, closeParenToken, null);
     }
@@ -454,12 +511,13 @@ public class UtilGenerator {
         AssignmentStatementNode selfPipeId = createAssignmentStatementNode(createIdentifierToken(
                         SELF + DOT + PIPE_ID), createToken(EQUAL_TOKEN),
                 createSimpleNameReferenceNode(createIdentifierToken(PIPE_ID)), createToken(SEMICOLON_TOKEN));
-        AssignmentStatementNode selfTimeout = createAssignmentStatementNode(createIdentifierToken(SELF + DOT +
-                        TIMEOUT), createToken(EQUAL_TOKEN),
-                createSimpleNameReferenceNode(createIdentifierToken(TIMEOUT)), createToken(SEMICOLON_TOKEN));
         assignmentNodes.add(selfPipes);
         assignmentNodes.add(selfPipeId);
-        assignmentNodes.add(selfTimeout);
+        if (autoReconnectEnabled) {
+            assignmentNodes.add(createAssignmentStatementNode(createIdentifierToken(SELF + DOT + SUBSCRIPTIONS_VAR),
+                    createToken(EQUAL_TOKEN), createSimpleNameReferenceNode(createIdentifierToken(SUBSCRIPTIONS_VAR)),
+                    createToken(SEMICOLON_TOKEN)));
+        }
         NodeList<StatementNode> statementList = createNodeList(assignmentNodes);
         return createFunctionBodyBlockNode(openBraceToken, null, statementList, closeBraceToken, null);
     }
@@ -489,15 +547,49 @@ public class UtilGenerator {
     }
 
     /**
-     * Gets the path of the utils_asyncapi.bal template at the time of execution.
+     * Reads the functions, classes and types of a utils template, keyed by their names in the template order.
+     *
+     * @param templateName Resource path of the template
+     * @return Members of the template
+     * @throws IOException When failed to get the template from resources
+     */
+    private Map<String, ModuleMemberDeclarationNode> getTemplateMembers(String templateName) throws IOException {
+        Path path = getResourceFilePath(templateName);
+
+        Project project = ProjectLoader.loadProject(path);
+        Package currentPackage = project.currentPackage();
+        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
+        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
+
+        Map<String, ModuleMemberDeclarationNode> templateMembers = new LinkedHashMap<>();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+        for (ModuleMemberDeclarationNode node : members) {
+            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION) || node.kind().equals(SyntaxKind.CLASS_DEFINITION)
+                    || node.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
+                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
+                    if (childNodeEntry.name().equals("functionName") || childNodeEntry.name().equals
+                            ("className") || childNodeEntry.name().equals("typeName")) {
+                        templateMembers.put(childNodeEntry.node().get().toString().trim(), node);
+                        break;
+                    }
+                }
+            }
+        }
+        return templateMembers;
+    }
+
+    /**
+     * Gets the path of a utils template at the time of execution.
      *
-     * @return Path to utils_asyncapi.bal file in the temporary directory created
-     * @throws IOException When failed to get the templates/utils_asyncapi.bal file from resources
+     * @param templateName Resource path of the template
+     * @return Path to the template file in the temporary directory created
+     * @throws IOException When failed to get the template file from resources
      */
-    private Path getResourceFilePath() throws IOException {
+    private Path getResourceFilePath(String templateName) throws IOException {
         Path path = null;
         ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_asyncapi.bal");
+        InputStream inputStream = classLoader.getResourceAsStream(templateName);
         if (inputStream != null) {
             String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
             Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
@@ -26,10 +26,18 @@ import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
 public class AasClientConfig {
     private final AsyncApi25DocumentImpl asyncAPI;
     private final String license;
+    private final boolean writeBatching;
+    private final boolean nativePipes;
+    private final boolean autoReconnect;
+    private final boolean connectionPool;
 
     private AasClientConfig(Builder clientConfigBuilder) {
         this.asyncAPI = clientConfigBuilder.asyncAPI;
         this.license = clientConfigBuilder.license;
+        this.writeBatching = clientConfigBuilder.writeBatching;
+        this.nativePipes = clientConfigBuilder.nativePipes;
+        this.autoReconnect = clientConfigBuilder.autoReconnect;
+        this.connectionPool = clientConfigBuilder.connectionPool;
     }
 
     public AsyncApi25DocumentImpl getAsyncAPI() {
@@ -40,6 +48,22 @@ public class AasClientConfig {
         return license;
     }
 
+    public boolean isWriteBatching() {
+        return writeBatching;
+    }
+
+    public boolean isNativePipes() {
+        return nativePipes;
+    }
+
+    public boolean isAutoReconnect() {
+        return autoReconnect;
+    }
+
+    public boolean isConnectionPool() {
+        return connectionPool;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -47,6 +71,10 @@ public class AasClientConfig {
         private AsyncApi25DocumentImpl asyncAPI;
         private String license = "// AUTO-GENERATED FILE. DO NOT MODIFY.\n\n" +
                 "// This file is auto-generated by the Ballerina AsyncAPI tool.\n";
+        private boolean writeBatching = false;
+        private boolean nativePipes = false;
+        private boolean autoReconnect = false;
+        private boolean connectionPool = false;
 
         public Builder withAsyncApi(AsyncApi25DocumentImpl asyncAPI) {
             this.asyncAPI = asyncAPI;
@@ -58,6 +86,26 @@ public class AasClientConfig {
             return this;
         }
 
+        public Builder withWriteBatching(boolean writeBatching) {
+            this.writeBatching = writeBatching;
+            return this;
+        }
+
+        public Builder withNativePipes(boolean nativePipes) {
+            this.nativePipes = nativePipes;
+            return this;
+        }
+
+        public Builder withAutoReconnect(boolean autoReconnect) {
+            this.autoReconnect = autoReconnect;
+            return this;
+        }
+
+        public Builder withConnectionPool(boolean connectionPool) {
+            this.connectionPool = connectionPool;
+            return this;
+        }
+
         public AasClientConfig build() {
             return new AasClientConfig(this);
         }
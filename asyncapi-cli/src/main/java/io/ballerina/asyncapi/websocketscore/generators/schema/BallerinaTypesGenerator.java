@@ -54,6 +54,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.CONNECTION_CONFIG;
 import static io.ballerina.asyncapi.websocketscore.GeneratorConstants.HTTP;
@@ -69,6 +74,7 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeLi
  */
 public class BallerinaTypesGenerator {
 
+    private final GeneratorMetaData metaData;
     private final List<TypeDefinitionNode> typeDefinitionNodeList;
     private final Set<String> imports = new LinkedHashSet<>();
     private boolean hasConstraints;
@@ -82,7 +88,18 @@ public class BallerinaTypesGenerator {
      */
     public BallerinaTypesGenerator(AsyncApi25DocumentImpl asyncAPI,
                                    List<TypeDefinitionNode> typeDefinitionNodeList) {
-        GeneratorMetaData.createInstance(asyncAPI);
+        this(new GeneratorMetaData(asyncAPI), typeDefinitionNodeList);
+    }
+
+    /**
+     * This constructor is used when the types are generated as a part of a generation run which shares its
+     * metadata with the other generators of the run.
+     *
+     * @param metaData               metadata of the generation run
+     * @param typeDefinitionNodeList list of types generated by earlier generations
+     */
+    public BallerinaTypesGenerator(GeneratorMetaData metaData, List<TypeDefinitionNode> typeDefinitionNodeList) {
+        this.metaData = metaData;
         this.typeDefinitionNodeList = typeDefinitionNodeList;
         this.hasConstraints = false;
     }
@@ -102,18 +119,35 @@ public class BallerinaTypesGenerator {
     public TypeDefinitionNode getTypeDefinitionNode(AsyncApi25SchemaImpl schema, String typeName,
                                                     List<Node> schemaDocs)
             throws BallerinaAsyncApiExceptionWs {
+        return addGeneratedType(generateType(schema, typeName, schemaDocs));
+    }
+
+    /**
+     * Generates the type of a schema without touching the state of this generator, so that the types of different
+     * schemas can be generated concurrently.
+     */
+    private GeneratedType generateType(AsyncApi25SchemaImpl schema, String typeName, List<Node> schemaDocs)
+            throws BallerinaAsyncApiExceptionWs {
         IdentifierToken typeNameToken = AbstractNodeFactory.createIdentifierToken(GeneratorUtils.getValidName(
                 typeName.trim(), true));
         TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, GeneratorUtils.getValidName(
-                typeName.trim(), true), null);
+                typeName.trim(), true), null, metaData);
         List<AnnotationNode> typeAnnotations = new ArrayList<>();
         AnnotationNode constraintNode = TypeGeneratorUtils.generateConstraintNode(typeName, schema);
         if (constraintNode != null) {
             typeAnnotations.add(constraintNode);
         }
-        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema);
+        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, metaData);
         TypeDefinitionNode typeDefinitionNode =
                 typeGenerator.generateTypeDefinitionNode(typeNameToken, schemaDocs, typeAnnotations);
+        return new GeneratedType(typeDefinitionNode, typeGenerator);
+    }
+
+    /**
+     * Adds the nested types and the imports of a generated type to this generator.
+     */
+    private TypeDefinitionNode addGeneratedType(GeneratedType generatedType) {
+        TypeGenerator typeGenerator = generatedType.typeGenerator();
         if (typeGenerator instanceof ArrayTypeGenerator &&
                 !typeGenerator.getTypeDefinitionNodeList().isEmpty()) {
             typeDefinitionNodeList.addAll(typeGenerator.getTypeDefinitionNodeList());
@@ -128,7 +162,7 @@ public class BallerinaTypesGenerator {
             removeDuplicateNode(typeGenerator.getTypeDefinitionNodeList());
         }
         imports.addAll(typeGenerator.getImports());
-        return typeDefinitionNode;
+        return generatedType.typeDefinitionNode();
     }
 
     private void removeDuplicateNode(List<TypeDefinitionNode> newConstraintNode) {
@@ -147,7 +181,7 @@ public class BallerinaTypesGenerator {
     }
 
     public SyntaxTree generateSyntaxTree() throws BallerinaAsyncApiExceptionWs {
-        AsyncApi25DocumentImpl asyncAPI = GeneratorMetaData.getInstance().getAsyncAPI();
+        AsyncApi25DocumentImpl asyncAPI = metaData.getAsyncAPI();
         List<TypeDefinitionNode> typeDefinitionNodeListForSchema = new ArrayList<>();
         if (asyncAPI.getComponents() != null) {
             // Create typeDefinitionNode
@@ -155,6 +189,7 @@ public class BallerinaTypesGenerator {
             Map<String, Schema> schemas = components.getSchemas();
 
             if (schemas != null) {
+                List<Callable<GeneratedType>> generations = new ArrayList<>();
                 for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
                     String schemaKey = schema.getKey().trim();
                     if (!hasConstraints) {
@@ -164,11 +199,14 @@ public class BallerinaTypesGenerator {
                         continue; // Skip the close frame schema
                     }
                     if (GeneratorUtils.isValidSchemaName(schemaKey)) {
-                        List<Node> schemaDoc = new ArrayList<>();
-                        typeDefinitionNodeListForSchema.add(getTypeDefinitionNode(
-                                (AsyncApi25SchemaImpl) schema.getValue(), schemaKey, schemaDoc));
+                        AsyncApi25SchemaImpl schemaValue = (AsyncApi25SchemaImpl) schema.getValue();
+                        generations.add(() -> generateType(schemaValue, schemaKey, new ArrayList<>()));
                     }
                 }
+                // Nested types and imports are added in the order of the schemas to keep the output deterministic
+                for (GeneratedType generatedType : generateTypes(generations)) {
+                    typeDefinitionNodeListForSchema.add(addGeneratedType(generatedType));
+                }
             }
         }
 
@@ -186,6 +224,26 @@ public class BallerinaTypesGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    private static List<GeneratedType> generateTypes(List<Callable<GeneratedType>> generations)
+            throws BallerinaAsyncApiExceptionWs {
+        List<GeneratedType> generatedTypes = new ArrayList<>();
+        try (ExecutorService executor = Executors.newWorkStealingPool()) {
+            for (Future<GeneratedType> generation : executor.invokeAll(generations)) {
+                generatedTypes.add(generation.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaAsyncApiExceptionWs("Generation of the schemas was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BallerinaAsyncApiExceptionWs cause) {
+                throw cause;
+            }
+            throw new BallerinaAsyncApiExceptionWs("Generation of the schemas failed, " + e.getCause().getMessage(),
+                    e);
+        }
+        return generatedTypes;
+    }
+
     private NodeList<ImportDeclarationNode> generateImportNodes() {
         List<ImportDeclarationNode> importDeclarationNodes = new ArrayList<>();
         if (!typeDefinitionNodeList.isEmpty()) {
@@ -220,4 +278,7 @@ public class BallerinaTypesGenerator {
             }
         }
     }
+
+    private record GeneratedType(TypeDefinitionNode typeDefinitionNode, TypeGenerator typeGenerator) {
+    }
 }
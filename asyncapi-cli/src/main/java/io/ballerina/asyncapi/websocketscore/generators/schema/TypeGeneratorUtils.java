@@ -103,41 +103,43 @@ public class TypeGeneratorUtils {
      *
      * @param schemaValue Schema object
      * @param typeName    Parameter name
+     * @param metaData    Metadata of the current types generation
      * @return Relevant SchemaType object
      * @throws BallerinaAsyncApiExceptionWs Exception
      */
     public static TypeGenerator getTypeGenerator(AsyncApi25SchemaImpl schemaValue, String typeName,
-                                                 String parentName) throws BallerinaAsyncApiExceptionWs {
+                                                 String parentName, GeneratorMetaData metaData)
+            throws BallerinaAsyncApiExceptionWs {
         if (schemaValue.getType() != null) {
             GeneratorUtils.convertAsyncAPITypeToBallerina(schemaValue.getType());
         }
         if (schemaValue.get$ref() != null) {
-            return new ReferencedTypeGenerator(schemaValue, typeName);
+            return new ReferencedTypeGenerator(schemaValue, typeName, metaData);
         } else if (schemaValue.getType() != null && schemaValue.getType().equals(GeneratorConstants.ARRAY)) {
-            return new ArrayTypeGenerator(schemaValue, typeName, parentName);
+            return new ArrayTypeGenerator(schemaValue, typeName, parentName, metaData);
         } else if (schemaValue.getType() != null && primitiveTypeList.contains(schemaValue.getType())) {
-            return new PrimitiveTypeGenerator(schemaValue, typeName);
+            return new PrimitiveTypeGenerator(schemaValue, typeName, metaData);
         } else if (schemaValue.getOneOf() != null || schemaValue.getAllOf() != null || schemaValue.getAnyOf() != null) {
             if (schemaValue.getAllOf() != null) {
-                return new AllOfRecordTypeGenerator(schemaValue, typeName);
+                return new AllOfRecordTypeGenerator(schemaValue, typeName, metaData);
             } else {
-                return new UnionTypeGenerator(schemaValue, typeName);
+                return new UnionTypeGenerator(schemaValue, typeName, metaData);
             }
         } else if ((schemaValue.getType() != null && schemaValue.getType().equals(GeneratorConstants.OBJECT)) ||
                 schemaValue.getProperties() != null) {
-            return new RecordTypeGenerator(schemaValue, typeName);
+            return new RecordTypeGenerator(schemaValue, typeName, metaData);
         } else if (schemaValue.getType() != null && schemaValue.getType().equals(GeneratorConstants.OBJECT) &&
                 schemaValue.getAdditionalProperties() != null &&
                 (schemaValue.getAdditionalProperties() instanceof AsyncApi25SchemaImpl ||
                         (schemaValue.getAdditionalProperties() instanceof BooleanUnionValueImpl &&
                                 schemaValue.getAdditionalProperties().asBoolean().equals(true)))) {
-            return new MapTypeGenerator(schemaValue, typeName);
+            return new MapTypeGenerator(schemaValue, typeName, metaData);
 
         } else if (schemaValue.getType() == null && schemaValue.getProperties() == null &&
                 schemaValue.getAdditionalProperties() != null) {
-            return new JsonTypeGenerator(schemaValue, typeName);
+            return new JsonTypeGenerator(schemaValue, typeName, metaData);
         } else { // when schemaValue.type == null
-            return new AnyDataTypeGenerator(schemaValue, typeName);
+            return new AnyDataTypeGenerator(schemaValue, typeName, metaData);
         }
     }
 
@@ -460,10 +462,11 @@ public class TypeGeneratorUtils {
     /**
      * Creates API documentation for record fields.
      *
-     * @param field Schema of the field to generate
+     * @param field    Schema of the field to generate
+     * @param metaData Metadata of the current types generation
      * @return Documentation node list
      */
-    public static List<Node> getFieldApiDocs(AsyncApi25SchemaImpl field) {
+    public static List<Node> getFieldApiDocs(AsyncApi25SchemaImpl field, GeneratorMetaData metaData) {
         List<Node> schemaDoc = new ArrayList<>();
         if (field.getDescription() != null) {
             schemaDoc.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
@@ -471,7 +474,7 @@ public class TypeGeneratorUtils {
         } else if (field.get$ref() != null) {
             String[] split = field.get$ref().trim().split("/");
             String componentName = GeneratorUtils.getValidName(split[split.length - 1], true);
-            AsyncApi25DocumentImpl asyncAPI = GeneratorMetaData.getInstance().getAsyncAPI();
+            AsyncApi25DocumentImpl asyncAPI = metaData.getAsyncAPI();
             if (asyncAPI.getComponents().getSchemas().get(componentName) != null) {
                 AsyncApi25SchemaImpl schema = (AsyncApi25SchemaImpl) asyncAPI.getComponents().getSchemas()
                         .get(componentName);
@@ -488,17 +491,18 @@ public class TypeGeneratorUtils {
      *
      * @param documentation Documentation node list
      * @param schemaValue   AsyncAPI schema
+     * @param metaData      Metadata of the current types generation
      *                      //     * @param typeAnnotations Annotation list of the record
      */
-    public static void getRecordDocs(List<Node> documentation, AsyncApi25SchemaImpl schemaValue
-    ) throws BallerinaAsyncApiExceptionWs {
+    public static void getRecordDocs(List<Node> documentation, AsyncApi25SchemaImpl schemaValue,
+                                     GeneratorMetaData metaData) throws BallerinaAsyncApiExceptionWs {
         if (schemaValue.getDescription() != null) {
             documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                     schemaValue.getDescription(), false));
         } else if (schemaValue.get$ref() != null) {
             String typeName = GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(
                     schemaValue.get$ref()), true);
-            AsyncApi25SchemaImpl refSchema = (AsyncApi25SchemaImpl) GeneratorMetaData.getInstance().getAsyncAPI().
+            AsyncApi25SchemaImpl refSchema = (AsyncApi25SchemaImpl) metaData.getAsyncAPI().
                     getComponents().getSchemas().get(typeName);
             if (refSchema.getDescription() != null) {
                 documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
@@ -22,6 +22,7 @@ import io.ballerina.asyncapi.websocketscore.GeneratorConstants;
 import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
 import io.ballerina.asyncapi.websocketscore.generators.schema.TypeGeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
 import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
@@ -56,8 +57,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
 public class ArrayTypeGenerator extends TypeGenerator {
     private String parentType = null;
 
-    public ArrayTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, String parentType) {
-        super(schema, typeName);
+    public ArrayTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, String parentType,
+                              GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
         this.parentType = parentType;
     }
 
@@ -81,13 +83,13 @@ public class ArrayTypeGenerator extends TypeGenerator {
             typeName = GeneratorUtils.getValidName(
                     parentType != null ? parentType + "-" + normalizedTypeName + "-Items-" + items.getType() :
                             normalizedTypeName + "-Items-" + items.getType(), true);
-            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null);
+            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null, metaData);
             TypeDefinitionNode arrayItemWithConstraint = typeGenerator.generateTypeDefinitionNode(
                     createIdentifierToken(typeName), new ArrayList<>(), typeAnnotations);
             imports.addAll(typeGenerator.getImports());
             typeDefinitionNodeList.add(arrayItemWithConstraint);
         } else {
-            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null);
+            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null, metaData);
         }
         TypeDescriptorNode typeDescriptorNode;
         typeDefinitionNodeList.addAll(typeGenerator.getTypeDefinitionNodeList());
@@ -18,6 +18,7 @@
 package io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegenerators;
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25SchemaImpl;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -29,8 +30,8 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.JSON_KEYWORD;
  *
  */
 public class JsonTypeGenerator extends TypeGenerator {
-    public JsonTypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
-        super(schema, typeName);
+    public JsonTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     @Override
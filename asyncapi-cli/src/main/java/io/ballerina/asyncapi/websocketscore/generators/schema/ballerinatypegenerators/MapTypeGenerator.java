@@ -20,6 +20,7 @@ package io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegene
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25SchemaImpl;
 import io.apicurio.datamodels.models.union.BooleanUnionValueImpl;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 
 import static io.ballerina.asyncapi.websocketscore.GeneratorUtils.convertAsyncAPITypeToBallerina;
@@ -37,8 +38,8 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.MAP_KEYWORD;
  *
  */
 public class MapTypeGenerator extends TypeGenerator {
-    public MapTypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
-        super(schema, typeName);
+    public MapTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     @Override
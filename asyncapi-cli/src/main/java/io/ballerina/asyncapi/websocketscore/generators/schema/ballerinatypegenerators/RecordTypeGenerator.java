@@ -24,6 +24,7 @@ import io.apicurio.datamodels.models.union.BooleanSchemaUnion;
 import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
 import io.ballerina.asyncapi.websocketscore.generators.schema.TypeGeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
 import io.ballerina.asyncapi.websocketscore.generators.schema.model.RecordMetadata;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
@@ -64,17 +65,17 @@ public class RecordTypeGenerator extends TypeGenerator {
 
     public static final PrintStream OUT_STREAM = System.err;
 
-    public RecordTypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
-        super(schema, typeName);
+    public RecordTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     /**
      * Creates reference rest node when additional property has reference.
      */
-    public static RecordRestDescriptorNode getRestDescriptorNodeForReference(AsyncApi25SchemaImpl additionalPropSchema)
+    public RecordRestDescriptorNode getRestDescriptorNodeForReference(AsyncApi25SchemaImpl additionalPropSchema)
             throws BallerinaAsyncApiExceptionWs {
         ReferencedTypeGenerator referencedTypeGenerator = new ReferencedTypeGenerator(additionalPropSchema,
-                null);
+                null, metaData);
         TypeDescriptorNode refNode = referencedTypeGenerator.generateTypeDescriptorNode();
         return NodeFactory.createRecordRestDescriptorNode(refNode, createToken(ELLIPSIS_TOKEN),
                 createToken(SEMICOLON_TOKEN));
@@ -84,7 +85,7 @@ public class RecordTypeGenerator extends TypeGenerator {
      * Generates {@code RecordRestDescriptorNode} for the additional properties in object schema.
      *
      */
-    public static RecordRestDescriptorNode getRecordRestDescriptorNode(AsyncApi25SchemaImpl additionalPropSchema)
+    public RecordRestDescriptorNode getRecordRestDescriptorNode(AsyncApi25SchemaImpl additionalPropSchema)
             throws BallerinaAsyncApiExceptionWs {
 
         RecordRestDescriptorNode recordRestDescNode = null;
@@ -98,14 +99,14 @@ public class RecordTypeGenerator extends TypeGenerator {
                     createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
         } else if (additionalPropSchema.getType() != null && additionalPropSchema.getType().equals("object")) {
-            RecordTypeGenerator record = new RecordTypeGenerator(additionalPropSchema, null);
+            RecordTypeGenerator record = new RecordTypeGenerator(additionalPropSchema, null, metaData);
             TypeDescriptorNode recordNode = TypeGeneratorUtils.getNullableType(additionalPropSchema,
                     record.generateTypeDescriptorNode());
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(recordNode, createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
         } else if (additionalPropSchema.getType() != null && additionalPropSchema.getType().equals("array")) {
             ArrayTypeGenerator arrayTypeGenerator = new ArrayTypeGenerator(additionalPropSchema, null,
-                    null);
+                    null, metaData);
             TypeDescriptorNode arrayNode = arrayTypeGenerator.generateTypeDescriptorNode();
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(arrayNode, createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
@@ -113,7 +114,7 @@ public class RecordTypeGenerator extends TypeGenerator {
                 additionalPropSchema.getType().equals("string") ||
                 additionalPropSchema.getType().equals("boolean")) {
             PrimitiveTypeGenerator primitiveTypeGenerator = new PrimitiveTypeGenerator(additionalPropSchema,
-                    null);
+                    null, metaData);
             TypeDescriptorNode primitiveNode = primitiveTypeGenerator.generateTypeDescriptorNode();
             recordRestDescNode = NodeFactory.createRecordRestDescriptorNode(primitiveNode, createToken(ELLIPSIS_TOKEN),
                     createToken(SEMICOLON_TOKEN));
@@ -232,11 +233,12 @@ public class RecordTypeGenerator extends TypeGenerator {
             String fieldNameStr = GeneratorUtils.escapeIdentifier(field.getKey().trim());
             // API doc generations
             AsyncApi25SchemaImpl fieldSchema = (AsyncApi25SchemaImpl) field.getValue();
-            List<Node> schemaDoc = TypeGeneratorUtils.getFieldApiDocs(fieldSchema);
+            List<Node> schemaDoc = TypeGeneratorUtils.getFieldApiDocs(fieldSchema, metaData);
             NodeList<Node> schemaDocNodes = createNodeList(schemaDoc);
 
             IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(fieldNameStr);
-            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(fieldSchema, fieldNameStr, recordName);
+            TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(fieldSchema, fieldNameStr, recordName,
+                    metaData);
             TypeDescriptorNode fieldTypeName = typeGenerator.generateTypeDescriptorNode();
             if (typeGenerator instanceof RecordTypeGenerator) {
                 fieldTypeName = TypeGeneratorUtils.getNullableType(fieldSchema, fieldTypeName);
@@ -32,8 +32,8 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class ReferencedTypeGenerator extends TypeGenerator {
 
-    public ReferencedTypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
-        super(schema, typeName);
+    public ReferencedTypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     /**
@@ -45,10 +45,10 @@ public class ReferencedTypeGenerator extends TypeGenerator {
 
         String extractName = GeneratorUtils.extractReferenceType(schema.get$ref());
         String typeName = GeneratorUtils.getValidName(extractName, true);
-        AsyncApi25SchemaImpl refSchema = (AsyncApi25SchemaImpl) GeneratorMetaData.getInstance().getAsyncAPI()
+        AsyncApi25SchemaImpl refSchema = (AsyncApi25SchemaImpl) metaData.getAsyncAPI()
                 .getComponents().getSchemas().get(typeName);
         refSchema = refSchema == null ?
-                (AsyncApi25SchemaImpl) GeneratorMetaData.getInstance().getAsyncAPI().getComponents().getSchemas()
+                (AsyncApi25SchemaImpl) metaData.getAsyncAPI().getComponents().getSchemas()
                         .get(extractName) : refSchema;
         TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(createIdentifierToken(typeName));
         if (refSchema == null) {
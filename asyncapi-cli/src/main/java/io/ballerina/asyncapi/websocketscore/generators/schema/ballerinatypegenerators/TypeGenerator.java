@@ -20,6 +20,7 @@ package io.ballerina.asyncapi.websocketscore.generators.schema.ballerinatypegene
 import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25SchemaImpl;
 import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
 import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.schema.model.GeneratorMetaData;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
@@ -54,10 +55,12 @@ public abstract class TypeGenerator {
     final LinkedHashSet<String> imports = new LinkedHashSet<>();
     AsyncApi25SchemaImpl schema;
     String typeName;
+    final GeneratorMetaData metaData;
 
-    public TypeGenerator(AsyncApi25SchemaImpl schema, String typeName) {
+    public TypeGenerator(AsyncApi25SchemaImpl schema, String typeName, GeneratorMetaData metaData) {
         this.schema = schema;
         this.typeName = typeName;
+        this.metaData = metaData;
     }
 
     public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
@@ -21,25 +21,19 @@ import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
 
 /**
  * Stores metadata related to Ballerina types generation.
+ * <p>
+ * An instance is created for each generation run and passed to the type generators, so that the types of several
+ * AsyncAPI definitions can be generated in the same JVM at the same time.
  *
  */
 public class GeneratorMetaData {
 
-    private static GeneratorMetaData generatorMetaData = null;
     private final AsyncApi25DocumentImpl asyncAPI;
 
-    private GeneratorMetaData(AsyncApi25DocumentImpl asyncAPI) {
+    public GeneratorMetaData(AsyncApi25DocumentImpl asyncAPI) {
         this.asyncAPI = asyncAPI;
     }
 
-    public static void createInstance(AsyncApi25DocumentImpl asyncAPI) {
-        generatorMetaData = new GeneratorMetaData(asyncAPI);
-    }
-
-    public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
-    }
-
     public AsyncApi25DocumentImpl getAsyncAPI() {
         return asyncAPI;
     }
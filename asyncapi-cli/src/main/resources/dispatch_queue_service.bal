@@ -0,0 +1,62 @@
+import ballerina/log;
+import ballerinax/asyncapi.native.handler;
+
+// Members of the DispatcherService which dispatches the events through the dispatch queue. A member which is in the
+// dispatcher_service.bal as well replaces it, the other members are added to the DispatcherService.
+isolated service class DispatcherService {
+    private map<isolated service object {}> services = {};
+    private final handler:NativeHandler nativeHandler = new ();
+    private final DispatchQueue dispatchQueue;
+
+    isolated function init(DispatchConfiguration dispatchConfig) {
+        self.dispatchQueue = new (dispatchConfig);
+    }
+
+    isolated function addServiceRef(string serviceType, GenericServiceType genericService) returns error? {
+        if genericService !is isolated service object {} {
+            return error("Service of type " + serviceType + " must be isolated to be dispatched asynchronously");
+        }
+        lock {
+            if (self.services.hasKey(serviceType)) {
+                return error("Service of type " + serviceType + " has already been attached");
+            }
+            self.services[serviceType] = genericService;
+        }
+    }
+
+    isolated function removeServiceRef(string serviceType) returns error? {
+        lock {
+            if (!self.services.hasKey(serviceType)) {
+                return error("Cannot detach the service of type " + serviceType + ". Service has not been attached to the listener before");
+            }
+            _ = self.services.remove(serviceType);
+        }
+    }
+
+    private isolated function executeRemoteFunc(GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction) returns error? {
+        isolated service object {}? genericService;
+        lock {
+            genericService = self.services[serviceTypeStr];
+        }
+        if genericService is isolated service object {} {
+            check self.nativeHandler.invokeRemoteFunction(genericEvent, eventName, eventFunction, genericService);
+        }
+    }
+
+    isolated function getDispatchMetrics() returns DispatchMetrics {
+        return self.dispatchQueue.getMetrics();
+    }
+
+    private isolated function dispatchQueuedEvents() {
+        while true {
+            (readonly & anydata)? event = self.dispatchQueue.poll();
+            if event is () {
+                return;
+            }
+            error? result = self.matchRemoteFunc(...<[GenericDataType]>event);
+            if result is error {
+                log:printError("Failed to dispatch the event", 'error = result);
+            }
+        }
+    }
+}
@@ -1,43 +1,448 @@
 import ballerina/url;
 import xlibb/pipe;
 
-# PipesMap class to handle generated pipes
-public isolated class PipesMap {
-    private final map<pipe:Pipe> pipes;
-    public isolated function init() {
-        self.pipes = {};
+# Policy applied to a message received for a full pipe which cannot grow. `BLOCK` holds back the received messages
+# until there is space in the pipe, and closes the connection if there is no space in time. `DROP_OLDEST` drops the
+# oldest message in the pipe and `DROP_NEWEST` drops the received message. `CONFLATE` drops the messages in the pipe
+# which the received message replaces, or the oldest message if there is none. `CLOSE_PIPE` closes the pipe, so that
+# only the stream which consumes the pipe ends, and drops the later messages of the pipe.
+public type OverflowPolicy "BLOCK"|"DROP_OLDEST"|"DROP_NEWEST"|"CONFLATE"|"CLOSE_PIPE";
+
+# Configurations of the pipes which buffer the messages of the client.
+#
+# + writeQueueCapacity - Maximum number of messages waiting to be written to the server
+# + pipeCapacity - Maximum number of received messages buffered in a pipe
+# + pipeCapacities - Capacities of specific pipes keyed by the pipe name, which override the `pipeCapacity`
+# + growablePipes - Whether a full pipe is replaced by a pipe of twice the capacity instead of holding back the
+# received messages until there is space in the pipe
+# + maxPipeCapacity - Capacity up to which a growable pipe grows
+# + overflowPolicy - Policy applied to a message received for a full pipe which cannot grow
+# + overflowPolicies - Overflow policies of specific pipes keyed by the pipe name, which override the `overflowPolicy`
+# + conflationKey - Field of the messages whose value decides which messages a received message replaces under the
+# `CONFLATE` policy, or `()` for the received message to replace all the messages in the pipe
+public type PipeConfig record {|
+    int writeQueueCapacity = 1000;
+    int pipeCapacity = 100;
+    map<int> pipeCapacities = {};
+    boolean growablePipes = false;
+    int maxPipeCapacity = 10000;
+    OverflowPolicy overflowPolicy = "BLOCK";
+    map<OverflowPolicy> overflowPolicies = {};
+    string? conflationKey = ();
+|};
+
+# Metrics of a pipe.
+#
+# + capacity - Current capacity of the pipe
+# + fullCount - Number of times a message was received while the pipe was full
+# + growCount - Number of times the pipe was grown
+# + droppedCount - Number of messages dropped by the overflow policy of the pipe
+# + closed - Whether the pipe was closed by its overflow policy
+public type PipeMetrics record {|
+    int capacity;
+    int fullCount;
+    int growCount;
+    int droppedCount;
+    boolean closed;
+|};
+
+# Configurations of the batching of the messages written to the server.
+#
+# + maxBatchSize - Maximum number of queued messages written together
+# + lingerTime - Time in seconds to wait for a further message before the collected messages are written
+public type WriteBatchConfig record {|
+    int maxBatchSize = 100;
+    decimal lingerTime = 0;
+|};
+
+# Configurations of the reconnection of the client once the connection to the server is lost.
+#
+# + maxAttempts - Maximum number of attempts to reconnect, or `-1` to attempt until the client is closed
+# + initialInterval - Time in seconds to wait before the first attempt
+# + backOffFactor - Factor by which the wait time grows after each failed attempt
+# + maxInterval - Maximum time in seconds to wait before an attempt
+# + jitter - Fraction of the wait time by which the wait time is varied at random, so that clients which lost their
+# connection together do not reconnect together
+public type ReconnectConfig record {|
+    int maxAttempts = 10;
+    decimal initialInterval = 1;
+    decimal backOffFactor = 2;
+    decimal maxInterval = 30;
+    decimal jitter = 0.5;
+|};
+
+# PipeStore class to keep the pipes of a `PipesMap` keyed by the pipe ID
+public isolated class PipeStore {
+    private final map<pipe:Pipe> pipes = {};
+
+    public isolated function get(string id) returns pipe:Pipe? {
+        lock {
+            return self.pipes[id];
+        }
     }
 
-    public isolated function addPipe(string id, pipe:Pipe pipe) {
+    public isolated function put(string id, pipe:Pipe pipe) {
         lock {
             self.pipes[id] = pipe;
         }
     }
 
-    public isolated function getPipe(string id) returns pipe:Pipe {
+    # Registers a pipe with the given ID, unless a pipe is already registered with the ID.
+    #
+    # + id - ID of the pipe
+    # + pipe - Pipe to be registered
+    # + return - The pipe registered with the ID after the call
+    public isolated function putIfAbsent(string id, pipe:Pipe pipe) returns pipe:Pipe {
         lock {
-            if (self.pipes.hasKey(id)) {
-                return self.pipes.get(id);
+            pipe:Pipe? registeredPipe = self.pipes[id];
+            if registeredPipe is pipe:Pipe {
+                return registeredPipe;
             }
-            pipe:Pipe pipe = new (100);
-            self.addPipe(id, pipe);
+            self.pipes[id] = pipe;
             return pipe;
         }
     }
 
+    public isolated function remove(string id) returns pipe:Pipe? {
+        lock {
+            return self.pipes.removeIfHasKey(id);
+        }
+    }
+
+    public isolated function keys() returns string[] {
+        lock {
+            return self.pipes.keys().cloneReadOnly();
+        }
+    }
+}
+
+# PipesMap class to handle generated pipes
+public isolated class PipesMap {
+    private final PipeStore pipes;
+    private final map<PipeMetrics> metrics;
+    private final int pipeCapacity;
+    private final readonly & map<int> pipeCapacities;
+    private final boolean growablePipes;
+    private final int maxPipeCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final readonly & map<OverflowPolicy> overflowPolicies;
+    private final string? conflationKey;
+
+    public isolated function init(PipeConfig config = {}, map<int> defaultCapacities = {}) {
+        self.pipes = new;
+        self.metrics = {};
+        map<int> pipeCapacities = defaultCapacities.clone();
+        foreach [string, int] [id, capacity] in config.pipeCapacities.entries() {
+            pipeCapacities[id] = capacity;
+        }
+        self.pipeCapacity = config.pipeCapacity;
+        self.pipeCapacities = pipeCapacities.cloneReadOnly();
+        self.growablePipes = config.growablePipes;
+        self.maxPipeCapacity = config.maxPipeCapacity;
+        self.overflowPolicy = config.overflowPolicy;
+        self.overflowPolicies = config.overflowPolicies.cloneReadOnly();
+        self.conflationKey = config.conflationKey;
+    }
+
+    public isolated function addPipe(string id, pipe:Pipe pipe) {
+        self.pipes.put(id, pipe);
+    }
+
+    public isolated function getPipe(string id) returns pipe:Pipe {
+        pipe:Pipe? registeredPipe = self.pipes.get(id);
+        if registeredPipe is pipe:Pipe {
+            return registeredPipe;
+        }
+        int capacity = self.pipeCapacities[id] ?: self.pipeCapacity;
+        pipe:Pipe pipe = new (capacity);
+        pipe:Pipe addedPipe = self.pipes.putIfAbsent(id, pipe);
+        if addedPipe === pipe {
+            lock {
+                self.metrics[id] = {capacity, fullCount: 0, growCount: 0, droppedCount: 0, closed: false};
+            }
+        }
+        return addedPipe;
+    }
+
+    # Produces a received message to the pipe of the given ID. A full growable pipe is replaced by a pipe of twice
+    # the capacity, which takes over the messages of the full pipe. A full pipe which cannot grow is handled by the
+    # overflow policy of the pipe.
+    #
+    # + id - ID of the pipe
+    # + message - Received message
+    # + timeout - Time in seconds to wait for space in a full pipe under the `BLOCK` policy
+    # + return - A `pipe:Error` if the message could not be produced
+    public isolated function produce(string id, anydata message, decimal timeout) returns pipe:Error? {
+        final pipe:Pipe pipe = self.getPipe(id);
+        pipe:Error? pipeErr = pipe.produce(message, 0);
+        if pipeErr is () {
+            return;
+        }
+        final readonly & anydata pendingMessage = message.cloneReadOnly();
+        final OverflowPolicy overflowPolicy = self.overflowPolicies[id] ?: self.overflowPolicy;
+        boolean overflowHandled = false;
+        boolean pipeReplaced = false;
+        lock {
+            // A pipe which was replaced by a grown pipe after it was looked up is closed, so the message is
+            // produced to the grown pipe
+            pipe:Pipe? currentPipe = self.pipes.get(id);
+            pipeReplaced = currentPipe is pipe:Pipe && currentPipe !== pipe;
+            PipeMetrics? metrics = self.metrics[id];
+            if metrics is PipeMetrics && !pipeReplaced {
+                if metrics.closed {
+                    metrics.droppedCount += 1;
+                    return;
+                }
+                metrics.fullCount += 1;
+                if self.growablePipes && metrics.capacity < self.maxPipeCapacity {
+                    int capacity = int:min(metrics.capacity * 2, self.maxPipeCapacity);
+                    pipe:Pipe grownPipe = new (capacity);
+                    while true {
+                        anydata|pipe:Error bufferedMessage = pipe.consume(0);
+                        if bufferedMessage is pipe:Error {
+                            break;
+                        }
+                        check grownPipe.produce(bufferedMessage, 0);
+                    }
+                    check grownPipe.produce(pendingMessage, 0);
+                    self.pipes.put(id, grownPipe);
+                    // Closing the drained pipe wakes up the consumers waiting on it, which continue on the grown pipe
+                    check pipe.immediateClose();
+                    metrics.capacity = capacity;
+                    metrics.growCount += 1;
+                    return;
+                }
+                overflowHandled = overflowPolicy != "BLOCK";
+                metrics.closed = overflowPolicy == "CLOSE_PIPE";
+            }
+        }
+        if pipeReplaced {
+            return self.produce(id, message, timeout);
+        }
+        if !overflowHandled {
+            return pipe.produce(message, timeout);
+        }
+        // The pipe is drained outside the lock, so that the overflow of a pipe does not hold back the other pipes
+        int droppedCount = check self.handleOverflow(pipe, pendingMessage, overflowPolicy);
+        lock {
+            PipeMetrics? metrics = self.metrics[id];
+            if metrics is PipeMetrics {
+                metrics.droppedCount += droppedCount;
+            }
+        }
+    }
+
+    # Consumes a message from the pipe of the given ID. A consumer waiting on a pipe which is replaced by a grown
+    # pipe continues on the grown pipe.
+    #
+    # + id - ID of the pipe
+    # + timeout - Time in seconds to wait for a message
+    # + return - The consumed message, or a `pipe:Error` if no message could be consumed
+    public isolated function consume(string id, decimal timeout) returns anydata|pipe:Error {
+        while true {
+            pipe:Pipe pipe = self.getPipe(id);
+            anydata|pipe:Error message = pipe.consume(timeout);
+            if message is pipe:Error {
+                pipe:Pipe? currentPipe = self.pipes.get(id);
+                if currentPipe is pipe:Pipe && currentPipe !== pipe {
+                    continue;
+                }
+            }
+            return message;
+        }
+    }
+
+    # Makes space in a full pipe for a received message as the overflow policy of the pipe decides.
+    #
+    # + pipe - Full pipe
+    # + message - Received message
+    # + overflowPolicy - Overflow policy of the pipe, other than `BLOCK`
+    # + return - Number of dropped messages, or a `pipe:Error` if the received message could not be produced
+    private isolated function handleOverflow(pipe:Pipe pipe, readonly & anydata message,
+            OverflowPolicy overflowPolicy) returns int|pipe:Error {
+        if overflowPolicy == "DROP_NEWEST" {
+            return 1;
+        }
+        if overflowPolicy == "CLOSE_PIPE" {
+            check pipe.immediateClose();
+            return 1;
+        }
+        if overflowPolicy == "DROP_OLDEST" {
+            anydata|pipe:Error oldestMessage = pipe.consume(0);
+            check pipe.produce(message, 0);
+            return oldestMessage is pipe:Error ? 0 : 1;
+        }
+        anydata[] keptMessages = [];
+        int droppedCount = 0;
+        while true {
+            anydata|pipe:Error bufferedMessage = pipe.consume(0);
+            if bufferedMessage is pipe:Error {
+                break;
+            }
+            if self.isReplacedBy(bufferedMessage, message) {
+                droppedCount += 1;
+            } else {
+                keptMessages.push(bufferedMessage);
+            }
+        }
+        // A received message which replaces no message in the pipe drops the oldest message
+        if droppedCount == 0 && keptMessages.length() > 0 {
+            _ = keptMessages.shift();
+            droppedCount = 1;
+        }
+        foreach anydata keptMessage in keptMessages {
+            check pipe.produce(keptMessage, 0);
+        }
+        check pipe.produce(message, 0);
+        return droppedCount;
+    }
+
+    private isolated function isReplacedBy(anydata bufferedMessage, anydata message) returns boolean {
+        string? conflationKey = self.conflationKey;
+        if conflationKey is () {
+            return true;
+        }
+        return bufferedMessage is map<anydata> && message is map<anydata> &&
+            bufferedMessage[conflationKey] == message[conflationKey];
+    }
+
+    # Provides the metrics of the pipes.
+    #
+    # + return - Metrics of the pipes keyed by the pipe ID
+    public isolated function getMetrics() returns map<PipeMetrics> {
+        lock {
+            return self.metrics.clone();
+        }
+    }
+
     public isolated function removePipe(string id) returns error? {
+        pipe:Pipe? pipe = self.pipes.remove(id);
+        boolean closed = self.removeMetrics(id);
+        // A pipe closed by its overflow policy is already closed
+        if pipe is pipe:Pipe && !closed {
+            check pipe.gracefulClose();
+        }
+    }
+
+    private isolated function removeMetrics(string id) returns boolean {
         lock {
-            _ = check self.getPipe(id).gracefulClose();
-            _ = self.pipes.remove(id);
+            // A pipe added through `addPipe` has no metrics
+            PipeMetrics? metrics = self.metrics.removeIfHasKey(id);
+            return metrics is PipeMetrics && metrics.closed;
         }
     }
 
     public isolated function removePipes() returns error? {
+        foreach string id in self.pipes.keys() {
+            check self.removePipe(id);
+        }
+    }
+}
+
+# ResponseSlots class to correlate the single responses of the requests with their stream IDs. A slot is a pipe of
+# one message, which is pooled and reused by a later request once it has delivered its response.
+public isolated class ResponseSlots {
+    private final map<pipe:Pipe> slots;
+    private final pipe:Pipe[] pool;
+    private final int maxPoolSize;
+
+    public isolated function init(int maxPoolSize = 100) {
+        self.slots = {};
+        self.pool = [];
+        self.maxPoolSize = maxPoolSize;
+    }
+
+    # Reserves a slot for the response of a request.
+    #
+    # + id - Stream ID of the request
+    # + return - The slot which receives the response
+    public isolated function reserve(string id) returns pipe:Pipe {
+        lock {
+            pipe:Pipe slot;
+            if self.pool.length() > 0 {
+                slot = self.pool.pop();
+            } else {
+                slot = new (1);
+            }
+            self.slots[id] = slot;
+            return slot;
+        }
+    }
+
+    # Takes the slot reserved for a stream ID, so that only one response is delivered to it.
+    #
+    # + id - Stream ID of the response
+    # + return - The slot, or `()` if no slot is reserved for the stream ID
+    public isolated function take(string id) returns pipe:Pipe? {
+        lock {
+            return self.slots.removeIfHasKey(id);
+        }
+    }
+
+    # Releases the slot of a request once the request stops waiting for its response. A slot whose response was
+    # consumed is empty and returns to the pool, while a slot which may still receive a late response is dropped.
+    #
+    # + id - Stream ID of the request
+    # + slot - Slot reserved for the request
+    # + reusable - Whether the response was consumed from the slot
+    public isolated function release(string id, pipe:Pipe slot, boolean reusable) {
+        lock {
+            if self.slots[id] === slot {
+                _ = self.slots.remove(id);
+            }
+            if reusable && self.pool.length() < self.maxPoolSize {
+                self.pool.push(slot);
+            }
+        }
+    }
+
+    public isolated function removeSlots() returns error? {
+        lock {
+            foreach pipe:Pipe slot in self.slots {
+                check slot.immediateClose();
+            }
+            self.slots.removeAll();
+            self.pool.removeAll();
+        }
+    }
+}
+
+# Subscriptions class to keep the messages which started the streams of the client, so that the streams are
+# subscribed again once the client reconnects to the server.
+public isolated class Subscriptions {
+    private final map<Message> messages = {};
+
+    public isolated function add(string id, Message message) {
+        lock {
+            self.messages[id] = message.cloneReadOnly();
+        }
+    }
+
+    public isolated function remove(string id) {
         lock {
-            foreach pipe:Pipe pipe in self.pipes {
-                check pipe.gracefulClose();
+            _ = self.messages.removeIfHasKey(id);
+        }
+    }
+
+    # Checks whether a message is one of the subscriptions.
+    #
+    # + message - Message to be checked
+    # + return - `true` if the message started one of the streams
+    public isolated function hasMessage(Message message) returns boolean {
+        final readonly & Message checkedMessage = message.cloneReadOnly();
+        lock {
+            foreach Message subscription in self.messages {
+                if subscription == checkedMessage {
+                    return true;
+                }
             }
-            self.pipes.removeAll();
+            return false;
+        }
+    }
+
+    public isolated function getMessages() returns Message[] {
+        lock {
+            return self.messages.toArray().cloneReadOnly();
         }
     }
 }
@@ -0,0 +1,56 @@
+import ballerinax/asyncapi.native.handler;
+import xlibb/pipe;
+
+# PipeStore class to keep the pipes of a `PipesMap` keyed by the pipe ID, in the concurrent registry of the native
+# handler so that a pipe is looked up without a `lock`
+public isolated class PipeStore {
+    private final handler:ConcurrentRegistry pipes = new;
+
+    public isolated function get(string id) returns pipe:Pipe? {
+        isolated object {}? pipe = self.pipes.get(id);
+        return pipe is pipe:Pipe ? pipe : ();
+    }
+
+    public isolated function put(string id, pipe:Pipe pipe) {
+        _ = self.pipes.put(id, pipe);
+    }
+
+    # Registers a pipe with the given ID, unless a pipe is already registered with the ID.
+    #
+    # + id - ID of the pipe
+    # + pipe - Pipe to be registered
+    # + return - The pipe registered with the ID after the call
+    public isolated function putIfAbsent(string id, pipe:Pipe pipe) returns pipe:Pipe {
+        return <pipe:Pipe>self.pipes.putIfAbsent(id, pipe);
+    }
+
+    public isolated function remove(string id) returns pipe:Pipe? {
+        isolated object {}? pipe = self.pipes.remove(id);
+        return pipe is pipe:Pipe ? pipe : ();
+    }
+
+    public isolated function keys() returns string[] {
+        return self.pipes.keys();
+    }
+}
+
+# StreamGeneratorsMap class to handle generated stream generators
+public isolated class StreamGeneratorsMap {
+    private final handler:ConcurrentRegistry streamGenerators;
+    public isolated function init() {
+        self.streamGenerators = new;
+    }
+
+    public isolated function addStreamGenerator(Generator streamGenerator) {
+        _ = self.streamGenerators.add(streamGenerator);
+    }
+    public isolated function removeStreamGenerators() returns error? {
+        foreach string id in self.streamGenerators.keys() {
+            isolated object {}? streamGenerator = self.streamGenerators.remove(id);
+            if streamGenerator is Generator {
+                check streamGenerator.close();
+            }
+        }
+    }
+}
+
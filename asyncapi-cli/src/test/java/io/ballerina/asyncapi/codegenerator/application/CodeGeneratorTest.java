@@ -19,6 +19,8 @@
 package io.ballerina.asyncapi.codegenerator.application;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodeGeneratorConfig;
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -35,6 +37,44 @@ public class CodeGeneratorTest {
         Assert.assertEquals(mockRepository.getWriteCount(), 4);
     }
 
+    @Test(description = "Test the functionality of the 'generate' function with the timing report")
+    public void testGenerateWithTimingReport() throws BallerinaAsyncApiException {
+        MockFileRepositoryImpl mockRepository = new MockFileRepositoryImpl();
+        CodeGeneratorConfig config = new CodeGeneratorConfig.Builder().withTimingReport(true).build();
+        CodeGenerator codeGenerator = new CodeGenerator(mockRepository, config);
+        codeGenerator.generate("test.yaml", "/");
+
+        Assert.assertEquals(mockRepository.getWriteCount(), 4);
+    }
+
+    @Test(description = "Test the functionality of the 'generate' function in the incremental mode")
+    public void testGenerateIncrementally() throws BallerinaAsyncApiException {
+        MockFileRepositoryImpl mockRepository = new MockFileRepositoryImpl();
+        CodeGeneratorConfig config = new CodeGeneratorConfig.Builder().withIncremental(true).build();
+        CodeGenerator codeGenerator = new CodeGenerator(mockRepository, config);
+        codeGenerator.generate("test.yaml", "/");
+        // The four listener files along with the digest of the spec
+        Assert.assertEquals(mockRepository.getWriteCount(), 5);
+
+        Assert.assertEquals(mockRepository.getParseCount(), 1);
+
+        // Nothing is generated again, since the spec did not change, and the spec is not even parsed
+        codeGenerator.generate("test.yaml", "/");
+        Assert.assertEquals(mockRepository.getWriteCount(), 5);
+        Assert.assertEquals(mockRepository.getParseCount(), 1);
+
+        // Only the removed file is written again, since the other files did not change
+        mockRepository.removeFile("/listener.bal");
+        codeGenerator.generate("test.yaml", "/");
+        Assert.assertEquals(mockRepository.getWriteCount(), 6);
+
+        // The listener is generated again when the options change, but only the changed files are written
+        CodeGeneratorConfig dispatchTableConfig = new CodeGeneratorConfig.Builder().withIncremental(true)
+                .withDispatchMode(DispatchMode.TABLE).build();
+        new CodeGenerator(mockRepository, dispatchTableConfig).generate("test.yaml", "/");
+        Assert.assertEquals(mockRepository.getWriteCount(), 8);
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when AsyncAPI spec file has a different file extension than .yaml, .yml or .json",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -18,19 +18,28 @@
 
 package io.ballerina.asyncapi.codegenerator.application;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Mock the FileRepositoryImpl to prevent file writing while testing.
  */
 public class MockFileRepositoryImpl implements FileRepository {
     private final FileRepository fileRepository = new FileRepositoryImpl();
+    private final Map<String, String> writtenContents = new HashMap<>();
     private int writeCount = 0;
+    private int parseCount = 0;
 
     @Override
     public String getFileContent(String filePath) throws BallerinaAsyncApiException {
+        if (writtenContents.containsKey(filePath)) {
+            return writtenContents.get(filePath);
+        }
         return fileRepository
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
     }
@@ -43,19 +52,44 @@ public class MockFileRepositoryImpl implements FileRepository {
     @Override
     public void writeToFile(String filePath, String content) throws BallerinaAsyncApiException {
         writeCount += 1;
+        writtenContents.put(filePath, content);
     }
 
     @Override
-    public String convertYamlToJson(String yaml) throws BallerinaAsyncApiException {
-        return fileRepository.convertYamlToJson(yaml);
+    public boolean writeToFileIfChanged(String filePath, String content) throws BallerinaAsyncApiException {
+        if (content.equals(writtenContents.get(filePath))) {
+            return false;
+        }
+        writeToFile(filePath, content);
+        return true;
     }
 
     @Override
-    public boolean validateJson(String jsonString) throws BallerinaAsyncApiException {
-        return true;
+    public boolean isFileExists(String filePath) {
+        return writtenContents.containsKey(filePath);
+    }
+
+    public void removeFile(String filePath) {
+        writtenContents.remove(filePath);
+    }
+
+    @Override
+    public ObjectNode readYamlTree(String yaml) throws BallerinaAsyncApiException {
+        parseCount += 1;
+        return fileRepository.readYamlTree(yaml);
+    }
+
+    @Override
+    public ObjectNode readJsonTree(String jsonString) throws BallerinaAsyncApiException {
+        parseCount += 1;
+        return fileRepository.readJsonTree(jsonString);
     }
 
     public int getWriteCount() {
         return writeCount;
     }
+
+    public int getParseCount() {
+        return parseCount;
+    }
 }
@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
@@ -34,7 +35,7 @@ public class AsyncApiSpecControllerTest {
     public void testGetServiceTypes() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
         SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
 
         Assert.assertEquals(specController.getServiceTypes().size(), 3);
@@ -68,7 +69,7 @@ public class AsyncApiSpecControllerTest {
     public void testGetSchemas() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
         SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
 
         Assert.assertEquals(specController.getSchemas().size(), 2);
@@ -80,10 +81,37 @@ public class AsyncApiSpecControllerTest {
     public void testGetEventIdentifierPath() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
         SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
 
         Assert.assertEquals(specController.getEventIdentifierType(), "body");
         Assert.assertEquals(specController.getEventIdentifierPath(), "event.'type");
     }
+
+    @Test(description = "Test the extraction from the yaml and json specifications, which are parsed into json trees")
+    public void testReadSpecFromJsonTree() throws BallerinaAsyncApiException {
+        SpecController yamlController = new AsyncApiSpecController(fileRepository.readYamlTree(
+                fileRepository.getFileContentFromResources("specs/spec-complete-slack.yml")));
+        SpecController jsonController = new AsyncApiSpecController(fileRepository.readJsonTree(
+                fileRepository.getFileContentFromResources("specs/spec-complete-slack.json")));
+
+        Assert.assertFalse(yamlController.getServiceTypes().isEmpty());
+        Assert.assertEquals(jsonController.getServiceTypes().size(), yamlController.getServiceTypes().size());
+        for (int i = 0; i < yamlController.getServiceTypes().size(); i++) {
+            Assert.assertEquals(jsonController.getServiceTypes().get(i).getServiceTypeName(),
+                    yamlController.getServiceTypes().get(i).getServiceTypeName());
+            Assert.assertEquals(jsonController.getServiceTypes().get(i).getRemoteFunctions().size(),
+                    yamlController.getServiceTypes().get(i).getRemoteFunctions().size());
+        }
+        Assert.assertEquals(jsonController.getSchemas().keySet(), yamlController.getSchemas().keySet());
+        Assert.assertEquals(jsonController.getEventIdentifierType(), yamlController.getEventIdentifierType());
+        Assert.assertEquals(jsonController.getEventIdentifierPath(), yamlController.getEventIdentifierPath());
+    }
+
+    @Test(description = "Test the functionality of the 'readJsonTree' function with duplicate keys in the json",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Error parsing the json, please validate the json file")
+    public void testReadJsonTreeWithDuplicateKeys() throws BallerinaAsyncApiException {
+        fileRepository.readJsonTree("{\"asyncapi\": \"2.1.0\", \"asyncapi\": \"2.1.0\"}");
+    }
 }
@@ -18,8 +18,12 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.CodeGeneratorConfig;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.DispatchMode;
+import io.ballerina.asyncapi.codegenerator.configuration.PayloadBinding;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
@@ -37,7 +41,7 @@ public class DispatcherControllerTest {
     public void testGenerateBalCode() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
         SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
 
         String dispatcherTemplate = fileRepository
@@ -50,6 +54,133 @@ public class DispatcherControllerTest {
         Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
     }
 
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the dispatch table mode")
+    public void testGenerateBalCodeWithDispatchTable() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        String dispatcherResult = fileRepository
+                .getFileContentFromResources("expected_gen/dispatcher_service_with_dispatch_table.bal");
+        CodeGeneratorConfig config = new CodeGeneratorConfig.Builder()
+                .withDispatchMode(DispatchMode.TABLE).build();
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), config);
+        Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the concurrency limits")
+    public void testGenerateBalCodeWithConcurrencyLimits() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        String dispatcherResult = fileRepository
+                .getFileContentFromResources("expected_gen/dispatcher_service_with_concurrency_limits.bal");
+        CodeGeneratorConfig config = new CodeGeneratorConfig.Builder()
+                .withConcurrencyLimits(true).build();
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), config);
+        Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the streaming payload binding")
+    public void testGenerateBalCodeWithStreamingPayload() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        String dispatcherResult = fileRepository
+                .getFileContentFromResources("expected_gen/dispatcher_service_with_streaming_payload.bal");
+        CodeGeneratorConfig config = new CodeGeneratorConfig.Builder()
+                .withPayloadBinding(PayloadBinding.STREAMING).build();
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), config);
+        Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the event type payload binding")
+    public void testGenerateBalCodeWithEventTypeBinding() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        String dispatcherResult = fileRepository
+                .getFileContentFromResources("expected_gen/dispatcher_service_with_event_type_binding.bal");
+        CodeGeneratorConfig config = new CodeGeneratorConfig.Builder()
+                .withPayloadBinding(PayloadBinding.EVENT_TYPE).build();
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), config);
+        Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the asynchronous dispatch")
+    public void testGenerateBalCodeWithAsyncDispatch() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        String dispatcherResult = fileRepository
+                .getFileContentFromResources("expected_gen/dispatcher_service_with_dispatch_queue.bal");
+        String dispatchQueueServiceTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCH_QUEUE_SERVICE_BAL_FILE_NAME);
+        CodeGeneratorConfig config = new CodeGeneratorConfig.Builder().withAsyncDispatch(true).build();
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), config, dispatchQueueServiceTemplate);
+        Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the batch ingestion")
+    public void testGenerateBalCodeWithBatchIngestion() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dispatcherTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+        String dispatcherResult = fileRepository
+                .getFileContentFromResources("expected_gen/dispatcher_service_with_batch_ingestion.bal");
+        CodeGeneratorConfig config = new CodeGeneratorConfig.Builder().withBatchIngestion(true).build();
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), config);
+        Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function " +
+            "when the batch ingestion is combined with the streaming payload binding",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Batch ingestion is supported only with the `clone` payload " +
+                    "binding and the synchronous dispatch")
+    public void testGenerateBalCodeWithBatchIngestionAndStreamingPayload() throws BallerinaAsyncApiException {
+        CodeGeneratorConfig config = new CodeGeneratorConfig.Builder().withBatchIngestion(true)
+                .withPayloadBinding(PayloadBinding.STREAMING).build();
+        BalController dispatcherController = new DispatcherController(new ArrayList<>(),
+                Constants.X_BALLERINA_EVENT_TYPE_BODY, Constants.CLONE_WITH_TYPE_VAR_NAME, config);
+        dispatcherController.generateBalCode("");
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the there is no resource function named as '.' in the dispatcher_service.bal template",
             expectedExceptions = BallerinaAsyncApiException.class,
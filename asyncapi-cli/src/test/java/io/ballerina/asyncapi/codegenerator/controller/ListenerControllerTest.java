@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
@@ -37,7 +38,7 @@ public class ListenerControllerTest {
     public void testGenerateBalCode() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
         SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
 
         String listenerTemplate = fileRepository
@@ -48,6 +49,40 @@ public class ListenerControllerTest {
         Assert.assertEquals(listenerController.generateBalCode(listenerTemplate), listenerResult);
     }
 
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the dispatch queue")
+    public void testGenerateBalCodeWithDispatchQueue() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String listenerTemplate = fileRepository
+                .getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
+        String dispatchQueueTemplate = fileRepository
+                .getFileContentFromResources(Constants.DISPATCH_QUEUE_BAL_FILE_NAME);
+        String listenerResult = fileRepository
+                .getFileContentFromResources("expected_gen/listener_with_dispatch_queue.bal");
+        BalController listenerController =
+                new ListenerController(specController.getServiceTypes(), dispatchQueueTemplate);
+        Assert.assertEquals(listenerController.generateBalCode(listenerTemplate), listenerResult);
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the concurrency limits")
+    public void testGenerateBalCodeWithConcurrencyLimits() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String listenerTemplate = fileRepository
+                .getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
+        String listenerResult = fileRepository
+                .getFileContentFromResources("expected_gen/listener_with_concurrency_limits.bal");
+        BalController listenerController =
+                new ListenerController(specController.getServiceTypes(), null, true);
+        Assert.assertEquals(listenerController.generateBalCode(listenerTemplate), listenerResult);
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the there is no function named as 'getServiceTypeStr' in the listener.bal template",
             expectedExceptions = BallerinaAsyncApiException.class,
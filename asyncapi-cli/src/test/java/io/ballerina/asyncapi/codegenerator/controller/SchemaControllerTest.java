@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
@@ -35,7 +36,7 @@ public class SchemaControllerTest {
     public void testGenerateBalCode() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
         SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
 
 
@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.usecase;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiDocument;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
@@ -44,8 +45,8 @@ public class ExtractChannelsFromSpecTest {
     public void testExtractWithOneChannel() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-channel.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         MultiChannel multiChannel = extractServiceTypes.extract();
         List<ServiceType> serviceTypes = multiChannel.getServiceTypes();
@@ -63,8 +64,8 @@ public class ExtractChannelsFromSpecTest {
     public void testExtractWithOneChannelWithInlineSchemas() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-channel-with-inline-schema.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         MultiChannel multiChannel = extractServiceTypes.extract();
         List<ServiceType> serviceTypes = multiChannel.getServiceTypes();
@@ -81,8 +82,8 @@ public class ExtractChannelsFromSpecTest {
     public void testExtractWithMultipleChannels() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-multiple-channels.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         MultiChannel multiChannel = extractServiceTypes.extract();
         List<ServiceType> serviceTypes = multiChannel.getServiceTypes();
@@ -109,8 +110,8 @@ public class ExtractChannelsFromSpecTest {
     public void testExtractWithMissingXServiceType() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-channel-missing-x-service-type.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         MultiChannel multiChannel = extractServiceTypes.extract();
         List<ServiceType> serviceTypes = multiChannel.getServiceTypes();
@@ -132,8 +133,8 @@ public class ExtractChannelsFromSpecTest {
     public void testExtractWithMissingXEventTypeWithOneOf() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-channel-missing-x-event-type-with-oneof.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         extractServiceTypes.extract();
     }
@@ -148,8 +149,8 @@ public class ExtractChannelsFromSpecTest {
     public void testExtractWithMissingXEventTypeWithoutOneOf() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository.getFileContentFromResources(
                 "specs/spec-single-channel-missing-x-event-type-without-oneof.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         extractServiceTypes.extract();
     }
@@ -164,8 +165,8 @@ public class ExtractChannelsFromSpecTest {
     public void testExtractWithMissingPayload() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository.getFileContentFromResources(
                 "specs/spec-single-channel-missing-reference.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         extractServiceTypes.extract();
     }
@@ -180,8 +181,8 @@ public class ExtractChannelsFromSpecTest {
     public void testExtractWithNullPayload() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository.getFileContentFromResources(
                 "specs/spec-single-channel-missing-payload.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         extractServiceTypes.extract();
     }
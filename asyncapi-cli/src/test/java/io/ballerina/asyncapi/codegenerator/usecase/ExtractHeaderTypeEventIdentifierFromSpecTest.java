@@ -1,5 +1,6 @@
 package io.ballerina.asyncapi.codegenerator.usecase;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiDocument;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
@@ -22,8 +23,8 @@ public class ExtractHeaderTypeEventIdentifierFromSpecTest {
     public void testExtractWithIdentifierPathValidHeaderType() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-with-event-identifier-valid-header-type.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractIdentifierPathFromSpec = new ExtractIdentifierPathFromSpec(asyncApiSpec);
         String identifierPath = extractIdentifierPathFromSpec.extract();
 
@@ -42,8 +43,8 @@ public class ExtractHeaderTypeEventIdentifierFromSpecTest {
     public void testExtractWithIdentifierPathMissingHeaderName() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-with-event-identifier-missing-header-name.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractIdentifierPathFromSpec = new ExtractIdentifierPathFromSpec(asyncApiSpec);
         extractIdentifierPathFromSpec.extract();
     }
@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.usecase;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiDocument;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
@@ -39,8 +40,8 @@ public class ExtractIdentifierPathFromSpecTest {
     public void testExtractWithIdentifierPath() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-with-identifier-path.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractIdentifierPathFromSpec = new ExtractIdentifierPathFromSpec(asyncApiSpec);
         String identifierPath = extractIdentifierPathFromSpec.extract();
 
@@ -58,8 +59,8 @@ public class ExtractIdentifierPathFromSpecTest {
     public void testExtractWithIdentifierPathMissingPath() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-with-identifier-path-missing-path.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractIdentifierPathFromSpec = new ExtractIdentifierPathFromSpec(asyncApiSpec);
         extractIdentifierPathFromSpec.extract();
     }
@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.usecase;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiDocument;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
@@ -41,8 +42,8 @@ public class ExtractIdentifierTypeFromSpecTest {
     public void testExtractWithoutIdentifierPath() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-without-identifier-path.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractIdentifierTypeFromSpec = new ExtractIdentifierTypeFromSpec(asyncApiSpec);
         extractIdentifierTypeFromSpec.extract();
     }
@@ -58,8 +59,8 @@ public class ExtractIdentifierTypeFromSpecTest {
     public void testExtractWithIdentifierPathMissingType() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-with-identifier-path-missing-type.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractIdentifierTypeFromSpec = new ExtractIdentifierTypeFromSpec(asyncApiSpec);
         extractIdentifierTypeFromSpec.extract();
     }
@@ -75,8 +76,8 @@ public class ExtractIdentifierTypeFromSpecTest {
     public void testExtractWithIdentifierPathInvalidType() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-with-event-identifier-invalid-type.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractIdentifierTypeFromSpec = new ExtractIdentifierTypeFromSpec(asyncApiSpec);
         extractIdentifierTypeFromSpec.extract();
     }
@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.usecase;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.Referenceable;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiDocument;
@@ -43,8 +44,8 @@ public class ExtractSchemasFromSpecTest {
     public void testExtractWithOneSchema() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-schema.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
         Map<String, AsyncApiSchema> schemas = extractSchemasFromSpec.extract();
 
@@ -68,8 +69,8 @@ public class ExtractSchemasFromSpecTest {
     public void testExtractWithEnums() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-schema-with-enum.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
         Map<String, AsyncApiSchema> schemas = extractSchemasFromSpec.extract();
 
@@ -86,8 +87,8 @@ public class ExtractSchemasFromSpecTest {
     public void testExtractWithMultipleSchemas() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-multiple-schemas.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
         Map<String, AsyncApiSchema> serviceTypes = extractSchemasFromSpec.extract();
 
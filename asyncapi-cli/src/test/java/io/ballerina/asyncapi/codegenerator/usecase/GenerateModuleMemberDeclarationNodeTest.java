@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.usecase;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiDocument;
 import io.apicurio.datamodels.models.asyncapi.AsyncApiSchema;
@@ -45,8 +46,8 @@ public class GenerateModuleMemberDeclarationNodeTest {
     public void testGenerateWithSingleSchema() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-schema.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
         Map<String, AsyncApiSchema> schemas = extractSchemasFromSpec.extract();
 
@@ -71,8 +72,8 @@ public class GenerateModuleMemberDeclarationNodeTest {
     public void testGenerateWithEnums() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-schema-with-enum.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
         Map<String, AsyncApiSchema> schemas = extractSchemasFromSpec.extract();
 
@@ -94,8 +95,8 @@ public class GenerateModuleMemberDeclarationNodeTest {
     public void testGenerateWithMultipleSchemas() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-multiple-schemas.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
         Map<String, AsyncApiSchema> schemas = extractSchemasFromSpec.extract();
 
@@ -143,8 +144,8 @@ public class GenerateModuleMemberDeclarationNodeTest {
     public void testGenerateMissingItemAttributeInArray() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-schema-with-unrecognized-type.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
         Map<String, AsyncApiSchema> schemas = extractSchemasFromSpec.extract();
 
@@ -160,8 +161,8 @@ public class GenerateModuleMemberDeclarationNodeTest {
     public void testGenerateWithInvalidNumberFormat() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-schema-with-invalid-number-format.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
         Map<String, AsyncApiSchema> schemas = extractSchemasFromSpec.extract();
 
@@ -175,8 +176,8 @@ public class GenerateModuleMemberDeclarationNodeTest {
     public void testGenerateWithNullables() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-single-schema-with-x-nullable.yml");
-        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        ObjectNode asyncApiSpecJson = fileRepository.readYamlTree(asyncApiSpecStr);
+        AsyncApiDocument asyncApiSpec = (AsyncApiDocument) Library.readDocument(asyncApiSpecJson);
         Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
         Map<String, AsyncApiSchema> schemas = extractSchemasFromSpec.extract();
 
@@ -96,6 +96,79 @@ public class AsyncApiConverterUtilsTest {
         Assert.assertTrue(Files.exists(this.tempDir.resolve(String.format("hello02%s.yaml", ASYNC_API_SUFFIX))));
     }
 
+    @Test(description = "Generate AsyncAPI spec for the services of every module in the package")
+    public void testServicesInPackage() {
+        Path ballerinaFilePath = RES_DIR.resolve("ballerina-package/main.bal");
+        List<AsyncApiConverterDiagnostic> errors = BallerinaToAsyncApiGenerator
+                .generateAsyncAPIDefinitionsForPackage(ballerinaFilePath, this.tempDir, false, outStream);
+
+        Assert.assertTrue(errors.isEmpty());
+        Assert.assertTrue(Files.exists(this.tempDir.resolve(String.format("hello%s.yaml", ASYNC_API_SUFFIX))));
+        Assert.assertTrue(Files.exists(this.tempDir.resolve(String.format("chat%s.yaml", ASYNC_API_SUFFIX))));
+    }
+
+    @Test(description = "Generate AsyncAPI spec for the services of different modules with the same base path")
+    public void testServicesWithSameBasePathInPackage() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("ballerina-package/main.bal");
+        List<AsyncApiConverterDiagnostic> errors = BallerinaToAsyncApiGenerator
+                .generateAsyncAPIDefinitionsForPackage(ballerinaFilePath, this.tempDir, false, outStream);
+
+        Assert.assertTrue(errors.isEmpty());
+        // The service of the module which is converted first keeps the plain contract name, the other one gets the
+        // name of its module as a prefix. Each contract must be generated from the service it is named after.
+        Path helloPath = this.tempDir.resolve(String.format("hello%s.yaml", ASYNC_API_SUFFIX));
+        Path defaultModulePath = this.tempDir.resolve(
+                String.format("ballerina_package_hello%s.yaml", ASYNC_API_SUFFIX));
+        Path greetModulePath = this.tempDir.resolve(
+                String.format("ballerina_package_greet_hello%s.yaml", ASYNC_API_SUFFIX));
+        Assert.assertTrue(Files.exists(helloPath));
+        Assert.assertNotEquals(Files.exists(defaultModulePath), Files.exists(greetModulePath));
+        if (Files.exists(greetModulePath)) {
+            Assert.assertTrue(Files.readString(helloPath).contains("Greeting"));
+            Assert.assertTrue(Files.readString(greetModulePath).contains("Welcome"));
+        } else {
+            Assert.assertTrue(Files.readString(helloPath).contains("Welcome"));
+            Assert.assertTrue(Files.readString(defaultModulePath).contains("Greeting"));
+        }
+    }
+
+    @Test(description = "Generate AsyncAPI spec for the services of a single file in the package")
+    public void testServicesInPackageFile() {
+        Path ballerinaFilePath = RES_DIR.resolve("ballerina-package/main.bal");
+        BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllService(ballerinaFilePath, this.tempDir,
+                null, false, outStream);
+
+        Assert.assertTrue(Files.exists(this.tempDir.resolve(String.format("hello%s.yaml", ASYNC_API_SUFFIX))));
+        Assert.assertFalse(Files.exists(this.tempDir.resolve(String.format("chat%s.yaml", ASYNC_API_SUFFIX))));
+    }
+
+    @Test(description = "Generate AsyncAPI spec only for the services, which changed since the last generation")
+    public void testIncrementalGeneration() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("service/basic_service.bal");
+        Path helloPath = this.tempDir.resolve(String.format("hello%s.yaml", ASYNC_API_SUFFIX));
+        BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllService(ballerinaFilePath, this.tempDir,
+                null, false, true, outStream);
+        Assert.assertTrue(Files.exists(helloPath));
+        Assert.assertTrue(Files.exists(this.tempDir.resolve(".asyncapi-digests")));
+
+        // An unchanged service is skipped, so the contract is not written again
+        Files.writeString(helloPath, "unchanged");
+        BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllService(ballerinaFilePath, this.tempDir,
+                null, false, true, outStream);
+        Assert.assertEquals(Files.readString(helloPath), "unchanged");
+
+        // A contract which no longer exists is generated again
+        Files.delete(helloPath);
+        BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllService(ballerinaFilePath, this.tempDir,
+                null, false, true, outStream);
+        Assert.assertTrue(Files.exists(helloPath));
+
+        Files.writeString(helloPath, "unchanged");
+        BallerinaToAsyncApiGenerator.generateAsyncAPIDefinitionsAllService(ballerinaFilePath, this.tempDir,
+                null, false, outStream);
+        Assert.assertNotEquals(Files.readString(helloPath), "unchanged");
+    }
+
     @Test(description = "Generate AsyncAPI spec with complex base paths")
     public void testComplexBasePathServices() {
         Path ballerinaFilePath = RES_DIR.resolve("service/complex_base_path.bal");
@@ -96,6 +96,12 @@ public class RecordTests {
         TestUtils.compareWithGeneratedFile(ballerinaFilePath, "record/cyclic_record.yaml");
     }
 
+    @Test(description = "When the records of the messages are interlinked through hundreds of cyclic records")
+    public void testInterlinkedRecords() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("record/interlinked_records.bal");
+        TestUtils.compareWithGeneratedFile(ballerinaFilePath, "record/interlinked_records.yaml");
+    }
+
     @Test(description = "When the record is readOnly type")
     public void testReadOnlyRecord() throws IOException {
         Path ballerinaFilePath = RES_DIR.resolve("record/with_readonly_keyword.bal");
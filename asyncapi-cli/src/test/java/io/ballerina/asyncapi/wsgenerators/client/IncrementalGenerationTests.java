@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.client;
+
+import io.ballerina.asyncapi.cmd.websockets.AsyncApiToBallerinaGenerator;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.ballerina.asyncapi.wsgenerators.asyncapi.TestUtils.deleteDirectory;
+
+/**
+ * Test the client generation, which writes only the changed files.
+ */
+public class IncrementalGenerationTests {
+    private static final Path RESDIR =
+            Paths.get("src/test/resources/websockets/asyncapi-to-ballerina/client").toAbsolutePath();
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tempDir = Files.createTempDirectory("asyncapi-to-bal-test-out-" + System.nanoTime());
+    }
+
+    @Test(description = "Generate the client again only when the AsyncAPI definition changed")
+    public void testIncrementalClientGeneration() throws IOException, BallerinaAsyncApiExceptionWs,
+            FormatterException {
+        Path definitionPath = RESDIR.resolve("SimpleResponse/multiple_response_with_dispatcherStreamId.yaml");
+        Path clientPath = this.tempDir.resolve("client.bal");
+        AsyncApiToBallerinaGenerator generator = new AsyncApiToBallerinaGenerator("", false, false, false, false,
+                false, true);
+        generator.generateClient(definitionPath, this.tempDir);
+        Assert.assertTrue(Files.exists(clientPath));
+        Assert.assertTrue(Files.exists(this.tempDir.resolve(".asyncapi-client-digest")));
+
+        // Nothing is generated again, since the definition did not change
+        Files.writeString(clientPath, "unchanged");
+        generator.generateClient(definitionPath, this.tempDir);
+        Assert.assertEquals(Files.readString(clientPath), "unchanged");
+
+        // The client is generated again when the options change, but the files which did not change are kept
+        String typesContent = Files.readString(this.tempDir.resolve("types.bal"));
+        long typesModifiedTime = Files.getLastModifiedTime(this.tempDir.resolve("types.bal")).toMillis();
+        new AsyncApiToBallerinaGenerator("", false, true, false, false, false, true)
+                .generateClient(definitionPath, this.tempDir);
+        Assert.assertNotEquals(Files.readString(clientPath), "unchanged");
+        Assert.assertEquals(Files.readString(this.tempDir.resolve("types.bal")), typesContent);
+        Assert.assertEquals(Files.getLastModifiedTime(this.tempDir.resolve("types.bal")).toMillis(),
+                typesModifiedTime);
+
+        // A removed file is generated again
+        Files.delete(clientPath);
+        new AsyncApiToBallerinaGenerator("", false, true, false, false, false, true)
+                .generateClient(definitionPath, this.tempDir);
+        Assert.assertTrue(Files.exists(clientPath));
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        deleteDirectory(this.tempDir);
+    }
+}
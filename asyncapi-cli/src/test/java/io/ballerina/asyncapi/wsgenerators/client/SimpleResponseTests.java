@@ -118,5 +118,62 @@ public class SimpleResponseTests {
 //        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPathForTypes, schemaSyntaxTree);
     }
 
+    @Test(description = "Test for a message which sets the capacity of its pipe")
+    public void testPipeCapacityOfMessage() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/pipe_capacity.yaml");
+        Path expectedPathForClient = RES_DIR.resolve("baloutputs/SimpleResponse/pipe_capacity.bal");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
+        AasClientConfig oasClientConfig = clientMetaDataBuilder
+                .withAsyncApi(asyncAPI).build();
+        IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(oasClientConfig);
+        syntaxTree = intermediateClientGenerator.generateSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPathForClient, syntaxTree);
+    }
+
+    @Test(description = "Test for a message which sets an invalid capacity of its pipe",
+            expectedExceptions = BallerinaAsyncApiExceptionWs.class,
+            expectedExceptionsMessageRegExp = "x-ballerina-pipe-capacity of the message 'Subscribe' must be a " +
+                    "positive integer")
+    public void testInvalidPipeCapacityOfMessage() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/invalid_pipe_capacity.yaml");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
+        AasClientConfig oasClientConfig = clientMetaDataBuilder
+                .withAsyncApi(asyncAPI).build();
+        IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(oasClientConfig);
+        intermediateClientGenerator.generateSyntaxTree();
+    }
+
+    @Test(description = "Test for a client which writes the queued messages in batches")
+    public void testWriteBatching() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/one_response_with_no_dispatcherStreamId.yaml");
+        Path expectedPathForClient = RES_DIR.resolve("baloutputs/SimpleResponse/write_batching.bal");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
+        AasClientConfig oasClientConfig = clientMetaDataBuilder
+                .withAsyncApi(asyncAPI)
+                .withWriteBatching(true).build();
+        IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(oasClientConfig);
+        syntaxTree = intermediateClientGenerator.generateSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPathForClient, syntaxTree);
+    }
+
+    @Test(description = "Test for a client which writes the batches of messages as single frames")
+    public void testWriteBatchingWithBatchFrames() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("SimpleResponse/write_batching_with_frames.yaml");
+        Path expectedPathForClient = RES_DIR.resolve("baloutputs/SimpleResponse/write_batching_with_frames.bal");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
+        AasClientConfig oasClientConfig = clientMetaDataBuilder
+                .withAsyncApi(asyncAPI)
+                .withWriteBatching(true).build();
+        IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(oasClientConfig);
+        syntaxTree = intermediateClientGenerator.generateSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPathForClient, syntaxTree);
+    }
 
 }
@@ -77,6 +77,38 @@ public class StreamResponseTests {
 //        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPathForTypes, schemaSyntaxTree);
     }
 
+    @Test(description = "Test for stream request of a client which reconnects once the connection is lost")
+    public void testOneStreamingWithAutoReconnect() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("StreamResponse/one_stream_with_dispatcherStreamId.yaml");
+        Path expectedPathForClient = RES_DIR.resolve("baloutputs/StreamResponse/" +
+                "one_stream_with_auto_reconnect.bal");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
+        AasClientConfig oasClientConfig = clientMetaDataBuilder
+                .withAsyncApi(asyncAPI)
+                .withAutoReconnect(true).build();
+        IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(oasClientConfig);
+        syntaxTree = intermediateClientGenerator.generateSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPathForClient, syntaxTree);
+    }
+
+    @Test(description = "Test for stream request of a client generated along with its connection pool")
+    public void testOneStreamingWithConnectionPool() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RES_DIR.resolve("StreamResponse/one_stream_with_dispatcherStreamId.yaml");
+        Path expectedPathForClient = RES_DIR.resolve("baloutputs/StreamResponse/" +
+                "one_stream_with_connection_pool.bal");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
+        AasClientConfig oasClientConfig = clientMetaDataBuilder
+                .withAsyncApi(asyncAPI)
+                .withConnectionPool(true).build();
+        IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(oasClientConfig);
+        syntaxTree = intermediateClientGenerator.generateSyntaxTree();
+
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPathForClient, syntaxTree);
+    }
+
 
     @Test(description = "Test for header that comes under the parameter section")
     public void testMultipleStreamingRequestWithNoDispatcherStreamIdRequest() throws IOException,
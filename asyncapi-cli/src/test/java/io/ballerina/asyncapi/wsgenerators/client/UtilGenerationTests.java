@@ -104,6 +104,34 @@ public class UtilGenerationTests {
         SyntaxTree utlisSyntaxTree = intermediateClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
         TestUtils.compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath.toString(), utlisSyntaxTree);
     }
+
+    @Test(description = "Validate the util functions generated when the pipes are kept in the native registry")
+    public void testNativePipesUtilFileGen() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RESDIR.resolve("Util/complete_util_gen.yaml");
+        Path expectedPath = RESDIR.resolve("baloutputs/Util/native_pipes_util.bal");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
+        AasClientConfig oasClientConfig = clientMetaDataBuilder.withAsyncApi(asyncAPI)
+                .withNativePipes(true).build();
+        IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(oasClientConfig);
+        intermediateClientGenerator.generateSyntaxTree();
+        SyntaxTree utlisSyntaxTree = intermediateClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+        TestUtils.compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath.toString(), utlisSyntaxTree);
+    }
+
+    @Test(description = "Validate the util functions generated for a client which reconnects")
+    public void testAutoReconnectUtilFileGen() throws IOException, BallerinaAsyncApiExceptionWs {
+        Path definitionPath = RESDIR.resolve("Util/complete_util_gen.yaml");
+        Path expectedPath = RESDIR.resolve("baloutputs/Util/auto_reconnect_util.bal");
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(definitionPath);
+        AasClientConfig.Builder clientMetaDataBuilder = new AasClientConfig.Builder();
+        AasClientConfig oasClientConfig = clientMetaDataBuilder.withAsyncApi(asyncAPI)
+                .withAutoReconnect(true).build();
+        IntermediateClientGenerator intermediateClientGenerator = new IntermediateClientGenerator(oasClientConfig);
+        intermediateClientGenerator.generateSyntaxTree();
+        SyntaxTree utlisSyntaxTree = intermediateClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+        TestUtils.compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath.toString(), utlisSyntaxTree);
+    }
 //
 //    @Test(description = "Test the utilsbal file generation when only in:query api-key auth given")
 //    public void testApiKeyauthUtilGen() throws IOException, BallerinaAsyncApiException,
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.asyncapi.wsgenerators.schema;
+
+import io.apicurio.datamodels.models.asyncapi.v25.AsyncApi25DocumentImpl;
+import io.ballerina.asyncapi.websocketscore.GeneratorUtils;
+import io.ballerina.asyncapi.websocketscore.exception.BallerinaAsyncApiExceptionWs;
+import io.ballerina.asyncapi.websocketscore.generators.schema.BallerinaTypesGenerator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for the generation of the types of several asyncAPI specifications at the same time.
+ */
+public class ConcurrentGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/websockets/asyncapi-to-ballerina/schema")
+            .toAbsolutePath();
+    private static final String[] SPECS = {"AllOf/oneAllOf.yaml", "AllOf/twoAllOf.yaml",
+            "AllOf/allOf_with_one_ref.yaml", "Reference/multiple_references.yaml", "Reference/referred_inclusion.yaml",
+            "Reference/resolve_reference_docs.yaml"};
+    private static final int GENERATIONS_PER_SPEC = 8;
+
+    @Test(description = "Generate types of multiple specifications concurrently and compare them with the " +
+            "sequentially generated types")
+    public void testConcurrentGeneration() throws IOException, BallerinaAsyncApiExceptionWs, InterruptedException,
+            ExecutionException {
+        List<String> expectedTypes = new ArrayList<>();
+        for (String spec : SPECS) {
+            expectedTypes.add(generateTypes(spec));
+        }
+
+        List<Callable<String>> generations = new ArrayList<>();
+        for (int i = 0; i < GENERATIONS_PER_SPEC; i++) {
+            for (String spec : SPECS) {
+                generations.add(() -> generateTypes(spec));
+            }
+        }
+        try (ExecutorService executor = Executors.newFixedThreadPool(SPECS.length)) {
+            List<Future<String>> results = executor.invokeAll(generations);
+            for (int i = 0; i < results.size(); i++) {
+                Assert.assertEquals(results.get(i).get(), expectedTypes.get(i % SPECS.length),
+                        "Unexpected types generated for " + SPECS[i % SPECS.length]);
+            }
+        }
+    }
+
+    private static String generateTypes(String spec) throws IOException, BallerinaAsyncApiExceptionWs {
+        AsyncApi25DocumentImpl asyncAPI = GeneratorUtils.normalizeAsyncAPI(RES_DIR.resolve(spec));
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(asyncAPI);
+        return ballerinaSchemaGenerator.generateSyntaxTree().toSourceCode();
+    }
+}
@@ -0,0 +1,59 @@
+import ballerina/http;
+import ballerinax/asyncapi.native.handler;
+
+service class DispatcherService {
+    *http:Service;
+    private map<GenericServiceType> services = {};
+    private handler:NativeHandler nativeHandler = new ();
+
+    isolated function addServiceRef(string serviceType, GenericServiceType genericService) returns error? {
+        if (self.services.hasKey(serviceType)) {
+            return error("Service of type " + serviceType + " has already been attached");
+        }
+        self.services[serviceType] = genericService;
+    }
+
+    isolated function removeServiceRef(string serviceType) returns error? {
+        if (!self.services.hasKey(serviceType)) {
+            return error("Cannot detach the service of type " + serviceType + ". Service has not been attached to the listener before");
+        }
+        _ = self.services.remove(serviceType);
+    }
+
+    // We are not using the (@http:payload GenericEventWrapperEvent g) notation because of a bug in Ballerina.
+    // Issue: https://github.com/ballerina-platform/ballerina-lang/issues/32859
+    resource function post .(http:Caller caller, http:Request request) returns error? {
+        json payload = check request.getJsonPayload();
+        json[] events = payload is json[] ? payload : [payload];
+        handler:RemoteFunctionCall[] calls = [];
+        foreach json event in events {
+            GenericDataType genericDataType = check event.cloneWithType(GenericDataType);
+            handler:RemoteFunctionCall? call = self.matchRemoteFunc(genericDataType);
+            if call is handler:RemoteFunctionCall {
+                calls.push(call);
+            }
+        }
+        check self.nativeHandler.invokeRemoteFunctions(calls);
+        check caller->respond(http:STATUS_OK);
+    }
+
+    private function matchRemoteFunc(GenericDataType genericDataType) returns handler:RemoteFunctionCall? {
+        anydata eventName = genericDataType.event.'type;
+        if eventName is string {
+            [string, string]? dispatchTarget = dispatchTable[eventName];
+            if dispatchTarget is [string, string] {
+                GenericServiceType? genericService = self.services[dispatchTarget[0]];
+                if genericService is GenericServiceType {
+                    return {event: genericDataType, eventName, eventFunction: dispatchTarget[1], serviceObj: genericService};
+                }
+            }
+        }
+    }
+}
+
+final readonly & map<[string, string]> dispatchTable = {
+    "app_mention_added": ["AppMentionHandlingService", "onAppMentionAdded"],
+    "app_mention_removed": ["AppMentionHandlingService", "onAppMentionRemoved"],
+    "app_rate_limited": ["AppRateLimitedHandlingService", "onAppRateLimited"],
+    "app_created": ["AppCreatedHandlingService", "onAppCreated"]
+};
@@ -0,0 +1,95 @@
+import ballerina/http;
+import ballerina/log;
+import ballerinax/asyncapi.native.handler;
+
+isolated service class DispatcherService {
+    *http:Service;
+    private map<isolated service object {}> services = {};
+    private final handler:NativeHandler nativeHandler = new ();
+    private final DispatchQueue dispatchQueue;
+
+    isolated function init(DispatchConfiguration dispatchConfig) {
+        self.dispatchQueue = new (dispatchConfig);
+    }
+
+    isolated function addServiceRef(string serviceType, GenericServiceType genericService) returns error? {
+        if genericService !is isolated service object {} {
+            return error("Service of type " + serviceType + " must be isolated to be dispatched asynchronously");
+        }
+        lock {
+            if (self.services.hasKey(serviceType)) {
+                return error("Service of type " + serviceType + " has already been attached");
+            }
+            self.services[serviceType] = genericService;
+        }
+    }
+
+    isolated function removeServiceRef(string serviceType) returns error? {
+        lock {
+            if (!self.services.hasKey(serviceType)) {
+                return error("Cannot detach the service of type " + serviceType + ". Service has not been attached to the listener before");
+            }
+            _ = self.services.remove(serviceType);
+        }
+    }
+
+    // We are not using the (@http:payload GenericEventWrapperEvent g) notation because of a bug in Ballerina.
+    // Issue: https://github.com/ballerina-platform/ballerina-lang/issues/32859
+    resource function post .(http:Caller caller, http:Request request) returns error? {
+        json payload = check request.getJsonPayload();
+        readonly & GenericDataType genericDataType = check payload.cloneWithType();
+        boolean|error startWorker = self.dispatchQueue.offer([genericDataType]);
+        if startWorker is error {
+            check caller->respond(http:TOO_MANY_REQUESTS);
+            return;
+        }
+        if startWorker {
+            _ = start self.dispatchQueuedEvents();
+        }
+        check caller->respond(http:STATUS_OK);
+    }
+
+    private isolated function matchRemoteFunc(GenericDataType genericDataType) returns error? {
+        match genericDataType.event.'type {
+            "app_mention_added" => {
+                check self.executeRemoteFunc(genericDataType, "app_mention_added", "AppMentionHandlingService", "onAppMentionAdded");
+            }
+            "app_mention_removed" => {
+                check self.executeRemoteFunc(genericDataType, "app_mention_removed", "AppMentionHandlingService", "onAppMentionRemoved");
+            }
+            "app_rate_limited" => {
+                check self.executeRemoteFunc(genericDataType, "app_rate_limited", "AppRateLimitedHandlingService", "onAppRateLimited");
+            }
+            "app_created" => {
+                check self.executeRemoteFunc(genericDataType, "app_created", "AppCreatedHandlingService", "onAppCreated");
+            }
+        }
+    }
+
+    private isolated function executeRemoteFunc(GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction) returns error? {
+        isolated service object {}? genericService;
+        lock {
+            genericService = self.services[serviceTypeStr];
+        }
+        if genericService is isolated service object {} {
+            check self.nativeHandler.invokeRemoteFunction(genericEvent, eventName, eventFunction, genericService);
+        }
+    }
+
+    isolated function getDispatchMetrics() returns DispatchMetrics {
+        return self.dispatchQueue.getMetrics();
+    }
+
+    private isolated function dispatchQueuedEvents() {
+        while true {
+            (readonly & anydata)? event = self.dispatchQueue.poll();
+            if event is () {
+                return;
+            }
+            error? result = self.matchRemoteFunc(...<[GenericDataType]>event);
+            if result is error {
+                log:printError("Failed to dispatch the event", 'error = result);
+            }
+        }
+    }
+}
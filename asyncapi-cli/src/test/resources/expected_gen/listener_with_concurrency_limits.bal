@@ -0,0 +1,52 @@
+import ballerina/http;
+import ballerinax/asyncapi.native.handler;
+
+@display {
+    label: ""
+}
+public class Listener {
+    private http:Listener httpListener;
+    private DispatcherService dispatcherService;
+
+    public function init(int|http:Listener listenTo = 8090, handler:ConcurrencyConfig concurrencyConfig = {}, *ListenerConfiguration configuration) returns error? {
+        if listenTo is http:Listener {
+            self.httpListener = listenTo;
+        } else {
+            self.httpListener = check new (listenTo, configuration);
+        }
+        self.dispatcherService = new DispatcherService(concurrencyConfig);
+    }
+
+    public isolated function attach(GenericServiceType serviceRef, () attachPoint) returns @tainted error? {
+        string serviceTypeStr = self.getServiceTypeStr(serviceRef);
+        check self.dispatcherService.addServiceRef(serviceTypeStr, serviceRef);
+    }
+
+    public isolated function detach(GenericServiceType serviceRef) returns error? {
+        string serviceTypeStr = self.getServiceTypeStr(serviceRef);
+        check self.dispatcherService.removeServiceRef(serviceTypeStr);
+    }
+
+    public isolated function 'start() returns error? {
+        check self.httpListener.attach(self.dispatcherService, ());
+        return self.httpListener.'start();
+    }
+
+    public isolated function gracefulStop() returns @tainted error? {
+        return self.httpListener.gracefulStop();
+    }
+
+    public isolated function immediateStop() returns error? {
+        return self.httpListener.immediateStop();
+    }
+
+    private isolated function getServiceTypeStr(GenericServiceType serviceRef) returns string {
+        if serviceRef is AppMentionHandlingService {
+            return "AppMentionHandlingService";
+        } else if serviceRef is AppRateLimitedHandlingService {
+            return "AppRateLimitedHandlingService";
+        } else {
+            return "AppCreatedHandlingService";
+        }
+    }
+}
@@ -0,0 +1,181 @@
+import ballerina/http;
+import xlibb/pipe;
+
+@display {
+    label: ""
+}
+public class Listener {
+    private http:Listener httpListener;
+    private DispatcherService dispatcherService;
+
+    public function init(int|http:Listener listenTo = 8090, DispatchConfiguration dispatchConfig = {}, *ListenerConfiguration configuration) returns error? {
+        if listenTo is http:Listener {
+            self.httpListener = listenTo;
+        } else {
+            self.httpListener = check new (listenTo, configuration);
+        }
+        self.dispatcherService = new DispatcherService(dispatchConfig);
+    }
+
+    public isolated function attach(GenericServiceType serviceRef, () attachPoint) returns @tainted error? {
+        string serviceTypeStr = self.getServiceTypeStr(serviceRef);
+        check self.dispatcherService.addServiceRef(serviceTypeStr, serviceRef);
+    }
+
+    public isolated function detach(GenericServiceType serviceRef) returns error? {
+        string serviceTypeStr = self.getServiceTypeStr(serviceRef);
+        check self.dispatcherService.removeServiceRef(serviceTypeStr);
+    }
+
+    public isolated function 'start() returns error? {
+        check self.httpListener.attach(self.dispatcherService, ());
+        return self.httpListener.'start();
+    }
+
+    public isolated function gracefulStop() returns @tainted error? {
+        return self.httpListener.gracefulStop();
+    }
+
+    public isolated function immediateStop() returns error? {
+        return self.httpListener.immediateStop();
+    }
+
+    private isolated function getServiceTypeStr(GenericServiceType serviceRef) returns string {
+        if serviceRef is AppMentionHandlingService {
+            return "AppMentionHandlingService";
+        } else if serviceRef is AppRateLimitedHandlingService {
+            return "AppRateLimitedHandlingService";
+        } else {
+            return "AppCreatedHandlingService";
+        }
+    }
+
+    public isolated function getDispatchMetrics() returns DispatchMetrics {
+        return self.dispatcherService.getDispatchMetrics();
+    }
+}
+
+# Defines what happens to an event which arrives while the dispatch queue is full.
+public enum OverflowPolicy {
+    # Reject the event, the webhook request is responded with `429 Too Many Requests`
+    REJECT,
+    # Hold the webhook request until there is space in the queue
+    BLOCK,
+    # Discard the oldest queued event to make space for the new event
+    DROP_OLDEST
+}
+
+# Configurations related to the asynchronous dispatching of the events.
+#
+# + concurrency - Maximum number of events dispatched to the services at the same time
+# + queueCapacity - Maximum number of acknowledged events waiting to be dispatched
+# + overflowPolicy - What happens to an event which arrives while the queue is full
+# + blockTimeout - Time in seconds a webhook request waits for space in the queue with the `BLOCK` policy, before the
+# event is rejected
+public type DispatchConfiguration record {|
+    int concurrency = 10;
+    int queueCapacity = 1000;
+    OverflowPolicy overflowPolicy = REJECT;
+    decimal blockTimeout = 60;
+|};
+
+# Snapshot of the state of the dispatch queue.
+#
+# + queueDepth - Number of events currently waiting to be dispatched
+# + highWaterMark - Highest queue depth observed so far
+# + activeWorkers - Number of workers currently dispatching events
+# + rejectedCount - Number of events rejected because the queue was full
+# + droppedCount - Number of queued events discarded to make space for newer events
+public type DispatchMetrics record {|
+    int queueDepth;
+    int highWaterMark;
+    int activeWorkers;
+    int rejectedCount;
+    int droppedCount;
+|};
+
+# A bounded queue of the acknowledged events. The events are kept in a pipe, which holds back the webhook requests
+# while it is full with the `BLOCK` policy, and the number of the queued events and the workers is kept under a lock.
+isolated class DispatchQueue {
+    private final int concurrency;
+    private final OverflowPolicy overflowPolicy;
+    private final decimal blockTimeout;
+    private final pipe:Pipe events;
+    private int queuedEvents = 0;
+    private int activeWorkers = 0;
+    private int highWaterMark = 0;
+    private int rejectedCount = 0;
+    private int droppedCount = 0;
+
+    isolated function init(DispatchConfiguration config) {
+        self.concurrency = config.concurrency < 1 ? 1 : config.concurrency;
+        self.overflowPolicy = config.overflowPolicy;
+        self.blockTimeout = config.blockTimeout;
+        self.events = new (config.queueCapacity < 1 ? 1 : config.queueCapacity);
+    }
+
+    # Adds an event to the queue.
+    #
+    # + event - Event to be dispatched
+    # + return - `true` if a new worker has to be started to drain the queue, `false` if a running worker picks the
+    # event, or an `error` if the event is rejected
+    isolated function offer(readonly & anydata event) returns boolean|error {
+        boolean queued = false;
+        if self.overflowPolicy == BLOCK {
+            // The pipe holds the request until a worker takes an event, the event is counted once it is queued
+            queued = self.events.produce(event, self.blockTimeout) is ();
+        }
+        lock {
+            if !queued && self.events.produce(event, 0) is pipe:Error {
+                if self.overflowPolicy != DROP_OLDEST {
+                    self.rejectedCount += 1;
+                    return error("Dispatch queue is full");
+                }
+                (readonly & anydata)|pipe:Error oldestEvent = self.events.consume(0);
+                if oldestEvent !is pipe:Error {
+                    self.queuedEvents -= 1;
+                    self.droppedCount += 1;
+                }
+                check self.events.produce(event, 0);
+            }
+            self.queuedEvents += 1;
+            if self.queuedEvents > self.highWaterMark {
+                self.highWaterMark = self.queuedEvents;
+            }
+            if self.activeWorkers < self.concurrency {
+                self.activeWorkers += 1;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    # Takes the next event from the queue. The calling worker stops when there is none.
+    #
+    # + return - The next event, or `()` if the queue is empty
+    isolated function poll() returns (readonly & anydata)? {
+        lock {
+            if self.queuedEvents > 0 {
+                (readonly & anydata)|pipe:Error event = self.events.consume(0);
+                if event !is pipe:Error {
+                    self.queuedEvents -= 1;
+                    return event;
+                }
+            }
+            self.activeWorkers -= 1;
+            return ();
+        }
+    }
+
+    isolated function getMetrics() returns DispatchMetrics {
+        lock {
+            return {
+                queueDepth: self.queuedEvents,
+                highWaterMark: self.highWaterMark,
+                activeWorkers: self.activeWorkers,
+                rejectedCount: self.rejectedCount,
+                droppedCount: self.droppedCount
+            };
+        }
+    }
+}
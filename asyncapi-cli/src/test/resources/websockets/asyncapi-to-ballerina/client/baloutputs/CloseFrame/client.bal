@@ -36,10 +36,11 @@ public client isolated class GraphqlOverWebsocketClient {
     #
     # + config - The configurations to be used when initializing the `connector` 
     # + serviceUrl - URL of the target service 
+    # + pipeConfig - Capacities of the queues which buffer the messages of the client
     # + return - An error if connector initialization failed 
-    public isolated function init(websocket:ClientConfiguration clientConfig = {}, string serviceUrl = "ws://localhost:9090/graphql_over_websocket") returns error? {
-        self.pipes = new ();
-        self.writeMessageQueue = new (1000);
+    public isolated function init(websocket:ClientConfiguration clientConfig = {}, string serviceUrl = "ws://localhost:9090/graphql_over_websocket", PipeConfig pipeConfig = {}) returns error? {
+        self.pipes = new (pipeConfig);
+        self.writeMessageQueue = new (pipeConfig.writeQueueCapacity);
         websocket:Client websocketEp = check new (serviceUrl, clientConfig);
         self.clientEp = websocketEp;
         self.isActive = true;
@@ -70,22 +71,27 @@ public client isolated class GraphqlOverWebsocketClient {
     private isolated function startMessageWriting() {
         worker writeMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
-                Message|pipe:Error message = self.writeMessageQueue.consume(5);
+                Message|pipe:Error message = self.writeMessageQueue.consume(3600);
                 if message is pipe:Error {
                     if message.message() == "Operation has timed out" {
                         continue;
                     }
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to consume message from the pipe", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 websocket:Error? wsErr = self.clientEp->writeMessage(message);
                 if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to write message to the client", wsErr);
                     self.attemptToCloseConnection();
                     return;
@@ -99,21 +105,25 @@ public client isolated class GraphqlOverWebsocketClient {
     private isolated function startMessageReading() {
         worker readMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
                 Message|websocket:Error message = self.clientEp->readMessage(Message);
                 if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to read message from the client", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 string pipeName = self.getPipeName(message.'type);
-                pipe:Pipe pipe = self.pipes.getPipe(pipeName);
-                pipe:Error? pipeErr = pipe.produce(message, 5);
+                pipe:Error? pipeErr = self.pipes.produce(pipeName, message, 5);
                 if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
                     self.attemptToCloseConnection();
                     return;
@@ -122,28 +132,27 @@ public client isolated class GraphqlOverWebsocketClient {
         }
     }
 
-    remote isolated function doConnectionInit(ConnectionInit connectionInit, decimal timeout) returns ConnectionAck|error {
+    remote isolated function doConnectionInit(ConnectionInit connectionInit, decimal timeout) returns readonly & ConnectionAck|error {
         lock {
             if !self.isActive {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = connectionInit.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = connectionInit.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("connectionInit").consume(timeout);
+        anydata|pipe:Error responseMessage = self.pipes.consume("connectionInit", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        ConnectionAck|error connectionAck = responseMessage.cloneWithType();
+        if responseMessage is readonly & ConnectionAck {
+            return responseMessage;
+        }
+        readonly & ConnectionAck|error connectionAck = responseMessage.cloneWithType();
         if connectionAck is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", connectionAck);
@@ -151,28 +160,27 @@ public client isolated class GraphqlOverWebsocketClient {
         return connectionAck;
     }
 
-    remote isolated function doPingMessage(PingMessage pingMessage, decimal timeout) returns PongMessage|error {
+    remote isolated function doPingMessage(PingMessage pingMessage, decimal timeout) returns readonly & PongMessage|error {
         lock {
             if !self.isActive {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = pingMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = pingMessage.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("pingMessage").consume(timeout);
+        anydata|pipe:Error responseMessage = self.pipes.consume("pingMessage", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        PongMessage|error pongMessage = responseMessage.cloneWithType();
+        if responseMessage is readonly & PongMessage {
+            return responseMessage;
+        }
+        readonly & PongMessage|error pongMessage = responseMessage.cloneWithType();
         if pongMessage is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", pongMessage);
@@ -180,28 +188,27 @@ public client isolated class GraphqlOverWebsocketClient {
         return pongMessage;
     }
 
-    remote isolated function doSubscribe(Subscribe subscribe, decimal timeout) returns Next|Complete|error {
+    remote isolated function doSubscribe(Subscribe subscribe, decimal timeout) returns readonly & (Next|Complete)|error {
         lock {
             if !self.isActive {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = subscribe.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = subscribe.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("subscribe").consume(timeout);
+        anydata|pipe:Error responseMessage = self.pipes.consume("subscribe", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        Next|Complete|error unionResult = responseMessage.cloneWithType();
+        if responseMessage is readonly & (Next|Complete) {
+            return responseMessage;
+        }
+        readonly & (Next|Complete)|error unionResult = responseMessage.cloneWithType();
         if unionResult is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", unionResult);
@@ -215,11 +222,7 @@ public client isolated class GraphqlOverWebsocketClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = complete.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = complete.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
@@ -242,4 +245,11 @@ public client isolated class GraphqlOverWebsocketClient {
             check self.clientEp->close();
         }
     };
+
+    # Returns the capacity and the load counters of the pipes of the client.
+    #
+    # + return - Metrics of the pipes keyed by the pipe name
+    public isolated function getPipeMetrics() returns map<PipeMetrics> {
+        return self.pipes.getMetrics();
+    }
 }
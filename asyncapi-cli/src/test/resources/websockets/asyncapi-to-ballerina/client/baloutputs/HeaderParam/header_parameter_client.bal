@@ -8,6 +8,7 @@ public client isolated class PayloadVv1Client {
     private final websocket:Client clientEp;
     private final pipe:Pipe writeMessageQueue;
     private final PipesMap pipes;
+    private final ResponseSlots responseSlots;
     private boolean isActive;
     private final readonly & map<string> responseMap = {
         "UnSubscribe": "subscribe"
@@ -17,11 +18,13 @@ public client isolated class PayloadVv1Client {
     #
     # + config - The configurations to be used when initializing the `connector`
     # + serviceUrl - URL of the target service
+    # + pipeConfig - Capacities of the queues which buffer the messages of the client
     # + return - An error if connector initialization failed
     # + headerParams - header parameters
-    public isolated function init(HeaderParams headerParams, websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/payloadV") returns error? {
-        self.pipes = new ();
-        self.writeMessageQueue = new (1000);
+    public isolated function init(HeaderParams headerParams, websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/payloadV", PipeConfig pipeConfig = {}) returns error? {
+        self.pipes = new (pipeConfig);
+        self.responseSlots = new ();
+        self.writeMessageQueue = new (pipeConfig.writeQueueCapacity);
         string modifiedUrl = serviceUrl + string `/v1`;
         map<string> headerParam = {"offset": headerParams.offset.toString(), "lat": headerParams.lat, "lon": headerParams.lon, "exclude": headerParams.exclude, "units": headerParams.units.toString()};
         map<string> customHeaders = getCombineHeaders(clientConfig.customHeaders,headerParam);
@@ -56,22 +59,27 @@ public client isolated class PayloadVv1Client {
     private isolated function startMessageWriting() {
         worker writeMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
-                Message|pipe:Error message = self.writeMessageQueue.consume(5);
+                Message|pipe:Error message = self.writeMessageQueue.consume(3600);
                 if message is pipe:Error {
                     if message.message() == "Operation has timed out" {
                         continue;
                     }
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to consume message from the pipe", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 websocket:Error? wsErr = self.clientEp->writeMessage(message);
                 if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to write message to the client", wsErr);
                     self.attemptToCloseConnection();
                     return;
@@ -85,27 +93,36 @@ public client isolated class PayloadVv1Client {
     private isolated function startMessageReading() {
         worker readMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
                 Message|websocket:Error message = self.clientEp->readMessage(Message);
                 if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to read message from the client", message);
                     self.attemptToCloseConnection();
                     return;
                 }
-                pipe:Pipe pipe;
-                MessageWithId|error messageWithId = message.cloneWithType(MessageWithId);
-                if messageWithId is MessageWithId {
-                    pipe = self.pipes.getPipe(messageWithId.id);
+                string pipeName;
+                if message is MessageWithId {
+                    pipeName = message.id;
                 } else {
-                    string pipeName = self.getPipeName(message.event);
-                    pipe = self.pipes.getPipe(pipeName);
+                    pipeName = self.getPipeName(message.event);
+                }
+                pipe:Error? pipeErr;
+                pipe:Pipe? responseSlot = self.responseSlots.take(pipeName);
+                if responseSlot is pipe:Pipe {
+                    pipeErr = responseSlot.produce(message, 0);
+                } else {
+                    pipeErr = self.pipes.produce(pipeName, message, 5);
                 }
-                pipe:Error? pipeErr = pipe.produce(message, 5);
                 if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
                     self.attemptToCloseConnection();
                     return;
@@ -119,32 +136,30 @@ public client isolated class PayloadVv1Client {
     # + subscribe - subscribe description
     # + timeout - waiting period to keep the event in the buffer in seconds
     # + return - unsubscribe description
-    remote isolated function doSubscribe(Subscribe subscribe, decimal timeout) returns UnSubscribe|error {
+    remote isolated function doSubscribe(Subscribe subscribe, decimal timeout) returns readonly & UnSubscribe|error {
         lock {
             if !self.isActive {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = subscribe.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        pipe:Pipe responseSlot = self.responseSlots.reserve(subscribe.id);
+        Message message = subscribe.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
+            self.responseSlots.release(subscribe.id, responseSlot, true);
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe(subscribe.id).consume(timeout);
+        Message|pipe:Error responseMessage = responseSlot.consume(timeout);
+        self.responseSlots.release(subscribe.id, responseSlot, responseMessage is Message);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        error? pipeCloseError = self.pipes.removePipe(subscribe.id);
-        if pipeCloseError is error {
-            log:printDebug("PipeError: Error in closing pipe.", pipeCloseError);
+        if responseMessage is readonly & UnSubscribe {
+            return responseMessage;
         }
-        UnSubscribe|error unSubscribe = responseMessage.cloneWithType();
+        readonly & UnSubscribe|error unSubscribe = responseMessage.cloneWithType();
         if unSubscribe is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", unSubscribe);
@@ -164,7 +179,15 @@ public client isolated class PayloadVv1Client {
             self.isActive = false;
             check self.writeMessageQueue.immediateClose();
             check self.pipes.removePipes();
+            check self.responseSlots.removeSlots();
             check self.clientEp->close();
         }
     };
+
+    # Returns the capacity and the load counters of the pipes of the client.
+    #
+    # + return - Metrics of the pipes keyed by the pipe name
+    public isolated function getPipeMetrics() returns map<PipeMetrics> {
+        return self.pipes.getMetrics();
+    }
 }
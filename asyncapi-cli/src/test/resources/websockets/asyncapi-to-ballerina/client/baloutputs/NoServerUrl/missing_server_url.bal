@@ -22,11 +22,12 @@ public client isolated class ChatClient {
     #
     # + config - The configurations to be used when initializing the `connector`
     # + serviceUrl - URL of the target service
+    # + pipeConfig - Capacities of the queues which buffer the messages of the client
     # + return - An error if connector initialization failed
-    public isolated function init(string serviceUrl, websocket:ClientConfiguration clientConfig =  {}) returns error? {
-        self.pipes = new ();
+    public isolated function init(string serviceUrl, websocket:ClientConfiguration clientConfig =  {}, PipeConfig pipeConfig = {}) returns error? {
+        self.pipes = new (pipeConfig);
         self.streamGenerators = new ();
-        self.writeMessageQueue = new (1000);
+        self.writeMessageQueue = new (pipeConfig.writeQueueCapacity);
         websocket:Client websocketEp = check new (serviceUrl, clientConfig);
         self.clientEp = websocketEp;
         self.isActive = true;
@@ -57,22 +58,27 @@ public client isolated class ChatClient {
     private isolated function startMessageWriting() {
         worker writeMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
-                Message|pipe:Error message = self.writeMessageQueue.consume(5);
+                Message|pipe:Error message = self.writeMessageQueue.consume(3600);
                 if message is pipe:Error {
                     if message.message() == "Operation has timed out" {
                         continue;
                     }
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to consume message from the pipe", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 websocket:Error? wsErr = self.clientEp->writeMessage(message);
                 if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to write message to the client", wsErr);
                     self.attemptToCloseConnection();
                     return;
@@ -86,21 +92,25 @@ public client isolated class ChatClient {
     private isolated function startMessageReading() {
         worker readMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
                 Message|websocket:Error message = self.clientEp->readMessage(Message);
                 if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to read message from the client", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 string pipeName = self.getPipeName(message.'type);
-                pipe:Pipe pipe = self.pipes.getPipe(pipeName);
-                pipe:Error? pipeErr = pipe.produce(message, 5);
+                pipe:Error? pipeErr = self.pipes.produce(pipeName, message, 5);
                 if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
                     self.attemptToCloseConnection();
                     return;
@@ -120,11 +130,7 @@ public client isolated class ChatClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = subscribeMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = subscribeMessage.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
@@ -132,35 +138,34 @@ public client isolated class ChatClient {
         }
         stream<NextMessage|CompleteMessage|ErrorMessage,error?> streamMessages;
         lock {
-            NextMessageCompleteMessageErrorMessageStreamGenerator streamGenerator = new (self.pipes, "subscribeMessage", timeout);
+            NextMessageCompleteMessageErrorMessageStreamGenerator streamGenerator = new (self.pipes, "subscribeMessage");
             self.streamGenerators.addStreamGenerator(streamGenerator);
             streamMessages = new (streamGenerator);
         }
         return streamMessages;
     }
 
-    remote isolated function doPingMessage(PingMessage pingMessage, decimal timeout) returns PongMessage|error {
+    remote isolated function doPingMessage(PingMessage pingMessage, decimal timeout) returns readonly & PongMessage|error {
         lock {
             if !self.isActive {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = pingMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = pingMessage.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("pingMessage").consume(timeout);
+        anydata|pipe:Error responseMessage = self.pipes.consume("pingMessage", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        PongMessage|error pongMessage = responseMessage.cloneWithType();
+        if responseMessage is readonly & PongMessage {
+            return responseMessage;
+        }
+        readonly & PongMessage|error pongMessage = responseMessage.cloneWithType();
         if pongMessage is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", pongMessage);
@@ -174,11 +179,7 @@ public client isolated class ChatClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = pongMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = pongMessage.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
@@ -186,28 +187,27 @@ public client isolated class ChatClient {
         }
     }
 
-    remote isolated function doConnectionInitMessage(ConnectionInitMessage connectionInitMessage, decimal timeout) returns ConnectionAckMessage|error {
+    remote isolated function doConnectionInitMessage(ConnectionInitMessage connectionInitMessage, decimal timeout) returns readonly & ConnectionAckMessage|error {
         lock {
             if !self.isActive {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = connectionInitMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = connectionInitMessage.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("connectionInitMessage").consume(timeout);
+        anydata|pipe:Error responseMessage = self.pipes.consume("connectionInitMessage", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        ConnectionAckMessage|error connectionAckMessage = responseMessage.cloneWithType();
+        if responseMessage is readonly & ConnectionAckMessage {
+            return responseMessage;
+        }
+        readonly & ConnectionAckMessage|error connectionAckMessage = responseMessage.cloneWithType();
         if connectionAckMessage is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", connectionAckMessage);
@@ -221,11 +221,7 @@ public client isolated class ChatClient {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = completeMessage.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = completeMessage.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
@@ -249,4 +245,11 @@ public client isolated class ChatClient {
             check self.clientEp->close();
         }
     };
+
+    # Returns the capacity and the load counters of the pipes of the client.
+    #
+    # + return - Metrics of the pipes keyed by the pipe name
+    public isolated function getPipeMetrics() returns map<PipeMetrics> {
+        return self.pipes.getMetrics();
+    }
 }
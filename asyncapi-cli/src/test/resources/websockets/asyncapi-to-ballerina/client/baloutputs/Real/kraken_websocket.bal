@@ -32,10 +32,11 @@ public client isolated class KrakenWebsocketsAPIClient {
     #
     # + config - The configurations to be used when initializing the `connector`
     # + serviceUrl - URL of the target service
+    # + pipeConfig - Capacities of the queues which buffer the messages of the client
     # + return - An error if connector initialization failed
-    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws.kraken.com") returns error? {
-        self.pipes = new ();
-        self.writeMessageQueue = new (1000);
+    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws.kraken.com", PipeConfig pipeConfig = {}) returns error? {
+        self.pipes = new (pipeConfig);
+        self.writeMessageQueue = new (pipeConfig.writeQueueCapacity);
         websocket:Client websocketEp = check new (serviceUrl, clientConfig);
         self.clientEp = websocketEp;
         self.isActive = true;
@@ -66,22 +67,27 @@ public client isolated class KrakenWebsocketsAPIClient {
     private isolated function startMessageWriting() {
         worker writeMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
-                Message|pipe:Error message = self.writeMessageQueue.consume(5);
+                Message|pipe:Error message = self.writeMessageQueue.consume(3600);
                 if message is pipe:Error {
                     if message.message() == "Operation has timed out" {
                         continue;
                     }
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to consume message from the pipe", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 websocket:Error? wsErr = self.clientEp->writeMessage(message);
                 if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to write message to the client", wsErr);
                     self.attemptToCloseConnection();
                     return;
@@ -95,21 +101,25 @@ public client isolated class KrakenWebsocketsAPIClient {
     private isolated function startMessageReading() {
         worker readMessage {
             while true {
-                lock {
-                    if !self.isActive {
-                        break;
-                    }
-                }
                 Message|websocket:Error message = self.clientEp->readMessage(Message);
                 if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("WsError: Failed to read message from the client", message);
                     self.attemptToCloseConnection();
                     return;
                 }
                 string pipeName = self.getPipeName(message.event);
-                pipe:Pipe pipe = self.pipes.getPipe(pipeName);
-                pipe:Error? pipeErr = pipe.produce(message, 5);
+                pipe:Error? pipeErr = self.pipes.produce(pipeName, message, 5);
                 if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
                     log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
                     self.attemptToCloseConnection();
                     return;
@@ -120,28 +130,27 @@ public client isolated class KrakenWebsocketsAPIClient {
 
     # Ping server to determine whether connection is alive
     #
-    remote isolated function doPing(Ping ping, decimal timeout) returns Pong|error {
+    remote isolated function doPing(Ping ping, decimal timeout) returns readonly & Pong|error {
         lock {
             if !self.isActive {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = ping.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = ping.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("ping").consume(timeout);
+        anydata|pipe:Error responseMessage = self.pipes.consume("ping", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        Pong|error pong = responseMessage.cloneWithType();
+        if responseMessage is readonly & Pong {
+            return responseMessage;
+        }
+        readonly & Pong|error pong = responseMessage.cloneWithType();
         if pong is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", pong);
@@ -151,28 +160,27 @@ public client isolated class KrakenWebsocketsAPIClient {
 
     # Subscribe to a topic on a single or multiple currency pairs.
     #
-    remote isolated function doSubscribe(Subscribe subscribe, decimal timeout) returns SubscriptionStatus|error {
+    remote isolated function doSubscribe(Subscribe subscribe, decimal timeout) returns readonly & SubscriptionStatus|error {
         lock {
             if !self.isActive {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = subscribe.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = subscribe.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("subscribe").consume(timeout);
+        anydata|pipe:Error responseMessage = self.pipes.consume("subscribe", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        SubscriptionStatus|error subscriptionStatus = responseMessage.cloneWithType();
+        if responseMessage is readonly & SubscriptionStatus {
+            return responseMessage;
+        }
+        readonly & SubscriptionStatus|error subscriptionStatus = responseMessage.cloneWithType();
         if subscriptionStatus is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", subscriptionStatus);
@@ -182,28 +190,27 @@ public client isolated class KrakenWebsocketsAPIClient {
 
     # Unsubscribe, can specify a channelID or multiple currency pairs.
     #
-    remote isolated function doUnsubscribe(Unsubscribe unsubscribe, decimal timeout) returns SubscriptionStatus|error {
+    remote isolated function doUnsubscribe(Unsubscribe unsubscribe, decimal timeout) returns readonly & SubscriptionStatus|error {
         lock {
             if !self.isActive {
                 return error("ConnectionError: Connection has been closed");
             }
         }
-        Message|error message = unsubscribe.cloneWithType();
-        if message is error {
-            self.attemptToCloseConnection();
-            return error("DataBindingError: Error in cloning message", message);
-        }
+        Message message = unsubscribe.cloneReadOnly();
         pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
         if pipeErr is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in producing message", pipeErr);
         }
-        Message|pipe:Error responseMessage = self.pipes.getPipe("unsubscribe").consume(timeout);
+        anydata|pipe:Error responseMessage = self.pipes.consume("unsubscribe", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        SubscriptionStatus|error subscriptionStatus = responseMessage.cloneWithType();
+        if responseMessage is readonly & SubscriptionStatus {
+            return responseMessage;
+        }
+        readonly & SubscriptionStatus|error subscriptionStatus = responseMessage.cloneWithType();
         if subscriptionStatus is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", subscriptionStatus);
@@ -211,13 +218,16 @@ public client isolated class KrakenWebsocketsAPIClient {
         return subscriptionStatus;
     }
 
-    remote isolated function doHeartbeat(decimal timeout) returns Heartbeat|error {
-        Message|pipe:Error responseMessage = self.pipes.getPipe("heartbeat").consume(timeout);
+    remote isolated function doHeartbeat(decimal timeout) returns readonly & Heartbeat|error {
+        anydata|pipe:Error responseMessage = self.pipes.consume("heartbeat", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        Heartbeat|error heartbeat = responseMessage.cloneWithType();
+        if responseMessage is readonly & Heartbeat {
+            return responseMessage;
+        }
+        readonly & Heartbeat|error heartbeat = responseMessage.cloneWithType();
         if heartbeat is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", heartbeat);
@@ -225,13 +235,16 @@ public client isolated class KrakenWebsocketsAPIClient {
         return heartbeat;
     }
 
-    remote isolated function doSystemStatus(decimal timeout) returns SystemStatus|error {
-        Message|pipe:Error responseMessage = self.pipes.getPipe("systemStatus").consume(timeout);
+    remote isolated function doSystemStatus(decimal timeout) returns readonly & SystemStatus|error {
+        anydata|pipe:Error responseMessage = self.pipes.consume("systemStatus", timeout);
         if responseMessage is pipe:Error {
             self.attemptToCloseConnection();
             return error("PipeError: Error in consuming message", responseMessage);
         }
-        SystemStatus|error systemStatus = responseMessage.cloneWithType();
+        if responseMessage is readonly & SystemStatus {
+            return responseMessage;
+        }
+        readonly & SystemStatus|error systemStatus = responseMessage.cloneWithType();
         if systemStatus is error {
             self.attemptToCloseConnection();
             return error("DataBindingError: Error in cloning message", systemStatus);
@@ -254,4 +267,11 @@ public client isolated class KrakenWebsocketsAPIClient {
             check self.clientEp->close();
         }
     };
+
+    # Returns the capacity and the load counters of the pipes of the client.
+    #
+    # + return - Metrics of the pipes keyed by the pipe name
+    public isolated function getPipeMetrics() returns map<PipeMetrics> {
+        return self.pipes.getMetrics();
+    }
 }
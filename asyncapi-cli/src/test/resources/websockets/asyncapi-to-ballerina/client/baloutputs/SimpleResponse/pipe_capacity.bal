@@ -0,0 +1,167 @@
+import ballerina/lang.regexp;
+import ballerina/log;
+import ballerina/websocket;
+
+import xlibb/pipe;
+
+public client isolated class PayloadVlocationsClient {
+    private final websocket:Client clientEp;
+    private final pipe:Pipe writeMessageQueue;
+    private final PipesMap pipes;
+    private boolean isActive;
+    private final readonly & map<string> responseMap = {
+        "UnSubscribe": "subscribe"
+    };
+
+    # Gets invoked to initialize the `connector`.
+    #
+    # + config - The configurations to be used when initializing the `connector`
+    # + serviceUrl - URL of the target service
+    # + pipeConfig - Capacities of the queues which buffer the messages of the client
+    # + return - An error if connector initialization failed
+    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/payloadV", PipeConfig pipeConfig = {}) returns error? {
+        self.pipes = new (pipeConfig, {"subscribe": 5000});
+        self.writeMessageQueue = new (pipeConfig.writeQueueCapacity);
+        string modifiedUrl = serviceUrl + string `/locations`;
+        websocket:Client websocketEp = check new (modifiedUrl, clientConfig);
+        self.clientEp = websocketEp;
+        self.isActive = true;
+        self.startMessageWriting();
+        self.startMessageReading();
+        return;
+    }
+
+    private isolated function getRecordName(string dispatchingValue) returns string {
+        string[] words = regexp:split(re `[\W_]+`, dispatchingValue);
+        string result = "";
+        foreach string word in words {
+            result += word.substring(0, 1).toUpperAscii() + word.substring(1).toLowerAscii();
+        }
+        return result;
+    }
+
+    private isolated function getPipeName(string responseType) returns string {
+        string responseRecordType = self.getRecordName(responseType);
+        if self.responseMap.hasKey(responseRecordType) {
+            return self.responseMap.get(responseRecordType);
+        }
+        return responseType;
+    }
+
+    # Used to write messages to the websocket.
+    #
+    private isolated function startMessageWriting() {
+        worker writeMessage {
+            while true {
+                Message|pipe:Error message = self.writeMessageQueue.consume(3600);
+                if message is pipe:Error {
+                    if message.message() == "Operation has timed out" {
+                        continue;
+                    }
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("PipeError: Failed to consume message from the pipe", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                websocket:Error? wsErr = self.clientEp->writeMessage(message);
+                if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to write message to the client", wsErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    # Used to read messages from the websocket.
+    #
+    private isolated function startMessageReading() {
+        worker readMessage {
+            while true {
+                Message|websocket:Error message = self.clientEp->readMessage(Message);
+                if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to read message from the client", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string pipeName = self.getPipeName(message.event);
+                pipe:Error? pipeErr = self.pipes.produce(pipeName, message, 5);
+                if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    remote isolated function doSubscribe(Subscribe subscribe, decimal timeout) returns readonly & UnSubscribe|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = subscribe.cloneReadOnly();
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        anydata|pipe:Error responseMessage = self.pipes.consume("subscribe", timeout);
+        if responseMessage is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in consuming message", responseMessage);
+        }
+        if responseMessage is readonly & UnSubscribe {
+            return responseMessage;
+        }
+        readonly & UnSubscribe|error unSubscribe = responseMessage.cloneWithType();
+        if unSubscribe is error {
+            self.attemptToCloseConnection();
+            return error("DataBindingError: Error in cloning message", unSubscribe);
+        }
+        return unSubscribe;
+    }
+
+    isolated function attemptToCloseConnection() {
+        error? connectionClose = self->connectionClose();
+        if connectionClose is error {
+            log:printError("ConnectionError", connectionClose);
+        }
+    }
+
+    remote isolated function connectionClose() returns error? {
+        lock {
+            self.isActive = false;
+            check self.writeMessageQueue.immediateClose();
+            check self.pipes.removePipes();
+            check self.clientEp->close();
+        }
+    };
+
+    # Returns the capacity and the load counters of the pipes of the client.
+    #
+    # + return - Metrics of the pipes keyed by the pipe name
+    public isolated function getPipeMetrics() returns map<PipeMetrics> {
+        return self.pipes.getMetrics();
+    }
+}
@@ -0,0 +1,302 @@
+import ballerina/lang.regexp;
+import ballerina/lang.runtime;
+import ballerina/log;
+import ballerina/random;
+import ballerina/websocket;
+
+import xlibb/pipe;
+
+public client isolated class ChatClient {
+    private websocket:Client clientEp;
+    private final pipe:Pipe writeMessageQueue;
+    private final PipesMap pipes;
+    private final string serviceUrl;
+    private final readonly & websocket:ClientConfiguration clientConfig;
+    private final readonly & ReconnectConfig reconnectConfig;
+    private final pipe:Pipe reconnectSignal = new (1);
+    private final Subscriptions subscriptions;
+    private final StreamGeneratorsMap streamGenerators;
+    private boolean isActive;
+    private final readonly & map<string> responseMap = {
+        "CompleteMessage": "subscribeMessage",
+        "NextMessage": "subscribeMessage",
+        "ErrorMessage": "subscribeMessage"
+    };
+
+    # Gets invoked to initialize the `connector`.
+    #
+    # + config - The configurations to be used when initializing the `connector`, which the client keeps to reconnect. They are taken as read-only, as the ping pong handler and the cookies of the configurations can not be copied with `cloneReadOnly()`
+    # + serviceUrl - URL of the target service
+    # + pipeConfig - Capacities of the queues which buffer the messages of the client
+    # + reconnectConfig - Reconnection of the client once the connection to the server is lost
+    # + return - An error if connector initialization failed
+    public isolated function init(readonly & websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/chat", PipeConfig pipeConfig = {}, ReconnectConfig reconnectConfig = {}) returns error? {
+        self.pipes = new (pipeConfig);
+        self.streamGenerators = new ();
+        self.writeMessageQueue = new (pipeConfig.writeQueueCapacity);
+        self.reconnectConfig = reconnectConfig.cloneReadOnly();
+        self.subscriptions = new ();
+        self.serviceUrl = serviceUrl;
+        self.clientConfig = clientConfig;
+        websocket:Client websocketEp = check new (serviceUrl, self.clientConfig);
+        self.clientEp = websocketEp;
+        self.isActive = true;
+        self.startMessageWriting();
+        self.startMessageReading();
+        return;
+    }
+
+    private isolated function getRecordName(string dispatchingValue) returns string {
+        string[] words = regexp:split(re `[\W_]+`, dispatchingValue);
+        string result = "";
+        foreach string word in words {
+            result += word.substring(0, 1).toUpperAscii() + word.substring(1).toLowerAscii();
+        }
+        return result;
+    }
+
+    private isolated function getPipeName(string responseType) returns string {
+        string responseRecordType = self.getRecordName(responseType);
+        if self.responseMap.hasKey(responseRecordType) {
+            return self.responseMap.get(responseRecordType);
+        }
+        return responseType;
+    }
+
+    # Used to write messages to the websocket.
+    #
+    private isolated function startMessageWriting() {
+        worker writeMessage {
+            while true {
+                Message|pipe:Error message = self.writeMessageQueue.consume(3600);
+                if message is pipe:Error {
+                    if message.message() == "Operation has timed out" {
+                        continue;
+                    }
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("PipeError: Failed to consume message from the pipe", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                websocket:Error? wsErr = self.writeToServer(message);
+                if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to write message to the client", wsErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    # Used to read messages from the websocket.
+    #
+    private isolated function startMessageReading() {
+        worker readMessage {
+            while true {
+                websocket:Client clientEp = self.getClientEp();
+                Message|websocket:Error message = clientEp->readMessage(Message);
+                if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    if self.reconnect(clientEp) {
+                        continue;
+                    }
+                    log:printError("WsError: Failed to read message from the client", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string pipeName;
+                if message is MessageWithId {
+                    pipeName = message.id;
+                } else {
+                    pipeName = self.getPipeName(message.'type);
+                }
+                pipe:Error? pipeErr = self.pipes.produce(pipeName, message, 5);
+                if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    private isolated function getClientEp() returns websocket:Client {
+        lock {
+            return self.clientEp;
+        }
+    }
+
+    # Writes a message to the server. A message which could not be written because the connection was lost
+    # is written again once the client has reconnected.
+    #
+    # + message - Message, or batch of messages, to be written
+    # + return - A `websocket:Error` if the message could not be written and the client did not reconnect
+    private isolated function writeToServer(anydata message) returns websocket:Error? {
+        while true {
+            websocket:Client clientEp = self.getClientEp();
+            websocket:Error? wsErr = clientEp->writeMessage(message);
+            if wsErr is () || !self.awaitReconnection(clientEp) {
+                return wsErr;
+            }
+            if message is Message && self.subscriptions.hasMessage(message) {
+                return;
+            }
+        }
+    }
+
+    # Waits until the reading worker has replaced the client endpoint whose connection is lost.
+    #
+    # + failedClient - Client endpoint whose connection is lost
+    # + return - `true` if the client reconnected, `false` if the client was closed
+    private isolated function awaitReconnection(websocket:Client failedClient) returns boolean {
+        // Closing the lost connection fails the pending read, so that the reading worker reconnects
+        self.closeClient(failedClient);
+        while true {
+            lock {
+                if !self.isActive {
+                    return false;
+                }
+                if self.clientEp !== failedClient {
+                    return true;
+                }
+            }
+            // The reading worker signals each replaced client endpoint, and the signal pipe is closed along
+            // with the client. A signal which is left from an earlier reconnection is checked and skipped.
+            boolean|pipe:Error signal = self.reconnectSignal.consume(3600);
+            if signal is pipe:Error {
+                log:printDebug("PipeError: Stopped waiting for the reconnection signal", signal);
+            }
+        }
+    }
+
+    # Replaces the client endpoint whose connection is lost by a new connection to the server. The attempts
+    # back off exponentially with a random jitter.
+    #
+    # + failedClient - Client endpoint whose connection is lost
+    # + return - `true` if the client reconnected, `false` if the attempts ran out or the client was closed
+    private isolated function reconnect(websocket:Client failedClient) returns boolean {
+        self.closeClient(failedClient);
+        decimal interval = self.reconnectConfig.initialInterval;
+        decimal jitter = self.reconnectConfig.jitter;
+        int attempt = 0;
+        while self.reconnectConfig.maxAttempts < 0 || attempt < self.reconnectConfig.maxAttempts {
+            attempt += 1;
+            runtime:sleep(interval * (1 - jitter + 2 * jitter * <decimal>random:createDecimal()));
+            interval = decimal:min(interval * self.reconnectConfig.backOffFactor,
+                    self.reconnectConfig.maxInterval);
+            lock {
+                if !self.isActive {
+                    return false;
+                }
+            }
+            websocket:Client|websocket:Error newClient = new (self.serviceUrl, self.clientConfig);
+            if newClient is websocket:Error {
+                log:printDebug("WsError: Failed to reconnect to the server", newClient, attempt = attempt);
+                continue;
+            }
+            websocket:Error? resubscribeErr = self.resubscribe(newClient);
+            if resubscribeErr is websocket:Error {
+                log:printDebug("WsError: Failed to subscribe again to the streams", resubscribeErr);
+                self.closeClient(newClient);
+                continue;
+            }
+            lock {
+                if self.isActive {
+                    self.clientEp = newClient;
+                    // Wakes up the writing worker, if it waits for the reconnection
+                    pipe:Error? signalErr = self.reconnectSignal.produce(true, 0);
+                    if signalErr is pipe:Error {
+                        log:printDebug("PipeError: A reconnection signal is pending already", signalErr);
+                    }
+                    return true;
+                }
+            }
+            self.closeClient(newClient);
+            return false;
+        }
+        return false;
+    }
+
+    # Writes the messages which started the open streams of the client to a new connection, so that the
+    # server resumes the streams.
+    #
+    # + clientEp - Client endpoint of the new connection
+    # + return - A `websocket:Error` if a message could not be written
+    private isolated function resubscribe(websocket:Client clientEp) returns websocket:Error? {
+        foreach Message message in self.subscriptions.getMessages() {
+            check clientEp->writeMessage(message);
+        }
+    }
+
+    private isolated function closeClient(websocket:Client clientEp) {
+        websocket:Error? closeErr = clientEp->close(timeout = 0);
+        if closeErr is websocket:Error {
+            log:printDebug("WsError: Failed to close the connection", closeErr);
+        }
+    }
+
+    remote isolated function doSubscribeMessage(SubscribeMessage subscribeMessage, decimal timeout) returns stream<NextMessage|CompleteMessage|ErrorMessage,error?>|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = subscribeMessage.cloneReadOnly();
+        self.subscriptions.add(subscribeMessage.id, message);
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.subscriptions.remove(subscribeMessage.id);
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        stream<NextMessage|CompleteMessage|ErrorMessage,error?> streamMessages;
+        lock {
+            NextMessageCompleteMessageErrorMessageStreamGenerator streamGenerator = new (self.pipes, subscribeMessage.id, self.subscriptions);
+            self.streamGenerators.addStreamGenerator(streamGenerator);
+            streamMessages = new (streamGenerator);
+        }
+        return streamMessages;
+    }
+
+    isolated function attemptToCloseConnection() {
+        error? connectionClose = self->connectionClose();
+        if connectionClose is error {
+            log:printError("ConnectionError", connectionClose);
+        }
+    }
+
+    remote isolated function connectionClose() returns error? {
+        lock {
+            self.isActive = false;
+            check self.writeMessageQueue.immediateClose();
+            check self.pipes.removePipes();
+            check self.streamGenerators.removeStreamGenerators();
+            check self.reconnectSignal.immediateClose();
+            check self.clientEp->close();
+        }
+    };
+
+    # Returns the capacity and the load counters of the pipes of the client.
+    #
+    # + return - Metrics of the pipes keyed by the pipe name
+    public isolated function getPipeMetrics() returns map<PipeMetrics> {
+        return self.pipes.getMetrics();
+    }
+}
@@ -0,0 +1,274 @@
+import ballerina/lang.regexp;
+import ballerina/log;
+import ballerina/websocket;
+
+import xlibb/pipe;
+
+public client isolated class ChatClient {
+    private final websocket:Client clientEp;
+    private final pipe:Pipe writeMessageQueue;
+    private final PipesMap pipes;
+    private final StreamGeneratorsMap streamGenerators;
+    private boolean isActive;
+    private final readonly & map<string> responseMap = {
+        "CompleteMessage": "subscribeMessage",
+        "NextMessage": "subscribeMessage",
+        "ErrorMessage": "subscribeMessage"
+    };
+
+    # Gets invoked to initialize the `connector`.
+    #
+    # + config - The configurations to be used when initializing the `connector`
+    # + serviceUrl - URL of the target service
+    # + pipeConfig - Capacities of the queues which buffer the messages of the client
+    # + return - An error if connector initialization failed
+    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/chat", PipeConfig pipeConfig = {}) returns error? {
+        self.pipes = new (pipeConfig);
+        self.streamGenerators = new ();
+        self.writeMessageQueue = new (pipeConfig.writeQueueCapacity);
+        websocket:Client websocketEp = check new (serviceUrl, clientConfig);
+        self.clientEp = websocketEp;
+        self.isActive = true;
+        self.startMessageWriting();
+        self.startMessageReading();
+        return;
+    }
+
+    private isolated function getRecordName(string dispatchingValue) returns string {
+        string[] words = regexp:split(re `[\W_]+`, dispatchingValue);
+        string result = "";
+        foreach string word in words {
+            result += word.substring(0, 1).toUpperAscii() + word.substring(1).toLowerAscii();
+        }
+        return result;
+    }
+
+    private isolated function getPipeName(string responseType) returns string {
+        string responseRecordType = self.getRecordName(responseType);
+        if self.responseMap.hasKey(responseRecordType) {
+            return self.responseMap.get(responseRecordType);
+        }
+        return responseType;
+    }
+
+    # Used to write messages to the websocket.
+    #
+    private isolated function startMessageWriting() {
+        worker writeMessage {
+            while true {
+                Message|pipe:Error message = self.writeMessageQueue.consume(3600);
+                if message is pipe:Error {
+                    if message.message() == "Operation has timed out" {
+                        continue;
+                    }
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("PipeError: Failed to consume message from the pipe", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                websocket:Error? wsErr = self.clientEp->writeMessage(message);
+                if wsErr is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to write message to the client", wsErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    # Used to read messages from the websocket.
+    #
+    private isolated function startMessageReading() {
+        worker readMessage {
+            while true {
+                Message|websocket:Error message = self.clientEp->readMessage(Message);
+                if message is websocket:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("WsError: Failed to read message from the client", message);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+                string pipeName;
+                if message is MessageWithId {
+                    pipeName = message.id;
+                } else {
+                    pipeName = self.getPipeName(message.'type);
+                }
+                pipe:Error? pipeErr = self.pipes.produce(pipeName, message, 5);
+                if pipeErr is pipe:Error {
+                    lock {
+                        if !self.isActive {
+                            return;
+                        }
+                    }
+                    log:printError("PipeError: Failed to produce message to the pipe", pipeErr);
+                    self.attemptToCloseConnection();
+                    return;
+                }
+            }
+        }
+    }
+
+    remote isolated function doSubscribeMessage(SubscribeMessage subscribeMessage, decimal timeout) returns stream<NextMessage|CompleteMessage|ErrorMessage,error?>|error {
+        lock {
+            if !self.isActive {
+                return error("ConnectionError: Connection has been closed");
+            }
+        }
+        Message message = subscribeMessage.cloneReadOnly();
+        pipe:Error? pipeErr = self.writeMessageQueue.produce(message, timeout);
+        if pipeErr is pipe:Error {
+            self.attemptToCloseConnection();
+            return error("PipeError: Error in producing message", pipeErr);
+        }
+        stream<NextMessage|CompleteMessage|ErrorMessage,error?> streamMessages;
+        lock {
+            NextMessageCompleteMessageErrorMessageStreamGenerator streamGenerator = new (self.pipes, subscribeMessage.id);
+            self.streamGenerators.addStreamGenerator(streamGenerator);
+            streamMessages = new (streamGenerator);
+        }
+        return streamMessages;
+    }
+
+    isolated function attemptToCloseConnection() {
+        error? connectionClose = self->connectionClose();
+        if connectionClose is error {
+            log:printError("ConnectionError", connectionClose);
+        }
+    }
+
+    remote isolated function connectionClose() returns error? {
+        lock {
+            self.isActive = false;
+            check self.writeMessageQueue.immediateClose();
+            check self.pipes.removePipes();
+            check self.streamGenerators.removeStreamGenerators();
+            check self.clientEp->close();
+        }
+    };
+
+    # Returns the capacity and the load counters of the pipes of the client.
+    #
+    # + return - Metrics of the pipes keyed by the pipe name
+    public isolated function getPipeMetrics() returns map<PipeMetrics> {
+        return self.pipes.getMetrics();
+    }
+
+    # Checks whether the connection of the client is open.
+    #
+    # + return - `true` if the connection is open
+    public isolated function isConnectionActive() returns boolean {
+        lock {
+            return self.isActive;
+        }
+    }
+}
+
+# Pool of `ChatClient` connections, which spreads the requests of the client across several connections to
+# the server. A request with a stream ID is written through the connection of its stream ID, and any other
+# request through the next open connection in turn. The responses of a request are read from the
+# connection which wrote it.
+public client isolated class ChatClientPool {
+    private final ChatClient[] clients = [];
+    private int nextClient = 0;
+
+    # Gets invoked to initialize the `connector`.
+    #
+    # + config - The configurations to be used when initializing the `connector`
+    # + serviceUrl - URL of the target service
+    # + pipeConfig - Capacities of the queues which buffer the messages of the client
+    # + poolSize - Number of connections opened to the server
+    # + return - An error if connector initialization failed
+    public isolated function init(websocket:ClientConfiguration clientConfig =  {}, string serviceUrl = "ws://localhost:9090/chat", PipeConfig pipeConfig = {}, int poolSize = 4) returns error? {
+        if poolSize < 1 {
+            return error("The pool size must be at least 1");
+        }
+        foreach int _ in 0 ..< poolSize {
+            ChatClient|error pooledClient = new (clientConfig, serviceUrl, pipeConfig);
+            if pooledClient is error {
+                // The connections which were already opened are closed, as the pool is not created
+                error? closeErr = self.closeClients();
+                return closeErr is error ? error(pooledClient.message(), pooledClient, closeError = closeErr) :
+                    pooledClient;
+            }
+            lock {
+                self.clients.push(pooledClient);
+            }
+        }
+    }
+
+    private isolated function getClient() returns ChatClient {
+        lock {
+            int poolSize = self.clients.length();
+            foreach int _ in 0 ..< poolSize {
+                ChatClient pooledClient = self.clients[self.nextClient];
+                self.nextClient = (self.nextClient + 1) % poolSize;
+                if pooledClient.isConnectionActive() {
+                    return pooledClient;
+                }
+            }
+            // Every connection is closed, so the client gives the connection error
+            return self.clients[self.nextClient];
+        }
+    }
+
+    # Gets the client of a stream ID, so that the requests of a stream, e.g. a subscription and its
+    # cancellation, are written through the same connection.
+    #
+    # + streamId - Stream ID of the request
+    # + return - The client which writes the request
+    private isolated function getStreamClient(string streamId) returns ChatClient {
+        int hash = 0;
+        foreach int codePoint in streamId.toCodePointInts() {
+            hash = (hash * 31 + codePoint) % 2147483647;
+        }
+        lock {
+            int poolSize = self.clients.length();
+            // A closed connection is skipped in the same order for every request of the stream
+            foreach int i in 0 ..< poolSize {
+                ChatClient pooledClient = self.clients[(hash + i) % poolSize];
+                if pooledClient.isConnectionActive() {
+                    return pooledClient;
+                }
+            }
+            return self.clients[hash % poolSize];
+        }
+    }
+
+    remote isolated function doSubscribeMessage(SubscribeMessage subscribeMessage, decimal timeout) returns stream<NextMessage|CompleteMessage|ErrorMessage,error?>|error {
+        return self.getStreamClient(subscribeMessage.id)->doSubscribeMessage(subscribeMessage, timeout);
+    }
+
+    # Closes the connections of the pool.
+    #
+    # + return - The last error which occurred while closing the connections
+    remote isolated function connectionClose() returns error? {
+        return self.closeClients();
+    }
+
+    private isolated function closeClients() returns error? {
+        lock {
+            error? closeErr = ();
+            foreach ChatClient pooledClient in self.clients {
+                error? clientCloseErr = pooledClient->connectionClose();
+                if clientCloseErr is error {
+                    closeErr = clientCloseErr;
+                }
+            }
+            return closeErr;
+        }
+    }
+}
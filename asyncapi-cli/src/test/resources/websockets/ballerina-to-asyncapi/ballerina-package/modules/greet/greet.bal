@@ -0,0 +1,37 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/websocket;
+
+@websocket:ServiceConfig {dispatcherKey: "event"}
+service /hello on new websocket:Listener(9092) {
+    resource function get .() returns websocket:Service|websocket:UpgradeError {
+        return new WelcomeServer();
+    }
+}
+
+service class WelcomeServer {
+    *websocket:Service;
+
+    remote function onWelcome(websocket:Caller caller, Welcome message) returns string {
+        return "Welcome " + message.name;
+    }
+}
+
+public type Welcome record {
+    string name;
+    string event;
+};
@@ -0,0 +1,1444 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/websocket;
+
+type Subscribe record {|
+    Record000 head;
+    string event;
+|};
+
+type Unsubscribe record {|
+    Record199 tail;
+    string event;
+|};
+
+type Record000 record {|
+    string id;
+    Record001 next?;
+    Record002[] related?;
+|};
+
+type Record001 record {|
+    string id;
+    Record002 next?;
+    Record003[] related?;
+    Record000? previous?;
+|};
+
+type Record002 record {|
+    string id;
+    Record003 next?;
+    Record004[] related?;
+    Record001? previous?;
+|};
+
+type Record003 record {|
+    string id;
+    Record004 next?;
+    Record005[] related?;
+    Record002? previous?;
+|};
+
+type Record004 record {|
+    string id;
+    Record005 next?;
+    Record006[] related?;
+    Record003? previous?;
+|};
+
+type Record005 record {|
+    string id;
+    Record006 next?;
+    Record007[] related?;
+    Record004? previous?;
+|};
+
+type Record006 record {|
+    string id;
+    Record007 next?;
+    Record008[] related?;
+    Record005? previous?;
+|};
+
+type Record007 record {|
+    string id;
+    Record008 next?;
+    Record009[] related?;
+    Record006? previous?;
+|};
+
+type Record008 record {|
+    string id;
+    Record009 next?;
+    Record010[] related?;
+    Record007? previous?;
+|};
+
+type Record009 record {|
+    string id;
+    Record010 next?;
+    Record011[] related?;
+    Record008? previous?;
+|};
+
+type Record010 record {|
+    string id;
+    Record011 next?;
+    Record012[] related?;
+    Record009? previous?;
+|};
+
+type Record011 record {|
+    string id;
+    Record012 next?;
+    Record013[] related?;
+    Record010? previous?;
+|};
+
+type Record012 record {|
+    string id;
+    Record013 next?;
+    Record014[] related?;
+    Record011? previous?;
+|};
+
+type Record013 record {|
+    string id;
+    Record014 next?;
+    Record015[] related?;
+    Record012? previous?;
+|};
+
+type Record014 record {|
+    string id;
+    Record015 next?;
+    Record016[] related?;
+    Record013? previous?;
+|};
+
+type Record015 record {|
+    string id;
+    Record016 next?;
+    Record017[] related?;
+    Record014? previous?;
+|};
+
+type Record016 record {|
+    string id;
+    Record017 next?;
+    Record018[] related?;
+    Record015? previous?;
+|};
+
+type Record017 record {|
+    string id;
+    Record018 next?;
+    Record019[] related?;
+    Record016? previous?;
+|};
+
+type Record018 record {|
+    string id;
+    Record019 next?;
+    Record020[] related?;
+    Record017? previous?;
+|};
+
+type Record019 record {|
+    string id;
+    Record020 next?;
+    Record021[] related?;
+    Record018? previous?;
+|};
+
+type Record020 record {|
+    string id;
+    Record021 next?;
+    Record022[] related?;
+    Record019? previous?;
+|};
+
+type Record021 record {|
+    string id;
+    Record022 next?;
+    Record023[] related?;
+    Record020? previous?;
+|};
+
+type Record022 record {|
+    string id;
+    Record023 next?;
+    Record024[] related?;
+    Record021? previous?;
+|};
+
+type Record023 record {|
+    string id;
+    Record024 next?;
+    Record025[] related?;
+    Record022? previous?;
+|};
+
+type Record024 record {|
+    string id;
+    Record025 next?;
+    Record026[] related?;
+    Record023? previous?;
+|};
+
+type Record025 record {|
+    string id;
+    Record026 next?;
+    Record027[] related?;
+    Record024? previous?;
+|};
+
+type Record026 record {|
+    string id;
+    Record027 next?;
+    Record028[] related?;
+    Record025? previous?;
+|};
+
+type Record027 record {|
+    string id;
+    Record028 next?;
+    Record029[] related?;
+    Record026? previous?;
+|};
+
+type Record028 record {|
+    string id;
+    Record029 next?;
+    Record030[] related?;
+    Record027? previous?;
+|};
+
+type Record029 record {|
+    string id;
+    Record030 next?;
+    Record031[] related?;
+    Record028? previous?;
+|};
+
+type Record030 record {|
+    string id;
+    Record031 next?;
+    Record032[] related?;
+    Record029? previous?;
+|};
+
+type Record031 record {|
+    string id;
+    Record032 next?;
+    Record033[] related?;
+    Record030? previous?;
+|};
+
+type Record032 record {|
+    string id;
+    Record033 next?;
+    Record034[] related?;
+    Record031? previous?;
+|};
+
+type Record033 record {|
+    string id;
+    Record034 next?;
+    Record035[] related?;
+    Record032? previous?;
+|};
+
+type Record034 record {|
+    string id;
+    Record035 next?;
+    Record036[] related?;
+    Record033? previous?;
+|};
+
+type Record035 record {|
+    string id;
+    Record036 next?;
+    Record037[] related?;
+    Record034? previous?;
+|};
+
+type Record036 record {|
+    string id;
+    Record037 next?;
+    Record038[] related?;
+    Record035? previous?;
+|};
+
+type Record037 record {|
+    string id;
+    Record038 next?;
+    Record039[] related?;
+    Record036? previous?;
+|};
+
+type Record038 record {|
+    string id;
+    Record039 next?;
+    Record040[] related?;
+    Record037? previous?;
+|};
+
+type Record039 record {|
+    string id;
+    Record040 next?;
+    Record041[] related?;
+    Record038? previous?;
+|};
+
+type Record040 record {|
+    string id;
+    Record041 next?;
+    Record042[] related?;
+    Record039? previous?;
+|};
+
+type Record041 record {|
+    string id;
+    Record042 next?;
+    Record043[] related?;
+    Record040? previous?;
+|};
+
+type Record042 record {|
+    string id;
+    Record043 next?;
+    Record044[] related?;
+    Record041? previous?;
+|};
+
+type Record043 record {|
+    string id;
+    Record044 next?;
+    Record045[] related?;
+    Record042? previous?;
+|};
+
+type Record044 record {|
+    string id;
+    Record045 next?;
+    Record046[] related?;
+    Record043? previous?;
+|};
+
+type Record045 record {|
+    string id;
+    Record046 next?;
+    Record047[] related?;
+    Record044? previous?;
+|};
+
+type Record046 record {|
+    string id;
+    Record047 next?;
+    Record048[] related?;
+    Record045? previous?;
+|};
+
+type Record047 record {|
+    string id;
+    Record048 next?;
+    Record049[] related?;
+    Record046? previous?;
+|};
+
+type Record048 record {|
+    string id;
+    Record049 next?;
+    Record050[] related?;
+    Record047? previous?;
+|};
+
+type Record049 record {|
+    string id;
+    Record050 next?;
+    Record051[] related?;
+    Record048? previous?;
+|};
+
+type Record050 record {|
+    string id;
+    Record051 next?;
+    Record052[] related?;
+    Record049? previous?;
+|};
+
+type Record051 record {|
+    string id;
+    Record052 next?;
+    Record053[] related?;
+    Record050? previous?;
+|};
+
+type Record052 record {|
+    string id;
+    Record053 next?;
+    Record054[] related?;
+    Record051? previous?;
+|};
+
+type Record053 record {|
+    string id;
+    Record054 next?;
+    Record055[] related?;
+    Record052? previous?;
+|};
+
+type Record054 record {|
+    string id;
+    Record055 next?;
+    Record056[] related?;
+    Record053? previous?;
+|};
+
+type Record055 record {|
+    string id;
+    Record056 next?;
+    Record057[] related?;
+    Record054? previous?;
+|};
+
+type Record056 record {|
+    string id;
+    Record057 next?;
+    Record058[] related?;
+    Record055? previous?;
+|};
+
+type Record057 record {|
+    string id;
+    Record058 next?;
+    Record059[] related?;
+    Record056? previous?;
+|};
+
+type Record058 record {|
+    string id;
+    Record059 next?;
+    Record060[] related?;
+    Record057? previous?;
+|};
+
+type Record059 record {|
+    string id;
+    Record060 next?;
+    Record061[] related?;
+    Record058? previous?;
+|};
+
+type Record060 record {|
+    string id;
+    Record061 next?;
+    Record062[] related?;
+    Record059? previous?;
+|};
+
+type Record061 record {|
+    string id;
+    Record062 next?;
+    Record063[] related?;
+    Record060? previous?;
+|};
+
+type Record062 record {|
+    string id;
+    Record063 next?;
+    Record064[] related?;
+    Record061? previous?;
+|};
+
+type Record063 record {|
+    string id;
+    Record064 next?;
+    Record065[] related?;
+    Record062? previous?;
+|};
+
+type Record064 record {|
+    string id;
+    Record065 next?;
+    Record066[] related?;
+    Record063? previous?;
+|};
+
+type Record065 record {|
+    string id;
+    Record066 next?;
+    Record067[] related?;
+    Record064? previous?;
+|};
+
+type Record066 record {|
+    string id;
+    Record067 next?;
+    Record068[] related?;
+    Record065? previous?;
+|};
+
+type Record067 record {|
+    string id;
+    Record068 next?;
+    Record069[] related?;
+    Record066? previous?;
+|};
+
+type Record068 record {|
+    string id;
+    Record069 next?;
+    Record070[] related?;
+    Record067? previous?;
+|};
+
+type Record069 record {|
+    string id;
+    Record070 next?;
+    Record071[] related?;
+    Record068? previous?;
+|};
+
+type Record070 record {|
+    string id;
+    Record071 next?;
+    Record072[] related?;
+    Record069? previous?;
+|};
+
+type Record071 record {|
+    string id;
+    Record072 next?;
+    Record073[] related?;
+    Record070? previous?;
+|};
+
+type Record072 record {|
+    string id;
+    Record073 next?;
+    Record074[] related?;
+    Record071? previous?;
+|};
+
+type Record073 record {|
+    string id;
+    Record074 next?;
+    Record075[] related?;
+    Record072? previous?;
+|};
+
+type Record074 record {|
+    string id;
+    Record075 next?;
+    Record076[] related?;
+    Record073? previous?;
+|};
+
+type Record075 record {|
+    string id;
+    Record076 next?;
+    Record077[] related?;
+    Record074? previous?;
+|};
+
+type Record076 record {|
+    string id;
+    Record077 next?;
+    Record078[] related?;
+    Record075? previous?;
+|};
+
+type Record077 record {|
+    string id;
+    Record078 next?;
+    Record079[] related?;
+    Record076? previous?;
+|};
+
+type Record078 record {|
+    string id;
+    Record079 next?;
+    Record080[] related?;
+    Record077? previous?;
+|};
+
+type Record079 record {|
+    string id;
+    Record080 next?;
+    Record081[] related?;
+    Record078? previous?;
+|};
+
+type Record080 record {|
+    string id;
+    Record081 next?;
+    Record082[] related?;
+    Record079? previous?;
+|};
+
+type Record081 record {|
+    string id;
+    Record082 next?;
+    Record083[] related?;
+    Record080? previous?;
+|};
+
+type Record082 record {|
+    string id;
+    Record083 next?;
+    Record084[] related?;
+    Record081? previous?;
+|};
+
+type Record083 record {|
+    string id;
+    Record084 next?;
+    Record085[] related?;
+    Record082? previous?;
+|};
+
+type Record084 record {|
+    string id;
+    Record085 next?;
+    Record086[] related?;
+    Record083? previous?;
+|};
+
+type Record085 record {|
+    string id;
+    Record086 next?;
+    Record087[] related?;
+    Record084? previous?;
+|};
+
+type Record086 record {|
+    string id;
+    Record087 next?;
+    Record088[] related?;
+    Record085? previous?;
+|};
+
+type Record087 record {|
+    string id;
+    Record088 next?;
+    Record089[] related?;
+    Record086? previous?;
+|};
+
+type Record088 record {|
+    string id;
+    Record089 next?;
+    Record090[] related?;
+    Record087? previous?;
+|};
+
+type Record089 record {|
+    string id;
+    Record090 next?;
+    Record091[] related?;
+    Record088? previous?;
+|};
+
+type Record090 record {|
+    string id;
+    Record091 next?;
+    Record092[] related?;
+    Record089? previous?;
+|};
+
+type Record091 record {|
+    string id;
+    Record092 next?;
+    Record093[] related?;
+    Record090? previous?;
+|};
+
+type Record092 record {|
+    string id;
+    Record093 next?;
+    Record094[] related?;
+    Record091? previous?;
+|};
+
+type Record093 record {|
+    string id;
+    Record094 next?;
+    Record095[] related?;
+    Record092? previous?;
+|};
+
+type Record094 record {|
+    string id;
+    Record095 next?;
+    Record096[] related?;
+    Record093? previous?;
+|};
+
+type Record095 record {|
+    string id;
+    Record096 next?;
+    Record097[] related?;
+    Record094? previous?;
+|};
+
+type Record096 record {|
+    string id;
+    Record097 next?;
+    Record098[] related?;
+    Record095? previous?;
+|};
+
+type Record097 record {|
+    string id;
+    Record098 next?;
+    Record099[] related?;
+    Record096? previous?;
+|};
+
+type Record098 record {|
+    string id;
+    Record099 next?;
+    Record100[] related?;
+    Record097? previous?;
+|};
+
+type Record099 record {|
+    string id;
+    Record100 next?;
+    Record101[] related?;
+    Record098? previous?;
+|};
+
+type Record100 record {|
+    string id;
+    Record101 next?;
+    Record102[] related?;
+    Record099? previous?;
+|};
+
+type Record101 record {|
+    string id;
+    Record102 next?;
+    Record103[] related?;
+    Record100? previous?;
+|};
+
+type Record102 record {|
+    string id;
+    Record103 next?;
+    Record104[] related?;
+    Record101? previous?;
+|};
+
+type Record103 record {|
+    string id;
+    Record104 next?;
+    Record105[] related?;
+    Record102? previous?;
+|};
+
+type Record104 record {|
+    string id;
+    Record105 next?;
+    Record106[] related?;
+    Record103? previous?;
+|};
+
+type Record105 record {|
+    string id;
+    Record106 next?;
+    Record107[] related?;
+    Record104? previous?;
+|};
+
+type Record106 record {|
+    string id;
+    Record107 next?;
+    Record108[] related?;
+    Record105? previous?;
+|};
+
+type Record107 record {|
+    string id;
+    Record108 next?;
+    Record109[] related?;
+    Record106? previous?;
+|};
+
+type Record108 record {|
+    string id;
+    Record109 next?;
+    Record110[] related?;
+    Record107? previous?;
+|};
+
+type Record109 record {|
+    string id;
+    Record110 next?;
+    Record111[] related?;
+    Record108? previous?;
+|};
+
+type Record110 record {|
+    string id;
+    Record111 next?;
+    Record112[] related?;
+    Record109? previous?;
+|};
+
+type Record111 record {|
+    string id;
+    Record112 next?;
+    Record113[] related?;
+    Record110? previous?;
+|};
+
+type Record112 record {|
+    string id;
+    Record113 next?;
+    Record114[] related?;
+    Record111? previous?;
+|};
+
+type Record113 record {|
+    string id;
+    Record114 next?;
+    Record115[] related?;
+    Record112? previous?;
+|};
+
+type Record114 record {|
+    string id;
+    Record115 next?;
+    Record116[] related?;
+    Record113? previous?;
+|};
+
+type Record115 record {|
+    string id;
+    Record116 next?;
+    Record117[] related?;
+    Record114? previous?;
+|};
+
+type Record116 record {|
+    string id;
+    Record117 next?;
+    Record118[] related?;
+    Record115? previous?;
+|};
+
+type Record117 record {|
+    string id;
+    Record118 next?;
+    Record119[] related?;
+    Record116? previous?;
+|};
+
+type Record118 record {|
+    string id;
+    Record119 next?;
+    Record120[] related?;
+    Record117? previous?;
+|};
+
+type Record119 record {|
+    string id;
+    Record120 next?;
+    Record121[] related?;
+    Record118? previous?;
+|};
+
+type Record120 record {|
+    string id;
+    Record121 next?;
+    Record122[] related?;
+    Record119? previous?;
+|};
+
+type Record121 record {|
+    string id;
+    Record122 next?;
+    Record123[] related?;
+    Record120? previous?;
+|};
+
+type Record122 record {|
+    string id;
+    Record123 next?;
+    Record124[] related?;
+    Record121? previous?;
+|};
+
+type Record123 record {|
+    string id;
+    Record124 next?;
+    Record125[] related?;
+    Record122? previous?;
+|};
+
+type Record124 record {|
+    string id;
+    Record125 next?;
+    Record126[] related?;
+    Record123? previous?;
+|};
+
+type Record125 record {|
+    string id;
+    Record126 next?;
+    Record127[] related?;
+    Record124? previous?;
+|};
+
+type Record126 record {|
+    string id;
+    Record127 next?;
+    Record128[] related?;
+    Record125? previous?;
+|};
+
+type Record127 record {|
+    string id;
+    Record128 next?;
+    Record129[] related?;
+    Record126? previous?;
+|};
+
+type Record128 record {|
+    string id;
+    Record129 next?;
+    Record130[] related?;
+    Record127? previous?;
+|};
+
+type Record129 record {|
+    string id;
+    Record130 next?;
+    Record131[] related?;
+    Record128? previous?;
+|};
+
+type Record130 record {|
+    string id;
+    Record131 next?;
+    Record132[] related?;
+    Record129? previous?;
+|};
+
+type Record131 record {|
+    string id;
+    Record132 next?;
+    Record133[] related?;
+    Record130? previous?;
+|};
+
+type Record132 record {|
+    string id;
+    Record133 next?;
+    Record134[] related?;
+    Record131? previous?;
+|};
+
+type Record133 record {|
+    string id;
+    Record134 next?;
+    Record135[] related?;
+    Record132? previous?;
+|};
+
+type Record134 record {|
+    string id;
+    Record135 next?;
+    Record136[] related?;
+    Record133? previous?;
+|};
+
+type Record135 record {|
+    string id;
+    Record136 next?;
+    Record137[] related?;
+    Record134? previous?;
+|};
+
+type Record136 record {|
+    string id;
+    Record137 next?;
+    Record138[] related?;
+    Record135? previous?;
+|};
+
+type Record137 record {|
+    string id;
+    Record138 next?;
+    Record139[] related?;
+    Record136? previous?;
+|};
+
+type Record138 record {|
+    string id;
+    Record139 next?;
+    Record140[] related?;
+    Record137? previous?;
+|};
+
+type Record139 record {|
+    string id;
+    Record140 next?;
+    Record141[] related?;
+    Record138? previous?;
+|};
+
+type Record140 record {|
+    string id;
+    Record141 next?;
+    Record142[] related?;
+    Record139? previous?;
+|};
+
+type Record141 record {|
+    string id;
+    Record142 next?;
+    Record143[] related?;
+    Record140? previous?;
+|};
+
+type Record142 record {|
+    string id;
+    Record143 next?;
+    Record144[] related?;
+    Record141? previous?;
+|};
+
+type Record143 record {|
+    string id;
+    Record144 next?;
+    Record145[] related?;
+    Record142? previous?;
+|};
+
+type Record144 record {|
+    string id;
+    Record145 next?;
+    Record146[] related?;
+    Record143? previous?;
+|};
+
+type Record145 record {|
+    string id;
+    Record146 next?;
+    Record147[] related?;
+    Record144? previous?;
+|};
+
+type Record146 record {|
+    string id;
+    Record147 next?;
+    Record148[] related?;
+    Record145? previous?;
+|};
+
+type Record147 record {|
+    string id;
+    Record148 next?;
+    Record149[] related?;
+    Record146? previous?;
+|};
+
+type Record148 record {|
+    string id;
+    Record149 next?;
+    Record150[] related?;
+    Record147? previous?;
+|};
+
+type Record149 record {|
+    string id;
+    Record150 next?;
+    Record151[] related?;
+    Record148? previous?;
+|};
+
+type Record150 record {|
+    string id;
+    Record151 next?;
+    Record152[] related?;
+    Record149? previous?;
+|};
+
+type Record151 record {|
+    string id;
+    Record152 next?;
+    Record153[] related?;
+    Record150? previous?;
+|};
+
+type Record152 record {|
+    string id;
+    Record153 next?;
+    Record154[] related?;
+    Record151? previous?;
+|};
+
+type Record153 record {|
+    string id;
+    Record154 next?;
+    Record155[] related?;
+    Record152? previous?;
+|};
+
+type Record154 record {|
+    string id;
+    Record155 next?;
+    Record156[] related?;
+    Record153? previous?;
+|};
+
+type Record155 record {|
+    string id;
+    Record156 next?;
+    Record157[] related?;
+    Record154? previous?;
+|};
+
+type Record156 record {|
+    string id;
+    Record157 next?;
+    Record158[] related?;
+    Record155? previous?;
+|};
+
+type Record157 record {|
+    string id;
+    Record158 next?;
+    Record159[] related?;
+    Record156? previous?;
+|};
+
+type Record158 record {|
+    string id;
+    Record159 next?;
+    Record160[] related?;
+    Record157? previous?;
+|};
+
+type Record159 record {|
+    string id;
+    Record160 next?;
+    Record161[] related?;
+    Record158? previous?;
+|};
+
+type Record160 record {|
+    string id;
+    Record161 next?;
+    Record162[] related?;
+    Record159? previous?;
+|};
+
+type Record161 record {|
+    string id;
+    Record162 next?;
+    Record163[] related?;
+    Record160? previous?;
+|};
+
+type Record162 record {|
+    string id;
+    Record163 next?;
+    Record164[] related?;
+    Record161? previous?;
+|};
+
+type Record163 record {|
+    string id;
+    Record164 next?;
+    Record165[] related?;
+    Record162? previous?;
+|};
+
+type Record164 record {|
+    string id;
+    Record165 next?;
+    Record166[] related?;
+    Record163? previous?;
+|};
+
+type Record165 record {|
+    string id;
+    Record166 next?;
+    Record167[] related?;
+    Record164? previous?;
+|};
+
+type Record166 record {|
+    string id;
+    Record167 next?;
+    Record168[] related?;
+    Record165? previous?;
+|};
+
+type Record167 record {|
+    string id;
+    Record168 next?;
+    Record169[] related?;
+    Record166? previous?;
+|};
+
+type Record168 record {|
+    string id;
+    Record169 next?;
+    Record170[] related?;
+    Record167? previous?;
+|};
+
+type Record169 record {|
+    string id;
+    Record170 next?;
+    Record171[] related?;
+    Record168? previous?;
+|};
+
+type Record170 record {|
+    string id;
+    Record171 next?;
+    Record172[] related?;
+    Record169? previous?;
+|};
+
+type Record171 record {|
+    string id;
+    Record172 next?;
+    Record173[] related?;
+    Record170? previous?;
+|};
+
+type Record172 record {|
+    string id;
+    Record173 next?;
+    Record174[] related?;
+    Record171? previous?;
+|};
+
+type Record173 record {|
+    string id;
+    Record174 next?;
+    Record175[] related?;
+    Record172? previous?;
+|};
+
+type Record174 record {|
+    string id;
+    Record175 next?;
+    Record176[] related?;
+    Record173? previous?;
+|};
+
+type Record175 record {|
+    string id;
+    Record176 next?;
+    Record177[] related?;
+    Record174? previous?;
+|};
+
+type Record176 record {|
+    string id;
+    Record177 next?;
+    Record178[] related?;
+    Record175? previous?;
+|};
+
+type Record177 record {|
+    string id;
+    Record178 next?;
+    Record179[] related?;
+    Record176? previous?;
+|};
+
+type Record178 record {|
+    string id;
+    Record179 next?;
+    Record180[] related?;
+    Record177? previous?;
+|};
+
+type Record179 record {|
+    string id;
+    Record180 next?;
+    Record181[] related?;
+    Record178? previous?;
+|};
+
+type Record180 record {|
+    string id;
+    Record181 next?;
+    Record182[] related?;
+    Record179? previous?;
+|};
+
+type Record181 record {|
+    string id;
+    Record182 next?;
+    Record183[] related?;
+    Record180? previous?;
+|};
+
+type Record182 record {|
+    string id;
+    Record183 next?;
+    Record184[] related?;
+    Record181? previous?;
+|};
+
+type Record183 record {|
+    string id;
+    Record184 next?;
+    Record185[] related?;
+    Record182? previous?;
+|};
+
+type Record184 record {|
+    string id;
+    Record185 next?;
+    Record186[] related?;
+    Record183? previous?;
+|};
+
+type Record185 record {|
+    string id;
+    Record186 next?;
+    Record187[] related?;
+    Record184? previous?;
+|};
+
+type Record186 record {|
+    string id;
+    Record187 next?;
+    Record188[] related?;
+    Record185? previous?;
+|};
+
+type Record187 record {|
+    string id;
+    Record188 next?;
+    Record189[] related?;
+    Record186? previous?;
+|};
+
+type Record188 record {|
+    string id;
+    Record189 next?;
+    Record190[] related?;
+    Record187? previous?;
+|};
+
+type Record189 record {|
+    string id;
+    Record190 next?;
+    Record191[] related?;
+    Record188? previous?;
+|};
+
+type Record190 record {|
+    string id;
+    Record191 next?;
+    Record192[] related?;
+    Record189? previous?;
+|};
+
+type Record191 record {|
+    string id;
+    Record192 next?;
+    Record193[] related?;
+    Record190? previous?;
+|};
+
+type Record192 record {|
+    string id;
+    Record193 next?;
+    Record194[] related?;
+    Record191? previous?;
+|};
+
+type Record193 record {|
+    string id;
+    Record194 next?;
+    Record195[] related?;
+    Record192? previous?;
+|};
+
+type Record194 record {|
+    string id;
+    Record195 next?;
+    Record196[] related?;
+    Record193? previous?;
+|};
+
+type Record195 record {|
+    string id;
+    Record196 next?;
+    Record197[] related?;
+    Record194? previous?;
+|};
+
+type Record196 record {|
+    string id;
+    Record197 next?;
+    Record198[] related?;
+    Record195? previous?;
+|};
+
+type Record197 record {|
+    string id;
+    Record198 next?;
+    Record199[] related?;
+    Record196? previous?;
+|};
+
+type Record198 record {|
+    string id;
+    Record199 next?;
+    Record197? previous?;
+|};
+
+type Record199 record {|
+    string id;
+    Record198? previous?;
+|};
+
+listener websocket:Listener ep0 = new (443, config = {host: "petstore.swagger.io"});
+
+@websocket:ServiceConfig {dispatcherKey: "event"}
+service /payloadV on ep0 {
+    resource function get records() returns websocket:Service|websocket:UpgradeError {
+        return new ChatServer();
+    }
+}
+
+service class ChatServer {
+    *websocket:Service;
+
+    remote function onSubscribe(websocket:Caller caller, Subscribe message) returns int {
+        return 5;
+    }
+
+    remote function onUnsubscribe(websocket:Caller caller, Unsubscribe message) returns int {
+        return 5;
+    }
+}
@@ -0,0 +1,62 @@
+import ballerina/jballerina.java;
+
+# A map of isolated objects keyed by a string ID, which can be used by many strands without a `lock`. The lookups
+# do not block, and the updates of an ID do not hold back the strands which use other IDs.
+public isolated class ConcurrentRegistry {
+    public isolated function init() {
+        self.initRegistry();
+    }
+
+    # Provides the object registered with the given ID.
+    #
+    # + id - ID of the object
+    # + return - The object, or `()` if there is none
+    public isolated function get(string id) returns isolated object {}? = @java:Method {
+        'class: "io.ballerinax.event.ConcurrentRegistry"
+    } external;
+
+    # Registers an object with the given ID, replacing the object already registered with the ID.
+    #
+    # + id - ID of the object
+    # + value - Object to be registered
+    # + return - The replaced object, or `()` if there was none
+    public isolated function put(string id, isolated object {} value) returns isolated object {}? = @java:Method {
+        'class: "io.ballerinax.event.ConcurrentRegistry"
+    } external;
+
+    # Registers an object with the given ID, unless an object is already registered with the ID.
+    #
+    # + id - ID of the object
+    # + value - Object to be registered
+    # + return - The object registered with the ID after the call
+    public isolated function putIfAbsent(string id, isolated object {} value) returns isolated object {} = @java:Method {
+        'class: "io.ballerinax.event.ConcurrentRegistry"
+    } external;
+
+    # Registers an object with a new unique ID.
+    #
+    # + value - Object to be registered
+    # + return - ID of the object
+    public isolated function add(isolated object {} value) returns string = @java:Method {
+        'class: "io.ballerinax.event.ConcurrentRegistry"
+    } external;
+
+    # Removes the object registered with the given ID.
+    #
+    # + id - ID of the object
+    # + return - The removed object, or `()` if there was none
+    public isolated function remove(string id) returns isolated object {}? = @java:Method {
+        'class: "io.ballerinax.event.ConcurrentRegistry"
+    } external;
+
+    # Provides the IDs of the registered objects.
+    #
+    # + return - IDs of the objects
+    public isolated function keys() returns string[] = @java:Method {
+        'class: "io.ballerinax.event.ConcurrentRegistry"
+    } external;
+
+    isolated function initRegistry() = @java:Method {
+        'class: "io.ballerinax.event.ConcurrentRegistry"
+    } external;
+}
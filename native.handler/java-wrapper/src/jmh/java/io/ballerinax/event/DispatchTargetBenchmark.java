@@ -0,0 +1,114 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the work done per event to find out how to invoke a service method: resolving the service type and
+ * looking up the method by its name, as the runtime does when no strand metadata is given, against the dispatch
+ * target resolved once per service class.
+ * <p>
+ * The service object and its type are dynamic proxies, since a service object can only be created by a running
+ * Ballerina program. The type looks up a method by its name through the names of its methods, as the object types
+ * of the runtime do. Every call the by-name path makes to the type goes through a proxy, which the resolved path
+ * does not pay for after the first event, so the figures overstate the gain by the cost of those proxy calls.
+ * Run with {@code ./gradlew :native.handler:java-wrapper:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchTargetBenchmark {
+    @Param({"8", "64"})
+    private int methodCount;
+
+    private BObject serviceObj;
+    private String lastMethodName;
+    private DispatchTargets dispatchTargets;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String[] methodNames = new String[methodCount];
+        for (int i = 0; i < methodCount; i++) {
+            methodNames[i] = "onEvent" + i;
+        }
+        // The method of the last event type is the worst case of a lookup by the name
+        lastMethodName = methodNames[methodCount - 1];
+        ObjectType serviceType = createServiceType(methodNames);
+        serviceObj = (BObject) Proxy.newProxyInstance(BObject.class.getClassLoader(), new Class<?>[]{BObject.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getType", "getOriginalType" -> serviceType;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        dispatchTargets = new DispatchTargets();
+    }
+
+    @Benchmark
+    public boolean resolveByName() {
+        ObjectType serviceType = (ObjectType) TypeUtils.getImpliedType(TypeUtils.getType(serviceObj));
+        return serviceType.isIsolated() && serviceType.isIsolated(lastMethodName);
+    }
+
+    @Benchmark
+    public StrandMetadata resolvedTarget() {
+        return dispatchTargets.get(serviceObj).getMetadata(lastMethodName);
+    }
+
+    private static ObjectType createServiceType(String[] methodNames) {
+        return (ObjectType) Proxy.newProxyInstance(ObjectType.class.getClassLoader(),
+                new Class<?>[]{ObjectType.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getTag" -> TypeTags.OBJECT_TYPE_TAG;
+                    case "isIsolated" -> args == null || isIsolated(methodNames, (String) args[0]);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static boolean isIsolated(String[] methodNames, String methodName) {
+        for (String name : methodNames) {
+            if (name.equals(methodName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of service method invocations of a {@code NativeHandler} which run at the same time, across
+ * all the services and per service. A limit which is not positive means there is no limit.
+ */
+public class ConcurrencyLimiter {
+    private final Semaphore globalPermits;
+    private final int permitsPerService;
+    private final long permitTimeoutMillis;
+    private final Map<Object, Semaphore> servicePermits = new ConcurrentHashMap<>();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimiter(int maxInvocations, int maxInvocationsPerService, long permitTimeoutMillis) {
+        this.globalPermits = maxInvocations > 0 ? new Semaphore(maxInvocations, true) : null;
+        this.permitsPerService = maxInvocationsPerService;
+        this.permitTimeoutMillis = Math.max(permitTimeoutMillis, 0);
+    }
+
+    /**
+     * Waits for a permit to invoke a method of the given service, for at most the permit timeout in total.
+     * <p>
+     * The permit of the service is taken before the global permit, so that an invocation which waits for a busy
+     * service does not hold a global permit, which the invocations of the other services could run with.
+     *
+     * @param service the service which is invoked, such as its type, which identifies its permits
+     * @return the permit, or null if the invocation is rejected
+     */
+    public Permit acquire(Object service) {
+        Semaphore servicePermit = null;
+        if (permitsPerService > 0) {
+            servicePermit = servicePermits.computeIfAbsent(service, key -> new Semaphore(permitsPerService, true));
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(permitTimeoutMillis);
+        if (!tryAcquire(servicePermit, deadline)) {
+            rejected.incrementAndGet();
+            return null;
+        }
+        if (!tryAcquire(globalPermits, deadline)) {
+            release(servicePermit);
+            rejected.incrementAndGet();
+            return null;
+        }
+        inFlight.incrementAndGet();
+        return new Permit(servicePermit);
+    }
+
+    public long getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    private static boolean tryAcquire(Semaphore semaphore, long deadline) {
+        if (semaphore == null) {
+            return true;
+        }
+        try {
+            return semaphore.tryAcquire(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void release(Semaphore semaphore) {
+        if (semaphore != null) {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * A permit to run one service method invocation, which has to be released once the invocation returns.
+     */
+    public class Permit {
+        private final Semaphore servicePermit;
+
+        private Permit(Semaphore servicePermit) {
+            this.servicePermit = servicePermit;
+        }
+
+        public void release() {
+            inFlight.decrementAndGet();
+            ConcurrencyLimiter.release(servicePermit);
+            ConcurrencyLimiter.release(globalPermits);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * Native functions of the {@code ConcurrentRegistry} class, which keeps isolated objects, such as the pipes of a
+ * generated WebSocket client, in a {@link ConcurrentHashMap}. The lookups do not take a lock, and the updates only
+ * lock the bin of the updated key, so the strands which use different entries do not wait for each other.
+ */
+public class ConcurrentRegistry {
+    private static final String ENTRIES = "entries";
+    private static final String NEXT_ID = "nextId";
+
+    private ConcurrentRegistry() {}
+
+    public static void initRegistry(BObject registry) {
+        registry.addNativeData(ENTRIES, new ConcurrentHashMap<String, BObject>());
+        registry.addNativeData(NEXT_ID, new AtomicLong());
+    }
+
+    public static Object get(BObject registry, BString id) {
+        return getEntries(registry).get(id.getValue());
+    }
+
+    public static Object put(BObject registry, BString id, BObject value) {
+        return getEntries(registry).put(id.getValue(), value);
+    }
+
+    public static BObject putIfAbsent(BObject registry, BString id, BObject value) {
+        BObject registered = getEntries(registry).putIfAbsent(id.getValue(), value);
+        return registered != null ? registered : value;
+    }
+
+    public static BString add(BObject registry, BObject value) {
+        AtomicLong nextId = (AtomicLong) registry.getNativeData(NEXT_ID);
+        String id = Long.toString(nextId.incrementAndGet());
+        getEntries(registry).put(id, value);
+        return fromString(id);
+    }
+
+    public static Object remove(BObject registry, BString id) {
+        return getEntries(registry).remove(id.getValue());
+    }
+
+    public static BArray keys(BObject registry) {
+        BString[] keys = getEntries(registry).keySet().stream()
+                .map(key -> fromString(key))
+                .toArray(BString[]::new);
+        return ValueCreator.createArrayValue(keys);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, BObject> getEntries(BObject registry) {
+        return (Map<String, BObject>) registry.getNativeData(ENTRIES);
+    }
+}
@@ -0,0 +1,87 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the dispatch targets of the services, resolved once per service class. Each service is compiled into a
+ * class of its own, so the class of a service object identifies its object type without resolving the type for
+ * every event.
+ * <p>
+ * The type of a service and the isolation of its methods never change, so a target stays valid after its service
+ * is detached from the listener, and the entries are bounded by the number of service classes of the program.
+ */
+final class DispatchTargets {
+    private final Map<Class<?>, Target> targets = new ConcurrentHashMap<>();
+
+    /**
+     * Provides the dispatch target of the given service object.
+     *
+     * @param serviceObj service object which the events are dispatched to
+     * @return the dispatch target of the class of the service object
+     */
+    Target get(BObject serviceObj) {
+        Target target = targets.get(serviceObj.getClass());
+        if (target == null) {
+            target = targets.computeIfAbsent(serviceObj.getClass(), serviceClass -> new Target(getType(serviceObj)));
+        }
+        return target;
+    }
+
+    private static ObjectType getType(BObject serviceObj) {
+        return (ObjectType) TypeUtils.getImpliedType(TypeUtils.getType(serviceObj));
+    }
+
+    /**
+     * The resolved type of a service, along with the strand metadata of the methods which were invoked.
+     */
+    static final class Target {
+        private final ObjectType serviceType;
+        private final Map<String, StrandMetadata> methods = new ConcurrentHashMap<>();
+
+        Target(ObjectType serviceType) {
+            this.serviceType = serviceType;
+        }
+
+        ObjectType getServiceType() {
+            return serviceType;
+        }
+
+        /**
+         * Provides the strand metadata to invoke the given method with. Passing the metadata to the runtime saves
+         * it from looking up the method by its name to find out whether the method is isolated, on every call.
+         *
+         * @param methodName name of the method
+         * @return the strand metadata of the method
+         */
+        StrandMetadata getMetadata(String methodName) {
+            StrandMetadata metadata = methods.get(methodName);
+            if (metadata == null) {
+                metadata = methods.computeIfAbsent(methodName, name ->
+                        new StrandMetadata(serviceType.isIsolated() && serviceType.isIsolated(name), null));
+            }
+            return metadata;
+        }
+    }
+}
@@ -18,11 +18,20 @@ package io.ballerinax.event;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
 /**
@@ -30,17 +39,92 @@ import static io.ballerina.runtime.api.utils.StringUtils.fromString;
  * These are being called from Ballerina (dispatcher_service.bal) through interop
  */
 public class NativeHttpToEventAdaptor {
+    private static final String CONCURRENCY_LIMITER = "concurrencyLimiter";
+    private static final String INVOCATION_METRICS = "InvocationMetrics";
+    private static final String FAILED_CALL = "FailedCall";
+    private static final String BATCH_INVOCATION_ERROR = "BatchInvocationError";
+    private static final String BATCH_INVOCATION_ERROR_DETAIL = "BatchInvocationErrorDetail";
+    private static final BString EVENT_FIELD = fromString("event");
+    private static final BString EVENT_FUNCTION_FIELD = fromString("eventFunction");
+    private static final BString SERVICE_OBJ_FIELD = fromString("serviceObj");
+    private static final DispatchTargets DISPATCH_TARGETS = new DispatchTargets();
+
+    public static void initConcurrencyLimiter(BObject adaptor, BMap<BString, Object> config) {
+        int maxInvocations = (int) config.getIntValue(fromString("maxConcurrentInvocations")).longValue();
+        int maxInvocationsPerService =
+                (int) config.getIntValue(fromString("maxConcurrentInvocationsPerService")).longValue();
+        BDecimal permitTimeout = (BDecimal) config.get(fromString("permitTimeout"));
+        long permitTimeoutMillis = (long) (permitTimeout.floatValue() * 1000);
+        adaptor.addNativeData(CONCURRENCY_LIMITER,
+                new ConcurrencyLimiter(maxInvocations, maxInvocationsPerService, permitTimeoutMillis));
+    }
+
     public static Object invokeRemoteFunction(Environment env, BObject adaptor, BMap<BString, Object> message,
                                               BString eventName, BString eventFunction, BObject serviceObj) {
-        Object[] args = new Object[]{message, true};
+        ConcurrencyLimiter limiter = (ConcurrencyLimiter) adaptor.getNativeData(CONCURRENCY_LIMITER);
+        return env.yieldAndRun(() -> invoke(env, limiter, serviceObj, eventFunction.getValue(), message));
+    }
+
+    /**
+     * Invokes the remote functions of a batch of events within a single yield of the calling strand, one after
+     * another so that the events are handled in the order of the batch. All the invocations are attempted, and the
+     * failed ones are reported together by their index once the batch is done.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object invokeRemoteFunctions(Environment env, BObject adaptor, BArray calls) {
+        ConcurrencyLimiter limiter = (ConcurrencyLimiter) adaptor.getNativeData(CONCURRENCY_LIMITER);
         return env.yieldAndRun(() -> {
-            try {
-                return env.getRuntime().callMethod(serviceObj, eventFunction.getValue(), null, args);
-            } catch (BError error) {
-                BString errorMessage = fromString("service method invocation failed: " + error.getErrorMessage());
-                BError invocationError = ErrorCreator.createError(errorMessage, error);
-                return invocationError;
+            List<BMap<BString, Object>> failedCalls = new ArrayList<>();
+            for (int i = 0; i < calls.size(); i++) {
+                BMap<BString, Object> call = (BMap<BString, Object>) calls.get(i);
+                BObject serviceObj = (BObject) call.get(SERVICE_OBJ_FIELD);
+                String methodName = call.getStringValue(EVENT_FUNCTION_FIELD).getValue();
+                Object result = invoke(env, limiter, serviceObj, methodName, call.get(EVENT_FIELD));
+                if (result instanceof BError error) {
+                    failedCalls.add(ValueCreator.createRecordValue(ModuleUtils.getModule(), FAILED_CALL,
+                            Map.of("index", (long) i, "cause", error)));
+                }
             }
+            return failedCalls.isEmpty() ? null : createBatchInvocationError(failedCalls);
         });
     }
+
+    public static BMap<BString, Object> getInvocationMetrics(BObject adaptor) {
+        ConcurrencyLimiter limiter = (ConcurrencyLimiter) adaptor.getNativeData(CONCURRENCY_LIMITER);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), INVOCATION_METRICS,
+                Map.of("inFlight", limiter.getInFlight(), "rejected", limiter.getRejected()));
+    }
+
+    private static BError createBatchInvocationError(List<BMap<BString, Object>> failedCalls) {
+        String failedIndices = failedCalls.stream()
+                .map(failedCall -> String.valueOf(failedCall.getIntValue(fromString("index"))))
+                .collect(Collectors.joining(", "));
+        BArray failedCallsArray = ValueCreator.createArrayValue(failedCalls.toArray(),
+                TypeCreator.createArrayType(failedCalls.get(0).getType()));
+        BMap<BString, Object> detail = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                BATCH_INVOCATION_ERROR_DETAIL, Map.of("failedCalls", failedCallsArray));
+        detail.freezeDirect();
+        return ErrorCreator.createError(ModuleUtils.getModule(), BATCH_INVOCATION_ERROR,
+                fromString("remote function invocations failed for the calls at " + failedIndices), null, detail);
+    }
+
+    private static Object invoke(Environment env, ConcurrencyLimiter limiter, BObject serviceObj, String methodName,
+                                 Object message) {
+        DispatchTargets.Target target = DISPATCH_TARGETS.get(serviceObj);
+        ConcurrencyLimiter.Permit permit = limiter.acquire(target.getServiceType());
+        if (permit == null) {
+            return ErrorCreator.createError(fromString("service method invocation rejected: " +
+                    "concurrency limit reached for " + methodName));
+        }
+        try {
+            return env.getRuntime().callMethod(serviceObj, methodName, target.getMetadata(methodName), message,
+                    true);
+        } catch (BError error) {
+            BString errorMessage = fromString("service method invocation failed: " + error.getErrorMessage());
+            BError invocationError = ErrorCreator.createError(errorMessage, error);
+            return invocationError;
+        } finally {
+            permit.release();
+        }
+    }
 }
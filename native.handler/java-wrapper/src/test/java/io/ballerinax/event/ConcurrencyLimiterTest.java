@@ -0,0 +1,123 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test the permits of the ConcurrencyLimiter.
+ */
+public class ConcurrencyLimiterTest {
+    private static final String SERVICE_A = "ServiceA";
+    private static final String SERVICE_B = "ServiceB";
+
+    @Test(description = "Test that the invocations are not limited when the limits are not positive")
+    public void testWithoutLimits() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(-1, 0, 0);
+        ConcurrencyLimiter.Permit first = limiter.acquire(SERVICE_A);
+        ConcurrencyLimiter.Permit second = limiter.acquire(SERVICE_A);
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(second);
+        Assert.assertEquals(limiter.getInFlight(), 2);
+        first.release();
+        second.release();
+        Assert.assertEquals(limiter.getInFlight(), 0);
+        Assert.assertEquals(limiter.getRejected(), 0);
+    }
+
+    @Test(description = "Test that an invocation is rejected once the permit timeout has passed")
+    public void testRejectAfterTimeout() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(-1, 1, 100);
+        ConcurrencyLimiter.Permit permit = limiter.acquire(SERVICE_A);
+        Assert.assertNotNull(permit);
+
+        long start = System.nanoTime();
+        Assert.assertNull(limiter.acquire(SERVICE_A));
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        Assert.assertEquals(limiter.getRejected(), 1);
+        Assert.assertEquals(limiter.getInFlight(), 1);
+
+        permit.release();
+        ConcurrencyLimiter.Permit nextPermit = limiter.acquire(SERVICE_A);
+        Assert.assertNotNull(nextPermit);
+        nextPermit.release();
+    }
+
+    @Test(description = "Test that the permit timeout bounds the wait for both the service and the global permits")
+    public void testTimeoutAcrossPermits() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 200);
+        ConcurrencyLimiter.Permit permit = limiter.acquire(SERVICE_A);
+        Assert.assertNotNull(permit);
+
+        // The permit of the other service is free, so the whole timeout is spent waiting for the global permit
+        long start = System.nanoTime();
+        Assert.assertNull(limiter.acquire(SERVICE_B));
+        long waitedNanos = System.nanoTime() - start;
+        Assert.assertTrue(waitedNanos >= TimeUnit.MILLISECONDS.toNanos(200));
+        Assert.assertTrue(waitedNanos < TimeUnit.MILLISECONDS.toNanos(400));
+        permit.release();
+    }
+
+    @Test(description = "Test that the service permit is released when the global permit is not acquired")
+    public void testReleaseServicePermitOnRejection() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 50);
+        ConcurrencyLimiter.Permit permit = limiter.acquire(SERVICE_A);
+        Assert.assertNotNull(permit);
+        Assert.assertNull(limiter.acquire(SERVICE_B));
+        permit.release();
+
+        ConcurrencyLimiter.Permit servicePermit = limiter.acquire(SERVICE_B);
+        Assert.assertNotNull(servicePermit);
+        servicePermit.release();
+        Assert.assertEquals(limiter.getInFlight(), 0);
+        Assert.assertEquals(limiter.getRejected(), 1);
+    }
+
+    @Test(description = "Test that an invocation waiting for a busy service does not hold a global permit")
+    public void testServicePermitBeforeGlobalPermit() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 5000);
+        ConcurrencyLimiter.Permit permit = limiter.acquire(SERVICE_A);
+        Assert.assertNotNull(permit);
+
+        AtomicReference<Thread> waiter = new AtomicReference<>();
+        CompletableFuture<ConcurrencyLimiter.Permit> waitingPermit = CompletableFuture.supplyAsync(() -> {
+            waiter.set(Thread.currentThread());
+            return limiter.acquire(SERVICE_A);
+        });
+        while (waiter.get() == null || waiter.get().getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        // The other service gets the global permit left, while the waiting invocation of the busy service waits
+        ConcurrencyLimiter.Permit otherPermit = limiter.acquire(SERVICE_B);
+        Assert.assertNotNull(otherPermit);
+        Assert.assertFalse(waitingPermit.isDone());
+
+        otherPermit.release();
+        permit.release();
+        ConcurrencyLimiter.Permit nextPermit = waitingPermit.get(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(nextPermit);
+        nextPermit.release();
+        Assert.assertEquals(limiter.getInFlight(), 0);
+        Assert.assertEquals(limiter.getRejected(), 0);
+    }
+}
@@ -0,0 +1,137 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * Test the native functions of the ConcurrentRegistry.
+ */
+public class ConcurrentRegistryTest {
+    private BObject registry;
+
+    @BeforeMethod
+    public void setUp() {
+        registry = createObject();
+        ConcurrentRegistry.initRegistry(registry);
+    }
+
+    @Test(description = "Test that putIfAbsent registers the object only when the ID is not registered")
+    public void testPutIfAbsent() {
+        BObject first = createObject();
+        BObject second = createObject();
+        Assert.assertSame(ConcurrentRegistry.putIfAbsent(registry, fromString("pipe"), first), first);
+        Assert.assertSame(ConcurrentRegistry.putIfAbsent(registry, fromString("pipe"), second), first);
+        Assert.assertSame(ConcurrentRegistry.get(registry, fromString("pipe")), first);
+
+        Assert.assertSame(ConcurrentRegistry.remove(registry, fromString("pipe")), first);
+        Assert.assertSame(ConcurrentRegistry.putIfAbsent(registry, fromString("pipe"), second), second);
+    }
+
+    @Test(description = "Test that the strands which register the same ID at the same time get the same object")
+    public void testConcurrentPutIfAbsent() throws Exception {
+        int strands = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<BObject>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(strands);
+        try {
+            for (int i = 0; i < strands; i++) {
+                BObject value = createObject();
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return ConcurrentRegistry.putIfAbsent(registry, fromString("pipe"), value);
+                }));
+            }
+            start.countDown();
+            Set<BObject> registered = new HashSet<>();
+            for (Future<BObject> result : results) {
+                registered.add(result.get(5, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(registered, Set.of(ConcurrentRegistry.get(registry, fromString("pipe"))));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test that keys returns a snapshot, which later updates of the registry do not change")
+    public void testKeysSnapshot() {
+        ConcurrentRegistry.put(registry, fromString("first"), createObject());
+        String addedId = ConcurrentRegistry.add(registry, createObject()).getValue();
+
+        BArray keys = ConcurrentRegistry.keys(registry);
+        ConcurrentRegistry.remove(registry, fromString("first"));
+        ConcurrentRegistry.put(registry, fromString("second"), createObject());
+
+        Assert.assertEquals(getKeys(keys), Set.of("first", addedId));
+        Assert.assertEquals(getKeys(ConcurrentRegistry.keys(registry)), Set.of("second", addedId));
+    }
+
+    @Test(description = "Test that add registers each object with a new ID")
+    public void testAdd() {
+        String firstId = ConcurrentRegistry.add(registry, createObject()).getValue();
+        String secondId = ConcurrentRegistry.add(registry, createObject()).getValue();
+        Assert.assertNotEquals(firstId, secondId);
+        Assert.assertEquals(getKeys(ConcurrentRegistry.keys(registry)), Set.of(firstId, secondId));
+    }
+
+    private static Set<String> getKeys(BArray keys) {
+        Set<String> keySet = new HashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            keySet.add(keys.getBString(i).getValue());
+        }
+        return keySet;
+    }
+
+    /**
+     * Creates an object which keeps its native data, since an object of a Ballerina class can only be created by a
+     * running Ballerina program.
+     */
+    private static BObject createObject() {
+        Map<String, Object> nativeData = new ConcurrentHashMap<>();
+        return (BObject) Proxy.newProxyInstance(BObject.class.getClassLoader(), new Class<?>[]{BObject.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "addNativeData" -> {
+                        nativeData.put((String) args[0], args[1]);
+                        yield null;
+                    }
+                    case "getNativeData" -> args != null && args.length == 1 ? nativeData.get(args[0]) : nativeData;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "object";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -1,7 +1,79 @@
 import ballerina/jballerina.java;
 
-public class NativeHandler {
+# Limits on the number of service method invocations which run at the same time.
+#
+# + maxConcurrentInvocations - Maximum number of invocations in flight across all the services, or `-1` for no limit
+# + maxConcurrentInvocationsPerService - Maximum number of invocations in flight per service, or `-1` for no limit
+# + permitTimeout - Time in seconds an invocation waits for a free permit before it is rejected
+public type ConcurrencyConfig record {|
+    int maxConcurrentInvocations = -1;
+    int maxConcurrentInvocationsPerService = -1;
+    decimal permitTimeout = 0;
+|};
+
+# Counters of the service method invocations.
+#
+# + inFlight - Number of invocations which are running at the moment
+# + rejected - Number of invocations rejected because a concurrency limit was reached
+public type InvocationMetrics record {|
+    int inFlight;
+    int rejected;
+|};
+
+# A remote function invocation of a batch.
+#
+# + event - Data of the event
+# + eventName - Name of the event
+# + eventFunction - Name of the remote function which handles the event
+# + serviceObj - Service which the remote function belongs to
+public type RemoteFunctionCall record {|
+    any event;
+    string eventName;
+    string eventFunction;
+    service object {} serviceObj;
+|};
+
+# A remote function invocation of a batch which failed.
+#
+# + index - Index of the call in the batch
+# + cause - Error returned by the remote function, or the reason the invocation was rejected
+public type FailedCall record {|
+    int index;
+    error cause;
+|};
+
+# Details of a `BatchInvocationError`.
+#
+# + failedCalls - Failed invocations, in the order of the batch
+public type BatchInvocationErrorDetail record {|
+    FailedCall[] failedCalls;
+|};
+
+# Error returned when some remote function invocations of a batch fail. The other invocations of the batch have run.
+public type BatchInvocationError distinct error<BatchInvocationErrorDetail>;
+
+public isolated class NativeHandler {
+    public isolated function init(*ConcurrencyConfig config) {
+        self.initConcurrencyLimiter(config);
+    }
+
     public isolated function invokeRemoteFunction(any event, string eventName, string eventFunction, service object {} serviceObj) returns error? = @java:Method {
         'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
     } external;
+
+    # Invokes the remote functions of a batch one after another, in the order of the batch.
+    #
+    # + calls - Remote function invocations of the batch
+    # + return - A `BatchInvocationError`, which lists every failed invocation by its index, if any invocation failed
+    public isolated function invokeRemoteFunctions(RemoteFunctionCall[] calls) returns BatchInvocationError? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    public isolated function getInvocationMetrics() returns InvocationMetrics = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    isolated function initConcurrencyLimiter(ConcurrencyConfig config) = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
 }